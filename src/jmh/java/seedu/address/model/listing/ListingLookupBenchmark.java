@@ -0,0 +1,151 @@
+package seedu.address.model.listing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Listings;
+import seedu.address.model.name.Name;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Compares the lookups of listings by price and size range and by region through the range indexes and region
+ * buckets of {@link Listings}, and the scans and aggregates over its {@link ListingColumns}, against the same lookups
+ * and aggregates as streams over all of the listings.
+ *
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListingLookupBenchmark {
+    private static final ListingInRangePredicate RANGE =
+            new ListingInRangePredicate(50_000_000L, 80_000_000L, 60, 120);
+    private static final Set<Region> REGIONS = EnumSet.of(Region.EAST);
+
+    @Param({"100000"})
+    private int listingCount;
+
+    private Listings listings;
+    private List<Listing> listingList;
+    private ListingColumns columns;
+
+    /**
+     * Fills the listings with random prices, sizes and regions, shuffled so that the listing objects are not laid
+     * out on the heap in the order they are scanned in.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Region[] regions = Region.values();
+        List<Listing> generated = new ArrayList<>(listingCount);
+        for (int i = 0; i < listingCount; i++) {
+            generated.add(new Listing(new Name("Listing " + i), new Address(i + " Benchmark Street"),
+                    new Price(Integer.toString(100_000 + random.nextInt(1_900_000))),
+                    new Area(Integer.toString(30 + random.nextInt(170))),
+                    regions[random.nextInt(regions.length)], SampleDataUtil.BERNICE.getId(), Collections.emptySet()));
+        }
+        Collections.shuffle(generated, random);
+
+        listings = new Listings();
+        listings.setListings(generated);
+        listingList = listings.getListingList();
+        columns = listings.getListingColumns();
+    }
+
+    @Benchmark
+    public List<Listing> findInRange_stream() {
+        return listingList.stream().filter(RANGE).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Listing> findInRange_index() {
+        return listings.getListingsInRange(RANGE);
+    }
+
+    @Benchmark
+    public List<Listing> findInRange_columns() {
+        return columns.findInRange(RANGE);
+    }
+
+    @Benchmark
+    public long countInRange_stream() {
+        return listingList.stream().filter(RANGE).count();
+    }
+
+    @Benchmark
+    public int countInRange_columns() {
+        return columns.countInRange(RANGE);
+    }
+
+    @Benchmark
+    public double averagePricePerSquareMeterInRange_stream() {
+        return listingList.stream()
+                .filter(RANGE)
+                .mapToLong(Listing::getPricePerSquareMeter)
+                .average()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public long averagePricePerSquareMeterInRange_columns() {
+        return columns.averagePricePerSquareMeter(RANGE);
+    }
+
+    @Benchmark
+    public double averagePricePerSquareMeterInRegion_stream() {
+        return listingList.stream()
+                .filter(listing -> listing.getRegion() == Region.EAST)
+                .mapToLong(Listing::getPricePerSquareMeter)
+                .average()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public long averagePricePerSquareMeterInRegion_columns() {
+        return columns.averagePricePerSquareMeter(Region.EAST);
+    }
+
+    @Benchmark
+    public List<Listing> findInRegions_stream() {
+        return listingList.stream()
+                .filter(listing -> REGIONS.contains(listing.getRegion()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Listing> findInRegions_buckets() {
+        return listings.getListingsInRegions(REGIONS);
+    }
+
+    @Benchmark
+    public Object countByRegion_stream() {
+        return listingList.stream().collect(Collectors.groupingBy(Listing::getRegion, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Region, Integer> countByRegion_columns() {
+        return listings.getListingCountsByRegion();
+    }
+}
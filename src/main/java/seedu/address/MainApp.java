@@ -1,14 +1,25 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -18,17 +29,35 @@ import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncStorage;
+import seedu.address.storage.BackupStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.BinaryListingsStorage;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.storage.DatabaseStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonBackupStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonListingsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ListingClients;
 import seedu.address.storage.ListingStorage;
+import seedu.address.storage.ShardedListingsStorage;
+import seedu.address.storage.SharedStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -42,13 +71,25 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    private static final String JOURNAL_DIRECTORY_NAME = "journal";
+    private static final String SHARED_JOURNAL_DIRECTORY_NAME = "shared-journal";
+    private static final String BACKUP_DIRECTORY_NAME = "backups";
+    private static final String SHARDED_LISTINGS_DIRECTORY_NAME = "listings";
+    // Number of persons or listings added to the model at a time while the data is loaded in the background
+    private static final int LOAD_BATCH_SIZE = 500;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final StartupProfiler profiler = StartupProfiler.getCurrent();
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected DataFileWatcher dataFileWatcher;
+    protected SharedStorage sharedStorage;
+    protected AsyncStorage asyncStorage;
+    protected DatabaseStorage databaseStorage;
 
     public MainApp() {
         // empty constructor
@@ -59,48 +100,310 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing EZSTATES ]===========================");
         super.init();
 
+        StartupProfiler.Phase configPhase = profiler.startPhase("Reading the config");
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        configPhase.end();
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        // The preferences are read first, as they hold the locations of the data files
+        StartupProfiler.Phase prefsPhase = profiler.startPhase("Reading the preferences");
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ListingStorage listingStorage = new JsonListingsStorage(userPrefs.getListingsFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, listingStorage);
+        prefsPhase.end();
+        profiler.setStatsFilePath(userPrefs.getAddressBookFilePath().resolveSibling(StartupProfiler.STATS_FILE_NAME));
 
-        model = initModelManager(storage, userPrefs);
+        StartupProfiler.Phase storagePhase = profiler.startPhase("Preparing the storage");
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        ListingStorage listingStorage = initListingStorage(userPrefs, addressBookStorage);
+        if (userPrefs.getStorageFormat() == StorageFormat.DATABASE && userPrefs.isSharedDataDirectory()) {
+            logger.warning("The database cannot be shared with other instances, using the JSON data files instead.");
+        } else if (userPrefs.getStorageFormat() == StorageFormat.DATABASE) {
+            databaseStorage = initDatabaseStorage(userPrefs, addressBookStorage, listingStorage);
+        }
+        storagePhase.end();
+        JournalStorage journalStorage =
+                new JsonJournalStorage(userPrefs.getAddressBookFilePath().resolveSibling(JOURNAL_DIRECTORY_NAME));
+        BackupStorage backupStorage = new JsonBackupStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(BACKUP_DIRECTORY_NAME),
+                JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL,
+                Duration.ofMinutes(Math.max(0, userPrefs.getBackupIntervalMinutes())));
+        if (userPrefs.isSharedDataDirectory()) {
+            // The changes are journaled by the shared storage, and saved before the command completes, so that a
+            // conflict with another instance is reported by the command that caused it
+            sharedStorage = new SharedStorage(new StorageManager(addressBookStorage, userPrefsStorage, listingStorage,
+                    null, backupStorage),
+                    userPrefs.getAddressBookFilePath().resolveSibling(SHARED_JOURNAL_DIRECTORY_NAME));
+            storage = sharedStorage;
+        } else if (databaseStorage != null) {
+            // Only the rows of the changed clients and listings are written, so there is no journal to compact
+            asyncStorage = new AsyncStorage(new StorageManager(databaseStorage, userPrefsStorage, backupStorage));
+            storage = asyncStorage;
+        } else {
+            asyncStorage = new AsyncStorage(new StorageManager(addressBookStorage, userPrefsStorage, listingStorage,
+                    journalStorage, backupStorage));
+            storage = asyncStorage;
+            dataFileWatcher = initDataFileWatcher(userPrefs, addressBookStorage, listingStorage);
+        }
 
-        logic = new LogicManager(model, storage);
+        if (userPrefs.isProgressiveStartup()) {
+            // The data is loaded once the main window is shown, see loadDataInBackground
+            model = new ModelManager(new AddressBook(), userPrefs, new Listings());
+            logic = new LogicManager(model, storage);
+            logic.startLoadingData();
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+        }
 
         ui = new UiManager(logic);
+        if (asyncStorage != null) {
+            // The failure is shown as soon as it happens, rather than with the result of the next command
+            asyncStorage.setOnWriteFailure(failure -> Platform.runLater(() -> ui.showWriteFailure(
+                    String.format(AsyncStorage.MESSAGE_WRITE_FAILED, failure.getMessage()))));
+        }
+    }
+
+    /**
+     * Reads the data from {@code storage} on a background thread, then adds it to the model in batches on the
+     * JavaFX application thread, so that the main window stays responsive and fills up as the data arrives.
+     * The commands queued while the data was loading are run after the last batch.
+     */
+    private void loadDataInBackground(ReadOnlyUserPrefs userPrefs) {
+        Thread loader = new Thread(() -> {
+            try {
+                if (databaseStorage != null && Files.exists(databaseStorage.getAddressBookFilePath())) {
+                    loadDatabaseInPages();
+                } else {
+                    Model loadedModel = initModelManager(storage, userPrefs);
+                    publishInBatches(loadedModel.getAddressBook().getPersonList(), model::addLoadedPersons,
+                            "clients");
+                    publishInBatches(loadedModel.getListings().getListingList(), model::addLoadedListings,
+                            "listings");
+                }
+            } catch (RuntimeException e) {
+                logger.severe("Failed to load data: " + StringUtil.getDetails(e));
+            } finally {
+                Platform.runLater(() -> {
+                    ui.showDataLoaded();
+                    startWatchingDataFiles();
+                });
+            }
+        }, "data-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Passes {@code items} to {@code consumer} in batches on the JavaFX application thread, showing how many
+     * {@code itemsName} have been loaded.
+     */
+    private <T> void publishInBatches(List<T> items, Consumer<List<T>> consumer, String itemsName) {
+        for (int from = 0; from < items.size(); from += LOAD_BATCH_SIZE) {
+            int to = Math.min(from + LOAD_BATCH_SIZE, items.size());
+            publishBatch(new ArrayList<>(items.subList(from, to)), consumer, itemsName, to, items.size());
+        }
+    }
+
+    /**
+     * Passes {@code batch} to {@code consumer} on the JavaFX application thread, showing that {@code loadedCount}
+     * of {@code totalCount} {@code itemsName} have been loaded.
+     */
+    private <T> void publishBatch(List<T> batch, Consumer<List<T>> consumer, String itemsName, int loadedCount,
+            int totalCount) {
+        String progress = String.format("Loading %s... %d/%d", itemsName, loadedCount, totalCount);
+        Platform.runLater(() -> {
+            consumer.accept(batch);
+            ui.showLoadingProgress(progress);
+        });
+    }
+
+    /**
+     * Reads the clients and then the listings from the database one page of ids at a time, passing each page to the
+     * model as soon as it is read, so that the first clients are shown before the rest have been read.
+     * Nothing more is loaded once a page cannot be read.
+     */
+    private void loadDatabaseInPages() {
+        StartupProfiler.Phase databasePhase = profiler.startPhase("Reading the database in pages");
+        List<Person> clients = new ArrayList<>();
+        int listingCount = 0;
+        try {
+            int totalPersons = databaseStorage.getPersonCount();
+            DatabaseStorage.Page<Person> personPage = null;
+            do {
+                long afterId = personPage == null ? DatabaseStorage.BEFORE_FIRST_ID : personPage.getLastId();
+                personPage = databaseStorage.readPersons(afterId, LOAD_BATCH_SIZE);
+                clients.addAll(personPage.getItems());
+                publishBatch(personPage.getItems(), model::addLoadedPersons, "clients", clients.size(), totalPersons);
+            } while (!personPage.isLast());
+
+            ListingClients listingClients = new ListingClients(clients);
+            int totalListings = databaseStorage.getListingCount();
+            DatabaseStorage.Page<Listing> listingPage = null;
+            do {
+                long afterId = listingPage == null ? DatabaseStorage.BEFORE_FIRST_ID : listingPage.getLastId();
+                listingPage = databaseStorage.readListings(listingClients, afterId, LOAD_BATCH_SIZE);
+                listingCount += listingPage.getItems().size();
+                publishBatch(listingPage.getItems(), model::addLoadedListings, "listings", listingCount,
+                        totalListings);
+            } while (!listingPage.isLast());
+        } catch (DataLoadingException e) {
+            logger.warning("Data in " + databaseStorage.getAddressBookFilePath() + " could not be loaded: "
+                    + StringUtil.getDetails(e));
+        }
+        databasePhase.end(clients.size() + listingCount);
+    }
+
+    /**
+     * Returns the storage for the address book in the storage format chosen in {@code userPrefs}.
+     * If its data file does not exist yet, it is converted from the data file in the other format, if there is one.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath, userPrefs.getParallelLoadThreshold(),
+                userPrefs.getDataFileEncoding());
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(StorageFormat.BINARY.getFilePath(filePath));
+        boolean isBinary = userPrefs.getStorageFormat() == StorageFormat.BINARY;
+        AddressBookStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+
+        if (!Files.exists(chosenStorage.getAddressBookFilePath())) {
+            try {
+                DataFileConverter.convertAddressBook(isBinary ? jsonStorage : binaryStorage, chosenStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to convert the address book to " + userPrefs.getStorageFormat() + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the storage for the listings in the storage format chosen in {@code userPrefs}, with JSON listings
+     * stored in one file per region if chosen in {@code userPrefs}.
+     * If its data file does not exist yet, it is converted from the data file in the other format, if there is one,
+     * with the clients of the listings looked up in the address book from {@code addressBookStorage}.
+     */
+    private ListingStorage initListingStorage(ReadOnlyUserPrefs userPrefs, AddressBookStorage addressBookStorage) {
+        Path filePath = userPrefs.getListingsFilePath();
+        ListingStorage jsonStorage = new JsonListingsStorage(filePath, userPrefs.getParallelLoadThreshold(),
+                userPrefs.getDataFileEncoding());
+        ListingStorage binaryStorage = new BinaryListingsStorage(StorageFormat.BINARY.getFilePath(filePath));
+        boolean isBinary = userPrefs.getStorageFormat() == StorageFormat.BINARY;
+        ListingStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        ListingStorage sourceStorage = isBinary ? jsonStorage : binaryStorage;
+        if (!isBinary && userPrefs.isShardListingsByRegion()) {
+            chosenStorage = new ShardedListingsStorage(filePath.resolveSibling(SHARDED_LISTINGS_DIRECTORY_NAME),
+                    userPrefs.getParallelLoadThreshold(), userPrefs.getDataFileEncoding());
+            sourceStorage = jsonStorage;
+        }
+
+        if (!Files.exists(chosenStorage.getListingsFilePath())) {
+            try {
+                ReadOnlyAddressBook addressBook = addressBookStorage.readAddressBook().orElseGet(AddressBook::new);
+                DataFileConverter.convertListings(sourceStorage, chosenStorage, addressBook);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to convert the listings to " + userPrefs.getStorageFormat() + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns the storage for the address book and listings in a database, as chosen in {@code userPrefs}.
+     * If the database does not exist yet, it is created from the data in {@code addressBookStorage} and
+     * {@code listingStorage}, if there is any.
+     */
+    private DatabaseStorage initDatabaseStorage(ReadOnlyUserPrefs userPrefs, AddressBookStorage addressBookStorage,
+            ListingStorage listingStorage) {
+        DatabaseStorage chosenStorage =
+                new DatabaseStorage(StorageFormat.DATABASE.getFilePath(userPrefs.getAddressBookFilePath()));
+        if (!Files.exists(chosenStorage.getAddressBookFilePath())) {
+            try {
+                DataFileConverter.convertToDatabase(addressBookStorage, listingStorage, chosenStorage);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to convert the data to " + StorageFormat.DATABASE + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Returns a watcher that loads the changes made to the JSON data files outside the app, if chosen in
+     * {@code userPrefs}, or null if the data files are not watched.
+     * The listings are only watched when they are stored in a single JSON file.
+     */
+    private DataFileWatcher initDataFileWatcher(ReadOnlyUserPrefs userPrefs, AddressBookStorage addressBookStorage,
+            ListingStorage listingStorage) {
+        if (!userPrefs.isWatchDataFiles()
+                || !(addressBookStorage instanceof JsonAddressBookStorage jsonAddressBookStorage)) {
+            return null;
+        }
+        JsonListingsStorage jsonListingsStorage = listingStorage instanceof JsonListingsStorage jsonStorage
+                ? jsonStorage
+                : null;
+        // The changes are applied on the JavaFX application thread, like the commands
+        return new DataFileWatcher(jsonAddressBookStorage, jsonListingsStorage,
+                (previousAddressBook, addressBook, previousListings, listings) -> Platform.runLater(() ->
+                        logic.mergeExternalChanges(previousAddressBook, addressBook, previousListings, listings)));
+    }
+
+    /**
+     * Starts watching the data files for changes made outside the app, or the shared journal for changes saved by
+     * other instances, once all of the data is in the model.
+     */
+    private void startWatchingDataFiles() {
+        if (sharedStorage != null) {
+            // The changes are applied on the JavaFX application thread, like the commands
+            sharedStorage.startPolling(() -> Platform.runLater(logic::applySharedChanges));
+        }
+        if (dataFileWatcher == null) {
+            return;
+        }
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data files for changes: " + StringUtil.getDetails(e));
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * <br>
+     * The changes recorded in {@code storage}'s journal are then replayed on top of the data that was read.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using client data file : " + storage.getAddressBookFilePath());
         logger.info("Using listings data file : " + storage.getListingsFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        Optional<ReadOnlyListings> listingsOptional;
-        ReadOnlyListings initialListings;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            listingsOptional = storage.readListings();
+        // The address book and the journal are read on their own threads while the listings are parsed on this one.
+        // The listings only wait for the address book to look up their clients.
+        CompletableFuture<ReadOnlyAddressBook> addressBookRead = readConcurrently("Reading the address book", () -> {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        }, addressBook -> addressBook.getPersonList().size());
+        CompletableFuture<List<ModelChange>> changesRead =
+                readConcurrently("Reading the journal", storage::readChanges, List::size);
+
+        ReadOnlyAddressBook initialData;
+        Optional<ReadOnlyListings> listingsOptional;
+        ReadOnlyListings initialListings;
+        try {
+            StartupProfiler.Phase listingsPhase = profiler.startPhase("Reading the listings");
+            listingsOptional = storage.readListingsWithPendingAddressBook(() -> await(addressBookRead));
+            listingsPhase.end(listingsOptional.map(listings -> listings.getListingList().size()).orElse(0));
+            initialData = await(addressBookRead);
             if (!listingsOptional.isPresent()) {
                 logger.info("Creating a new listings file " + storage.getListingsFilePath()
                         + " populated with sample Listings.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
             initialListings = listingsOptional.orElseGet(SampleDataUtil::getSampleListings);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
@@ -109,9 +412,76 @@ public class MainApp extends Application {
                     + " Will be starting with empty Listings.");
             initialData = new AddressBook();
             initialListings = new Listings();
+            return new ModelManager(initialData, userPrefs, initialListings);
+        }
+
+        StartupProfiler.Phase modelPhase = profiler.startPhase("Replaying the journal and building the model");
+        try {
+            List<ModelChange> changes = await(changesRead);
+            if (!changes.isEmpty()) {
+                logger.info("Replaying " + changes.size() + " changes recorded since the data files were written.");
+                ReadOnlyAddressBook replayedData = ModelChange.replay(initialData, changes);
+                initialListings = ModelChange.replay(initialListings, changes);
+                initialData = replayedData;
+            }
+        } catch (DataLoadingException | DuplicatePersonException | DuplicateListingException e) {
+            logger.warning("Changes recorded since the data files were written could not be replayed: "
+                    + StringUtil.getDetails(e));
+            storage.setAsideChanges();
+        }
+
+        Model initializedModel = new ModelManager(initialData, userPrefs, initialListings);
+        modelPhase.end(initialData.getPersonList().size() + initialListings.getListingList().size());
+        return initializedModel;
+    }
+
+    /**
+     * Runs {@code reader} on a new thread, profiling it as the phase {@code phaseName} with the number of records
+     * given by {@code recordCount}.
+     * A {@code DataLoadingException} thrown by {@code reader} is rethrown by {@link #await(CompletableFuture)}.
+     */
+    private static <T> CompletableFuture<T> readConcurrently(String phaseName, DataReader<T> reader,
+            ToIntFunction<T> recordCount) {
+        return CompletableFuture.supplyAsync(() -> {
+            StartupProfiler.Phase phase = profiler.startPhase(phaseName);
+            T data;
+            try {
+                data = reader.read();
+            } catch (DataLoadingException e) {
+                phase.end();
+                throw new CompletionException(e);
+            }
+            phase.end(recordCount.applyAsInt(data));
+            return data;
+        }, task -> {
+            Thread thread = new Thread(task, "data-reader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Waits for {@code read} to complete, then returns its result.
+     *
+     * @throws DataLoadingException if the data could not be read.
+     */
+    private static <T> T await(CompletableFuture<T> read) throws DataLoadingException {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw e;
         }
+    }
 
-        return new ModelManager(initialData, userPrefs, initialListings);
+    /**
+     * Reads data from storage.
+     */
+    @FunctionalInterface
+    private interface DataReader<T> {
+        T read() throws DataLoadingException;
     }
 
     private void initLogging(Config config) {
@@ -193,15 +563,47 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting EZSTATES " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (logic.isLoadingData()) {
+            loadDataInBackground(model.getUserPrefs());
+        } else {
+            startWatchingDataFiles();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (sharedStorage != null) {
+            sharedStorage.stopPolling();
+        }
+        if (dataFileWatcher != null) {
+            try {
+                dataFileWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the data files: " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (logic.isLoadingData()) {
+            // Only part of the data is in the model, and no commands that change it have been run
+            logger.info("Data is still loading, so it is not saved.");
+            return;
+        }
+        try {
+            storage.flush(model.getAddressBook(), model.getListings());
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        if (databaseStorage != null) {
+            try {
+                databaseStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close the database: " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents how the content of a data file is encoded on disk.
+ */
+public enum DataFileEncoding {
+    /** The content is stored as it is, so that it can be edited by hand. */
+    PLAIN,
+    /** The content is stored after a header, followed by a checksum that detects a corrupted file. */
+    CHECKSUMMED,
+    /** Like {@link #CHECKSUMMED}, but the content is compressed with gzip. */
+    COMPRESSED
+}
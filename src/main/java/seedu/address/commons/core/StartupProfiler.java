@@ -0,0 +1,246 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Times the phases of starting up the app, with the number of records handled and the bytes allocated in each phase.
+ * The phases of each startup are saved as one line of a stats file, which keeps the last {@value #MAX_RUN_COUNT}
+ * startups, so that slower startups can be spotted across releases.
+ */
+public class StartupProfiler {
+
+    public static final String STATS_FILE_NAME = "startupstats.txt";
+    public static final int NO_RECORD_COUNT = -1;
+    static final int MAX_RUN_COUNT = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final StartupProfiler current = new StartupProfiler();
+    private static final String FIELD_SEPARATOR = " | ";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final List<PhaseStats> phases = Collections.synchronizedList(new ArrayList<>());
+    private Path statsFilePath;
+    private String summary;
+
+    /**
+     * Returns the profiler for the current run of the app.
+     */
+    public static StartupProfiler getCurrent() {
+        return current;
+    }
+
+    /**
+     * Sets the file that the startups are saved to.
+     */
+    public void setStatsFilePath(Path statsFilePath) {
+        this.statsFilePath = statsFilePath;
+    }
+
+    /**
+     * Starts timing the phase named {@code name} on the calling thread.
+     */
+    public Phase startPhase(String name) {
+        requireNonNull(name);
+        return new Phase(name);
+    }
+
+    /**
+     * Returns the phases that have ended, in the order they ended.
+     */
+    public List<PhaseStats> getPhases() {
+        synchronized (phases) {
+            return new ArrayList<>(phases);
+        }
+    }
+
+    /**
+     * Returns true if the startup has finished.
+     */
+    public boolean isFinished() {
+        return summary != null;
+    }
+
+    /**
+     * Marks the end of the startup, taking {@code totalMillis} in all, and saves its phases to the stats file.
+     * Does nothing if the startup has already finished.
+     */
+    public void finish(Version version, long totalMillis) {
+        if (isFinished()) {
+            return;
+        }
+
+        List<String> fields = new ArrayList<>();
+        fields.add(LocalDateTime.now().format(TIMESTAMP_FORMAT));
+        fields.add(version.toString());
+        fields.add("total " + totalMillis + " ms");
+        getPhases().forEach(phase -> fields.add(phase.toString()));
+        summary = String.join(FIELD_SEPARATOR, fields);
+        logger.info("Startup finished: " + summary);
+
+        if (statsFilePath == null) {
+            return;
+        }
+        try {
+            List<String> runs = readRuns();
+            runs.add(summary);
+            String content = runs.subList(Math.max(0, runs.size() - MAX_RUN_COUNT), runs.size()).stream()
+                    .collect(Collectors.joining(System.lineSeparator(), "", System.lineSeparator()));
+            FileUtil.writeToFile(statsFilePath, content);
+        } catch (IOException e) {
+            logger.warning("Failed to save startup stats to " + statsFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the startups saved in the stats file, oldest first.
+     */
+    public List<String> readRuns() throws IOException {
+        if (statsFilePath == null || !Files.exists(statsFilePath)) {
+            return new ArrayList<>();
+        }
+        return Files.readAllLines(statsFilePath).stream()
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns a report of the phases of this startup, followed by the totals of the earlier startups.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder("Phases of this startup:");
+        getPhases().forEach(phase -> report.append("\n").append(phase));
+        if (!isFinished()) {
+            report.append("\n(still starting up)");
+        }
+
+        List<String> runs;
+        try {
+            runs = readRuns();
+        } catch (IOException e) {
+            logger.warning("Failed to read startup stats from " + statsFilePath + ": " + StringUtil.getDetails(e));
+            return report.toString();
+        }
+        if (isFinished() && !runs.isEmpty()) {
+            // The last saved startup is this one
+            runs.remove(runs.size() - 1);
+        }
+        if (!runs.isEmpty()) {
+            report.append("\n\nEarlier startups, newest first:");
+            for (int i = runs.size() - 1; i >= 0; i--) {
+                String[] fields = runs.get(i).split(" \\| ", 4);
+                report.append("\n").append(String.join(FIELD_SEPARATOR,
+                        List.of(fields).subList(0, Math.min(3, fields.length))));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the calling thread, or 0 if the JVM does not track it.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A phase of the startup that is being timed.
+     */
+    public class Phase {
+        private final String name;
+        private final long startTime = System.nanoTime();
+        private final long startAllocatedBytes = getAllocatedBytes();
+
+        private Phase(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Ends this phase, which did not handle any records.
+         * Must be called on the thread that started it.
+         */
+        public void end() {
+            end(NO_RECORD_COUNT);
+        }
+
+        /**
+         * Ends this phase, which handled {@code recordCount} records.
+         * Must be called on the thread that started it.
+         */
+        public void end(int recordCount) {
+            PhaseStats stats = new PhaseStats(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                    recordCount, getAllocatedBytes() - startAllocatedBytes);
+            phases.add(stats);
+            logger.info(stats.toString());
+        }
+    }
+
+    /**
+     * The time taken, records handled and bytes allocated by a phase of the startup.
+     */
+    public static class PhaseStats {
+        private final String name;
+        private final long durationMillis;
+        private final int recordCount;
+        private final long allocatedBytes;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public PhaseStats(String name, long durationMillis, int recordCount, long allocatedBytes) {
+            requireNonNull(name);
+            this.name = name;
+            this.durationMillis = durationMillis;
+            this.recordCount = recordCount;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(name).append(": ").append(durationMillis).append(" ms");
+            if (recordCount != NO_RECORD_COUNT) {
+                builder.append(", ").append(recordCount).append(" records");
+            }
+            return builder.append(", ").append(allocatedBytes / 1024).append(" KB allocated").toString();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the format in which the data files are stored.
+ * In the {@code DATABASE} format, the clients and listings are both stored in one database file, named after the
+ * address book data file.
+ */
+public enum StorageFormat {
+    JSON(".json"), BINARY(".bin"), DATABASE(".mv.db");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the one of this format.
+     */
+    public Path getFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.DataFileEncoding;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Writes and reads data files in a {@link DataFileEncoding}.
+ * A file that is not {@link DataFileEncoding#PLAIN} starts with a header naming its encoding, and ends with a
+ * CRC32C checksum of the bytes in between, so that a corrupted file is detected when it is read.
+ * The content is compressed and checksummed as it is streamed, so it is never held in memory as a whole.
+ */
+public class EncodedFileUtil {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file %s is corrupted: its checksum does not match.";
+    public static final String MESSAGE_TRUNCATED = "Data file %s is corrupted: it is truncated.";
+
+    private static final byte[] MAGIC = {'E', 'Z', 'D', 'F'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+    private static final int TRAILER_LENGTH = Integer.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content produced by {@code writer} to {@code out} in {@code encoding}.
+     * {@code out} is not closed.
+     */
+    public static void write(OutputStream out, DataFileEncoding encoding, ContentWriter writer) throws IOException {
+        requireNonNull(out);
+        requireNonNull(encoding);
+        requireNonNull(writer);
+
+        if (encoding == DataFileEncoding.PLAIN) {
+            writer.write(out);
+            return;
+        }
+
+        out.write(MAGIC);
+        out.write(FORMAT_VERSION);
+        // The header names the encoding by its ordinal, so new encodings must be added after the existing ones
+        out.write(encoding.ordinal());
+        CRC32C checksum = new CRC32C();
+        OutputStream content = new CheckedOutputStream(new UnclosableOutputStream(out), checksum);
+        if (encoding == DataFileEncoding.COMPRESSED) {
+            content = new GZIPOutputStream(content, BUFFER_SIZE);
+        }
+        writer.write(content);
+        content.close();
+
+        DataOutputStream trailer = new DataOutputStream(out);
+        trailer.writeInt((int) checksum.getValue());
+        trailer.flush();
+    }
+
+    /**
+     * Opens {@code file} for reading its content, decoding it from the encoding named in its header.
+     * A file without a header is read as {@link DataFileEncoding#PLAIN}.
+     * The checksum is only checked by {@link DecodingInputStream#verify()}, once the content has been read.
+     *
+     * @throws IOException if the file cannot be opened, or its header is invalid.
+     */
+    public static DecodingInputStream openForReading(Path file) throws IOException {
+        requireNonNull(file);
+
+        InputStream fileIn = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            fileIn.mark(HEADER_LENGTH);
+            byte[] header = fileIn.readNBytes(HEADER_LENGTH);
+            if (header.length < HEADER_LENGTH || !Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+                fileIn.reset();
+                return new DecodingInputStream(fileIn, fileIn, null, file);
+            }
+
+            DataFileEncoding encoding = getEncoding(header, file);
+            long contentLength = Files.size(file) - HEADER_LENGTH - TRAILER_LENGTH;
+            if (contentLength < 0) {
+                throw new IOException(String.format(MESSAGE_TRUNCATED, file));
+            }
+            CheckedInputStream checkedContent =
+                    new CheckedInputStream(new BoundedInputStream(fileIn, contentLength), new CRC32C());
+            InputStream content = encoding == DataFileEncoding.COMPRESSED
+                    ? new GZIPInputStream(checkedContent, BUFFER_SIZE)
+                    : checkedContent;
+            return new DecodingInputStream(content, fileIn, checkedContent, file);
+        } catch (IOException | RuntimeException e) {
+            fileIn.close();
+            throw e;
+        }
+    }
+
+    private static DataFileEncoding getEncoding(byte[] header, Path file) throws IOException {
+        int version = header[MAGIC.length];
+        int encodingCode = header[MAGIC.length + 1];
+        DataFileEncoding[] encodings = DataFileEncoding.values();
+        if (version != FORMAT_VERSION || encodingCode <= DataFileEncoding.PLAIN.ordinal()
+                || encodingCode >= encodings.length) {
+            throw new IOException("Data file " + file + " has an unsupported header.");
+        }
+        return encodings[encodingCode];
+    }
+
+    /**
+     * The decoded content of a data file.
+     */
+    public static class DecodingInputStream extends FilterInputStream {
+        private final InputStream fileIn;
+        private final CheckedInputStream checkedContent;
+        private final Path file;
+
+        private DecodingInputStream(InputStream content, InputStream fileIn, CheckedInputStream checkedContent,
+                Path file) {
+            super(content);
+            this.fileIn = fileIn;
+            this.checkedContent = checkedContent;
+            this.file = file;
+        }
+
+        /**
+         * Reads the rest of the file, and checks its checksum. Does nothing for a {@code PLAIN} file.
+         *
+         * @throws IOException if the file is corrupted.
+         */
+        public void verify() throws IOException {
+            if (checkedContent == null) {
+                return;
+            }
+            checkedContent.transferTo(OutputStream.nullOutputStream());
+            byte[] trailer = fileIn.readNBytes(TRAILER_LENGTH);
+            if (trailer.length < TRAILER_LENGTH) {
+                throw new IOException(String.format(MESSAGE_TRUNCATED, file));
+            }
+            if (ByteBuffer.wrap(trailer).getInt() != (int) checkedContent.getChecksum().getValue()) {
+                throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, file));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                fileIn.close();
+            }
+        }
+    }
+
+    /**
+     * Reads at most a given number of bytes from a stream, which is left open when this stream is closed.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream is closed by DecodingInputStream
+        }
+    }
+
+    /**
+     * Writes to a stream, which is flushed rather than closed when this stream is closed.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
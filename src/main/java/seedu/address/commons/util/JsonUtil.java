@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,23 +12,35 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.EncodedFileUtil.DecodingInputStream;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    public static final String MESSAGE_INVALID_ELEMENT = "%s[%d] (line %d, column %d): %s";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -39,8 +52,66 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Values are written into a generator that does the pretty printing, so the writer must neither configure its
+    // own pretty printer nor flush the file after every value
+    private static ObjectWriter generatorWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, out -> writeJson(out, generator ->
+                generatorWriter.writeValue(generator, objectToSerialize)));
+    }
+
+    /**
+     * Saves a JSON object whose only field, {@code arrayFieldName}, is an array of {@code elements}.
+     * The elements are serialized one at a time as they are written to the file, so the whole document is
+     * never held in memory. The file is replaced atomically, see {@link FileUtil#writeToFileAtomically}.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements)
+            throws IOException {
+        saveJsonArrayFile(filePath, arrayFieldName, elements, DataFileEncoding.PLAIN);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Path, String, Iterable)}, but encodes the file in {@code encoding},
+     * see {@link EncodedFileUtil}.
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            DataFileEncoding encoding) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(encoding);
+
+        GeneratorWriter arrayWriter = generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            for (T element : elements) {
+                generatorWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        };
+        FileUtil.writeToFileAtomically(filePath, out ->
+                EncodedFileUtil.write(out, encoding, content -> writeJson(content, arrayWriter)));
+    }
+
+    private static void writeJson(OutputStream out, GeneratorWriter writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.useDefaultPrettyPrinter();
+        writer.write(generator);
+        generator.close();
+    }
+
+    /**
+     * Writes JSON content to a generator.
+     */
+    @FunctionalInterface
+    private interface GeneratorWriter {
+        void write(JsonGenerator generator) throws IOException;
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,6 +148,140 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array in the field {@code arrayFieldName} of the JSON object in the given file,
+     * passing each element to {@code handler} as soon as it is parsed, so that the elements are never all held
+     * in memory at once. Other fields of the object are skipped, and a missing array is read as an empty one.
+     * A file saved in an encoding other than {@code PLAIN} is decoded, and its checksum checked.
+     *
+     * @param filePath cannot be null.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if reading or parsing the JSON file failed, or the file is corrupted.
+     * @throws IllegalValueException if {@code handler} rejected an element. The message gives the position of
+     *     the element in the array and in the file.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> handler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(handler);
+        return readJsonArrayFileWithPositions(filePath, arrayFieldName, elementClass, (element, position) -> {
+            try {
+                handler.handle(element);
+            } catch (IllegalValueException e) {
+                throw position.wrap(e);
+            }
+        });
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}, but passes the position of each
+     * element to {@code handler} along with the element, so that an element can be rejected after it was read.
+     *
+     * @throws IllegalValueException if {@code handler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFileWithPositions(Path filePath, String arrayFieldName,
+            Class<T> elementClass, PositionedElementHandler<T> handler)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementClass);
+        requireNonNull(handler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (DecodingInputStream in = EncodedFileUtil.openForReading(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = parser.getCurrentName().equals(arrayFieldName);
+                JsonToken value = parser.nextToken();
+                if (!isArrayField || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+                readArrayElements(parser, arrayFieldName, in, elementClass, handler);
+            }
+            in.verify();
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static <T> void readArrayElements(JsonParser parser, String arrayFieldName, DecodingInputStream in,
+            Class<T> elementClass, PositionedElementHandler<T> handler) throws IOException, IllegalValueException {
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonLocation location = parser.getTokenLocation();
+            try {
+                T element = objectMapper.readValue(parser, elementClass);
+                handler.handle(element, new ElementPosition(arrayFieldName, index, location.getLineNr(),
+                        location.getColumnNr()));
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                // An invalid element in a corrupted file is reported as the file being corrupted
+                in.verify();
+                throw e;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Handles an element of a JSON array as it is read.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Handles an element of a JSON array, together with its position, as it is read.
+     */
+    @FunctionalInterface
+    public interface PositionedElementHandler<T> {
+        /**
+         * @throws IllegalValueException if the element violates any data constraints. The message should give
+         *     the position of the element, see {@link ElementPosition#wrap}.
+         */
+        void handle(T element, ElementPosition position) throws IllegalValueException;
+    }
+
+    /**
+     * The position of an element in a JSON array and in the file it was read from.
+     */
+    public static class ElementPosition {
+        private final String arrayFieldName;
+        private final int index;
+        private final int lineNr;
+        private final int columnNr;
+
+        ElementPosition(String arrayFieldName, int index, int lineNr, int columnNr) {
+            this.arrayFieldName = arrayFieldName;
+            this.index = index;
+            this.lineNr = lineNr;
+            this.columnNr = columnNr;
+        }
+
+        /**
+         * Returns an {@code IllegalValueException} that reports {@code cause} at this position.
+         */
+        public IllegalValueException wrap(IllegalValueException cause) {
+            return new IllegalValueException(String.format(MESSAGE_INVALID_ELEMENT, arrayFieldName, index, lineNr,
+                    columnNr, cause.getMessage()), cause);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -111,6 +316,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation without line breaks,
+     * so that it can be written as a single line of a file.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
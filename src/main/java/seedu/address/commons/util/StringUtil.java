@@ -65,4 +65,31 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the value of the unsigned decimal number {@code s}, or {@code Long.MAX_VALUE} if it is larger than
+     * that, without allocating an intermediate object.
+     * e.g. "0" is 0, "123" is 123, and "99999999999999999999" is {@code Long.MAX_VALUE}
+     * @throws NullPointerException if {@code s} is null.
+     * @throws NumberFormatException if {@code s} is empty or contains anything other than digits.
+     */
+    public static long parseUnsignedLongSaturated(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            throw new NumberFormatException("Not a number: \"\"");
+        }
+
+        long value = 0;
+        for (int i = 0; i < s.length(); i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a number: \"" + s + "\"");
+            }
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return Long.MAX_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,7 +10,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Region;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,6 +29,41 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Marks the data as being loaded from storage. Until {@link #finishLoadingData()} is called, commands that need
+     * the data are queued by {@link #execute(String)} instead of being executed.
+     */
+    void startLoadingData();
+
+    /**
+     * Returns true if the data is still being loaded from storage.
+     */
+    boolean isLoadingData();
+
+    /**
+     * Marks the data as loaded, and returns the commands that were queued while it was being loaded, in the order
+     * they were entered, so that they can be executed.
+     */
+    List<String> finishLoadingData();
+
+    /**
+     * Applies the changes made to the data files outside the app, from {@code previousAddressBook} and
+     * {@code previousListings} to {@code addressBook} and {@code listings}, to the model and saves them.
+     *
+     * @return the number of clients and listings that were added, replaced or removed.
+     * @see seedu.address.model.Model#mergeExternalPersons(ReadOnlyAddressBook, ReadOnlyAddressBook)
+     */
+    int mergeExternalChanges(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook,
+            ReadOnlyListings previousListings, ReadOnlyListings listings);
+
+    /**
+     * Applies the changes saved by other instances of the app sharing the data directory to the model.
+     *
+     * @return the number of changes that were applied.
+     * @see seedu.address.storage.Storage#readSharedChanges()
+     */
+    int applySharedChanges();
+
     /**
      * Returns the AddressBook.
      *
@@ -34,9 +74,30 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the person with the given {@code id}, or null if there is none.
+     *
+     * @see seedu.address.model.Model#getPersonById(Id)
+     */
+    Person getPersonById(Id id);
+
     /** Returns an unmodifiable view of the filtered list of listings */
     ObservableList<Listing> getFilteredListingList();
 
+    /**
+     * Returns the listings.
+     *
+     * @see seedu.address.model.Model#getListings()
+     */
+    ReadOnlyListings getListings();
+
+    /**
+     * Returns the number of listings in each region.
+     *
+     * @see seedu.address.model.Model#getListingCountsByRegion()
+     */
+    Map<Region, Integer> getListingCountsByRegion();
+
     /**
      * Returns the user prefs' address book file path.
      */
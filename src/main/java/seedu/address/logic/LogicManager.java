@@ -3,20 +3,30 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.EzstatesParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Region;
 import seedu.address.model.person.Person;
+import seedu.address.storage.ConflictingChangeException;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,11 +38,19 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED = "Your data is still loading. \"%s\" will be run as soon as "
+            + "it is loaded.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final EzstatesParser ezstatesParser;
+    // Changes that could not be saved yet, which are saved again together with the changes of the next command
+    private final List<ModelChange> unsavedChanges = new ArrayList<>();
+    // Commands entered while the data was being loaded, which are run once it is loaded
+    private final List<String> queuedCommands = new ArrayList<>();
+    private boolean isLoadingData;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -49,20 +67,95 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = ezstatesParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (isLoadingData && command.requiresData()) {
+            queuedCommands.add(commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+        }
+        commandResult = command.execute(model, storage);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveListings(model.getListings());
+            saveChanges();
+        } catch (ConflictingChangeException e) {
+            // The model is replaced by the data saved by the other instances, which undoes the command
+            unsavedChanges.clear();
+            applySharedChanges();
+            throw new CommandException(e.getMessage(), e);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
+        // Changes of other instances read while saving are applied right away
+        applySharedChanges();
         return commandResult;
     }
 
+    /**
+     * Saves the changes made to the model, together with the changes that could not be saved before.
+     */
+    private void saveChanges() throws IOException {
+        unsavedChanges.addAll(model.takeChanges());
+        storage.saveChanges(model.getAddressBook(), model.getListings(), unsavedChanges);
+        unsavedChanges.clear();
+    }
+
+    @Override
+    public void startLoadingData() {
+        isLoadingData = true;
+    }
+
+    @Override
+    public boolean isLoadingData() {
+        return isLoadingData;
+    }
+
+    @Override
+    public List<String> finishLoadingData() {
+        isLoadingData = false;
+        List<String> commandsToRun = new ArrayList<>(queuedCommands);
+        queuedCommands.clear();
+        return commandsToRun;
+    }
+
+    @Override
+    public int mergeExternalChanges(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook,
+            ReadOnlyListings previousListings, ReadOnlyListings listings) {
+        int mergedCount = model.mergeExternalPersons(previousAddressBook, addressBook)
+                + model.mergeExternalListings(previousListings, listings);
+        if (mergedCount == 0) {
+            return 0;
+        }
+
+        logger.info("Loaded " + mergedCount + " clients and listings changed outside the app.");
+        try {
+            saveChanges();
+        } catch (IOException ioe) {
+            logger.warning("Could not save the changes made outside the app, they will be saved with the next "
+                    + "command: " + ioe.getMessage());
+        }
+        return mergedCount;
+    }
+
+    @Override
+    public int applySharedChanges() {
+        List<ModelChange> sharedChanges;
+        try {
+            sharedChanges = storage.readSharedChanges();
+        } catch (DataLoadingException e) {
+            logger.warning("Could not load the changes saved by other instances of the app, they will be loaded "
+                    + "with the next changes: " + StringUtil.getDetails(e));
+            return 0;
+        }
+        if (sharedChanges.isEmpty()) {
+            return 0;
+        }
+
+        model.applySharedChanges(sharedChanges);
+        logger.info("Loaded " + sharedChanges.size() + " changes saved by other instances of the app.");
+        return sharedChanges.size();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -73,11 +166,26 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Person getPersonById(Id id) {
+        return model.getPersonById(id);
+    }
+
     @Override
     public ObservableList<Listing> getFilteredListingList() {
         return model.getFilteredListingList();
     }
 
+    @Override
+    public ReadOnlyListings getListings() {
+        return model.getListings();
+    }
+
+    @Override
+    public Map<Region, Integer> getListingCountsByRegion() {
+        return model.getListingCountsByRegion();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -72,8 +72,8 @@ public class Messages {
                 .append("; Address: ")
                 .append(listing.getAddress())
                 .append("; Seller: ")
-                .append(listing.getSeller());
-        listing.getBuyers().forEach(builder::append);
+                .append(listing.getSellerId());
+        listing.getBuyerIds().forEach(builder::append);
         return String.format("%1s.\nAddress: %2s",
                 listing.getName(), listing.getAddress());
     }
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Backs up the clients and listings, saving only what has changed since the last backup.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Backs up the clients and listings. "
+            + "Only the changes since the last backup are saved.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Backed up the data at %1$s. To restore it, enter: "
+            + RestoreCommand.COMMAND_WORD + " %1$s";
+    public static final String MESSAGE_UNCHANGED = "Nothing has changed since the last backup at %s.";
+    public static final String MESSAGE_BACKUP_FAILED = "Could not back up the data due to the following error: %s";
+    public static final String MESSAGE_STORAGE_REQUIRED = "Backups need access to the saved data.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireAllNonNull(model, storage);
+
+        try {
+            Optional<String> timestamp = storage.backup(model.getAddressBook(), model.getListings());
+            if (timestamp.isPresent()) {
+                return new CommandResult(String.format(MESSAGE_SUCCESS, timestamp.get()));
+            }
+            List<String> timestamps = storage.getBackupTimestamps();
+            return new CommandResult(String.format(MESSAGE_UNCHANGED, timestamps.get(timestamps.size() - 1)));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_FAILED, e.getMessage()), e);
+        }
+    }
+}
@@ -19,4 +19,9 @@ public class ChatWindowCommand extends Command {
         StatusBarFooter.handleChatButtonAction();
         return new CommandResult(SHOWING_CHAT_BOT_MESSAGE);
     }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
 }
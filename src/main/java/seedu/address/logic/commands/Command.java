@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.Storage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -16,4 +17,24 @@ public abstract class Command {
      * @throws CommandException If an error occurs during command execution.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Executes the command with access to the saved data in {@code storage}.
+     * Most commands only operate on the {@code model}, so this executes the command on the {@code model} only.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param storage {@code Storage} that holds the saved data.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns true if the command needs the data loaded from storage, so it has to wait until the data is loaded.
+     */
+    public boolean requiresData() {
+        return true;
+    }
 }
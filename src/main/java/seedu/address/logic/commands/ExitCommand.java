@@ -17,4 +17,9 @@ public class ExitCommand extends Command {
                 false, false);
     }
 
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+
 }
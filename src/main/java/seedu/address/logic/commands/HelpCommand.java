@@ -19,4 +19,9 @@ public class HelpCommand extends Command {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false,
                 false, false);
     }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
 }
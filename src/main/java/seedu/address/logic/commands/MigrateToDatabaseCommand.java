@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DataFileConverter;
+import seedu.address.storage.DatabaseStorage;
+import seedu.address.storage.Storage;
+
+/**
+ * Copies the clients and listings from the JSON data files into a new database, which stores them from the next
+ * time the app starts. The app is closed afterwards, so that no change is saved to the JSON data files only.
+ */
+public class MigrateToDatabaseCommand extends Command {
+
+    public static final String COMMAND_WORD = "migratedb";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Copies the clients and listings from the JSON data "
+            + "files into a database, which saves changes faster, then closes the app. The database is used from the "
+            + "next time the app starts.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Copied %d clients and %d listings to the database at %s. "
+            + "The app will now close, and use the database from the next time it starts.";
+    public static final String MESSAGE_NOT_JSON = "Only JSON data files can be migrated, but the data is stored in "
+            + "the %s format.";
+    public static final String MESSAGE_SHARED = "The data cannot be migrated while the data directory is shared with "
+            + "other instances of the app.";
+    public static final String MESSAGE_DATABASE_EXISTS = "A database already exists at %s. Remove it to migrate "
+            + "the data again.";
+    public static final String MESSAGE_NO_DATA = "There are no JSON data files to migrate.";
+    public static final String MESSAGE_MIGRATION_FAILED = "Could not migrate the data due to the following error: %s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(BackupCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireAllNonNull(model, storage);
+
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        if (userPrefs.getStorageFormat() != StorageFormat.JSON) {
+            throw new CommandException(String.format(MESSAGE_NOT_JSON, userPrefs.getStorageFormat()));
+        }
+        if (userPrefs.isSharedDataDirectory()) {
+            throw new CommandException(MESSAGE_SHARED);
+        }
+        Path databaseFilePath = StorageFormat.DATABASE.getFilePath(storage.getAddressBookFilePath());
+        if (Files.exists(databaseFilePath)) {
+            throw new CommandException(String.format(MESSAGE_DATABASE_EXISTS, databaseFilePath));
+        }
+
+        DatabaseStorage databaseStorage = new DatabaseStorage(databaseFilePath);
+        int personCount;
+        int listingCount;
+        try {
+            // The data files are written in full first, so that they hold all changes saved so far
+            storage.flush(model.getAddressBook(), model.getListings());
+            if (!DataFileConverter.convertToDatabase(storage, storage, databaseStorage)) {
+                throw new CommandException(MESSAGE_NO_DATA);
+            }
+            personCount = databaseStorage.getPersonCount();
+            listingCount = databaseStorage.getListingCount();
+            databaseStorage.close();
+        } catch (IOException | DataLoadingException e) {
+            deleteDatabase(databaseStorage);
+            throw new CommandException(String.format(MESSAGE_MIGRATION_FAILED, e.getMessage()), e);
+        }
+
+        UserPrefs updatedPrefs = new UserPrefs(userPrefs);
+        updatedPrefs.setStorageFormat(StorageFormat.DATABASE);
+        model.setUserPrefs(updatedPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personCount, listingCount, databaseFilePath),
+                false, true, false, false);
+    }
+
+    /**
+     * Closes and deletes the database left by a failed migration, so that the migration can be tried again.
+     */
+    private static void deleteDatabase(DatabaseStorage databaseStorage) {
+        try {
+            databaseStorage.close();
+            Files.deleteIfExists(databaseStorage.getAddressBookFilePath());
+        } catch (IOException e) {
+            // The message of the failed migration is more helpful, and names the database anyway
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
+import seedu.address.storage.Storage;
+
+/**
+ * Replaces the clients and listings with those backed up at a given time, after backing up the current data.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces the clients and listings with those "
+            + "backed up at the given time. The current data is backed up first.\n"
+            + "Parameters: TIMESTAMP\n"
+            + "Example: " + COMMAND_WORD + " 20241018-140000";
+
+    public static final String MESSAGE_SUCCESS = "Restored the data backed up at %s.";
+    public static final String MESSAGE_SUCCESS_WITH_BACKUP = MESSAGE_SUCCESS
+            + " The data before restoring was backed up at %s.";
+    public static final String MESSAGE_UNKNOWN_BACKUP = "There is no backup taken at %s. The latest backups are: %s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet. Enter \"" + BackupCommand.COMMAND_WORD
+            + "\" to take one.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not restore the backup due to the following error: %s";
+    public static final String MESSAGE_BACKUP_FAILED = "Did not restore the backup, as the current data could not "
+            + "be backed up first: %s";
+
+    static final int LISTED_BACKUP_COUNT = 5;
+
+    private final String timestamp;
+
+    /**
+     * Creates a {@code RestoreCommand} that restores the backup taken at {@code timestamp}.
+     */
+    public RestoreCommand(String timestamp) {
+        requireNonNull(timestamp);
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(BackupCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireAllNonNull(model, storage);
+
+        List<ModelChange> changes;
+        Optional<String> currentDataBackup;
+        try {
+            List<String> timestamps = storage.getBackupTimestamps();
+            if (timestamps.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_BACKUPS);
+            }
+            if (!timestamps.contains(timestamp)) {
+                List<String> latestTimestamps = timestamps.subList(
+                        Math.max(0, timestamps.size() - LISTED_BACKUP_COUNT), timestamps.size());
+                throw new CommandException(String.format(MESSAGE_UNKNOWN_BACKUP, timestamp,
+                        String.join(", ", latestTimestamps)));
+            }
+            changes = storage.readBackup(timestamp);
+        } catch (IOException | DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, e.getMessage()), e);
+        }
+
+        try {
+            currentDataBackup = storage.backup(model.getAddressBook(), model.getListings());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_FAILED, e.getMessage()), e);
+        }
+
+        model.setAddressBook(ModelChange.replay(new AddressBook(), changes));
+        model.setListings(ModelChange.replay(new Listings(), changes));
+        return new CommandResult(currentDataBackup
+                .map(backupTimestamp -> String.format(MESSAGE_SUCCESS_WITH_BACKUP, timestamp, backupTimestamp))
+                .orElse(String.format(MESSAGE_SUCCESS, timestamp)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand otherRestoreCommand)) {
+            return false;
+        }
+
+        return timestamp.equals(otherRestoreCommand.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return timestamp.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("timestamp", timestamp)
+                .toString();
+    }
+}
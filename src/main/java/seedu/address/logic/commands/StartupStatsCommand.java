@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of starting up the app took, and how long earlier startups took.
+ */
+public class StartupStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "startupstats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long starting up the app took.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final StartupProfiler profiler;
+
+    public StartupStatsCommand() {
+        this(StartupProfiler.getCurrent());
+    }
+
+    /**
+     * Creates a {@code StartupStatsCommand} that reports the startups profiled by {@code profiler}.
+     */
+    public StartupStatsCommand(StartupProfiler profiler) {
+        requireNonNull(profiler);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(profiler.getReport());
+    }
+
+    @Override
+    public boolean requiresData() {
+        return false;
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.logic.commands.clientcommands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,6 +14,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Role;
@@ -82,15 +85,14 @@ public class DeleteClientProfileCommand extends Command {
 
     private void removeAllRelatedListings(Model model, Person personToDelete, Role role) {
         if (role.equals(Role.BUYER)) {
-            model.getListings().getListingList()
-                    .forEach(listing -> listing.removeBuyer(personToDelete));
+            for (Listing listing : model.getListingsForBuyer(personToDelete)) {
+                Set<Id> remainingBuyerIds = new HashSet<>(listing.getBuyerIds());
+                remainingBuyerIds.remove(personToDelete.getId());
+                model.setListing(listing, listing.modifyListingWithBuyers(remainingBuyerIds));
+            }
 
         } else if (role.equals(Role.SELLER)) {
-            List<Listing> listingsToDelete = model.getListings().getListingList().stream()
-                    .filter(listing -> listing.getSeller().equals(personToDelete))
-                    .toList();
-
-            for (Listing listing : listingsToDelete) {
+            for (Listing listing : model.getListingsForSeller(personToDelete)) {
                 model.deleteListing(listing);
             }
         }
@@ -90,7 +90,6 @@ public class EditClientCommand extends Command {
         }
 
         model.setPerson(personToEdit, editedPerson);
-        model.updateListingsAfterClientEdit(personToEdit, editedPerson);
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.updateFilteredListingList(listing -> true);
@@ -115,11 +114,11 @@ public class EditClientCommand extends Command {
         Appointment updatedAppointment = personToEdit.getAppointment();
 
         if (role.equals(Role.BUYER)) {
-            return new Buyer(updatedName, updatedPhone, updatedEmail,
-                    updatedTags, updatedAppointment);
+            return new Buyer(personToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                    updatedTags, updatedAppointment, personToEdit.getRemark());
         } else {
-            return new Seller(updatedName, updatedPhone, updatedEmail,
-                    updatedTags, updatedAppointment);
+            return new Seller(personToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                    updatedTags, updatedAppointment, personToEdit.getRemark());
         }
     }
 
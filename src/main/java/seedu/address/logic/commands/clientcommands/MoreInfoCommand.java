@@ -11,7 +11,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Seller;
 import seedu.address.ui.MoreInfoWindow;
 
 /**
@@ -57,11 +60,26 @@ public class MoreInfoCommand extends Command {
         CommandUtils.handleInvalidPersonIndex(zeroBased, lastShownList.size());
         Person personMoreInfo = lastShownList.get(zeroBased);
 
-        MoreInfoWindow moreInfoWindow = new MoreInfoWindow(personMoreInfo);
+        MoreInfoWindow moreInfoWindow = new MoreInfoWindow(personMoreInfo,
+                (person, remark) -> updateRemark(model, person, remark));
         moreInfoWindow.show();
         return new CommandResult(SHOWING_MORE_INFO_MESSAGE);
     }
 
+    /**
+     * Replaces {@code person} in the model with a copy of it that has {@code remark}, so that the edit is recorded
+     * like any other edit to the client, and returns the copy.
+     */
+    static Person updateRemark(Model model, Person person, String remark) {
+        Person editedPerson = person.getRole().equals(Role.BUYER)
+                ? new Buyer(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getTags(),
+                        person.getAppointment(), remark)
+                : new Seller(person.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getTags(),
+                        person.getAppointment(), remark);
+        model.setPerson(person, editedPerson);
+        return editedPerson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
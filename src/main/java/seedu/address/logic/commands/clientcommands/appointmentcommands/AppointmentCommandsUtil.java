@@ -32,11 +32,12 @@ public class AppointmentCommandsUtil {
         Phone phone = personToEdit.getPhone();
         Email email = personToEdit.getEmail();
         Set<Tag> tags = personToEdit.getTags();
+        String remark = personToEdit.getRemark();
 
         if (role.equals(Role.BUYER)) {
-            return new Buyer(name, phone, email, tags, appointment);
+            return new Buyer(personToEdit.getId(), name, phone, email, tags, appointment, remark);
         } else {
-            return new Seller(name, phone, email, tags, appointment);
+            return new Seller(personToEdit.getId(), name, phone, email, tags, appointment, remark);
         }
     }
 }
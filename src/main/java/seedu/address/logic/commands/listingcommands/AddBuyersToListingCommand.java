@@ -13,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 
@@ -57,19 +58,19 @@ public class AddBuyersToListingCommand extends Command {
         CommandUtils.handleInvalidListingIndex(zeroBased, lastShownListingList.size());
 
         Listing listingToEdit = lastShownListingList.get(zeroBased);
-        Set<Person> existingBuyers = listingToEdit.getBuyers();
+        Set<Id> existingBuyerIds = listingToEdit.getBuyerIds();
         List<Person> lastShownPersonList = model.getFilteredPersonList();
 
-        Set<Person> updatedBuyers = addBuyers(existingBuyers, lastShownPersonList);
-        Listing updatedListing = ListingCommandsUtil.updateListingWithBuyers(listingToEdit, updatedBuyers);
+        Set<Id> updatedBuyerIds = addBuyers(existingBuyerIds, lastShownPersonList);
+        Listing updatedListing = ListingCommandsUtil.updateListingWithBuyers(listingToEdit, updatedBuyerIds);
 
         model.setListing(listingToEdit, updatedListing);
         return new CommandResult(String.format(MESSAGE_ADD_BUYERS_SUCCESS, Messages.format(listingToEdit)));
     }
 
-    private Set<Person> addBuyers(Set<Person> existingBuyers, List<Person> lastShownPersonList)
+    private Set<Id> addBuyers(Set<Id> existingBuyerIds, List<Person> lastShownPersonList)
             throws CommandException {
-        Set<Person> updatedBuyers = new HashSet<>(existingBuyers);
+        Set<Id> updatedBuyerIds = new HashSet<>(existingBuyerIds);
 
         for (Index buyerIndex : buyersToAdd) {
             int zeroBasedBuyer = buyerIndex.getZeroBased();
@@ -79,12 +80,12 @@ public class AddBuyersToListingCommand extends Command {
             ListingCommandsUtil.verifyPersonIsNotBuyer(buyerToAdd, buyerToAdd.getRole(), buyerIndex);
 
             // Add the buyer to newBuyers set only if not already in existingBuyers
-            if (!existingBuyers.contains(buyerToAdd)) {
-                updatedBuyers.add(buyerToAdd);
+            if (!existingBuyerIds.contains(buyerToAdd.getId())) {
+                updatedBuyerIds.add(buyerToAdd.getId());
             }
         }
 
-        return updatedBuyers;
+        return updatedBuyerIds;
     }
 
     @Override
@@ -22,6 +22,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -101,9 +102,9 @@ public class AddListingCommand extends Command {
         ListingCommandsUtil.handleNonSeller(seller, seller.getRole(), sellerIndex);
 
         // Gets buyers for the new listing
-        Set<Person> listingBuyers = getBuyers(buyerIndexes, lastShownPersonList);
+        Set<Id> listingBuyerIds = getBuyerIds(buyerIndexes, lastShownPersonList);
 
-        Listing toAdd = new Listing(listingName, address, price, area, region, seller, listingBuyers);
+        Listing toAdd = new Listing(listingName, address, price, area, region, seller.getId(), listingBuyerIds);
 
         if (model.hasListing(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_LISTING);
@@ -114,8 +115,8 @@ public class AddListingCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
-    private Set<Person> getBuyers(Set<Index> buyerIndexes, List<Person> lastShownPersonList) throws CommandException {
-        Set<Person> listingBuyers = new HashSet<>();
+    private Set<Id> getBuyerIds(Set<Index> buyerIndexes, List<Person> lastShownPersonList) throws CommandException {
+        Set<Id> listingBuyerIds = new HashSet<>();
 
         if (!buyerIndexes.isEmpty()) {
             for (Index buyerIndex : buyerIndexes) {
@@ -126,11 +127,11 @@ public class AddListingCommand extends Command {
 
                 // Check if the person is actually an instance of a Buyer
                 ListingCommandsUtil.handleNonBuyer(buyer, buyer.getRole(), buyerIndex);
-                listingBuyers.add(buyer);
+                listingBuyerIds.add(buyer.getId());
             }
         }
 
-        return listingBuyers;
+        return listingBuyerIds;
     }
 
     @Override
@@ -21,6 +21,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -84,9 +85,9 @@ public class EditListingCommand extends Command {
         List<Person> lastShownPersonList = model.getFilteredPersonList();
 
         // Gets the new seller if edited, or the original seller if not edited
-        Person seller = getUpdatedSeller(sellerIndex, lastShownPersonList, listingToEdit);
+        Id sellerId = getUpdatedSellerId(sellerIndex, lastShownPersonList, listingToEdit);
 
-        editedListing = createEditedListing(listingToEdit, editListingDescriptor, seller);
+        editedListing = createEditedListing(listingToEdit, editListingDescriptor, sellerId);
 
         boolean canEditListingWithoutDuplicates = model.canEditListing(listingToEdit, editedListing);
 
@@ -104,7 +105,7 @@ public class EditListingCommand extends Command {
      * edited with {@code editListingDescriptor}.
      */
     private static Listing createEditedListing(Listing listingToEdit, EditListingDescriptor editListingDescriptor,
-                                               Person seller) {
+                                               Id sellerId) {
         assert listingToEdit != null;
 
         Name updatedName = editListingDescriptor.getName().orElse(listingToEdit.getName());
@@ -113,19 +114,19 @@ public class EditListingCommand extends Command {
         Address updatedAddress = editListingDescriptor.getAddress().orElse(listingToEdit.getAddress());
         Region updatedRegion = editListingDescriptor.getRegion().orElse(listingToEdit.getRegion());
 
-        return new Listing(updatedName, updatedAddress, updatedPrice, updatedArea, updatedRegion,
-                seller, listingToEdit.getBuyers());
+        return new Listing(listingToEdit.getId(), updatedName, updatedAddress, updatedPrice, updatedArea,
+                updatedRegion, sellerId, listingToEdit.getBuyerIds());
     }
 
-    private Person getUpdatedSeller(Optional<Index> sellerIndex,
-                                    List<Person> lastShownPersonList, Listing listingToEdit) throws CommandException {
+    private Id getUpdatedSellerId(Optional<Index> sellerIndex,
+                                  List<Person> lastShownPersonList, Listing listingToEdit) throws CommandException {
         if (sellerIndex.isPresent()) {
             int zeroBasedPerson = sellerIndex.get().getZeroBased();
             CommandUtils.handleInvalidPersonIndex(zeroBasedPerson, lastShownPersonList.size());
 
-            return lastShownPersonList.get(zeroBasedPerson);
+            return lastShownPersonList.get(zeroBasedPerson).getId();
         } else {
-            return listingToEdit.getSeller();
+            return listingToEdit.getSellerId();
         }
     }
 
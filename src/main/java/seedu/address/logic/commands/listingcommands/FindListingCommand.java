@@ -1,40 +1,120 @@
 package seedu.address.logic.commands.listingcommands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Price;
+import seedu.address.model.listing.Region;
 
 /**
- * Finds and lists all listings in the system whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all listings in the system whose name contains any of the argument keywords, whose price
+ * and area are within the given ranges, and which are in any of the given regions.
+ * Keyword matching is case-insensitive. When ranges are given, only the listings within them, looked up through the
+ * range indexes, are shown and tested against the other criteria. The lookup is run again when the listings change, so
+ * that listings added or replaced later are shown if they match. Otherwise, when regions are given, only the listings
+ * in them, read from their region buckets, are shown and tested against the keywords in the same way.
+ * When ranges are given, the average price per square meter of all listings within them is also reported, worked out
+ * from the columnar copy of the listings.
  */
 public class FindListingCommand extends Command {
 
     public static final String COMMAND_WORD = "findlisting";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all listings whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Warton Riverdale";
+            + "the specified keywords (case-insensitive), whose price and area are within the specified ranges, "
+            + "and which are in any of the specified regions, and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD [MORE_KEYWORDS]...] "
+            + "[" + PREFIX_PRICE + "MIN_PRICE-MAX_PRICE] "
+            + "[" + PREFIX_AREA + "MIN_AREA-MAX_AREA] "
+            + "[" + PREFIX_REGION + "REGION]...\n"
+            + "Example: " + COMMAND_WORD + " Warton Riverdale\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PRICE + "800000-1200000 " + PREFIX_AREA + "80- "
+            + PREFIX_REGION + "east " + PREFIX_REGION + "northeast";
+
+    public static final String MESSAGE_AVERAGE_PRICE_PER_SQUARE_METER =
+            "Average price per square meter of all listings in the price and area range: $%1$d.%2$02d";
 
     private final ListingContainsKeywordsPredicate predicate;
+    private final ListingInRangePredicate rangePredicate;
+    private final Set<Region> regions = EnumSet.noneOf(Region.class);
 
     public FindListingCommand(ListingContainsKeywordsPredicate predicate) {
+        this(predicate, null);
+    }
+
+    public FindListingCommand(ListingContainsKeywordsPredicate predicate, ListingInRangePredicate rangePredicate) {
+        this(predicate, rangePredicate, Collections.emptySet());
+    }
+
+    /**
+     * Creates a FindListingCommand to find the listings matching both {@code predicate} and {@code rangePredicate}
+     * that are in any of {@code regions}.
+     * Either predicate may be null, and {@code regions} may be empty, in which case listings are not filtered by it,
+     * but at least one of them must be given.
+     */
+    public FindListingCommand(ListingContainsKeywordsPredicate predicate, ListingInRangePredicate rangePredicate,
+            Set<Region> regions) {
+        requireNonNull(regions);
+        assert predicate != null || rangePredicate != null || !regions.isEmpty();
         this.predicate = predicate;
+        this.rangePredicate = rangePredicate;
+        this.regions.addAll(regions);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredListingList(predicate);
+        if (rangePredicate == null) {
+            if (regions.isEmpty()) {
+                model.updateFilteredListingList(predicate);
+            } else {
+                model.updateFilteredListingList(regions, this::matchesKeywords);
+            }
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW, model.getFilteredListingList().size()));
+        }
 
+        model.updateFilteredListingList(rangePredicate, this::matches);
         return new CommandResult(
-                String.format(Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW, model.getFilteredListingList().size()));
+                String.format(Messages.MESSAGE_LISTINGS_LISTED_OVERVIEW, model.getFilteredListingList().size())
+                + "\n" + formatAveragePricePerSquareMeter(model.getAveragePricePerSquareMeterInRange(rangePredicate)));
+    }
+
+    /**
+     * Returns the message reporting {@code averageCents} as the average price per square meter within the ranges.
+     */
+    public static String formatAveragePricePerSquareMeter(long averageCents) {
+        return String.format(MESSAGE_AVERAGE_PRICE_PER_SQUARE_METER, averageCents / Price.CENTS_PER_DOLLAR,
+                averageCents % Price.CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Returns true if {@code listing} matches the keywords and is in any of the regions.
+     */
+    private boolean matches(Listing listing) {
+        return (regions.isEmpty() || regions.contains(listing.getRegion())) && matchesKeywords(listing);
+    }
+
+    /**
+     * Returns true if {@code listing} matches the keywords, or if no keywords are given.
+     */
+    private boolean matchesKeywords(Listing listing) {
+        return predicate == null || predicate.test(listing);
     }
 
     @Override
@@ -48,13 +128,17 @@ public class FindListingCommand extends Command {
         }
 
         FindListingCommand otherFindListingsCommand = (FindListingCommand) other;
-        return predicate.equals(otherFindListingsCommand.predicate);
+        return Objects.equals(predicate, otherFindListingsCommand.predicate)
+                && Objects.equals(rangePredicate, otherFindListingsCommand.rangePredicate)
+                && regions.equals(otherFindListingsCommand.regions);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("rangePredicate", rangePredicate)
+                .add("regions", regions)
                 .toString();
     }
 }
@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -73,17 +74,17 @@ public class ListingCommandsUtil {
      * Updates the given listing with a new set of buyers.
      *
      * @param listingToEdit the listing to be updated
-     * @param updatedBuyers the set of updated buyers
+     * @param updatedBuyerIds the ids of the updated buyers
      * @return a new Listing object with the updated buyers
      */
-    public static Listing updateListingWithBuyers(Listing listingToEdit, Set<Person> updatedBuyers) {
+    public static Listing updateListingWithBuyers(Listing listingToEdit, Set<Id> updatedBuyerIds) {
         Name name = listingToEdit.getName();
         Address address = listingToEdit.getAddress();
         Price price = listingToEdit.getPrice();
         Area area = listingToEdit.getArea();
         Region region = listingToEdit.getRegion();
-        Person seller = listingToEdit.getSeller();
+        Id sellerId = listingToEdit.getSellerId();
 
-        return new Listing(name, address, price, area, region, seller, updatedBuyers);
+        return new Listing(listingToEdit.getId(), name, address, price, area, region, sellerId, updatedBuyerIds);
     }
 }
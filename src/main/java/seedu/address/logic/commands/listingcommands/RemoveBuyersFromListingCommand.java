@@ -14,6 +14,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandUtils;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 
@@ -64,20 +65,20 @@ public class RemoveBuyersFromListingCommand extends Command {
 
         Listing listingToEdit = lastShownListingList.get(zeroBased);
 
-        Set<Person> existingBuyers = new HashSet<>(listingToEdit.getBuyers());
+        Set<Id> existingBuyerIds = new HashSet<>(listingToEdit.getBuyerIds());
         List<Person> lastShownPersonList = model.getFilteredPersonList();
 
-        Set<Person> buyersToRemoveSet = getBuyersToRemove(existingBuyers, lastShownPersonList, listingToEdit);
-        existingBuyers.removeAll(buyersToRemoveSet);
+        Set<Person> buyersToRemoveSet = getBuyersToRemove(existingBuyerIds, lastShownPersonList, listingToEdit);
+        buyersToRemoveSet.forEach(buyer -> existingBuyerIds.remove(buyer.getId()));
 
-        Listing updatedListing = ListingCommandsUtil.updateListingWithBuyers(listingToEdit, existingBuyers);
+        Listing updatedListing = ListingCommandsUtil.updateListingWithBuyers(listingToEdit, existingBuyerIds);
 
         model.setListing(listingToEdit, updatedListing);
 
         return new CommandResult(generateSuccessMessage(listingToEdit, buyersToRemoveSet));
     }
 
-    private Set<Person> getBuyersToRemove(Set<Person> existingBuyers,
+    private Set<Person> getBuyersToRemove(Set<Id> existingBuyerIds,
                                      List<Person> lastShownPersonList, Listing listingToEdit) throws CommandException {
         Set<Person> buyersToRemoveSet = new HashSet<>();
 
@@ -90,7 +91,7 @@ public class RemoveBuyersFromListingCommand extends Command {
             // Check if the person is actually an instance of Buyer
             ListingCommandsUtil.verifyPersonIsNotBuyer(buyerToRemove, buyerToRemove.getRole(), buyerIndex);
             // Check if the person is a buyer of the listing
-            validateBuyerExistsInListing(existingBuyers, buyerToRemove, listingToEdit);
+            validateBuyerExistsInListing(existingBuyerIds, buyerToRemove, listingToEdit);
 
             buyersToRemoveSet.add(buyerToRemove);
         }
@@ -102,9 +103,9 @@ public class RemoveBuyersFromListingCommand extends Command {
         return buyersToRemoveSet;
     }
 
-    private void validateBuyerExistsInListing(Set<Person> existingBuyers,
+    private void validateBuyerExistsInListing(Set<Id> existingBuyerIds,
                                               Person buyerToRemove, Listing listingToEdit) throws CommandException {
-        if (!existingBuyers.contains(buyerToRemove)) {
+        if (!existingBuyerIds.contains(buyerToRemove.getId())) {
             throw new CommandException(String.format(MESSAGE_NOT_BUYER_FOR_LISTING,
                     buyerToRemove.getName(), Messages.format(listingToEdit)));
         }
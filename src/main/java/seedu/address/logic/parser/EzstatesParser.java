@@ -8,11 +8,15 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ChatWindowCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.MigrateToDatabaseCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.StartupStatsCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.DeleteClientProfileCommand;
@@ -151,6 +155,18 @@ public class EzstatesParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case StartupStatsCommand.COMMAND_WORD:
+            return new StartupStatsCommand();
+
+        case BackupCommand.COMMAND_WORD:
+            return new BackupCommand();
+
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser().parse(arguments);
+
+        case MigrateToDatabaseCommand.COMMAND_WORD:
+            return new MigrateToDatabaseCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -3,7 +3,6 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -237,8 +236,7 @@ public class ParserUtil {
         if (!Price.isValidPrice(priceTrimmed)) {
             throw new ParseException(Price.MESSAGE_CONSTRAINTS);
         }
-        BigDecimal decimalPrice = new BigDecimal(priceTrimmed);
-        return new Price(priceTrimmed, decimalPrice);
+        return new Price(priceTrimmed);
     }
 
     /**
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+
+    private static final Pattern TIMESTAMP_FORMAT = Pattern.compile("\\d{8}-\\d{6}");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreCommand
+     * and returns a RestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RestoreCommand parse(String args) throws ParseException {
+        String timestamp = args.trim();
+        if (!TIMESTAMP_FORMAT.matcher(timestamp).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        }
+        return new RestoreCommand(timestamp);
+    }
+}
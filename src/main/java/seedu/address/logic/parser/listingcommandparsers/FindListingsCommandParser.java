@@ -1,35 +1,98 @@
 package seedu.address.logic.parser.listingcommandparsers;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AREA;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
 
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.listingcommands.FindListingCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Price;
+import seedu.address.model.listing.Region;
 
 /**
  * Parses input arguments and creates a new FindListingsCommand object
  */
 public class FindListingsCommandParser implements Parser<FindListingCommand> {
 
+    public static final String MESSAGE_INVALID_RANGE = "Ranges should be given as MIN-MAX, where MIN and MAX are "
+            + "whole numbers and MIN is not larger than MAX. Either of them can be left out, such as 800000- for "
+            + "800000 and above.";
+
+    private static final Pattern RANGE_FORMAT = Pattern.compile("(?<min>\\d*)-(?<max>\\d*)");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindListingsCommand
      * and returns a FindListingsCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindListingCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PRICE, PREFIX_AREA, PREFIX_REGION);
+        String trimmedPreamble = argMultimap.getPreamble().trim();
+        Optional<String> priceRange = argMultimap.getValue(PREFIX_PRICE);
+        Optional<String> areaRange = argMultimap.getValue(PREFIX_AREA);
+        List<String> regionValues = argMultimap.getAllValues(PREFIX_REGION);
 
-        if (trimmedArgs.isEmpty()) {
+        if (trimmedPreamble.isEmpty() && priceRange.isEmpty() && areaRange.isEmpty() && regionValues.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindListingCommand.MESSAGE_USAGE));
         }
 
-        String[] listingKeywords = trimmedArgs.split("\\s+");
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PRICE, PREFIX_AREA);
+
+        ListingContainsKeywordsPredicate keywordPredicate = trimmedPreamble.isEmpty()
+                ? null
+                : new ListingContainsKeywordsPredicate(Arrays.asList(trimmedPreamble.split("\\s+")));
+        Set<Region> regions = EnumSet.noneOf(Region.class);
+        for (String region : regionValues) {
+            regions.add(ParserUtil.parseRegion(region));
+        }
+        if (priceRange.isEmpty() && areaRange.isEmpty()) {
+            return new FindListingCommand(keywordPredicate, null, regions);
+        }
+
+        long[] prices = parseRange(priceRange.orElse("-"));
+        long[] areas = parseRange(areaRange.orElse("-"));
+        ListingInRangePredicate rangePredicate = new ListingInRangePredicate(Price.toCents(prices[0]),
+                prices[1] == ListingInRangePredicate.NO_LIMIT ? prices[1] : Price.toCents(prices[1]),
+                areas[0], areas[1]);
+        return new FindListingCommand(keywordPredicate, rangePredicate, regions);
+    }
+
+    /**
+     * Parses {@code range} into its inclusive lower and upper bounds. A bound that is left out is 0 or
+     * {@link ListingInRangePredicate#NO_LIMIT} respectively.
+     * @throws ParseException if {@code range} is not a valid range.
+     */
+    private static long[] parseRange(String range) throws ParseException {
+        Matcher matcher = RANGE_FORMAT.matcher(range.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
 
-        return new FindListingCommand(new ListingContainsKeywordsPredicate(Arrays.asList(listingKeywords)));
+        String min = matcher.group("min");
+        String max = matcher.group("max");
+        long lowerBound = min.isEmpty() ? 0 : StringUtil.parseUnsignedLongSaturated(min);
+        long upperBound = max.isEmpty() ? ListingInRangePredicate.NO_LIMIT : StringUtil.parseUnsignedLongSaturated(max);
+        if (lowerBound > upperBound) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new long[] {lowerBound, upperBound};
     }
 
 }
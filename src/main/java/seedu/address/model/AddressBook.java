@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -16,7 +18,10 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniquePersonList persons;
+    private long version = lastVersion.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +52,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -68,12 +74,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, or null if there is none.
+     */
+    public Person getPerson(Person person) {
+        requireNonNull(person);
+        return persons.find(person);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is none.
+     */
+    public Person getPersonById(Id id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version = lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Adds {@code persons} to the address book at once.
+     * The persons must not already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -85,6 +117,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -93,6 +126,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version = lastVersion.incrementAndGet();
     }
 
     //// util methods
@@ -109,6 +143,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
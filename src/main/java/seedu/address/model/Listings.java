@@ -3,18 +3,29 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingColumns;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
 import seedu.address.model.listing.UniqueListingList;
+import seedu.address.model.name.Name;
 
 /**
  * Represents Listings of the user
  */
 public class Listings implements ReadOnlyListings {
+    private static final AtomicLong lastVersion = new AtomicLong();
+
     private final UniqueListingList listings;
+    private long version = lastVersion.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +58,7 @@ public class Listings implements ReadOnlyListings {
      */
     public void setListings(List<Listing> listings) {
         this.listings.setListings(listings);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -68,12 +80,54 @@ public class Listings implements ReadOnlyListings {
         return listings.contains(listing);
     }
 
+    /**
+     * Returns the listing in this {@code Listings} that is equal to {@code listing}, or null if there is none.
+     */
+    public Listing getListing(Listing listing) {
+        requireNonNull(listing);
+        return listings.find(listing);
+    }
+
+    /**
+     * Returns the listing with the given {@code id}, or null if there is none.
+     */
+    public Listing getListingById(Id id) {
+        requireNonNull(id);
+        return listings.findById(id);
+    }
+
+    /**
+     * Returns the listing with the given {@code name}, or null if there is none.
+     */
+    public Listing getListingByName(Name name) {
+        requireNonNull(name);
+        return listings.getByName(name);
+    }
+
+    /**
+     * Returns true if replacing {@code target} with {@code editedListing} would make {@code editedListing}
+     * share a name or address with another listing.
+     */
+    public boolean hasConflictingListing(Listing target, Listing editedListing) {
+        return listings.hasConflict(target, editedListing);
+    }
+
     /**
      * Adds a listing to the address book.
      * The listing must not already exist in the address book.
      */
     public void addListing(Listing l) {
         listings.add(l);
+        version = lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Adds {@code listings} at once.
+     * The listings must not already exist.
+     */
+    public void addListings(List<Listing> listings) {
+        this.listings.addAll(listings);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -86,6 +140,7 @@ public class Listings implements ReadOnlyListings {
         requireNonNull(editedListing);
 
         listings.setListing(listing, editedListing);
+        version = lastVersion.incrementAndGet();
     }
 
     /**
@@ -94,6 +149,7 @@ public class Listings implements ReadOnlyListings {
      */
     public void removeListing(Listing listing) {
         listings.remove(listing);
+        version = lastVersion.incrementAndGet();
     }
 
 
@@ -109,6 +165,58 @@ public class Listings implements ReadOnlyListings {
         return listings.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the listings whose price and size are within the bounds of {@code range}, in no particular order.
+     */
+    public List<Listing> getListingsInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        return listings.getListingsInRange(range);
+    }
+
+    /**
+     * Sorts {@code listings}, which must all be in this {@code Listings}, into the order of the listing list.
+     */
+    public void sortInListOrder(List<Listing> listings) {
+        requireNonNull(listings);
+        this.listings.sortInListOrder(listings);
+    }
+
+    /**
+     * Returns the average price per square meter in cents of the listings whose price and size are within the bounds
+     * of {@code range}, rounded down, or 0 if there are no such listings.
+     */
+    public long getAveragePricePerSquareMeterInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        return listings.getColumns().averagePricePerSquareMeter(range);
+    }
+
+    /**
+     * Returns the columnar copy of the listings, which is kept in step with them.
+     */
+    public ListingColumns getListingColumns() {
+        return listings.getColumns();
+    }
+
+    /**
+     * Returns the listings in any of {@code regions}, in no particular order.
+     */
+    public List<Listing> getListingsInRegions(Set<Region> regions) {
+        requireNonNull(regions);
+        return listings.getListingsInRegions(regions);
+    }
+
+    /**
+     * Returns the number of listings in each region.
+     */
+    public Map<Region, Integer> getListingCountsByRegion() {
+        return listings.getCountsByRegion();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
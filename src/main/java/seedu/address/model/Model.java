@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Person;
 
@@ -106,6 +112,11 @@ public interface Model {
      */
     Person getPersonByName(Name name);
 
+    /**
+     * Returns the person with the given {@code id} in the address book, or null if there is none.
+     */
+    Person getPersonById(Id id);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -140,6 +151,11 @@ public interface Model {
      */
     Listing getListingByName(Name name);
 
+    /**
+     * Returns the listing with the given {@code id} in Listings, or null if there is none.
+     */
+    Listing getListingById(Id id);
+
     /**
      * Determines if a listing can be edited without causing duplicate identifiers within the system.
      * Checks if the edited listing's name or address matches any existing listing (excluding the original).
@@ -156,6 +172,27 @@ public interface Model {
      */
     boolean hasListingsForBuyer(Person buyer);
 
+    /**
+     * Returns the listings that {@code seller} is the seller of.
+     */
+    List<Listing> getListingsForSeller(Person seller);
+
+    /**
+     * Returns the listings that {@code buyer} is a buyer of.
+     */
+    List<Listing> getListingsForBuyer(Person buyer);
+
+    /**
+     * Returns the average price per square meter in cents of the listings whose price and size are within the bounds
+     * of {@code range}, rounded down, or 0 if there are no such listings.
+     */
+    long getAveragePricePerSquareMeterInRange(ListingInRangePredicate range);
+
+    /**
+     * Returns the number of listings in each region.
+     */
+    Map<Region, Integer> getListingCountsByRegion();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Listing> getFilteredListingList();
 
@@ -172,8 +209,57 @@ public interface Model {
     void updateFilteredListingList(Predicate<Listing> predicate);
 
     /**
-     * Updates relevant Listings when there is a change made to a Client
-     * Replaces all listings with the personToEdit with editedPerson.
+     * Updates the filtered listing list to show the listings within {@code range} that match {@code predicate}, kept
+     * up to date as the listings change.
+     * @throws NullPointerException if {@code range} or {@code predicate} is null.
+     */
+    void updateFilteredListingList(ListingInRangePredicate range, Predicate<Listing> predicate);
+
+    /**
+     * Updates the filtered listing list to show the listings in any of {@code regions} that match {@code predicate},
+     * kept up to date as the listings change.
+     * @throws NullPointerException if {@code regions} or {@code predicate} is null.
+     */
+    void updateFilteredListingList(Set<Region> regions, Predicate<Listing> predicate);
+
+    /**
+     * Returns the changes made to the persons and listings since the last call, in the order they were made.
+     */
+    List<ModelChange> takeChanges();
+
+    /**
+     * Adds {@code persons} loaded from storage to the address book, without recording them as changes.
+     */
+    void addLoadedPersons(List<Person> persons);
+
+    /**
+     * Adds {@code listings} loaded from storage, without recording them as changes.
+     */
+    void addLoadedListings(List<Listing> listings);
+
+    /**
+     * Applies the changes made to the persons outside the app, from {@code previousAddressBook} to
+     * {@code addressBook}, and records them as changes. Persons are matched by id, and only changed persons are
+     * replaced, so the filtered person list keeps its filter.
+     * A person that has also been changed in the app since {@code previousAddressBook} is left as it is, and so is
+     * a deleted person that still has listings.
+     *
+     * @return the number of persons that were added, replaced or removed.
+     */
+    int mergeExternalPersons(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook);
+
+    /**
+     * Applies the changes made to the listings outside the app, from {@code previousListings} to {@code listings},
+     * in the same way as {@link #mergeExternalPersons}.
+     *
+     * @return the number of listings that were added, replaced or removed.
+     */
+    int mergeExternalListings(ReadOnlyListings previousListings, ReadOnlyListings listings);
+
+    /**
+     * Applies the {@code changes} saved by other instances of the app sharing the data directory, without recording
+     * them as changes, as they have been saved already. Only the affected persons and listings are replaced, so the
+     * filtered lists keep their filters. A change that would make a person or listing a duplicate is skipped.
      */
-    void updateListingsAfterClientEdit(Person personToEdit, Person editedPerson);
+    void applySharedChanges(List<ModelChange> changes);
 }
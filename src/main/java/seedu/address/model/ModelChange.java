@@ -0,0 +1,214 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single change made to the persons or listings of a {@code Model}.
+ * A saved person or listing is recorded with all of its fields, so applying the same changes again to data that
+ * already contains them leaves the data unchanged.
+ * Guarantees: immutable; details are present and not null, field values are validated.
+ */
+public class ModelChange {
+
+    /**
+     * Represents the kinds of changes that can be made to a {@code Model}.
+     */
+    public enum Type {
+        PERSON_SAVED, PERSON_DELETED, PERSONS_CLEARED, LISTING_SAVED, LISTING_DELETED, LISTINGS_CLEARED
+    }
+
+    private final Type type;
+    private final Id id;
+    private final Person person;
+    private final Listing listing;
+
+    private ModelChange(Type type, Id id, Person person, Listing listing) {
+        this.type = type;
+        this.id = id;
+        this.person = person;
+        this.listing = listing;
+    }
+
+    /**
+     * Returns a change that adds {@code person}, or replaces the person with the same id.
+     */
+    public static ModelChange personSaved(Person person) {
+        requireNonNull(person);
+        return new ModelChange(Type.PERSON_SAVED, person.getId(), person, null);
+    }
+
+    /**
+     * Returns a change that removes the person with the given {@code id}.
+     */
+    public static ModelChange personDeleted(Id id) {
+        requireNonNull(id);
+        return new ModelChange(Type.PERSON_DELETED, id, null, null);
+    }
+
+    /**
+     * Returns a change that removes all persons.
+     */
+    public static ModelChange personsCleared() {
+        return new ModelChange(Type.PERSONS_CLEARED, null, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code listing}, or replaces the listing with the same id.
+     */
+    public static ModelChange listingSaved(Listing listing) {
+        requireNonNull(listing);
+        return new ModelChange(Type.LISTING_SAVED, listing.getId(), null, listing);
+    }
+
+    /**
+     * Returns a change that removes the listing with the given {@code id}.
+     */
+    public static ModelChange listingDeleted(Id id) {
+        requireNonNull(id);
+        return new ModelChange(Type.LISTING_DELETED, id, null, null);
+    }
+
+    /**
+     * Returns a change that removes all listings.
+     */
+    public static ModelChange listingsCleared() {
+        return new ModelChange(Type.LISTINGS_CLEARED, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the id of the saved or deleted person or listing, or null if this change clears the data.
+     */
+    public Id getId() {
+        return id;
+    }
+
+    /**
+     * Returns the saved person, or null if this change does not save a person.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the saved listing, or null if this change does not save a listing.
+     */
+    public Listing getListing() {
+        return listing;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the person changes in {@code changes} applied to {@code addressBook}
+     * in order. Saved persons keep their position if a person with the same id exists and are appended otherwise.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if the resulting persons are not
+     *     unique.
+     */
+    public static AddressBook replay(ReadOnlyAddressBook addressBook, List<ModelChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        Map<Id, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getId(), person));
+        for (ModelChange change : changes) {
+            switch (change.type) {
+            case PERSON_SAVED:
+                persons.put(change.id, change.person);
+                break;
+            case PERSON_DELETED:
+                persons.remove(change.id);
+                break;
+            case PERSONS_CLEARED:
+                persons.clear();
+                break;
+            default:
+                break;
+            }
+        }
+
+        AddressBook replayed = new AddressBook();
+        replayed.setPersons(new ArrayList<>(persons.values()));
+        return replayed;
+    }
+
+    /**
+     * Returns {@code Listings} with the listing changes in {@code changes} applied to {@code listings} in order.
+     * Saved listings keep their position if a listing with the same id exists and are appended otherwise.
+     *
+     * @throws seedu.address.model.listing.exceptions.DuplicateListingException if the resulting listings are not
+     *     unique.
+     */
+    public static Listings replay(ReadOnlyListings listings, List<ModelChange> changes) {
+        requireNonNull(listings);
+        requireNonNull(changes);
+
+        Map<Id, Listing> replayedListings = new LinkedHashMap<>();
+        listings.getListingList().forEach(listing -> replayedListings.put(listing.getId(), listing));
+        for (ModelChange change : changes) {
+            switch (change.type) {
+            case LISTING_SAVED:
+                replayedListings.put(change.id, change.listing);
+                break;
+            case LISTING_DELETED:
+                replayedListings.remove(change.id);
+                break;
+            case LISTINGS_CLEARED:
+                replayedListings.clear();
+                break;
+            default:
+                break;
+            }
+        }
+
+        Listings replayed = new Listings();
+        replayed.setListings(new ArrayList<>(replayedListings.values()));
+        return replayed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+
+        ModelChange otherChange = (ModelChange) other;
+        return type == otherChange.type
+                && Objects.equals(id, otherChange.id)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(listing, otherChange.listing);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, id, person, listing);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("id", id)
+                .add("person", person)
+                .add("listing", listing)
+                .toString();
+    }
+}
@@ -4,19 +4,39 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
+import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.name.Name;
-import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Seller;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -30,6 +50,17 @@ public class ModelManager implements Model {
     private final Listings listings;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Listing> filteredListings;
+    // The listings that filteredListings filters: all listings, or the results of listingQuery
+    private final ListProperty<Listing> listingSource;
+    private final ObservableList<Listing> queriedListings = FXCollections.observableArrayList();
+    // Looks up the listings to show through the indexes of the listings, or null to filter all listings
+    private Supplier<List<Listing>> listingQuery;
+
+    // Reverse indexes from a client's id to the listings they sell or are interested in
+    private final Map<Id, Set<Listing>> listingsBySeller = new HashMap<>();
+    private final Map<Id, Set<Listing>> listingsByBuyer = new HashMap<>();
+    // Changes made since the last call to takeChanges, so that storage only has to record what changed
+    private final List<ModelChange> changes = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -44,7 +75,10 @@ public class ModelManager implements Model {
         this.listings = new Listings(listings);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredListings = new FilteredList<>(this.listings.getListingList());
+        listingSource = new SimpleListProperty<>(this.listings.getListingList());
+        filteredListings = new FilteredList<>(listingSource);
+        this.listings.getListingList().addListener((ListChangeListener<Listing>) change -> refreshQueriedListings());
+        rebuildClientListingIndexes();
     }
 
     public ModelManager() {
@@ -102,6 +136,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        changes.add(ModelChange.personsCleared());
+        this.addressBook.getPersonList().forEach(person -> changes.add(ModelChange.personSaved(person)));
     }
 
     @Override
@@ -117,12 +153,15 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        Person existing = addressBook.getPerson(target);
         addressBook.removePerson(target);
+        changes.add(ModelChange.personDeleted(existing.getId()));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        changes.add(ModelChange.personSaved(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -131,6 +170,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        changes.add(ModelChange.personSaved(editedPerson));
     }
 
     //=========== Listings ================================================================================
@@ -138,6 +178,9 @@ public class ModelManager implements Model {
     @Override
     public void setListings(ReadOnlyListings listings) {
         this.listings.resetData(listings);
+        rebuildClientListingIndexes();
+        changes.add(ModelChange.listingsCleared());
+        this.listings.getListingList().forEach(listing -> changes.add(ModelChange.listingSaved(listing)));
     }
 
     @Override
@@ -153,12 +196,17 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteListing(Listing target) {
+        Listing existing = listings.getListing(target);
         listings.removeListing(target);
+        unindexClients(existing);
+        changes.add(ModelChange.listingDeleted(existing.getId()));
     }
 
     @Override
     public void addListing(Listing listing) {
         listings.addListing(listing);
+        indexClients(listing);
+        changes.add(ModelChange.listingSaved(listing));
         updateFilteredListingList(PREDICATE_SHOW_ALL_LISTINGS);
     }
 
@@ -166,7 +214,11 @@ public class ModelManager implements Model {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
+        Listing existing = listings.getListing(target);
         listings.setListing(target, editedListing);
+        unindexClients(existing);
+        indexClients(editedListing);
+        changes.add(ModelChange.listingSaved(editedListing));
     }
 
     /**
@@ -175,11 +227,13 @@ public class ModelManager implements Model {
     @Override
     public Listing getListingByName(Name name) {
         requireNonNull(name);
-        return this.getFilteredListingList()
-                .stream()
-                .filter(listing -> listing.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return listings.getListingByName(name);
+    }
+
+    @Override
+    public Listing getListingById(Id id) {
+        requireNonNull(id);
+        return listings.getListingById(id);
     }
 
     /**
@@ -189,40 +243,226 @@ public class ModelManager implements Model {
     @Override
     public boolean canEditListing(Listing toEdit, Listing editedListing) {
         requireAllNonNull(toEdit, editedListing);
-        return this.getFilteredListingList()
-                .stream()
-                .filter(listing -> !listing.equals(toEdit))
-                .anyMatch(currentListing -> editedListing.equals(currentListing));
+        return listings.hasConflictingListing(toEdit, editedListing);
     }
 
-    /**
-     * Updates listings associated with a client after the client's details have been edited.
-     * If the edited person is a buyer, it replaces the buyer in all relevant listings.
-     * If the edited person is a seller, it replaces all listings associated with that seller.
-     *
-     * @param personToEdit The original person to be edited.
-     * @param editedPerson The edited person with updated details.
-     */
     @Override
-    public void updateListingsAfterClientEdit(Person personToEdit, Person editedPerson) {
-        if (this.hasListingsForSeller(personToEdit) || this.hasListingsForBuyer(personToEdit)) {
-            if (personToEdit instanceof Buyer buyerToEdit) {
+    public List<ModelChange> takeChanges() {
+        List<ModelChange> takenChanges = new ArrayList<>(changes);
+        changes.clear();
+        return takenChanges;
+    }
 
-                this.getListings().getListingList()
-                        .forEach(listing -> listing.replaceBuyer(buyerToEdit, editedPerson));
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
+    @Override
+    public void addLoadedListings(List<Listing> loadedListings) {
+        requireNonNull(loadedListings);
+        listings.addListings(loadedListings);
+        loadedListings.forEach(this::indexClients);
+    }
 
-            } else if (personToEdit instanceof Seller sellerToEdit) {
+    //=========== External Changes ===========================================================================
 
-                List<Listing> listingsToDelete = this.getListings().getListingList().stream()
-                        .filter(listing -> listing.getSeller().equals(sellerToEdit))
-                        .toList();
+    @Override
+    public int mergeExternalPersons(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(previousAddressBook, addressBook);
+
+        Map<Id, Person> previousPersons = mapById(previousAddressBook.getPersonList(), Person::getId);
+        Map<Id, Person> currentPersons = mapById(addressBook.getPersonList(), Person::getId);
+        int mergedCount = 0;
+        for (Id id : getChangedIds(previousPersons, currentPersons, ModelManager::hasSameDetails)) {
+            Person existing = this.addressBook.getPersonById(id);
+            Person current = currentPersons.get(id);
+            if (hasSameDetails(existing, current)) {
+                continue;
+            }
+            if (!hasSameDetails(existing, previousPersons.get(id))) {
+                logger.fine("Keeping client " + id + ", which was changed both in and outside the app.");
+                continue;
+            }
 
-                for (Listing listing : listingsToDelete) {
-                    this.deleteListing(listing);
-                    this.addListing(listing.modifyListingWithSeller(editedPerson));
+            try {
+                if (current == null) {
+                    if (hasListingsForSeller(existing) || hasListingsForBuyer(existing)) {
+                        logger.warning("Keeping client " + id + ", which was deleted outside the app, as they "
+                                + "still have listings.");
+                        continue;
+                    }
+                    this.addressBook.removePerson(existing);
+                    changes.add(ModelChange.personDeleted(id));
+                } else if (existing == null) {
+                    this.addressBook.addPerson(current);
+                    changes.add(ModelChange.personSaved(current));
+                } else {
+                    this.addressBook.setPerson(existing, current);
+                    changes.add(ModelChange.personSaved(current));
                 }
+                mergedCount++;
+            } catch (DuplicatePersonException e) {
+                logger.warning("Client " + id + " changed outside the app is a duplicate of another client.");
             }
         }
+        return mergedCount;
+    }
+
+    @Override
+    public int mergeExternalListings(ReadOnlyListings previousListings, ReadOnlyListings listings) {
+        requireAllNonNull(previousListings, listings);
+
+        Map<Id, Listing> previous = mapById(previousListings.getListingList(), Listing::getId);
+        Map<Id, Listing> current = mapById(listings.getListingList(), Listing::getId);
+        int mergedCount = 0;
+        for (Id id : getChangedIds(previous, current, ModelManager::hasSameDetails)) {
+            Listing existing = this.listings.getListingById(id);
+            Listing currentListing = current.get(id);
+            if (hasSameDetails(existing, currentListing)) {
+                continue;
+            }
+            if (!hasSameDetails(existing, previous.get(id))) {
+                logger.fine("Keeping listing " + id + ", which was changed both in and outside the app.");
+                continue;
+            }
+
+            try {
+                if (currentListing == null) {
+                    this.listings.removeListing(existing);
+                    unindexClients(existing);
+                    changes.add(ModelChange.listingDeleted(id));
+                } else {
+                    if (existing == null) {
+                        this.listings.addListing(currentListing);
+                    } else {
+                        this.listings.setListing(existing, currentListing);
+                        unindexClients(existing);
+                    }
+                    indexClients(currentListing);
+                    changes.add(ModelChange.listingSaved(currentListing));
+                }
+                mergedCount++;
+            } catch (DuplicateListingException e) {
+                logger.warning("Listing " + id + " changed outside the app is a duplicate of another listing.");
+            }
+        }
+        return mergedCount;
+    }
+
+    private static <T> Map<Id, T> mapById(List<T> items, Function<T, Id> getId) {
+        Map<Id, T> itemsById = new LinkedHashMap<>();
+        items.forEach(item -> itemsById.put(getId.apply(item), item));
+        return itemsById;
+    }
+
+    /**
+     * Returns the ids of the items that were added, changed or removed from {@code previous} to {@code current}.
+     */
+    private static <T> List<Id> getChangedIds(Map<Id, T> previous, Map<Id, T> current,
+            BiPredicate<T, T> hasSameDetails) {
+        Set<Id> ids = new LinkedHashSet<>(previous.keySet());
+        ids.addAll(current.keySet());
+        List<Id> changedIds = new ArrayList<>();
+        for (Id id : ids) {
+            if (!hasSameDetails.test(previous.get(id), current.get(id))) {
+                changedIds.add(id);
+            }
+        }
+        return changedIds;
+    }
+
+    /**
+     * Returns true if both persons are null, or have the same role and details.
+     * {@code Person#equals} only compares the details that identify a person.
+     */
+    private static boolean hasSameDetails(Person person, Person otherPerson) {
+        if (person == null || otherPerson == null) {
+            return person == otherPerson;
+        }
+        return person.equals(otherPerson)
+                && person.getRole() == otherPerson.getRole()
+                && Objects.equals(person.getAppointment(), otherPerson.getAppointment())
+                && Objects.equals(person.getRemark(), otherPerson.getRemark());
+    }
+
+    /**
+     * Returns true if both listings are null, or have the same details and clients.
+     * {@code Listing#equals} only compares the details that identify a listing.
+     */
+    private static boolean hasSameDetails(Listing listing, Listing otherListing) {
+        if (listing == null || otherListing == null) {
+            return listing == otherListing;
+        }
+        return listing.getName().equals(otherListing.getName())
+                && listing.getAddress().equals(otherListing.getAddress())
+                && listing.getPrice().equals(otherListing.getPrice())
+                && listing.getArea().equals(otherListing.getArea())
+                && listing.getRegion() == otherListing.getRegion()
+                && listing.getSellerId().equals(otherListing.getSellerId())
+                && listing.getBuyerIds().equals(otherListing.getBuyerIds());
+    }
+
+    //=========== Shared Changes =============================================================================
+
+    @Override
+    public void applySharedChanges(List<ModelChange> sharedChanges) {
+        requireNonNull(sharedChanges);
+        for (ModelChange change : sharedChanges) {
+            try {
+                applySharedChange(change);
+            } catch (DuplicatePersonException | DuplicateListingException e) {
+                logger.warning("Skipping the change to " + change.getId() + " saved by another instance of the app, "
+                        + "which would make it a duplicate.");
+            }
+        }
+    }
+
+    private void applySharedChange(ModelChange change) {
+        switch (change.getType()) {
+        case PERSON_SAVED:
+            Person existingPerson = addressBook.getPersonById(change.getId());
+            if (existingPerson == null) {
+                addressBook.addPerson(change.getPerson());
+            } else {
+                addressBook.setPerson(existingPerson, change.getPerson());
+            }
+            break;
+        case PERSON_DELETED:
+            Person deletedPerson = addressBook.getPersonById(change.getId());
+            if (deletedPerson != null) {
+                addressBook.removePerson(deletedPerson);
+            }
+            break;
+        case PERSONS_CLEARED:
+            addressBook.resetData(new AddressBook());
+            break;
+        case LISTING_SAVED:
+            Listing existingListing = listings.getListingById(change.getId());
+            Listing savedListing = change.getListing();
+            if (existingListing == null) {
+                listings.addListing(savedListing);
+            } else {
+                listings.setListing(existingListing, savedListing);
+                unindexClients(existingListing);
+            }
+            indexClients(savedListing);
+            break;
+        case LISTING_DELETED:
+            Listing deletedListing = listings.getListingById(change.getId());
+            if (deletedListing != null) {
+                listings.removeListing(deletedListing);
+                unindexClients(deletedListing);
+            }
+            break;
+        case LISTINGS_CLEARED:
+            listings.resetData(new Listings());
+            rebuildClientListingIndexes();
+            break;
+        default:
+            break;
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -255,6 +495,12 @@ public class ModelManager implements Model {
                     .orElse(null);
     }
 
+    @Override
+    public Person getPersonById(Id id) {
+        requireNonNull(id);
+        return addressBook.getPersonById(id);
+    }
+
     //=========== Filtered Listing List Accessors =============================================================
 
     /**
@@ -269,9 +515,54 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         requireNonNull(predicate);
+        listingQuery = null;
+        listingSource.set(listings.getListingList());
+        queriedListings.clear();
+        filteredListings.setPredicate(predicate);
+    }
+
+    /**
+     * Shows the listings within {@code range} that match {@code predicate}.
+     * The listings within {@code range} are looked up through the range indexes of the listings, and looked up again
+     * whenever the listings change, so that only those listings are tested against {@code predicate}.
+     */
+    @Override
+    public void updateFilteredListingList(ListingInRangePredicate range, Predicate<Listing> predicate) {
+        requireAllNonNull(range, predicate);
+        listingQuery = () -> listings.getListingsInRange(range);
+        refreshQueriedListings();
+        listingSource.set(queriedListings);
         filteredListings.setPredicate(predicate);
     }
 
+    /**
+     * Shows the listings in any of {@code regions} that match {@code predicate}.
+     * The listings in {@code regions} are read from the region buckets of the listings, and read again whenever the
+     * listings change, so that only those listings are tested against {@code predicate}.
+     */
+    @Override
+    public void updateFilteredListingList(Set<Region> regions, Predicate<Listing> predicate) {
+        requireAllNonNull(regions, predicate);
+        Set<Region> queriedRegions = EnumSet.noneOf(Region.class);
+        queriedRegions.addAll(regions);
+        listingQuery = () -> listings.getListingsInRegions(queriedRegions);
+        refreshQueriedListings();
+        listingSource.set(queriedListings);
+        filteredListings.setPredicate(predicate);
+    }
+
+    /**
+     * Replaces the queried listings with the results of running {@code listingQuery} again, in list order.
+     */
+    private void refreshQueriedListings() {
+        if (listingQuery == null) {
+            return;
+        }
+        List<Listing> found = listingQuery.get();
+        listings.sortInListOrder(found);
+        queriedListings.setAll(found);
+    }
+
     /**
      * Checks if there are any listings associated with the specified {@code seller}.
      *
@@ -282,8 +573,7 @@ public class ModelManager implements Model {
     @Override
     public boolean hasListingsForSeller(Person seller) {
         requireNonNull(seller);
-        return listings.getListingList().stream()
-                .anyMatch(listing -> listing.getSeller().equals(seller));
+        return !getListingsForSeller(seller).isEmpty();
     }
 
     /**
@@ -296,8 +586,82 @@ public class ModelManager implements Model {
     @Override
     public boolean hasListingsForBuyer(Person buyer) {
         requireNonNull(buyer);
-        return listings.getListingList().stream()
-                .anyMatch(listing -> listing.getBuyers().contains(buyer));
+        return !getListingsForBuyer(buyer).isEmpty();
+    }
+
+    /**
+     * Returns the listings sold by {@code seller}, looked up through the seller index.
+     */
+    @Override
+    public List<Listing> getListingsForSeller(Person seller) {
+        requireNonNull(seller);
+        return new ArrayList<>(listingsBySeller.getOrDefault(seller.getId(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the listings that {@code buyer} is interested in, looked up through the buyer index.
+     */
+    @Override
+    public List<Listing> getListingsForBuyer(Person buyer) {
+        requireNonNull(buyer);
+        return new ArrayList<>(listingsByBuyer.getOrDefault(buyer.getId(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the average price per square meter within {@code range}, computed over the columns of the listings.
+     */
+    @Override
+    public long getAveragePricePerSquareMeterInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        return listings.getAveragePricePerSquareMeterInRange(range);
+    }
+
+    @Override
+    public Map<Region, Integer> getListingCountsByRegion() {
+        return listings.getListingCountsByRegion();
+    }
+
+    //=========== Client to Listing Indexes ==================================================================
+
+    private void indexClients(Listing listing) {
+        listingsBySeller.computeIfAbsent(listing.getSellerId(), unused -> newListingSet()).add(listing);
+        for (Id buyerId : listing.getBuyerIds()) {
+            listingsByBuyer.computeIfAbsent(buyerId, unused -> newListingSet()).add(listing);
+        }
+    }
+
+    private void unindexClients(Listing listing) {
+        if (listing == null) {
+            return;
+        }
+        removeFromIndex(listingsBySeller, listing.getSellerId(), listing);
+        for (Id buyerId : listing.getBuyerIds()) {
+            removeFromIndex(listingsByBuyer, buyerId, listing);
+        }
+    }
+
+    private void rebuildClientListingIndexes() {
+        listingsBySeller.clear();
+        listingsByBuyer.clear();
+        listings.getListingList().forEach(this::indexClients);
+    }
+
+    private static void removeFromIndex(Map<Id, Set<Listing>> index, Id key, Listing listing) {
+        Set<Listing> indexed = index.get(key);
+        if (indexed == null) {
+            return;
+        }
+        indexed.remove(listing);
+        if (indexed.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Listings are equal when they share a name or an address, so they are tracked by identity.
+     */
+    private static Set<Listing> newListingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     @Override
@@ -13,4 +13,11 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
+
+    /**
+     * Returns a stamp that changes whenever the persons are modified.
+     * Stamps are not shared between address books, so an equal stamp means the same, unmodified address book.
+     * Persons are immutable, so every modification goes through the address book and changes the stamp.
+     */
+    long getVersion();
 }
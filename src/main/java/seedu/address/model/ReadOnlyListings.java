@@ -13,4 +13,10 @@ public interface ReadOnlyListings {
      * This list will not contain any duplicate listings.
      */
     ObservableList<Listing> getListingList();
+
+    /**
+     * Returns a stamp that changes whenever the listings are modified.
+     * Stamps are not shared between listings, so an equal stamp means the same, unmodified listings.
+     */
+    long getVersion();
 }
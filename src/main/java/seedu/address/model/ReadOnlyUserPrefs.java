@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -15,4 +17,44 @@ public interface ReadOnlyUserPrefs {
 
     Path getListingsFilePath();
 
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns the encoding that the JSON data files are saved in.
+     */
+    DataFileEncoding getDataFileEncoding();
+
+    /**
+     * Returns the number of records of a data file that are loaded one at a time, before the rest of the records
+     * are validated and converted in parallel.
+     */
+    int getParallelLoadThreshold();
+
+    /**
+     * Returns true if the main window is shown before the data is loaded, with the data loaded in the background.
+     */
+    boolean isProgressiveStartup();
+
+    /**
+     * Returns true if the JSON listings are stored in one file per region, instead of in a single file.
+     */
+    boolean isShardListingsByRegion();
+
+    /**
+     * Returns the number of minutes after a backup before the data is backed up again automatically,
+     * or 0 if the data is only backed up on request.
+     */
+    int getBackupIntervalMinutes();
+
+    /**
+     * Returns true if changes made to the JSON data files outside the app are loaded while the app is running.
+     */
+    boolean isWatchDataFiles();
+
+    /**
+     * Returns true if the data directory is shared with other instances of the app, which save their changes to a
+     * shared journal instead of writing the data files.
+     */
+    boolean isSharedDataDirectory();
+
 }
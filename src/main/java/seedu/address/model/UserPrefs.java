@@ -6,16 +6,29 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_LOAD_THRESHOLD = 10000;
+    public static final int DEFAULT_BACKUP_INTERVAL_MINUTES = 60;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path listingsFilePath = Paths.get("data", "listings.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private DataFileEncoding dataFileEncoding = DataFileEncoding.PLAIN;
+    private int parallelLoadThreshold = DEFAULT_PARALLEL_LOAD_THRESHOLD;
+    private boolean progressiveStartup = true;
+    private boolean shardListingsByRegion = false;
+    private int backupIntervalMinutes = DEFAULT_BACKUP_INTERVAL_MINUTES;
+    private boolean watchDataFiles = true;
+    private boolean sharedDataDirectory = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +51,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setListingsFilePath(newUserPrefs.getListingsFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setDataFileEncoding(newUserPrefs.getDataFileEncoding());
+        setParallelLoadThreshold(newUserPrefs.getParallelLoadThreshold());
+        setProgressiveStartup(newUserPrefs.isProgressiveStartup());
+        setShardListingsByRegion(newUserPrefs.isShardListingsByRegion());
+        setBackupIntervalMinutes(newUserPrefs.getBackupIntervalMinutes());
+        setWatchDataFiles(newUserPrefs.isWatchDataFiles());
+        setSharedDataDirectory(newUserPrefs.isSharedDataDirectory());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +88,72 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.listingsFilePath = listingsFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public DataFileEncoding getDataFileEncoding() {
+        return dataFileEncoding;
+    }
+
+    public void setDataFileEncoding(DataFileEncoding dataFileEncoding) {
+        requireNonNull(dataFileEncoding);
+        this.dataFileEncoding = dataFileEncoding;
+    }
+
+    public int getParallelLoadThreshold() {
+        return parallelLoadThreshold;
+    }
+
+    public void setParallelLoadThreshold(int parallelLoadThreshold) {
+        this.parallelLoadThreshold = parallelLoadThreshold;
+    }
+
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    public boolean isShardListingsByRegion() {
+        return shardListingsByRegion;
+    }
+
+    public void setShardListingsByRegion(boolean shardListingsByRegion) {
+        this.shardListingsByRegion = shardListingsByRegion;
+    }
+
+    public int getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    public void setBackupIntervalMinutes(int backupIntervalMinutes) {
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
+    public boolean isWatchDataFiles() {
+        return watchDataFiles;
+    }
+
+    public void setWatchDataFiles(boolean watchDataFiles) {
+        this.watchDataFiles = watchDataFiles;
+    }
+
+    public boolean isSharedDataDirectory() {
+        return sharedDataDirectory;
+    }
+
+    public void setSharedDataDirectory(boolean sharedDataDirectory) {
+        this.sharedDataDirectory = sharedDataDirectory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +168,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && listingsFilePath.equals(otherUserPrefs.listingsFilePath);
+                && listingsFilePath.equals(otherUserPrefs.listingsFilePath)
+                && storageFormat.equals(otherUserPrefs.storageFormat)
+                && dataFileEncoding.equals(otherUserPrefs.dataFileEncoding)
+                && parallelLoadThreshold == otherUserPrefs.parallelLoadThreshold
+                && progressiveStartup == otherUserPrefs.progressiveStartup
+                && shardListingsByRegion == otherUserPrefs.shardListingsByRegion
+                && backupIntervalMinutes == otherUserPrefs.backupIntervalMinutes
+                && watchDataFiles == otherUserPrefs.watchDataFiles
+                && sharedDataDirectory == otherUserPrefs.sharedDataDirectory;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, listingsFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, listingsFilePath, storageFormat, dataFileEncoding,
+                parallelLoadThreshold, progressiveStartup, shardListingsByRegion, backupIntervalMinutes,
+                watchDataFiles, sharedDataDirectory);
     }
 
     @Override
@@ -95,6 +192,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nLocal data file location : " + listingsFilePath);
+        sb.append("\nData file format : " + storageFormat);
+        sb.append("\nData file encoding : " + dataFileEncoding);
+        sb.append("\nRecords loaded before converting in parallel : " + parallelLoadThreshold);
+        sb.append("\nLoad data after showing the main window : " + progressiveStartup);
+        sb.append("\nStore listings in one file per region : " + shardListingsByRegion);
+        sb.append("\nMinutes between automatic backups : " + backupIntervalMinutes);
+        sb.append("\nReload data files changed outside the app : " + watchDataFiles);
+        sb.append("\nShare the data directory with other instances : " + sharedDataDirectory);
         return sb.toString();
     }
 
@@ -0,0 +1,79 @@
+package seedu.address.model.id;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a stable surrogate identifier of a Person or a Listing.
+ * An {@code Id} is assigned when an entity is first created and is carried over when the entity is edited, so that
+ * other entities can refer to it independently of its name or other editable fields.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(long)}
+ */
+public final class Id {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ids should be positive numbers";
+
+    private static final AtomicLong lastIssued = new AtomicLong();
+
+    private final long value;
+
+    private Id(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new {@code Id} that has not been issued or restored before.
+     */
+    public static Id next() {
+        return new Id(lastIssued.incrementAndGet());
+    }
+
+    /**
+     * Returns the {@code Id} with the given {@code value}, such as one restored from storage.
+     * Ids issued by {@link #next()} afterwards will not collide with it.
+     *
+     * @param value A valid id value.
+     */
+    public static Id of(long value) {
+        checkArgument(isValidId(value), MESSAGE_CONSTRAINTS);
+        lastIssued.accumulateAndGet(value, Math::max);
+        return new Id(value);
+    }
+
+    /**
+     * Returns true if a given value is a valid id.
+     */
+    public static boolean isValidId(long test) {
+        return test > 0;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Id)) {
+            return false;
+        }
+
+        Id otherId = (Id) other;
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
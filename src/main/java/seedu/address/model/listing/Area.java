@@ -1,27 +1,43 @@
 package seedu.address.model.listing;
 
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents the size of a listing in square meters in the real estate application.
- * The size is stored as an integer value representing the area in square meters (m²).
+ * The size is stored both as the string it was entered as and as a whole number of square meters (m²), which is
+ * {@code Long.MAX_VALUE} for sizes too large to fit in a {@code long}.
  */
-public class Area {
+public class Area implements Comparable<Area> {
     public static final String MESSAGE_CONSTRAINTS =
             "Area should only contain positive numbers and cannot start with zeroes, "
                     + "and it should be at least 2 digits long";
     private static final String VALIDATION_REGEX = "^[1-9]\\d{1,}$";
 
-    private final String squareMeters;
+    private final String area;
+    private final long squareMeters;
 
     /**
      * Constructs a {@code Area}.
      *
-     * @param squareMeters The size of the listing in square meters.
+     * @param area The size of the listing in square meters.
+     * @throws NumberFormatException if {@code area} contains anything other than digits.
      */
-    public Area(String squareMeters) {
-        this.squareMeters = squareMeters;
+    public Area(String area) {
+        requireNonNull(area);
+        this.area = area;
+        this.squareMeters = StringUtil.parseUnsignedLongSaturated(area);
     }
 
     public String getArea() {
+        return this.area;
+    }
+
+    /**
+     * Returns the size in square meters, or {@code Long.MAX_VALUE} if it is too large to fit in a {@code long}.
+     */
+    public long getSquareMeters() {
         return this.squareMeters;
     }
 
@@ -32,9 +48,22 @@ public class Area {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Compares the sizes by their value.
+     * Sizes too large to fit in a {@code long} are compared by their digits, which needs no allocation either.
+     */
+    @Override
+    public int compareTo(Area other) {
+        if (squareMeters != Long.MAX_VALUE || other.squareMeters != Long.MAX_VALUE) {
+            return Long.compare(squareMeters, other.squareMeters);
+        }
+        int lengthComparison = Integer.compare(area.length(), other.area.length());
+        return lengthComparison != 0 ? lengthComparison : area.compareTo(other.area);
+    }
+
     @Override
     public String toString() {
-        return String.format("%s", this.squareMeters);
+        return this.area;
     }
 
     @Override
@@ -49,7 +78,11 @@ public class Area {
         }
 
         Area otherSize = (Area) other;
-        return squareMeters.equals(otherSize.squareMeters);
+        return area.equals(otherSize.area);
     }
 
+    @Override
+    public int hashCode() {
+        return area.hashCode();
+    }
 }
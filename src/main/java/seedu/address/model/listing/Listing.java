@@ -6,49 +6,75 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
-import seedu.address.model.person.Person;
 
 
 /**
  * Represents a Listing in the real estate application.
- * Guarantees: all fields are present and not null, and buyers is initialized to an empty set.
+ * The seller and buyers are referred to by their ids, and are looked up in the address book when they are needed,
+ * so that editing a client does not change the listings of the client.
+ * Guarantees: immutable; all fields are present and not null, and buyers is initialized to an empty set.
  */
 public class Listing {
+    private final Id id;
     private final Name name;
     private final Price price;
     private final Area area;
     private final Region region;
     private final Address address;
-    private final Person seller;
-    private final Set<Person> buyers;
+    private final Id sellerId;
+    private final Set<Id> buyerIds;
+    private final long pricePerSquareMeter;
 
     /**
      * Constructs a {@code Listing}.
      *
+     * @param name     Name of the listing.
      * @param address  Address of the listing.
      * @param price    Price of the listing.
      * @param area     Area of the listing in square meters.
      * @param region   Region of the listing, represented by a {@code Region} enum.
-     * @param seller   Seller of the listing, represented by a {@code Person}.
-     * @param buyers   Buyers of the listing, represented by a {@code Person}.
+     * @param sellerId Id of the seller of the listing.
+     * @param buyerIds Ids of the buyers of the listing.
      */
     public Listing(Name name, Address address, Price price,
-                   Area area, Region region, Person seller, Set<Person> buyers) {
+                   Area area, Region region, Id sellerId, Set<Id> buyerIds) {
+        this(Id.next(), name, address, price, area, region, sellerId, buyerIds);
+    }
+
+    /**
+     * Constructs a {@code Listing} that takes over an existing {@code id}, such as that of the listing it is an
+     * edited version of.
+     *
+     * @param id       Id of the listing.
+     * @param name     Name of the listing.
+     * @param address  Address of the listing.
+     * @param price    Price of the listing.
+     * @param area     Area of the listing in square meters.
+     * @param region   Region of the listing, represented by a {@code Region} enum.
+     * @param sellerId Id of the seller of the listing.
+     * @param buyerIds Ids of the buyers of the listing.
+     */
+    public Listing(Id id, Name name, Address address, Price price,
+                   Area area, Region region, Id sellerId, Set<Id> buyerIds) {
+        Objects.requireNonNull(id);
         Objects.requireNonNull(name);
         Objects.requireNonNull(price);
         Objects.requireNonNull(area);
         Objects.requireNonNull(region);
         Objects.requireNonNull(address);
-        Objects.requireNonNull(seller);
+        Objects.requireNonNull(sellerId);
 
+        this.id = id;
         this.name = name;
         this.price = price;
         this.area = area;
         this.region = region;
         this.address = address;
-        this.seller = seller;
-        this.buyers = new HashSet<>(buyers);
+        this.sellerId = sellerId;
+        this.buyerIds = Collections.unmodifiableSet(new HashSet<>(buyerIds));
+        this.pricePerSquareMeter = computePricePerSquareMeter(price, area);
     }
 
     /**
@@ -59,14 +85,25 @@ public class Listing {
     public Listing(Listing other) {
         Objects.requireNonNull(other);
 
+        this.id = other.id;
         this.name = other.name;
         this.address = other.address;
         this.price = other.price;
         this.area = other.area;
         this.region = other.region;
-        this.seller = other.seller;
-        this.buyers = new HashSet<>();
-        this.buyers.addAll(other.buyers);
+        this.sellerId = other.sellerId;
+        this.buyerIds = other.buyerIds;
+        this.pricePerSquareMeter = other.pricePerSquareMeter;
+    }
+    /**
+     * Returns the price per square meter in cents, rounded down. A size of zero is treated as one square meter.
+     */
+    private static long computePricePerSquareMeter(Price price, Area area) {
+        return price.getCents() / Math.max(area.getSquareMeters(), 1);
+    }
+
+    public Id getId() {
+        return id;
     }
 
     public Name getName() {
@@ -81,6 +118,14 @@ public class Listing {
         return area;
     }
 
+    /**
+     * Returns the price per square meter in cents, which is worked out once when the listing is created so that
+     * listings can be filtered and sorted by it cheaply.
+     */
+    public long getPricePerSquareMeter() {
+        return pricePerSquareMeter;
+    }
+
     public Region getRegion() {
         return region;
     }
@@ -89,51 +134,40 @@ public class Listing {
         return address;
     }
 
-    public Person getSeller() {
-        return seller;
-    }
-
-    public Set<Person> getBuyers() {
-        return Collections.unmodifiableSet(buyers);
+    public Id getSellerId() {
+        return sellerId;
     }
 
-    /**
-     * Removes a buyer from this listing's buyers.
-     * @param buyer The buyer to be removed.
-     */
-    public void removeBuyer(Person buyer) {
-        buyers.remove(buyer);
+    public Set<Id> getBuyerIds() {
+        return buyerIds;
     }
 
     /**
-     * Replaces a buyer from this listing's buyers.
-     * @param buyerToRemove The buyer to be removed.
-     * @param buyerToAdd The new buyer to add to the listing.
-     */
-    public void replaceBuyer(Person buyerToRemove, Person buyerToAdd) {
-        if (buyers.contains(buyerToRemove)) {
-            buyers.remove(buyerToRemove);
-            buyers.add(buyerToAdd);
-        }
-    }
-
-    /**
-     * Checks if this listing has the specified buyer.
+     * Checks if this listing has the buyer with the specified id.
      *
-     * @param buyer The buyer to check.
+     * @param buyerId The id of the buyer to check.
      * @return True if the listing has the buyer, false otherwise.
      */
-    public boolean hasBuyer(Person buyer) {
-        return buyers.contains(buyer);
+    public boolean hasBuyer(Id buyerId) {
+        return buyerIds.contains(buyerId);
     }
 
     /**
      * Returns a new Listing with a different seller
-     * @param sellerToAdd The new buyer to add to the listing.
+     * @param sellerIdToSet The id of the new seller of the listing.
      * @return Listing with a modified seller.
      */
-    public Listing modifyListingWithSeller(Person sellerToAdd) {
-        return new Listing(name, address, price, area, region, sellerToAdd, buyers);
+    public Listing modifyListingWithSeller(Id sellerIdToSet) {
+        return new Listing(id, name, address, price, area, region, sellerIdToSet, buyerIds);
+    }
+
+    /**
+     * Returns a new Listing with a different set of buyers
+     * @param buyerIdsToSet The ids of the buyers of the new listing.
+     * @return Listing with modified buyers.
+     */
+    public Listing modifyListingWithBuyers(Set<Id> buyerIdsToSet) {
+        return new Listing(id, name, address, price, area, region, sellerId, buyerIdsToSet);
     }
 
     /**
@@ -180,7 +214,7 @@ public class Listing {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, price, address, area, region, seller, buyers);
+        return Objects.hash(name, price, address, area, region, sellerId, buyerIds);
     }
 
     @Override
@@ -190,7 +224,7 @@ public class Listing {
                 .add("address", address)
                 .add("area", area)
                 .add("region", region)
-                .add("seller", seller)
+                .add("sellerId", sellerId)
                 .toString();
     }
 }
@@ -0,0 +1,239 @@
+package seedu.address.model.listing;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column-oriented copy of the listings in a {@link UniqueListingList}, with one row per listing.
+ * The price, size, price per square meter and region of the listing in each row are held in parallel primitive
+ * arrays, so that range filters and aggregates run as tight loops over the arrays instead of following references
+ * from each {@code Listing} to its {@code Price}, {@code Area} and {@code Region}.
+ *
+ * Rows are in no particular order. A removed row is filled with the last row, so that removals take constant time,
+ * and the row of each listing is looked up by identity. The number of listings in each region is kept as rows are
+ * added, replaced and removed.
+ *
+ * Only the owning {@code UniqueListingList} modifies the columns, as it modifies its list.
+ */
+public class ListingColumns {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Region[] REGIONS = Region.values();
+
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private long[] squareMeters = new long[INITIAL_CAPACITY];
+    private long[] pricePerSquareMeter = new long[INITIAL_CAPACITY];
+    private byte[] regionOrdinals = new byte[INITIAL_CAPACITY];
+    private Listing[] rows = new Listing[INITIAL_CAPACITY];
+    private final Map<Listing, Integer> rowOf = new IdentityHashMap<>();
+    private final int[] regionCounts = new int[REGIONS.length];
+    private int size;
+
+    /**
+     * Returns the number of rows, which is the number of listings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the listing in the given row.
+     *
+     * @throws IndexOutOfBoundsException if there is no such row.
+     */
+    public Listing getListing(int row) {
+        return rows[checkRow(row)];
+    }
+
+    public long getPriceCents(int row) {
+        return priceCents[checkRow(row)];
+    }
+
+    public long getSquareMeters(int row) {
+        return squareMeters[checkRow(row)];
+    }
+
+    public Region getRegion(int row) {
+        return REGIONS[regionOrdinals[checkRow(row)]];
+    }
+
+    /**
+     * Returns the listings whose price and size are within the bounds of {@code range}, in no particular order.
+     */
+    public List<Listing> findInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        List<Listing> matches = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (isInRange(row, range)) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of listings whose price and size are within the bounds of {@code range}.
+     */
+    public int countInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (isInRange(row, range)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average price per square meter in cents of the listings whose price and size are within the bounds
+     * of {@code range}, rounded down, or 0 if there are no such listings.
+     */
+    public long averagePricePerSquareMeter(ListingInRangePredicate range) {
+        requireNonNull(range);
+        double total = 0;
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (isInRange(row, range)) {
+                total += pricePerSquareMeter[row];
+                count++;
+            }
+        }
+        return count == 0 ? 0 : (long) (total / count);
+    }
+
+    /**
+     * Returns the listings in {@code region}, in no particular order.
+     */
+    public List<Listing> findInRegion(Region region) {
+        requireNonNull(region);
+        byte ordinal = (byte) region.ordinal();
+        List<Listing> matches = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (regionOrdinals[row] == ordinal) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the average price per square meter in cents of the listings in {@code region}, rounded down, or 0 if
+     * there are no listings in it.
+     */
+    public long averagePricePerSquareMeter(Region region) {
+        requireNonNull(region);
+        byte ordinal = (byte) region.ordinal();
+        double total = 0;
+        for (int row = 0; row < size; row++) {
+            if (regionOrdinals[row] == ordinal) {
+                total += pricePerSquareMeter[row];
+            }
+        }
+        int count = regionCounts[ordinal];
+        return count == 0 ? 0 : (long) (total / count);
+    }
+
+    /**
+     * Returns the number of listings in each region, read from the counts kept as rows change.
+     */
+    public Map<Region, Integer> getCountsByRegion() {
+        Map<Region, Integer> counts = new EnumMap<>(Region.class);
+        for (Region region : REGIONS) {
+            counts.put(region, regionCounts[region.ordinal()]);
+        }
+        return counts;
+    }
+
+    /**
+     * Appends a row for {@code listing}.
+     */
+    void add(Listing listing) {
+        ensureCapacity(size + 1);
+        write(size, listing);
+        size++;
+    }
+
+    /**
+     * Replaces the row of {@code target} with a row for {@code editedListing}.
+     * {@code target} must be in the columns.
+     */
+    void set(Listing target, Listing editedListing) {
+        int row = rowOf.remove(target);
+        regionCounts[regionOrdinals[row]]--;
+        write(row, editedListing);
+    }
+
+    /**
+     * Removes the row of {@code listing}, filling it with the last row.
+     * {@code listing} must be in the columns.
+     */
+    void remove(Listing listing) {
+        int row = rowOf.remove(listing);
+        regionCounts[regionOrdinals[row]]--;
+        size--;
+        if (row != size) {
+            priceCents[row] = priceCents[size];
+            squareMeters[row] = squareMeters[size];
+            pricePerSquareMeter[row] = pricePerSquareMeter[size];
+            regionOrdinals[row] = regionOrdinals[size];
+            rows[row] = rows[size];
+            rowOf.put(rows[row], row);
+        }
+        rows[size] = null;
+    }
+
+    /**
+     * Replaces all rows with rows for {@code listings}.
+     */
+    void setAll(List<Listing> listings) {
+        Arrays.fill(rows, 0, size, null);
+        Arrays.fill(regionCounts, 0);
+        rowOf.clear();
+        size = 0;
+        ensureCapacity(listings.size());
+        for (Listing listing : listings) {
+            write(size, listing);
+            size++;
+        }
+    }
+
+    private boolean isInRange(int row, ListingInRangePredicate range) {
+        long price = priceCents[row];
+        long area = squareMeters[row];
+        return price >= range.getMinPriceCents() && price <= range.getMaxPriceCents()
+                && area >= range.getMinSquareMeters() && area <= range.getMaxSquareMeters();
+    }
+
+    private void write(int row, Listing listing) {
+        priceCents[row] = listing.getPrice().getCents();
+        squareMeters[row] = listing.getArea().getSquareMeters();
+        pricePerSquareMeter[row] = listing.getPricePerSquareMeter();
+        regionOrdinals[row] = (byte) listing.getRegion().ordinal();
+        rows[row] = listing;
+        rowOf.put(listing, row);
+        regionCounts[regionOrdinals[row]]++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= rows.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, rows.length * 2);
+        priceCents = Arrays.copyOf(priceCents, newCapacity);
+        squareMeters = Arrays.copyOf(squareMeters, newCapacity);
+        pricePerSquareMeter = Arrays.copyOf(pricePerSquareMeter, newCapacity);
+        regionOrdinals = Arrays.copyOf(regionOrdinals, newCapacity);
+        rows = Arrays.copyOf(rows, newCapacity);
+    }
+
+    private int checkRow(int row) {
+        return checkIndex(row, size);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.listing;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Listing}'s price in cents and size in square meters are within inclusive bounds.
+ * Prices and sizes too large to fit in a {@code long} are compared as their saturated values.
+ */
+public class ListingInRangePredicate implements Predicate<Listing> {
+    public static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private final long minPriceCents;
+    private final long maxPriceCents;
+    private final long minSquareMeters;
+    private final long maxSquareMeters;
+
+    /**
+     * Constructs a {@code ListingInRangePredicate}. Use 0 and {@link #NO_LIMIT} for a bound that is not given.
+     */
+    public ListingInRangePredicate(long minPriceCents, long maxPriceCents, long minSquareMeters,
+            long maxSquareMeters) {
+        this.minPriceCents = minPriceCents;
+        this.maxPriceCents = maxPriceCents;
+        this.minSquareMeters = minSquareMeters;
+        this.maxSquareMeters = maxSquareMeters;
+    }
+
+    public long getMinPriceCents() {
+        return minPriceCents;
+    }
+
+    public long getMaxPriceCents() {
+        return maxPriceCents;
+    }
+
+    public long getMinSquareMeters() {
+        return minSquareMeters;
+    }
+
+    public long getMaxSquareMeters() {
+        return maxSquareMeters;
+    }
+
+    /**
+     * Returns true if the price is bounded on either side.
+     */
+    public boolean hasPriceRange() {
+        return minPriceCents > 0 || maxPriceCents < NO_LIMIT;
+    }
+
+    /**
+     * Returns true if the size is bounded on either side.
+     */
+    public boolean hasAreaRange() {
+        return minSquareMeters > 0 || maxSquareMeters < NO_LIMIT;
+    }
+
+    @Override
+    public boolean test(Listing listing) {
+        long priceCents = listing.getPrice().getCents();
+        long squareMeters = listing.getArea().getSquareMeters();
+        return priceCents >= minPriceCents && priceCents <= maxPriceCents
+                && squareMeters >= minSquareMeters && squareMeters <= maxSquareMeters;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListingInRangePredicate otherPredicate)) {
+            return false;
+        }
+
+        return minPriceCents == otherPredicate.minPriceCents
+                && maxPriceCents == otherPredicate.maxPriceCents
+                && minSquareMeters == otherPredicate.minSquareMeters
+                && maxSquareMeters == otherPredicate.maxSquareMeters;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minPriceCents, maxPriceCents, minSquareMeters, maxSquareMeters);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("minPriceCents", minPriceCents)
+                .add("maxPriceCents", maxPriceCents)
+                .add("minSquareMeters", minSquareMeters)
+                .add("maxSquareMeters", maxSquareMeters)
+                .toString();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.listing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Sorted indexes of listings by their price in cents and their size in square meters, which find the listings
+ * within a {@link ListingInRangePredicate} in O(log n + k) time, where k is the number of listings in the range of
+ * the index used, instead of testing every listing.
+ *
+ * Listings are held by identity, since listings that are not the same object can be equal to each other.
+ */
+public class ListingRangeIndex {
+    private final NavigableMap<Long, Set<Listing>> listingsByPriceCents = new TreeMap<>();
+    private final NavigableMap<Long, Set<Listing>> listingsBySquareMeters = new TreeMap<>();
+
+    /**
+     * Adds {@code listing} to the indexes.
+     */
+    public void add(Listing listing) {
+        requireNonNull(listing);
+        listingsByPriceCents.computeIfAbsent(listing.getPrice().getCents(), unused -> newIdentitySet())
+                .add(listing);
+        listingsBySquareMeters.computeIfAbsent(listing.getArea().getSquareMeters(), unused -> newIdentitySet())
+                .add(listing);
+    }
+
+    /**
+     * Removes {@code listing}, which must be the same object that was added, from the indexes.
+     */
+    public void remove(Listing listing) {
+        requireNonNull(listing);
+        removeFrom(listingsByPriceCents, listing.getPrice().getCents(), listing);
+        removeFrom(listingsBySquareMeters, listing.getArea().getSquareMeters(), listing);
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code listings}.
+     */
+    public void setAll(Collection<Listing> listings) {
+        clear();
+        listings.forEach(this::add);
+    }
+
+    /**
+     * Removes all listings from the indexes.
+     */
+    public void clear() {
+        listingsByPriceCents.clear();
+        listingsBySquareMeters.clear();
+    }
+
+    /**
+     * Returns the listings that {@code range} matches, in no particular order.
+     * The price index is used unless only the size is bounded; listings in its range are then tested against the
+     * bounds of the other index.
+     */
+    public List<Listing> find(ListingInRangePredicate range) {
+        requireNonNull(range);
+        NavigableMap<Long, Set<Listing>> candidates = !range.hasPriceRange() && range.hasAreaRange()
+                ? listingsBySquareMeters.subMap(range.getMinSquareMeters(), true, range.getMaxSquareMeters(), true)
+                : listingsByPriceCents.subMap(range.getMinPriceCents(), true, range.getMaxPriceCents(), true);
+
+        List<Listing> matches = new ArrayList<>();
+        for (Set<Listing> listings : candidates.values()) {
+            for (Listing listing : listings) {
+                if (range.test(listing)) {
+                    matches.add(listing);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Listing> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static void removeFrom(NavigableMap<Long, Set<Listing>> index, long key, Listing listing) {
+        Set<Listing> listings = index.get(key);
+        if (listings != null && listings.remove(listing) && listings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -2,31 +2,42 @@ package seedu.address.model.listing;
 
 import static java.util.Objects.requireNonNull;
 
-import java.math.BigDecimal;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents the price of a listing in the real estate application.
- * The price is stored both as a formatted string (e.g., "5 mil", "600k") and as a raw {@code BigDecimal} value.
+ * The price is stored both as the string it was entered as and as a whole number of cents, so that prices can be
+ * compared and sorted without parsing or allocating.
+ * Prices too large to be counted in cents by a {@code long} are counted as {@link #MAX_CENTS}.
  */
-public class Price {
+public class Price implements Comparable<Price> {
     public static final String MESSAGE_CONSTRAINTS =
             "Price should only contain positive numbers and cannot start with zeroes, "
                     + "and it should be at least 6 digits long";
+    public static final int CENTS_PER_DOLLAR = 100;
+    public static final long MAX_CENTS = Long.MAX_VALUE / CENTS_PER_DOLLAR * CENTS_PER_DOLLAR;
     private static final String VALIDATION_REGEX = "^[1-9]\\d{5,}$";
 
     private final String formattedValue;
-    private final BigDecimal rawValue;
+    private final long cents;
 
     /**
      * Constructs a {@code Price}.
      *
-     * @param formattedValue The formatted price value, such as "5 mil" or "600k".
-     * @param rawValue       The raw price value, represented as a {@code BigDecimal}.
+     * @param formattedValue The price in whole dollars, such as "600000".
+     * @throws NumberFormatException if {@code formattedValue} contains anything other than digits.
      */
-    public Price(String formattedValue, BigDecimal rawValue) {
+    public Price(String formattedValue) {
         requireNonNull(formattedValue);
         this.formattedValue = formattedValue;
-        this.rawValue = rawValue;
+        this.cents = toCents(StringUtil.parseUnsignedLongSaturated(formattedValue));
+    }
+
+    /**
+     * Returns {@code dollars} in cents, or {@link #MAX_CENTS} if that is too large to be counted in cents.
+     */
+    public static long toCents(long dollars) {
+        return dollars > MAX_CENTS / CENTS_PER_DOLLAR ? MAX_CENTS : dollars * CENTS_PER_DOLLAR;
     }
 
     /**
@@ -36,14 +47,30 @@ public class Price {
         return test.matches(VALIDATION_REGEX);
     }
 
-    public BigDecimal getRawValue() {
-        return this.rawValue;
+    /**
+     * Returns the price in cents, or {@link #MAX_CENTS} if it is too large to be counted in cents.
+     */
+    public long getCents() {
+        return this.cents;
     }
 
     public String getFormattedValue() {
         return this.formattedValue;
     }
 
+    /**
+     * Compares the prices by their value.
+     * Prices too large to be counted in cents are compared by their digits, which needs no allocation either.
+     */
+    @Override
+    public int compareTo(Price other) {
+        if (cents != MAX_CENTS || other.cents != MAX_CENTS) {
+            return Long.compare(cents, other.cents);
+        }
+        int lengthComparison = Integer.compare(formattedValue.length(), other.formattedValue.length());
+        return lengthComparison != 0 ? lengthComparison : formattedValue.compareTo(other.formattedValue);
+    }
+
     @Override
     public String toString() {
         return this.formattedValue;
@@ -3,26 +3,67 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.name.Name;
 
 /**
  * A list of listings that enforces uniqueness between its elements and does not allow nulls.
  * A listing is considered unique by comparing using {@code Listing#isSameListing(Listing)}.
  * Supports a minimal set of list operations.
  *
+ * Since a listing is identified by either its name or its address, listings are indexed by both keys so that
+ * duplicate detection and lookups do not need to scan the list. Listings are also indexed by their {@link Id}.
+ * The position of each listing in the backing list is cached by identity and recomputed lazily after removals.
+ * Listings are also partitioned into a bucket per {@link Region}, so that the listings in a region are read from
+ * their bucket alone, and kept in a {@link ListingRangeIndex}, so that those within a price or size range are found
+ * without testing every listing.
+ * All of these are updated before the backing list, so that they are current when its listeners are told of a change.
+ * A {@link ListingColumns} copy of the list is kept in step with it for scans by price, size and region.
+ *
  * @see Listing#isSameListing(Listing)
  */
 public class UniqueListingList implements Iterable<Listing> {
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
     private final ObservableList<Listing> internalList = FXCollections.observableArrayList();
     private final ObservableList<Listing> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<String, Listing> listingsByName = new HashMap<>();
+    private final Map<String, Listing> listingsByAddress = new HashMap<>();
+    private final Map<Id, Listing> listingsById = new HashMap<>();
+    private final Map<Listing, Integer> positions = new IdentityHashMap<>();
+    private final Map<Region, Set<Listing>> listingsByRegion = new EnumMap<>(Region.class);
+    private final ListingRangeIndex rangeIndex = new ListingRangeIndex();
+    private final ListingColumns columns = new ListingColumns();
+    private int staleFrom = NO_STALE_POSITIONS;
+
+    /**
+     * Constructs an empty {@code UniqueListingList}.
+     */
+    public UniqueListingList() {
+        for (Region region : Region.values()) {
+            listingsByRegion.put(region, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
     /**
      * Returns true if the list contains an equivalent listing as the given argument.
      *
@@ -31,7 +72,109 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public boolean contains(Listing toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListing);
+        return listingsByName.containsKey(nameKey(toCheck.getName()))
+                || listingsByAddress.containsKey(addressKey(toCheck.getAddress()));
+    }
+
+    /**
+     * Returns the listing in the list that is equal to {@code toFind}, or null if there is none.
+     *
+     * @param toFind The listing to look up.
+     * @return The listing in the list that {@link Listing#equals(Object)} {@code toFind}, or null.
+     */
+    public Listing find(Listing toFind) {
+        requireNonNull(toFind);
+        return findEqual(toFind);
+    }
+
+    /**
+     * Returns the listing with the given id, or null if there is none.
+     *
+     * @param id The id of the listing to look up.
+     * @return The listing with the given id, or null if no such listing exists.
+     */
+    public Listing findById(Id id) {
+        requireNonNull(id);
+        return listingsById.get(id);
+    }
+
+    /**
+     * Returns the listing with the given name, or null if there is none.
+     *
+     * @param name The name of the listing to look up.
+     * @return The listing with the given name, or null if no such listing exists.
+     */
+    public Listing getByName(Name name) {
+        requireNonNull(name);
+        return listingsByName.get(nameKey(name));
+    }
+
+    /**
+     * Returns the listings in any of {@code regions}, in no particular order.
+     * Only the buckets of {@code regions} are read.
+     *
+     * @param regions The regions to return the listings of.
+     * @return The listings in those regions.
+     */
+    public List<Listing> getListingsInRegions(Set<Region> regions) {
+        requireAllNonNull(regions);
+        List<Listing> result = new ArrayList<>();
+        for (Region region : regions) {
+            result.addAll(listingsByRegion.get(region));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the listings whose price and size are within the bounds of {@code range}, in no particular order.
+     * Only the listings in the range of one of the range indexes are tested.
+     *
+     * @param range The bounds of the price and size of the listings to return.
+     * @return The listings within those bounds.
+     */
+    public List<Listing> getListingsInRange(ListingInRangePredicate range) {
+        requireNonNull(range);
+        return rangeIndex.find(range);
+    }
+
+    /**
+     * Sorts {@code listings} into the order they are in the list.
+     * The cached position of each listing is used, so only those listings are compared.
+     *
+     * @param listings The listings to sort, all of which must be in the list.
+     */
+    public void sortInListOrder(List<Listing> listings) {
+        requireAllNonNull(listings);
+        listings.sort(Comparator.comparingInt(this::positionOf));
+    }
+
+    /**
+     * Returns the number of listings in each region, read from the region counts of the columns.
+     */
+    public Map<Region, Integer> getCountsByRegion() {
+        return columns.getCountsByRegion();
+    }
+
+    /**
+     * Returns the columnar copy of the list, which is kept in step with it.
+     */
+    public ListingColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns true if a listing other than {@code target} has the same name or address as {@code editedListing}.
+     *
+     * @param target The listing that is being replaced, which is excluded from the check.
+     * @param editedListing The listing to check for conflicts.
+     * @return True if replacing {@code target} with {@code editedListing} would introduce a duplicate.
+     */
+    public boolean hasConflict(Listing target, Listing editedListing) {
+        requireAllNonNull(target, editedListing);
+        Listing sameName = listingsByName.get(nameKey(editedListing.getName()));
+        Listing sameAddress = listingsByAddress.get(addressKey(editedListing.getAddress()));
+        return (sameName != null && !sameName.equals(target))
+                || (sameAddress != null && !sameAddress.equals(target));
     }
 
     /**
@@ -46,9 +189,34 @@ public class UniqueListingList implements Iterable<Listing> {
         if (contains(toAdd)) {
             throw new DuplicateListingException();
         }
+        index(toAdd);
+        positions.put(toAdd, internalList.size());
+        columns.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds the listings to the end of the list as a single change to the backing list.
+     * The listings must not already exist in the list, or be the same as each other.
+     *
+     * @param toAdd The listings to add.
+     * @throws DuplicateListingException If a listing already exists in the list or is added twice.
+     */
+    public void addAll(List<Listing> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!listingsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateListingException();
+        }
+
+        for (int i = 0; i < toAdd.size(); i++) {
+            Listing listing = toAdd.get(i);
+            index(listing);
+            positions.put(listing, internalList.size() + i);
+            columns.add(listing);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the target listing in the list with the edited listing.
      * The target listing must exist in the list.
@@ -62,15 +230,23 @@ public class UniqueListingList implements Iterable<Listing> {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Listing existing = findEqual(target);
+        if (existing == null) {
             throw new ListingNotFoundException();
         }
 
-        if (!target.isSameListing(editedListing) && contains(editedListing)) {
+        Listing sameName = listingsByName.get(nameKey(editedListing.getName()));
+        Listing sameAddress = listingsByAddress.get(addressKey(editedListing.getAddress()));
+        if ((sameName != null && sameName != existing) || (sameAddress != null && sameAddress != existing)) {
             throw new DuplicateListingException();
         }
 
+        int index = positionOf(existing);
+        unindex(existing);
+        positions.remove(existing);
+        index(editedListing);
+        positions.put(editedListing, index);
+        columns.set(existing, editedListing);
         internalList.set(index, editedListing);
     }
 
@@ -83,9 +259,17 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void remove(Listing toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Listing existing = findEqual(toRemove);
+        if (existing == null) {
             throw new ListingNotFoundException();
         }
+
+        int index = positionOf(existing);
+        unindex(existing);
+        positions.remove(existing);
+        columns.remove(existing);
+        staleFrom = Math.min(staleFrom, index);
+        internalList.remove(index);
     }
 
     /**
@@ -95,6 +279,7 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void setListings(UniqueListingList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -111,33 +296,117 @@ public class UniqueListingList implements Iterable<Listing> {
             throw new DuplicateListingException();
         }
 
+        rebuildIndexes(listings);
         internalList.setAll(listings);
     }
 
     /**
      * Returns true if the provided list of listings contains only unique listings.
+     * Names and addresses are collected into hash sets in a single pass.
      *
      * @param listings The list of listings to check.
      * @return True if the list contains only unique listings, false otherwise.
      */
     private boolean listingsAreUnique(List<Listing> listings) {
-        for (int i = 0; i < listings.size() - 1; i++) {
-            for (int j = i + 1; j < listings.size(); j++) {
-                if (listings.get(i).isSameListing(listings.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        Set<String> addresses = new HashSet<>();
+        for (Listing listing : listings) {
+            if (!names.add(nameKey(listing.getName())) || !addresses.add(addressKey(listing.getAddress()))) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns the key under which a listing with the given name is indexed.
+     * Names are compared case-insensitively, as in {@link Name#equals(Object)}.
+     */
+    private static String nameKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the key under which a listing with the given address is indexed.
+     * Addresses are already trimmed and are compared exactly, as in {@link Address#equals(Object)}.
+     */
+    private static String addressKey(Address address) {
+        return address.value;
+    }
+
+    private void index(Listing listing) {
+        listingsByName.put(nameKey(listing.getName()), listing);
+        listingsByAddress.put(addressKey(listing.getAddress()), listing);
+        listingsById.put(listing.getId(), listing);
+        listingsByRegion.get(listing.getRegion()).add(listing);
+        rangeIndex.add(listing);
+    }
+
+    private void unindex(Listing listing) {
+        listingsByName.remove(nameKey(listing.getName()));
+        listingsByAddress.remove(addressKey(listing.getAddress()));
+        listingsById.remove(listing.getId(), listing);
+        listingsByRegion.get(listing.getRegion()).remove(listing);
+        rangeIndex.remove(listing);
+    }
+
+    /**
+     * Returns the first listing in the list that is equal to {@code listing}, or null if there is none.
+     * Since equal listings share a name or an address, only the listings indexed under those keys are checked.
+     */
+    private Listing findEqual(Listing listing) {
+        Listing sameName = listingsByName.get(nameKey(listing.getName()));
+        Listing sameAddress = listingsByAddress.get(addressKey(listing.getAddress()));
+        if (sameName == null || sameAddress == null || sameName == sameAddress) {
+            return sameName != null ? sameName : sameAddress;
+        }
+        return positionOf(sameName) < positionOf(sameAddress) ? sameName : sameAddress;
+    }
+
+    /**
+     * Returns the index of {@code listing} in the backing list, recomputing stale cached positions if needed.
+     * {@code listing} must be an element of the list.
+     */
+    private int positionOf(Listing listing) {
+        int position = positions.get(listing);
+        if (position < staleFrom) {
+            return position;
+        }
+
+        for (int i = staleFrom; i < internalList.size(); i++) {
+            Listing current = internalList.get(i);
+            positions.put(current, i);
+            if (current == listing) {
+                staleFrom = i + 1 < internalList.size() ? i + 1 : NO_STALE_POSITIONS;
+                return i;
+            }
+        }
+        throw new ListingNotFoundException();
+    }
+
+    private void rebuildIndexes(List<Listing> listings) {
+        listingsByName.clear();
+        listingsByAddress.clear();
+        listingsById.clear();
+        listingsByRegion.values().forEach(Set::clear);
+        rangeIndex.clear();
+        positions.clear();
+        for (int i = 0; i < listings.size(); i++) {
+            Listing listing = listings.get(i);
+            index(listing);
+            positions.put(listing, i);
+        }
+        columns.setAll(listings);
+        staleFrom = NO_STALE_POSITIONS;
+    }
+
     public ObservableList<Listing> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Listing> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
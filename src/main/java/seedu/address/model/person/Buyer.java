@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
 import seedu.address.model.tag.Tag;
 
@@ -12,7 +13,7 @@ import seedu.address.model.tag.Tag;
  */
 public class Buyer extends Person {
 
-    private Role role;
+    private final Role role;
     /**
      * Creates a Buyer with the specified details.
      *
@@ -44,6 +45,23 @@ public class Buyer extends Person {
         this.role = Role.BUYER;
     }
 
+    /**
+     * Creates a Buyer with the specified details and an existing id.
+     *
+     * @param id The id of the buyer.
+     * @param name The name of the buyer.
+     * @param phone The phone number of the buyer.
+     * @param email The email address of the buyer.
+     * @param tags The tags associated with the buyer.
+     * @param appointment The appointment associated with the buyer.
+     * @param remark The remark associated with the buyer.
+     */
+    public Buyer(Id id, Name name, Phone phone, Email email, Set<Tag> tags,
+                 Appointment appointment, String remark) {
+        super(id, name, phone, email, tags, appointment, remark);
+        this.role = Role.BUYER;
+    }
+
     @Override
     public Role getRole() {
         return role;
@@ -9,6 +9,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
 import seedu.address.model.tag.Tag;
 
@@ -18,13 +19,18 @@ import seedu.address.model.tag.Tag;
  */
 public abstract class Person {
 
+    private static final String DEFAULT_REMARK = "No remarks yet.";
+
+    // Surrogate identifier, kept across edits
+    private final Id id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     // Data fields
-    private String remark = "No remarks yet.";
+    private final String remark;
     private final Appointment appointment;
     private final Set<Tag> tags = new HashSet<>();
 
@@ -33,12 +39,7 @@ public abstract class Person {
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags,
                   Appointment appointment) {
-        requireAllNonNull(name, phone, appointment);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.appointment = appointment;
-        this.tags.addAll(tags);
+        this(Id.next(), name, phone, email, tags, appointment, DEFAULT_REMARK);
     }
 
     /**
@@ -46,7 +47,17 @@ public abstract class Person {
      */
     public Person(Name name, Phone phone, Email email, Set<Tag> tags,
                   Appointment appointment, String remark) {
-        requireAllNonNull(name, phone, appointment);
+        this(Id.next(), name, phone, email, tags, appointment, remark);
+    }
+
+    /**
+     * Every field must be present and not null, excluding remark.
+     * The person takes over the given {@code id}, such as that of the person it is an edited version of.
+     */
+    public Person(Id id, Name name, Phone phone, Email email, Set<Tag> tags,
+                  Appointment appointment, String remark) {
+        requireAllNonNull(id, name, phone, appointment);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -55,6 +66,10 @@ public abstract class Person {
         this.remark = remark;
     }
 
+    public Id getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -78,9 +93,6 @@ public abstract class Person {
     public String getRemark() {
         return remark;
     }
-    public void updateRemark(String newRemark) {
-        remark = newRemark;
-    }
 
     /**
      * Returns true if both persons have the same name.
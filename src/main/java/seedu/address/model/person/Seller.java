@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
 import seedu.address.model.tag.Tag;
 
@@ -12,7 +13,7 @@ import seedu.address.model.tag.Tag;
  */
 public class Seller extends Person {
 
-    private Role role;
+    private final Role role;
 
     /**
      * Creates a Seller with the specified details.
@@ -45,6 +46,23 @@ public class Seller extends Person {
         this.role = Role.SELLER;
     }
 
+    /**
+     * Creates a Seller with the specified details and an existing id.
+     *
+     * @param id The id of the seller.
+     * @param name The name of the seller.
+     * @param phone The phone number of the seller.
+     * @param email The email address of the seller.
+     * @param tags The tags associated with the seller.
+     * @param appointment The appointment associated with the seller.
+     * @param remark The remark associated with the seller.
+     */
+    public Seller(Id id, Name name, Phone phone, Email email, Set<Tag> tags,
+                  Appointment appointment, String remark) {
+        super(id, name, phone, email, tags, appointment, remark);
+        this.role = Role.SELLER;
+    }
+
     @Override
     public Role getRole() {
         return this.role;
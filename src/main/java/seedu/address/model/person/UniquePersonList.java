@@ -3,11 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.id.Id;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,20 +25,48 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are indexed by their case-folded name so that identity checks and lookups do not need to scan the list,
+ * and by their {@link Id} so that they can be resolved from references held elsewhere.
+ * The position of each person in the backing list is cached by identity; removals only mark the cached positions
+ * after the removed index as stale, and they are recomputed lazily up to the person being looked up.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<String, Person> personsByName = new HashMap<>();
+    private final Map<Id, Person> personsById = new HashMap<>();
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    private int staleFrom = NO_STALE_POSITIONS;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(nameKey(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code toFind}, or null if there is none.
+     */
+    public Person find(Person toFind) {
+        requireNonNull(toFind);
+        return personsByName.get(nameKey(toFind));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, or null if there is none.
+     */
+    public Person findById(Id id) {
+        requireNonNull(id);
+        return personsById.get(id);
     }
 
     /**
@@ -45,9 +78,32 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(nameKey(toAdd), toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change to the backing list.
+     * The persons must not already exist in the list, or have the same identity as each other.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Person> addedByName = indexByName(toAdd);
+        if (addedByName == null || addedByName.keySet().stream().anyMatch(personsByName::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        personsByName.putAll(addedByName);
+        for (int i = 0; i < toAdd.size(); i++) {
+            Person person = toAdd.get(i);
+            personsById.put(person.getId(), person);
+            positions.put(person, internalList.size() + i);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,8 +112,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person existing = findEqual(target);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
 
@@ -65,6 +121,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = positionOf(existing);
+        personsByName.remove(nameKey(existing));
+        personsById.remove(existing.getId(), existing);
+        positions.remove(existing);
+        personsByName.put(nameKey(editedPerson), editedPerson);
+        personsById.put(editedPerson.getId(), editedPerson);
+        positions.put(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +137,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = findEqual(toRemove);
+        if (existing == null) {
             throw new PersonNotFoundException();
         }
+
+        int index = positionOf(existing);
+        personsByName.remove(nameKey(existing));
+        personsById.remove(existing.getId(), existing);
+        positions.remove(existing);
+        internalList.remove(index);
+        staleFrom = Math.min(staleFrom, index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList, new HashMap<>(replacement.personsByName));
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +162,12 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> newPersonsByName = indexByName(persons);
+        if (newPersonsByName == null) {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons, newPersonsByName);
         internalList.setAll(persons);
     }
 
@@ -106,7 +180,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +209,67 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the key under which {@code person} is indexed, matching the case-insensitive comparison
+     * in {@link Person#isSamePerson(Person)}.
+     */
+    private static String nameKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}, or null if there is none.
+     * Since equal persons always share a name, only the person indexed under that name needs to be checked.
+     */
+    private Person findEqual(Person person) {
+        Person existing = personsByName.get(nameKey(person));
+        return existing != null && existing.equals(person) ? existing : null;
+    }
+
+    /**
+     * Returns the index of {@code person} in the backing list, recomputing stale cached positions if needed.
+     * {@code person} must be an element of the list.
+     */
+    private int positionOf(Person person) {
+        int position = positions.get(person);
+        if (position < staleFrom) {
+            return position;
+        }
+
+        for (int i = staleFrom; i < internalList.size(); i++) {
+            Person current = internalList.get(i);
+            positions.put(current, i);
+            if (current == person) {
+                staleFrom = i + 1 < internalList.size() ? i + 1 : NO_STALE_POSITIONS;
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
+    private void rebuildIndexes(List<Person> persons, Map<String, Person> newPersonsByName) {
+        personsByName.clear();
+        personsByName.putAll(newPersonsByName);
+        personsById.clear();
+        positions.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personsById.put(person.getId(), person);
+            positions.put(person, i);
+        }
+        staleFrom = NO_STALE_POSITIONS;
+    }
+
+    /**
+     * Returns {@code persons} indexed by name in a single pass, or null if {@code persons} contains
+     * persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<String, Person> indexByName(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(nameKey(person), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
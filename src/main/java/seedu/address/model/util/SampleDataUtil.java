@@ -1,6 +1,5 @@
 package seedu.address.model.util;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -64,8 +63,8 @@ public class SampleDataUtil {
     public static Listing[] sampleListings() {
         return new Listing[] {
             new Listing(new Name("RC4"), new Address("134 Clementi Ave"),
-                    new Price("200000", new BigDecimal("2000")), new Area("100"),
-                            Region.WEST, BERNICE, new HashSet<>()),
+                    new Price("200000"), new Area("100"),
+                            Region.WEST, BERNICE.getId(), new HashSet<>()),
         };
     }
 
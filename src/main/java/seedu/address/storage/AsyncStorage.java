@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that records changes on the caller's thread, so that a change is kept once it is reported as
+ * saved, and writes the data in full and backs it up on a single background writer thread, so that callers do not
+ * wait for that. Changes saved while a write is in progress are combined into one write of the latest data.
+ * A failed background write is passed to the handler set with {@link #setOnWriteFailure} as soon as it happens; the
+ * changes themselves have been recorded, so nothing is lost.
+ * Once no changes have been saved for {@link #IDLE_FLUSH_DELAY_MILLIS}, the wrapped {@code Storage} is flushed, so
+ * that a journal that has not grown enough to be compacted is not left to be replayed at the next start.
+ * All other operations are passed straight to the wrapped {@code Storage}.
+ */
+public class AsyncStorage implements Storage {
+
+    public static final String MESSAGE_WRITE_FAILED = "Your changes have been saved, but the data files could not be "
+            + "updated: %s. They will be updated again with your next changes.";
+
+    // Time without saved changes after which the wrapped storage is flushed
+    static final long IDLE_FLUSH_DELAY_MILLIS = 30_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ScheduledThreadPoolExecutor writer;
+    private final long idleFlushDelayMillis;
+
+    private volatile Consumer<IOException> onWriteFailure = failure -> { };
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyListings pendingListings;
+    private boolean isWriteScheduled;
+    private ScheduledFuture<?> idleFlush;
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through {@code storage}.
+     */
+    public AsyncStorage(Storage storage) {
+        this(storage, IDLE_FLUSH_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AsyncStorage} that flushes {@code storage} once no changes have been saved for
+     * {@code idleFlushDelayMillis}.
+     */
+    AsyncStorage(Storage storage, long idleFlushDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.idleFlushDelayMillis = idleFlushDelayMillis;
+        writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Idle flushes are rescheduled on every save, so the cancelled ones should not pile up in the queue
+        writer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Sets the handler that is called on the writer thread whenever writing the data in full or backing it up fails.
+     */
+    public void setOnWriteFailure(Consumer<IOException> onWriteFailure) {
+        requireNonNull(onWriteFailure);
+        this.onWriteFailure = onWriteFailure;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ Listings methods ==============================
+
+    @Override
+    public Path getListingsFilePath() {
+        return storage.getListingsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return storage.readListings(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
+        return storage.readListings(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        return storage.readListingsWithPendingAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings) throws IOException {
+        storage.saveListings(listings);
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings, Path filePath) throws IOException {
+        storage.saveListings(listings, filePath);
+    }
+
+    // ================ Journal methods ==============================
+
+    /**
+     * Records {@code changes}, then schedules snapshots of {@code addressBook} and {@code listings} to be written in
+     * full if that is due.
+     *
+     * @throws IOException if the changes could not be recorded.
+     */
+    @Override
+    public void saveChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        recordChanges(addressBook, listings, changes);
+        saveInFullIfDue(addressBook, listings);
+    }
+
+    /**
+     * Records {@code changes} through the wrapped {@code Storage} before returning, such as by appending them to the
+     * journal and forcing it to the storage device.
+     */
+    @Override
+    public void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        storage.recordChanges(addressBook, listings, changes);
+    }
+
+    /**
+     * Schedules snapshots of {@code addressBook} and {@code listings} to be written in full on the writer thread if
+     * that is due. Failures are passed to the handler set with {@link #setOnWriteFailure}.
+     */
+    @Override
+    public void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+        synchronized (this) {
+            pendingAddressBook = snapshotOf(addressBook, pendingAddressBook);
+            pendingListings = snapshotOf(listings, pendingListings);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writeInFullIfDue);
+            }
+            if (idleFlush != null) {
+                idleFlush.cancel(false);
+            }
+            idleFlush = writer.schedule(this::flushIfIdle, idleFlushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public List<ModelChange> readChanges() throws DataLoadingException {
+        return storage.readChanges();
+    }
+
+    @Override
+    public void setAsideChanges() {
+        storage.setAsideChanges();
+    }
+
+    @Override
+    public List<ModelChange> readSharedChanges() throws DataLoadingException {
+        return storage.readSharedChanges();
+    }
+
+    /**
+     * Waits for the scheduled writes, then flushes the wrapped {@code Storage}.
+     *
+     * @throws IOException if flushing failed.
+     */
+    @Override
+    public void flush(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        ReadOnlyAddressBook addressBookToFlush;
+        ReadOnlyListings listingsToFlush;
+        synchronized (this) {
+            pendingAddressBook = snapshotOf(addressBook, pendingAddressBook);
+            pendingListings = snapshotOf(listings, pendingListings);
+            addressBookToFlush = pendingAddressBook;
+            listingsToFlush = pendingListings;
+        }
+
+        Future<Void> flushed = writer.submit(() -> {
+            storage.flush(addressBookToFlush, listingsToFlush);
+            return null;
+        });
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the data files", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        return storage.backup(addressBook, listings);
+    }
+
+    @Override
+    public List<String> getBackupTimestamps() throws IOException {
+        return storage.getBackupTimestamps();
+    }
+
+    @Override
+    public List<ModelChange> readBackup(String timestamp) throws DataLoadingException {
+        return storage.readBackup(timestamp);
+    }
+
+    /**
+     * Writes the latest snapshots in full if that is due. Runs on the writer thread.
+     */
+    private void writeInFullIfDue() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyListings listings;
+        synchronized (this) {
+            isWriteScheduled = false;
+            addressBook = pendingAddressBook;
+            listings = pendingListings;
+        }
+
+        try {
+            storage.saveInFullIfDue(addressBook, listings);
+        } catch (IOException e) {
+            reportWriteFailure(e);
+        }
+    }
+
+    /**
+     * Flushes the wrapped {@code Storage} with the latest snapshots, unless a write is still scheduled.
+     * Runs on the writer thread.
+     */
+    private void flushIfIdle() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyListings listings;
+        synchronized (this) {
+            if (isWriteScheduled) {
+                return;
+            }
+            addressBook = pendingAddressBook;
+            listings = pendingListings;
+        }
+
+        try {
+            storage.flush(addressBook, listings);
+        } catch (IOException e) {
+            reportWriteFailure(e);
+        }
+    }
+
+    private void reportWriteFailure(IOException failure) {
+        // The journal is kept, so the changes are still saved
+        logger.warning("Failed to write the data files or the backup: " + StringUtil.getDetails(failure));
+        onWriteFailure.accept(failure);
+    }
+
+    /**
+     * Returns an immutable copy of {@code addressBook}, reusing {@code previous} if the data has not changed.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook, ReadOnlyAddressBook previous) {
+        if (previous != null && previous.getVersion() == addressBook.getVersion()) {
+            return previous;
+        }
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * Returns an immutable copy of {@code listings}, reusing {@code previous} if the data has not changed.
+     */
+    private static ReadOnlyListings snapshotOf(ReadOnlyListings listings, ReadOnlyListings previous) {
+        if (previous != null && previous.getVersion() == listings.getVersion()) {
+            return previous;
+        }
+        return new ListingsSnapshot(listings);
+    }
+
+    /**
+     * An immutable copy of the persons in an address book, which keeps the version of the address book.
+     * Only the list is copied. Persons have no mutators and are replaced in the address book when they are edited,
+     * so the writer thread can read them while the UI thread edits the address book.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An immutable copy of a list of listings, which keeps the version of the listings.
+     * Only the list is copied, as listings are replaced rather than modified when they are edited.
+     */
+    private static class ListingsSnapshot implements ReadOnlyListings {
+        private final ObservableList<Listing> listings;
+        private final long version;
+
+        ListingsSnapshot(ReadOnlyListings source) {
+            listings = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getListingList()));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Listing> getListingList() {
+            return listings;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
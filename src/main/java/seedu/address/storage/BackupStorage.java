@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+/**
+ * Represents incremental backups of the address book and listings, each identified by the time it was taken.
+ * A backup only records the persons and listings that changed since the backup before it, as {@link ModelChange}s,
+ * except for a full backup taken every so often, so that restoring a backup only needs the backups since the
+ * last full one.
+ */
+public interface BackupStorage {
+
+    /**
+     * Returns the directory that holds the backups.
+     */
+    Path getBackupDirectoryPath();
+
+    /**
+     * Backs up {@code addressBook} and {@code listings}.
+     *
+     * @return the timestamp of the new backup, or {@code Optional.empty()} if the data has not changed since the
+     *     last backup, in which case no backup is taken.
+     * @throws IOException if there was any problem writing the backup.
+     */
+    Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException;
+
+    /**
+     * Returns true if the last backup was taken long enough ago that a backup should be taken automatically.
+     */
+    boolean isBackupDue() throws IOException;
+
+    /**
+     * Returns the timestamps of all backups, oldest first.
+     */
+    List<String> getBackupTimestamps() throws IOException;
+
+    /**
+     * Returns the changes that turn empty data into the data backed up at {@code timestamp}.
+     *
+     * @throws DataLoadingException if there is no such backup, or it or a backup it builds on could not be read.
+     */
+    List<ModelChange> readBackup(String timestamp) throws DataLoadingException;
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.listing.Listing;
+
+/**
+ * A class to access Listings data stored as a binary snapshot on the hard disk.
+ */
+public class BinaryListingsStorage implements ListingStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryListingsStorage.class);
+
+    private Path filePath;
+
+    public BinaryListingsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getListingsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(addressBook, filePath);
+    }
+
+    /**
+     * Reads the listings without waiting for {@code addressBook}, as the clients are read from the snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        return readListings(new AddressBook(), filePath);
+    }
+
+    /**
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}.
+     * A snapshot keeps the clients of each listing in its string table, so clients are read from the snapshot
+     * rather than looked up in {@code addressBook}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Listings listings = new Listings();
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(filePath, BinarySnapshot.KIND_LISTINGS);
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                Listing listing = reader.readListing();
+                if (listings.hasListing(listing)) {
+                    throw new IllegalValueException(JsonSerializableListings.MESSAGE_DUPLICATE_LISTING);
+                }
+                if (listings.getListingById(listing.getId()) != null) {
+                    throw new IllegalValueException(JsonSerializableListings.MESSAGE_DUPLICATE_ID);
+                }
+                listings.addListing(listing);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return Optional.of(listings);
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings) throws IOException {
+        saveListings(listings, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveListings(ReadOnlyListings)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveListings(ReadOnlyListings listings, Path filePath) throws IOException {
+        requireNonNull(listings);
+        requireNonNull(filePath);
+
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_LISTINGS);
+        for (Listing listing : listings.getListingList()) {
+            writer.writeListing(listing);
+        }
+        writer.save(filePath);
+    }
+}
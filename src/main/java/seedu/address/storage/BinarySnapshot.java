@@ -0,0 +1,434 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Date;
+import seedu.address.model.appointment.From;
+import seedu.address.model.appointment.To;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Address;
+import seedu.address.model.listing.Area;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Price;
+import seedu.address.model.listing.Region;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The binary snapshot format of the data files.
+ * <p>
+ * A snapshot starts with a header holding {@link #MAGIC}, the format version and the kind of records it holds.
+ * It is followed by a table of all the distinct strings in the records, the records themselves and a CRC32
+ * checksum of all the preceding bytes. Records refer to strings by their index in the table, so repeated
+ * names, tags and addresses are stored only once, while ids, prices and areas are stored as fixed-width numbers.
+ * Listings refer to their clients by id. Snapshots of {@link #LEGACY_FORMAT_VERSION} embed the clients of each
+ * listing in full instead, and can still be read.
+ */
+class BinarySnapshot {
+
+    static final int MAGIC = 0x455A5342; // "EZSB"
+    static final short FORMAT_VERSION = 2;
+    static final short LEGACY_FORMAT_VERSION = 1;
+    static final byte KIND_ADDRESS_BOOK = 1;
+    static final byte KIND_LISTINGS = 2;
+
+    static final String MESSAGE_DAMAGED_SNAPSHOT = "Snapshot %s is damaged: %s";
+
+    // String index of a missing appointment field
+    private static final int NO_STRING = -1;
+    // Stored in place of a number that does not fit into a long, with the number in the string table instead
+    private static final long NOT_A_NUMBER = -1;
+    private static final byte ROLE_BUYER = 0;
+    private static final byte ROLE_SELLER = 1;
+
+    /**
+     * Writes records into a snapshot, which is saved once all records have been written.
+     */
+    static class Writer {
+        private final byte kind;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        private final DataOutputStream records = new DataOutputStream(recordBytes);
+        private int recordCount;
+
+        Writer(byte kind) {
+            this.kind = kind;
+        }
+
+        void writePerson(Person person) throws IOException {
+            writePersonFields(person);
+            recordCount++;
+        }
+
+        void writeListing(Listing listing) throws IOException {
+            records.writeLong(listing.getId().getValue());
+            writeString(listing.getName().fullName);
+            writeNumber(listing.getPrice().getFormattedValue());
+            writeNumber(listing.getArea().getArea());
+            records.writeByte(listing.getRegion().ordinal());
+            writeString(listing.getAddress().value);
+            records.writeLong(listing.getSellerId().getValue());
+            records.writeInt(listing.getBuyerIds().size());
+            for (Id buyerId : listing.getBuyerIds()) {
+                records.writeLong(buyerId.getValue());
+            }
+            recordCount++;
+        }
+
+        private void writePersonFields(Person person) throws IOException {
+            Appointment appointment = person.getAppointment();
+            records.writeLong(person.getId().getValue());
+            records.writeByte(person instanceof Buyer ? ROLE_BUYER : ROLE_SELLER);
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getRemark());
+            writeString(appointment.getDate() == Date.EMPTY_DATE ? null : appointment.getDate().toString());
+            writeString(appointment.getFrom() == From.EMPTY_FROM ? null : appointment.getFrom().toString());
+            writeString(appointment.getTo() == To.EMPTY_TO ? null : appointment.getTo().toString());
+            records.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(tag.tagName);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                records.writeInt(NO_STRING);
+                return;
+            }
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                stringIndexes.put(value, index);
+                strings.add(value);
+            }
+            records.writeInt(index);
+        }
+
+        private void writeNumber(String digits) throws IOException {
+            long number = parseNumber(digits);
+            records.writeLong(number);
+            if (number == NOT_A_NUMBER) {
+                writeString(digits);
+            }
+        }
+
+        /**
+         * Returns {@code digits} as a long, or {@code NOT_A_NUMBER} if it cannot be stored as one without
+         * changing its text.
+         */
+        private static long parseNumber(String digits) {
+            try {
+                long number = Long.parseLong(digits);
+                return number >= 0 && Long.toString(number).equals(digits) ? number : NOT_A_NUMBER;
+            } catch (NumberFormatException e) {
+                return NOT_A_NUMBER;
+            }
+        }
+
+        /**
+         * Saves the snapshot to {@code filePath}, replacing any existing file atomically.
+         */
+        void save(Path filePath) throws IOException {
+            requireNonNull(filePath);
+            FileUtil.writeToFileAtomically(filePath, out -> {
+                CRC32 checksum = new CRC32();
+                DataOutputStream snapshot = new DataOutputStream(new CheckedOutputStream(out, checksum));
+                snapshot.writeInt(MAGIC);
+                snapshot.writeShort(FORMAT_VERSION);
+                snapshot.writeByte(kind);
+                snapshot.writeInt(strings.size());
+                for (String string : strings) {
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    snapshot.writeInt(bytes.length);
+                    snapshot.write(bytes);
+                }
+                snapshot.writeInt(recordCount);
+                records.flush();
+                recordBytes.writeTo(snapshot);
+                snapshot.flush();
+                new DataOutputStream(out).writeInt((int) checksum.getValue());
+            });
+        }
+    }
+
+    /**
+     * Reads the records of a snapshot, after checking its header and checksum.
+     */
+    static class Reader {
+        private final ByteBuffer snapshot;
+        private final short version;
+        private final String[] stringTable;
+        private final int recordCount;
+
+        private final ValueCache<String> strings;
+        private final ValueCache<Name> names;
+        private final ValueCache<Phone> phones;
+        private final ValueCache<Email> emails;
+        private final ValueCache<Date> dates;
+        private final ValueCache<From> froms;
+        private final ValueCache<To> tos;
+        private final ValueCache<Tag> tags;
+        private final ValueCache<Address> addresses;
+
+        private Reader(ByteBuffer snapshot, short version, String[] stringTable, int recordCount) {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.stringTable = stringTable;
+            this.recordCount = recordCount;
+            strings = new ValueCache<>(Function.identity());
+            names = new ValueCache<>(Name::new);
+            phones = new ValueCache<>(Phone::new);
+            emails = new ValueCache<>(Email::new);
+            dates = new ValueCache<>(Date::new);
+            froms = new ValueCache<>(From::new);
+            tos = new ValueCache<>(To::new);
+            tags = new ValueCache<>(Tag::new);
+            addresses = new ValueCache<>(Address::new);
+        }
+
+        /**
+         * Opens the snapshot in {@code filePath}, which must hold records of the given kind.
+         *
+         * @throws IOException if the file could not be read or is not a valid snapshot.
+         */
+        static Reader open(Path filePath, byte kind) throws IOException {
+            requireNonNull(filePath);
+            byte[] bytes = Files.readAllBytes(filePath);
+            try {
+                ByteBuffer snapshot = ByteBuffer.wrap(bytes);
+                short version = checkHeader(snapshot, kind);
+                checkChecksum(bytes);
+                int stringCount = snapshot.getInt();
+                if (stringCount < 0 || stringCount > snapshot.remaining() / Integer.BYTES) {
+                    throw new IOException("invalid string table size " + stringCount);
+                }
+                String[] strings = new String[stringCount];
+                for (int i = 0; i < strings.length; i++) {
+                    int length = snapshot.getInt();
+                    strings[i] = new String(bytes, snapshot.position(), length, StandardCharsets.UTF_8);
+                    snapshot.position(snapshot.position() + length);
+                }
+                int recordCount = snapshot.getInt();
+                return new Reader(snapshot, version, strings, recordCount);
+            } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IOException(String.format(MESSAGE_DAMAGED_SNAPSHOT, filePath, "unexpected end of file"), e);
+            } catch (IOException e) {
+                throw new IOException(String.format(MESSAGE_DAMAGED_SNAPSHOT, filePath, e.getMessage()), e);
+            }
+        }
+
+        /**
+         * Checks the header of the snapshot and returns its format version.
+         */
+        private static short checkHeader(ByteBuffer snapshot, byte kind) throws IOException {
+            if (snapshot.getInt() != MAGIC) {
+                throw new IOException("not a snapshot");
+            }
+            short version = snapshot.getShort();
+            if (version != FORMAT_VERSION && version != LEGACY_FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + version);
+            }
+            if (snapshot.get() != kind) {
+                throw new IOException("unexpected kind of records");
+            }
+            return version;
+        }
+
+        private static void checkChecksum(byte[] bytes) throws IOException {
+            int dataLength = bytes.length - Integer.BYTES;
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, dataLength);
+            if ((int) checksum.getValue() != ByteBuffer.wrap(bytes, dataLength, Integer.BYTES).getInt()) {
+                throw new IOException("checksum mismatch");
+            }
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Reads the next record as a person.
+         *
+         * @throws IOException if the record is damaged.
+         * @throws IllegalValueException if the person violates any data constraints.
+         */
+        Person readPerson() throws IOException, IllegalValueException {
+            try {
+                return readPersonFields();
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Snapshot record is damaged", e);
+            }
+        }
+
+        /**
+         * Reads the next record as a listing.
+         *
+         * @throws IOException if the record is damaged.
+         * @throws IllegalValueException if the listing violates any data constraints.
+         */
+        Listing readListing() throws IOException, IllegalValueException {
+            try {
+                Id id = readId();
+                Name name = requireField(names.read(), JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT,
+                        Name.class.getSimpleName());
+                String price = readNumber(Price.class.getSimpleName());
+                String area = readNumber(Area.class.getSimpleName());
+                int region = snapshot.get();
+                Address address = requireField(addresses.read(), JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT,
+                        Address.class.getSimpleName());
+                Id sellerId = readClientId();
+                int buyerCount = snapshot.getInt();
+                Set<Id> buyerIds = new HashSet<>();
+                for (int i = 0; i < buyerCount; i++) {
+                    buyerIds.add(readClientId());
+                }
+
+                if (!Price.isValidPrice(price)) {
+                    throw new IllegalValueException(Price.MESSAGE_CONSTRAINTS);
+                }
+                if (!Area.isValidArea(area)) {
+                    throw new IllegalValueException(Area.MESSAGE_CONSTRAINTS);
+                }
+                if (region < 0 || region >= Region.values().length) {
+                    throw new IllegalValueException(Region.MESSAGE_CONSTRAINTS);
+                }
+                return new Listing(id, name, address, new Price(price), new Area(area),
+                        Region.values()[region], sellerId, buyerIds);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Snapshot record is damaged", e);
+            }
+        }
+
+        /**
+         * Reads the id of a client of a listing, which snapshots of {@link #LEGACY_FORMAT_VERSION} embed in full.
+         */
+        private Id readClientId() throws IOException, IllegalValueException {
+            return version == LEGACY_FORMAT_VERSION ? readPersonFields().getId() : readId();
+        }
+
+        private Person readPersonFields() throws IOException, IllegalValueException {
+            try {
+                Id id = readId();
+                byte role = snapshot.get();
+                Name name = requirePersonField(names.read(), Name.class.getSimpleName());
+                Phone phone = requirePersonField(phones.read(), Phone.class.getSimpleName());
+                Email email = requirePersonField(emails.read(), Email.class.getSimpleName());
+                String remark = requirePersonField(strings.read(), "Remark");
+                Appointment appointment = new Appointment(dates.readOrElse(Date.EMPTY_DATE),
+                        froms.readOrElse(From.EMPTY_FROM), tos.readOrElse(To.EMPTY_TO));
+                int tagCount = snapshot.getInt();
+                Set<Tag> personTags = new HashSet<>();
+                for (int i = 0; i < tagCount; i++) {
+                    personTags.add(requirePersonField(tags.read(), Tag.class.getSimpleName()));
+                }
+
+                if (role == ROLE_BUYER) {
+                    return new Buyer(id, name, phone, email, personTags, appointment, remark);
+                } else if (role == ROLE_SELLER) {
+                    return new Seller(id, name, phone, email, personTags, appointment, remark);
+                } else {
+                    throw new IOException("Snapshot record has an unknown role " + role);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+
+        private static <T> T requirePersonField(T value, String fieldName) throws IllegalValueException {
+            return requireField(value, JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, fieldName);
+        }
+
+        private static <T> T requireField(T value, String messageFormat, String fieldName)
+                throws IllegalValueException {
+            if (value == null) {
+                throw new IllegalValueException(String.format(messageFormat, fieldName));
+            }
+            return value;
+        }
+
+        private Id readId() throws IllegalValueException {
+            long id = snapshot.getLong();
+            if (!Id.isValidId(id)) {
+                throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+            }
+            return Id.of(id);
+        }
+
+        private String readNumber(String fieldName) throws IllegalValueException {
+            long number = snapshot.getLong();
+            return number == NOT_A_NUMBER
+                    ? requireField(strings.read(), JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT, fieldName)
+                    : Long.toString(number);
+        }
+
+        /**
+         * The model values created from the strings in the string table, so that a string used by many records
+         * is validated and converted only once.
+         */
+        private class ValueCache<T> {
+            private final Function<String, T> parser;
+            private final List<T> values;
+
+            ValueCache(Function<String, T> parser) {
+                this.parser = parser;
+                values = new ArrayList<>(Collections.nCopies(stringTable.length, null));
+            }
+
+            /**
+             * Reads a string index and returns the value for that string, or null if there is no string.
+             *
+             * @throws IllegalArgumentException if the string is not a valid value.
+             */
+            T read() {
+                int index = snapshot.getInt();
+                if (index == NO_STRING) {
+                    return null;
+                }
+                T value = values.get(index);
+                if (value == null) {
+                    value = parser.apply(stringTable[index]);
+                    values.set(index, value);
+                }
+                return value;
+            }
+
+            T readOrElse(T missingValue) {
+                T value = read();
+                return value == null ? missingValue : value;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Signals that changes could not be saved, as another instance of the app sharing the data directory changed the
+ * same data at the same time.
+ */
+public class ConflictingChangeException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public ConflictingChangeException(String message) {
+        super(message);
+    }
+}
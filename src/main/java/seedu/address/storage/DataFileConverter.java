@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+/**
+ * Converts data files from one storage format to another, such as from JSON to binary snapshots and back.
+ */
+public class DataFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConverter.class);
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no address book to convert.
+     * @throws DataLoadingException if reading the address book from {@code source} failed.
+     * @throws IOException if saving the address book to {@code target} failed.
+     */
+    public static boolean convertAddressBook(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Saves the listings read from {@code source} to {@code target}, with their clients resolved against
+     * {@code addressBook}.
+     *
+     * @return false if {@code source} has no listings to convert.
+     * @throws DataLoadingException if reading the listings from {@code source} failed.
+     * @throws IOException if saving the listings to {@code target} failed.
+     */
+    public static boolean convertListings(ListingStorage source, ListingStorage target,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException, IOException {
+        requireAllNonNull(source, target, addressBook);
+
+        Optional<ReadOnlyListings> listings = source.readListings(addressBook);
+        if (!listings.isPresent()) {
+            return false;
+        }
+        target.saveListings(listings.get());
+        logger.info("Converted " + source.getListingsFilePath() + " to " + target.getListingsFilePath());
+        return true;
+    }
+
+    /**
+     * Saves the address book read from {@code addressBookSource} and the listings read from {@code listingsSource}
+     * to {@code target} in one transaction, replacing any data in it.
+     *
+     * @return false if {@code addressBookSource} has no address book to convert.
+     * @throws DataLoadingException if reading the address book or listings failed.
+     * @throws IOException if saving the data to {@code target} failed.
+     */
+    public static boolean convertToDatabase(AddressBookStorage addressBookSource, ListingStorage listingsSource,
+            DatabaseStorage target) throws DataLoadingException, IOException {
+        requireAllNonNull(addressBookSource, listingsSource, target);
+
+        Optional<ReadOnlyAddressBook> addressBook = addressBookSource.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        ReadOnlyListings listings = listingsSource.readListings(addressBook.get()).orElseGet(Listings::new);
+        target.saveAll(addressBook.get(), listings);
+        logger.info("Converted " + addressBookSource.getAddressBookFilePath() + " and "
+                + listingsSource.getListingsFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+/**
+ * Watches the JSON data files for changes made outside the app, such as by scripts, on a background thread.
+ * When a data file changes, it is read again, and its new data is passed to a {@code ChangeHandler} together with
+ * the data it held before, so that only the persons and listings that changed need to be applied.
+ * Files written by the app itself are read again as well, so the handler should skip data it already has.
+ */
+public class DataFileWatcher implements AutoCloseable {
+
+    // Time to wait after a data file changes for further changes, so that a file being written is read once it is done
+    static final long SETTLE_TIME_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final JsonAddressBookStorage addressBookStorage;
+    private final JsonListingsStorage listingsStorage;
+    private final ChangeHandler handler;
+    private final Path addressBookFilePath;
+    private final Path listingsFilePath;
+
+    private WatchService watchService;
+
+    // The data last read from the data files. Only used by the watcher thread once it has started.
+    private ReadOnlyAddressBook addressBook = new AddressBook();
+    private ReadOnlyListings listings = new Listings();
+
+    /**
+     * Creates a {@code DataFileWatcher} for the data files of {@code addressBookStorage} and, if it is not null,
+     * {@code listingsStorage}, that passes the data read from changed files to {@code handler}.
+     */
+    public DataFileWatcher(JsonAddressBookStorage addressBookStorage, JsonListingsStorage listingsStorage,
+            ChangeHandler handler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(handler);
+        this.addressBookStorage = addressBookStorage;
+        this.listingsStorage = listingsStorage;
+        this.handler = handler;
+        addressBookFilePath = addressBookStorage.getAddressBookFilePath().toAbsolutePath().normalize();
+        listingsFilePath = listingsStorage == null
+                ? null
+                : listingsStorage.getListingsFilePath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Reads the data files as they are now, then starts watching them for changes on a background thread.
+     *
+     * @throws IOException if the folders of the data files cannot be watched.
+     */
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> folders = new LinkedHashSet<>();
+        folders.add(addressBookFilePath.getParent());
+        if (listingsFilePath != null) {
+            folders.add(listingsFilePath.getParent());
+        }
+        for (Path folder : folders) {
+            Files.createDirectories(folder);
+            folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        }
+
+        Thread watcher = new Thread(() -> {
+            readDataFiles();
+            watch();
+        }, "data-file-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching " + folders + " for data files changed outside the app.");
+    }
+
+    /**
+     * Stops watching the data files.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Reads the data files as they are now, as the data that later changes are compared to.
+     * Files that cannot be loaded are taken to be empty.
+     */
+    void readDataFiles() {
+        try {
+            addressBook = addressBookStorage.readAddressBookFile(addressBookFilePath).orElseGet(AddressBook::new);
+            if (listingsStorage != null) {
+                listings = listingsStorage.readListingsFile(addressBook, listingsFilePath, false)
+                        .orElseGet(Listings::new);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data files could not be loaded to watch them for changes: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                Set<Path> changedFiles = new HashSet<>();
+                addChangedFiles(watchService.take(), changedFiles);
+                // Changes made while waiting are read together
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_TIME_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    addChangedFiles(key, changedFiles);
+                }
+                checkForChanges(changedFiles);
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the data files.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void addChangedFiles(WatchKey key, Set<Path> changedFiles) {
+        Path folder = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Some changes were missed, so both data files are read again
+                changedFiles.add(addressBookFilePath);
+                if (listingsFilePath != null) {
+                    changedFiles.add(listingsFilePath);
+                }
+            } else {
+                changedFiles.add(folder.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Reads the data files among {@code changedFiles} again, and passes their new data to the handler.
+     * A data file that cannot be loaded, such as one that is still being written, or that no longer exists, is left
+     * to be read again when it next changes.
+     */
+    void checkForChanges(Set<Path> changedFiles) {
+        boolean isAddressBookChanged = changedFiles.contains(addressBookFilePath);
+        boolean isListingsChanged = listingsFilePath != null && changedFiles.contains(listingsFilePath);
+        if (!isAddressBookChanged && !isListingsChanged) {
+            return;
+        }
+
+        ReadOnlyAddressBook currentAddressBook = addressBook;
+        ReadOnlyListings currentListings = listings;
+        try {
+            if (isAddressBookChanged) {
+                Optional<ReadOnlyAddressBook> readAddressBook =
+                        addressBookStorage.readAddressBookFile(addressBookFilePath);
+                currentAddressBook = readAddressBook.orElse(addressBook);
+            }
+            if (isListingsChanged) {
+                Optional<ReadOnlyListings> readListings =
+                        listingsStorage.readListingsFile(currentAddressBook, listingsFilePath, false);
+                currentListings = readListings.orElse(listings);
+            }
+        } catch (DataLoadingException e) {
+            logger.info("Data file changed outside the app could not be loaded, and will be read again when it "
+                    + "next changes: " + StringUtil.getDetails(e));
+            return;
+        }
+
+        handler.handle(addressBook, currentAddressBook, listings, currentListings);
+        addressBook = currentAddressBook;
+        listings = currentListings;
+    }
+
+    /**
+     * Handles the data read from data files that have changed.
+     */
+    @FunctionalInterface
+    public interface ChangeHandler {
+        /**
+         * Called on the watcher thread with the data the data files held before they changed, and the data they
+         * hold now. The data of a file that has not changed is passed as both.
+         */
+        void handle(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook,
+                ReadOnlyListings previousListings, ReadOnlyListings listings);
+    }
+}
@@ -0,0 +1,564 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook and Listings data stored in an embedded H2 database file on the hard disk.
+ * Each person and listing is a row keyed by its id, holding the record as a single line of json, with listings
+ * referring to their clients by id. Changes are saved as upserts and deletes of single rows, all changes of one
+ * command in one transaction, and records can be read a page at a time in the order of their ids.
+ * A connection to the database is kept open until {@link #close()}, so that saving changes does not open the
+ * database file each time.
+ */
+public class DatabaseStorage implements AddressBookStorage, ListingStorage {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    /** The id to read the first page after, as all ids are positive. */
+    public static final long BEFORE_FIRST_ID = 0;
+    public static final String MESSAGE_INVALID_FILE_NAME = "The database file name should end with "
+            + DATABASE_FILE_SUFFIX;
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseStorage.class);
+    private static final int READ_PAGE_SIZE = 1000;
+    private static final String PERSONS_TABLE = "persons";
+    private static final String LISTINGS_TABLE = "listings";
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS %s "
+            + "(id BIGINT PRIMARY KEY, data CHARACTER LARGE OBJECT NOT NULL)";
+    private static final String UPSERT = "MERGE INTO %s (id, data) KEY (id) VALUES (?, ?)";
+    private static final String DELETE = "DELETE FROM %s WHERE id = ?";
+    private static final String DELETE_ALL = "DELETE FROM %s";
+    private static final String SELECT_PAGE = "SELECT id, data FROM %s WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM %s";
+    private static final String MESSAGE_UNRESOLVED_CLIENTS = "Listings in %s refer to clients that are not in the "
+            + "address book, with ids %s.";
+
+    private Path filePath;
+    // Connection to the database at filePath, opened when it is first used
+    private Connection connection;
+
+    /**
+     * Creates a {@code DatabaseStorage} for the database at {@code filePath}, which is created when data is first
+     * saved to it.
+     *
+     * @param filePath location of the database, ending with {@link #DATABASE_FILE_SUFFIX}.
+     */
+    public DatabaseStorage(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(isValidFilePath(filePath), MESSAGE_INVALID_FILE_NAME);
+        this.filePath = filePath;
+    }
+
+    private static boolean isValidFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(DATABASE_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getListingsFilePath() {
+        return filePath;
+    }
+
+    // ================ Reading ==============================
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try (Lease lease = lease(filePath)) {
+            Connection connection = lease.getConnection();
+            Page<Person> page = readPersons(connection, BEFORE_FIRST_ID, READ_PAGE_SIZE);
+            addressBook.addPersons(page.getItems());
+            while (!page.isLast()) {
+                page = readPersons(connection, page.getLastId(), READ_PAGE_SIZE);
+                addressBook.addPersons(page.getItems());
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}.
+     * The listings cannot be loaded if they refer to clients not in {@code addressBook}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        ListingClients clients = new ListingClients(addressBook.getPersonList());
+        Listings listings = new Listings();
+        try (Lease lease = lease(filePath)) {
+            Connection connection = lease.getConnection();
+            Page<Listing> page = readListings(connection, clients, BEFORE_FIRST_ID, READ_PAGE_SIZE);
+            listings.addListings(page.getItems());
+            while (!page.isLast()) {
+                page = readListings(connection, clients, page.getLastId(), READ_PAGE_SIZE);
+                listings.addListings(page.getItems());
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(listings);
+    }
+
+    /**
+     * Returns the persons with ids greater than {@code afterId}, up to {@code limit} of them, in the order of their
+     * ids. The next page is read after the {@link Page#getLastId() last id} of this one.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Page<Person> readPersons(long afterId, int limit) throws DataLoadingException {
+        try (Lease lease = lease(filePath)) {
+            return readPersons(lease.getConnection(), afterId, limit);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the listings with ids greater than {@code afterId}, up to {@code limit} of them, in the order of their
+     * ids, with their clients looked up in {@code clients}.
+     *
+     * @throws DataLoadingException if loading the data from storage failed, or if any of the listings refers to
+     *     clients that are not in {@code clients}.
+     */
+    public synchronized Page<Listing> readListings(ListingClients clients, long afterId, int limit)
+            throws DataLoadingException {
+        requireNonNull(clients);
+        try (Lease lease = lease(filePath)) {
+            return readListings(lease.getConnection(), clients, afterId, limit);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the database.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public int getPersonCount() throws DataLoadingException {
+        return count(PERSONS_TABLE);
+    }
+
+    /**
+     * Returns the number of listings in the database.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public int getListingCount() throws DataLoadingException {
+        return count(LISTINGS_TABLE);
+    }
+
+    private Page<Person> readPersons(Connection connection, long afterId, int limit) throws DataLoadingException,
+            SQLException {
+        List<Person> persons = new ArrayList<>();
+        long lastId = afterId;
+        int rowCount = 0;
+        try (PreparedStatement select = connection.prepareStatement(String.format(SELECT_PAGE, PERSONS_TABLE))) {
+            select.setLong(1, afterId);
+            select.setInt(2, limit);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    rowCount++;
+                    lastId = rows.getLong(1);
+                    persons.add(JsonUtil.fromJsonString(rows.getString(2), JsonAdaptedPerson.class).toModelType());
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return new Page<>(persons, lastId, rowCount < limit);
+    }
+
+    private Page<Listing> readListings(Connection connection, ListingClients clients, long afterId, int limit)
+            throws DataLoadingException, SQLException {
+        List<Listing> listings = new ArrayList<>();
+        long lastId = afterId;
+        int rowCount = 0;
+        try (PreparedStatement select = connection.prepareStatement(String.format(SELECT_PAGE, LISTINGS_TABLE))) {
+            select.setLong(1, afterId);
+            select.setInt(2, limit);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    rowCount++;
+                    lastId = rows.getLong(1);
+                    JsonAdaptedListing jsonListing =
+                            JsonUtil.fromJsonString(rows.getString(2), JsonAdaptedListing.class);
+                    jsonListing.toModelType(clients).ifPresent(listings::add);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (!clients.getUnresolvedClientIds().isEmpty()) {
+            String message = String.format(MESSAGE_UNRESOLVED_CLIENTS, filePath, clients.getUnresolvedClientIds());
+            logger.warning(message);
+            throw new UnresolvedClientsException(message);
+        }
+        return new Page<>(listings, lastId, rowCount < limit);
+    }
+
+    private synchronized int count(String table) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        try (Lease lease = lease(filePath);
+             Statement statement = lease.getConnection().createStatement();
+             ResultSet result = statement.executeQuery(String.format(COUNT, table))) {
+            result.next();
+            return result.getInt(1);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    // ================ Writing ==============================
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Replaces all persons in the database in one transaction.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        inTransaction(filePath, connection -> replacePersons(connection, addressBook));
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings) throws IOException {
+        saveListings(listings, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveListings(ReadOnlyListings)}.
+     * Replaces all listings in the database in one transaction.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public void saveListings(ReadOnlyListings listings, Path filePath) throws IOException {
+        requireNonNull(listings);
+        requireNonNull(filePath);
+
+        inTransaction(filePath, connection -> replaceListings(connection, listings));
+    }
+
+    /**
+     * Replaces all persons and listings in the database with those of {@code addressBook} and {@code listings}
+     * in one transaction, so that the database is left unchanged if either cannot be saved.
+     *
+     * @throws IOException if there was any problem writing to the database.
+     */
+    public void saveAll(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(listings);
+
+        inTransaction(filePath, connection -> {
+            replacePersons(connection, addressBook);
+            replaceListings(connection, listings);
+        });
+    }
+
+    /**
+     * Applies {@code changes} to the rows of the persons and listings they affect, in order and in one transaction.
+     *
+     * @throws IOException if there was any problem writing to the database, in which case none of the changes
+     *     are saved.
+     */
+    public void saveChanges(List<ModelChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        inTransaction(filePath, connection -> {
+            try (PreparedStatement upsertPerson = connection.prepareStatement(String.format(UPSERT, PERSONS_TABLE));
+                 PreparedStatement deletePerson = connection.prepareStatement(String.format(DELETE, PERSONS_TABLE));
+                 PreparedStatement upsertListing = connection.prepareStatement(String.format(UPSERT, LISTINGS_TABLE));
+                 PreparedStatement deleteListing = connection.prepareStatement(String.format(DELETE, LISTINGS_TABLE));
+                 Statement statement = connection.createStatement()) {
+                for (ModelChange change : changes) {
+                    switch (change.getType()) {
+                    case PERSON_SAVED:
+                        setRow(upsertPerson, change.getId(), new JsonAdaptedPerson(change.getPerson()));
+                        upsertPerson.executeUpdate();
+                        break;
+                    case PERSON_DELETED:
+                        deletePerson.setLong(1, change.getId().getValue());
+                        deletePerson.executeUpdate();
+                        break;
+                    case PERSONS_CLEARED:
+                        statement.executeUpdate(String.format(DELETE_ALL, PERSONS_TABLE));
+                        break;
+                    case LISTING_SAVED:
+                        setRow(upsertListing, change.getId(),
+                                new JsonAdaptedListing(change.getListing()));
+                        upsertListing.executeUpdate();
+                        break;
+                    case LISTING_DELETED:
+                        deleteListing.setLong(1, change.getId().getValue());
+                        deleteListing.executeUpdate();
+                        break;
+                    case LISTINGS_CLEARED:
+                        statement.executeUpdate(String.format(DELETE_ALL, LISTINGS_TABLE));
+                        break;
+                    default:
+                        throw new AssertionError("Unknown change type: " + change.getType());
+                    }
+                }
+            }
+        });
+    }
+
+    private static void replacePersons(Connection connection, ReadOnlyAddressBook addressBook)
+            throws SQLException, IOException {
+        try (Statement statement = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(String.format(UPSERT, PERSONS_TABLE))) {
+            statement.executeUpdate(String.format(DELETE_ALL, PERSONS_TABLE));
+            for (Person person : addressBook.getPersonList()) {
+                setRow(insert, person.getId(), new JsonAdaptedPerson(person));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static void replaceListings(Connection connection, ReadOnlyListings listings)
+            throws SQLException, IOException {
+        try (Statement statement = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(String.format(UPSERT, LISTINGS_TABLE))) {
+            statement.executeUpdate(String.format(DELETE_ALL, LISTINGS_TABLE));
+            for (Listing listing : listings.getListingList()) {
+                setRow(insert, listing.getId(), new JsonAdaptedListing(listing));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static void setRow(PreparedStatement statement, Id id, Object record) throws SQLException, IOException {
+        statement.setLong(1, id.getValue());
+        statement.setString(2, JsonUtil.toSingleLineJsonString(record));
+    }
+
+    /**
+     * Runs {@code work} in one transaction on the database at {@code filePath}, which is committed if
+     * {@code work} completes and rolled back otherwise.
+     */
+    private synchronized void inTransaction(Path filePath, TransactionWork work) throws IOException {
+        try (Lease lease = lease(filePath)) {
+            Connection connection = lease.getConnection();
+            connection.setAutoCommit(false);
+            try {
+                work.run(connection);
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to write to database " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the connection kept open to the database, which closes the database file. The connection is opened
+     * again if the database is used afterwards.
+     *
+     * @throws IOException if there was any problem closing the database.
+     */
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Failed to close database " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns a lease on the connection kept open to the database if {@code filePath} is the location of this
+     * storage's database, opening it if needed, or on a new connection to the database at {@code filePath}
+     * otherwise.
+     */
+    private Lease lease(Path filePath) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            return new Lease(connect(filePath), true);
+        }
+        if (connection == null) {
+            connection = connect(filePath);
+        }
+        return new Lease(connection, false);
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, creating the database and its tables if needed.
+     * The database is closed once its last connection is closed.
+     */
+    private static Connection connect(Path filePath) throws SQLException {
+        checkArgument(isValidFilePath(filePath), MESSAGE_INVALID_FILE_NAME);
+        String fileName = filePath.toAbsolutePath().toString();
+        String url = "jdbc:h2:file:" + fileName.substring(0, fileName.length() - DATABASE_FILE_SUFFIX.length());
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(String.format(CREATE_TABLE, PERSONS_TABLE));
+            statement.executeUpdate(String.format(CREATE_TABLE, LISTINGS_TABLE));
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * A connection used for one read or write, which is closed afterwards unless it is kept open.
+     */
+    private static class Lease implements AutoCloseable {
+        private final Connection connection;
+        private final boolean isClosedAfterUse;
+
+        Lease(Connection connection, boolean isClosedAfterUse) {
+            this.connection = connection;
+            this.isClosedAfterUse = isClosedAfterUse;
+        }
+
+        Connection getConnection() {
+            return connection;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (isClosedAfterUse) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Work done on the database in one transaction.
+     */
+    @FunctionalInterface
+    private interface TransactionWork {
+        void run(Connection connection) throws SQLException, IOException;
+    }
+
+    /**
+     * Records read from the database in the order of their ids.
+     */
+    public static class Page<T> {
+        private final List<T> items;
+        private final long lastId;
+        private final boolean isLast;
+
+        Page(List<T> items, long lastId, boolean isLast) {
+            this.items = Collections.unmodifiableList(items);
+            this.lastId = lastId;
+            this.isLast = isLast;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * Returns the id of the last record read, which is the id to read the next page after.
+         */
+        public long getLastId() {
+            return lastId;
+        }
+
+        /**
+         * Returns true if there are no more records after this page.
+         */
+        public boolean isLast() {
+            return isLast;
+        }
+    }
+}
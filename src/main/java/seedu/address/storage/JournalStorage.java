@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
+
+/**
+ * Represents a journal of the {@link ModelChange}s made since the data files were last written in full.
+ * The journal is split into segments, so that the segments covered by a full write can be discarded
+ * while changes are still being appended.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the directory that holds the journal segments.
+     */
+    Path getJournalDirectoryPath();
+
+    /**
+     * Returns the changes recorded in all segments of the journal, in the order they were made.
+     * Reading stops at the first damaged record, such as one cut short by a crash while it was being written, so that
+     * no change is returned without the changes before it. The segments from the damaged one on are set aside.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    List<ModelChange> readJournal() throws DataLoadingException;
+
+    /**
+     * Sets aside the closed segments, as their changes could not be replayed, so that they are neither read again nor
+     * deleted once the data files are written.
+     */
+    void setAsideSegments();
+
+    /**
+     * Appends {@code changes} to the current segment as a single record and forces it to the storage device.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendToJournal(List<ModelChange> changes) throws IOException;
+
+    /**
+     * Returns the number of bytes in the current segment.
+     */
+    long getCurrentSegmentSize();
+
+    /**
+     * Closes the current segment so that later changes are appended to a new segment.
+     *
+     * @return the number of the last closed segment.
+     */
+    long closeSegment();
+
+    /**
+     * Deletes the segments up to and including {@code lastSegment}, whose changes have been written in full.
+     * @throws IOException if there was any problem deleting the segments.
+     */
+    void deleteSegments(long lastSegment) throws IOException;
+}
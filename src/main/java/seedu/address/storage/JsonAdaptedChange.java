@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link ModelChange}.
+ */
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Change's type is not recognised!";
+
+    private final String type;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedListing listing;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type, @JsonProperty("id") Long id,
+                             @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("listing") JsonAdaptedListing listing) {
+        this.type = type;
+        this.id = id;
+        this.person = person;
+        this.listing = listing;
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(ModelChange source) {
+        type = source.getType().name();
+        id = source.getId() == null ? null : source.getId().getValue();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        listing = source.getListing() == null ? null : new JsonAdaptedListing(source.getListing());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ModelChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ModelChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (parseType()) {
+        case PERSON_SAVED:
+            return ModelChange.personSaved(toModelPerson());
+        case PERSON_DELETED:
+            return ModelChange.personDeleted(toModelId());
+        case PERSONS_CLEARED:
+            return ModelChange.personsCleared();
+        case LISTING_SAVED:
+            return ModelChange.listingSaved(toModelListing());
+        case LISTING_DELETED:
+            return ModelChange.listingDeleted(toModelId());
+        case LISTINGS_CLEARED:
+            return ModelChange.listingsCleared();
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    /**
+     * Returns the type of this change.
+     *
+     * @throws IllegalValueException if the type is missing or not recognised.
+     */
+    ModelChange.Type getType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        return parseType();
+    }
+
+    /**
+     * Returns the id of the saved or deleted person or listing, without validating it.
+     */
+    Long getId() {
+        return id;
+    }
+
+    private ModelChange.Type parseType() throws IllegalValueException {
+        try {
+            return ModelChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private Id toModelId() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
+        }
+        if (!Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+        return Id.of(id);
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Person.class.getSimpleName()));
+        }
+        return person.toModelType();
+    }
+
+    private Listing toModelListing() throws IllegalValueException {
+        if (listing == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Listing.class.getSimpleName()));
+        }
+        return listing.toModelType();
+    }
+}
@@ -1,16 +1,18 @@
 package seedu.address.storage;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -21,79 +23,165 @@ import seedu.address.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Listing}.
+ * The seller and buyers are referred to by their ids. Files saved before listings referred to their clients by id
+ * embed the clients in full instead, and those clients are looked up in the address book when the listing is
+ * converted.
  */
 public class JsonAdaptedListing {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Listing's %s field is missing.";
 
+    private final Long id;
     private final String listingName;
     private final String price;
     private final String area;
     private final String region;
     private final String address;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedPerson seller;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long sellerId;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> buyers = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Long> buyerIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListing} with the given listing details and no id.
+     */
+    public JsonAdaptedListing(String listingName, String price, String area, String region, String address,
+                              JsonAdaptedPerson seller, List<JsonAdaptedPerson> buyers) {
+        this(null, listingName, price, area, region, address, seller, buyers);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedListing} with the given listing details and embedded clients.
+     * The id may be missing in files saved before ids were assigned.
+     */
+    public JsonAdaptedListing(Long id, String listingName, String price, String area, String region, String address,
+                              JsonAdaptedPerson seller, List<JsonAdaptedPerson> buyers) {
+        this(id, listingName, price, area, region, address, seller, null, buyers, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedListing} with the given listing details.
+     * Each client is either embedded or referred to by id. Files saved before client ids were introduced only
+     * have embedded clients.
      */
     @JsonCreator
-    public JsonAdaptedListing(@JsonProperty("name") String listingName, @JsonProperty("price") String price,
-                             @JsonProperty("area") String area, @JsonProperty("region") String region,
-                             @JsonProperty("address") String address, @JsonProperty("seller") JsonAdaptedPerson seller,
-                              @JsonProperty("buyers") List<JsonAdaptedPerson> buyers) {
+    public JsonAdaptedListing(@JsonProperty("id") Long id,
+                              @JsonProperty("name") String listingName, @JsonProperty("price") String price,
+                              @JsonProperty("area") String area, @JsonProperty("region") String region,
+                              @JsonProperty("address") String address, @JsonProperty("seller") JsonAdaptedPerson seller,
+                              @JsonProperty("sellerId") Long sellerId,
+                              @JsonProperty("buyers") List<JsonAdaptedPerson> buyers,
+                              @JsonProperty("buyerIds") List<Long> buyerIds) {
+        this.id = id;
         this.listingName = listingName;
         this.price = price;
         this.area = area;
         this.region = region;
         this.address = address;
         this.seller = seller;
+        this.sellerId = sellerId;
         if (buyers != null) {
             this.buyers.addAll(buyers);
         }
+        if (buyerIds != null) {
+            this.buyerIds.addAll(buyerIds);
+        }
     }
 
     /**
      * Converts a given {@code Listing} into this class for Jackson use.
      */
     public JsonAdaptedListing(Listing source) {
+        id = source.getId().getValue();
         listingName = source.getName().fullName;
         price = source.getPrice().getFormattedValue();
         area = source.getArea().toString();
         region = source.getRegion().name();
         address = source.getAddress().value;
-        seller = new JsonAdaptedPerson(source.getSeller());
-        buyers.addAll(source.getBuyers().stream()
-                .map(JsonAdaptedPerson::new)
+        seller = null;
+        sellerId = source.getSellerId().getValue();
+        buyerIds.addAll(source.getBuyerIds().stream()
+                .map(Id::getValue)
                 .collect(Collectors.toList()));
     }
 
     /**
-     * Converts this Jackson-friendly adapted listing object into the model's {@code Listing} object.
+     * Returns true if any client of this listing is embedded rather than referred to by id.
+     */
+    public boolean hasEmbeddedClients() {
+        return seller != null || !buyers.isEmpty();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted listing object into the model's {@code Listing} object, without
+     * checking that its clients exist. Embedded clients are referred to by the ids they were saved with.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted listing.
      */
     public Listing toModelType() throws IllegalValueException {
         handleExceptions();
 
-        final List<Person> listingBuyers = new ArrayList<>();
-        for (JsonAdaptedPerson tag : buyers) {
-            listingBuyers.add(tag.toModelType());
+        final Set<Id> modelBuyerIds = new HashSet<>();
+        for (JsonAdaptedPerson buyer : buyers) {
+            modelBuyerIds.add(buyer.toModelType().getId());
+        }
+        for (Long buyerId : buyerIds) {
+            modelBuyerIds.add(Id.of(buyerId));
+        }
+        final Id modelSellerId = seller != null ? seller.toModelType().getId() : Id.of(sellerId);
+
+        return toModelType(modelSellerId, modelBuyerIds);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted listing object into the model's {@code Listing} object, looking up
+     * its clients in {@code clients}.
+     *
+     * @return an empty {@code Optional} if any of its clients is not in {@code clients}.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted listing.
+     */
+    Optional<Listing> toModelType(ListingClients clients) throws IllegalValueException {
+        handleExceptions();
+
+        boolean isResolved = true;
+        final Set<Id> modelBuyerIds = new HashSet<>();
+        for (JsonAdaptedPerson buyer : buyers) {
+            Id modelBuyerId = clients.resolve(buyer.toModelType());
+            isResolved &= modelBuyerId != null;
+            modelBuyerIds.add(modelBuyerId);
         }
+        for (Long buyerId : buyerIds) {
+            Id modelBuyerId = clients.resolve(buyerId);
+            isResolved &= modelBuyerId != null;
+            modelBuyerIds.add(modelBuyerId);
+        }
+        final Id modelSellerId = seller != null ? clients.resolve(seller.toModelType()) : clients.resolve(sellerId);
+        isResolved &= modelSellerId != null;
+
+        return isResolved ? Optional.of(toModelType(modelSellerId, modelBuyerIds)) : Optional.empty();
+    }
 
+    private Listing toModelType(Id modelSellerId, Set<Id> modelBuyerIds) {
         final Name modelListingName = new Name(listingName);
-        final Price modelPrice = new Price(price, new BigDecimal(price));
+        final Price modelPrice = new Price(price);
         final Area modelArea = new Area(area);
         final Region modelRegion = Region.fromString(region);
         final Address modelAddress = new Address(address);
-        final Person modelSeller = seller.toModelType();
-        final Set<Person> modelBuyers = new HashSet<>(listingBuyers);
+        final Id modelId = id == null ? Id.next() : Id.of(id);
 
-        return new Listing(modelListingName, modelAddress, modelPrice, modelArea, modelRegion,
-                modelSeller, modelBuyers);
+        return new Listing(modelId, modelListingName, modelAddress, modelPrice, modelArea, modelRegion,
+                modelSellerId, modelBuyerIds);
     }
 
     private void handleExceptions() throws IllegalValueException {
+        if (id != null && !Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+
         if (listingName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -134,8 +222,14 @@ public class JsonAdaptedListing {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
 
-        if (seller == null) {
+        if (seller == null && sellerId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
         }
+
+        boolean hasInvalidClientId = (sellerId != null && !Id.isValidId(sellerId))
+                || buyerIds.stream().anyMatch(buyerId -> buyerId == null || !Id.isValidId(buyerId));
+        if (hasInvalidClientId) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
     }
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Email;
@@ -26,6 +27,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -34,16 +36,27 @@ class JsonAdaptedPerson {
     private final String role;
     private final String remark;
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, JsonAdaptedAppointment appointment,
+                             List<JsonAdaptedTag> tags, String role, String remark) {
+        this(null, name, phone, email, appointment, tags, role, remark);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * The id may be missing in files saved before ids were assigned.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
                              @JsonProperty("appointment") JsonAdaptedAppointment appointment,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("role") String role,
                              @JsonProperty("remark") String remark) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -59,6 +72,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().getValue();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -88,20 +102,25 @@ class JsonAdaptedPerson {
         final Email modelEmail = new Email(email);
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Appointment modelAppointment = appointment.toModelType();
+        final Id modelId = id == null ? Id.next() : Id.of(id);
 
-        return createPerson(modelName, modelPhone, modelEmail, modelTags, modelAppointment, remark);
+        return createPerson(modelId, modelName, modelPhone, modelEmail, modelTags, modelAppointment, remark);
     }
 
-    private Person createPerson(Name name, Phone phone,
+    private Person createPerson(Id id, Name name, Phone phone,
             Email email, Set<Tag> tags, Appointment appointment, String remark) {
         if (role.equals("buyer")) {
-            return new Buyer(name, phone, email, tags, appointment, remark);
+            return new Buyer(id, name, phone, email, tags, appointment, remark);
         } else {
-            return new Seller(name, phone, email, tags, appointment, remark);
+            return new Seller(id, name, phone, email, tags, appointment, remark);
         }
     }
 
     private void handleExceptions() throws IllegalValueException {
+        if (id != null && !Id.isValidId(id)) {
+            throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
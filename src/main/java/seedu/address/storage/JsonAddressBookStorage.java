@@ -7,12 +7,15 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +25,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int parallelLoadThreshold;
+    private final DataFileEncoding encoding;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that validates and converts the persons after the first
+     * {@code parallelLoadThreshold} in parallel when reading the data.
+     */
+    public JsonAddressBookStorage(Path filePath, int parallelLoadThreshold) {
+        this(filePath, parallelLoadThreshold, DataFileEncoding.PLAIN);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that also saves the data in {@code encoding}.
+     * Files in any encoding can be read.
+     */
+    public JsonAddressBookStorage(Path filePath, int parallelLoadThreshold, DataFileEncoding encoding) {
+        requireNonNull(encoding);
         this.filePath = filePath;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.encoding = encoding;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,21 +62,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the data file cannot be loaded, the most recent of its rotated copies that can be loaded is read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return RotatedCopies.readWithFallback(filePath, (fileToRead, isCopy) -> readAddressBookFile(fileToRead));
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+    /**
+     * Reads the data file at {@code filePath} itself, without falling back to its rotated copies.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        // Persons are converted while the file is still being parsed, and added in the order they were parsed
+        AddressBook addressBook = new AddressBook();
+        ParallelConverter<JsonAdaptedPerson, Person> converter = new ParallelConverter<>(
+                JsonAdaptedPerson::toModelType, person -> JsonSerializableAddressBook.addToAddressBook(addressBook,
+                        person), parallelLoadThreshold);
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFileWithPositions(filePath,
+                    JsonSerializableAddressBook.PERSONS_PROPERTY, JsonAdaptedPerson.class, converter);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            converter.finish();
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +102,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The current version of the file is kept as a rotated copy.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,7 +110,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        RotatedCopies.rotate(filePath);
+        // Persons are converted one at a time while they are written, instead of all at once up front
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_PROPERTY, () ->
+                addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).iterator(), encoding);
     }
 }
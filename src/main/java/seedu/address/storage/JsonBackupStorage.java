@@ -0,0 +1,478 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access backups stored as json lines on the hard disk.
+ * <p>
+ * Each backup is a file in the backup directory, named after the time it was taken. Its first line names the
+ * backup before it by the SHA-256 hash of that backup's content, and each following line saves or deletes one
+ * person or listing. Each saved person or listing is in turn identified by the hash of its line, so a backup
+ * only records the persons and listings whose content hash differs from the backup before it. Every
+ * {@code fullBackupInterval}-th backup is a full backup that records all of them.
+ * <p>
+ * A backup is restored by reading the backups from the last full one up to it, one line at a time, keeping only
+ * the latest line of each person and listing, so that the data of the backups in between is never built.
+ */
+public class JsonBackupStorage implements BackupStorage {
+
+    public static final int DEFAULT_FULL_BACKUP_INTERVAL = 24;
+    public static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    static final String MESSAGE_UNKNOWN_BACKUP = "There is no backup taken at %s.";
+    static final String MESSAGE_BROKEN_CHAIN = "Backup %s does not follow the backup before it.";
+    static final String MESSAGE_NO_FULL_BACKUP = "There is no full backup to restore %s from.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonBackupStorage.class);
+    private static final Pattern BACKUP_FILE_NAME = Pattern.compile("backup-(\\d{8}-\\d{6})(-full)?\\.jsonl");
+    private static final String BACKUP_FILE_NAME_FORMAT = "backup-%s%s.jsonl";
+    private static final String FULL_BACKUP_SUFFIX = "-full";
+
+    private final Path backupDirectory;
+    private final int fullBackupInterval;
+    private final Duration autoBackupInterval;
+    private final Clock clock;
+
+    // The state of the latest backup, read from the backup files when it is first needed
+    private BackupChain latest;
+    private boolean isLatestRead;
+    // Content hashes of the persons and listings in the latest backup, keyed by the immutable objects themselves
+    private Map<Object, String> hashesByRecord = new IdentityHashMap<>();
+    private LocalDateTime lastBackupTime;
+
+    /**
+     * Creates a {@code JsonBackupStorage} that takes a full backup every {@code fullBackupInterval} backups, and
+     * considers a backup due once {@code autoBackupInterval} has passed since the last one.
+     * A zero {@code autoBackupInterval} means backups are never due.
+     */
+    public JsonBackupStorage(Path backupDirectory, int fullBackupInterval, Duration autoBackupInterval) {
+        this(backupDirectory, fullBackupInterval, autoBackupInterval, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code JsonBackupStorage} that reads the time of each backup from {@code clock}.
+     */
+    JsonBackupStorage(Path backupDirectory, int fullBackupInterval, Duration autoBackupInterval, Clock clock) {
+        requireAllNonNull(backupDirectory, autoBackupInterval, clock);
+        this.backupDirectory = backupDirectory;
+        this.fullBackupInterval = Math.max(1, fullBackupInterval);
+        this.autoBackupInterval = autoBackupInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getBackupDirectoryPath() {
+        return backupDirectory;
+    }
+
+    @Override
+    public synchronized Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings)
+            throws IOException {
+        requireAllNonNull(addressBook, listings);
+
+        BackupChain previous = getLatest();
+        boolean isFull = previous == null || previous.deltaCount + 1 >= fullBackupInterval;
+        Map<Object, String> hashes = new IdentityHashMap<>();
+        BackupChain next = new BackupChain(false);
+        List<String> lines = new ArrayList<>();
+        int changedCount = addRecords(addressBook.getPersonList(), Person::getId, ModelChange::personSaved,
+                ModelChange::personDeleted, previous == null ? null : previous.personHashes, next.personHashes,
+                isFull, hashes, lines);
+        changedCount += addRecords(listings.getListingList(), Listing::getId, ModelChange::listingSaved,
+                ModelChange::listingDeleted, previous == null ? null : previous.listingHashes, next.listingHashes,
+                isFull, hashes, lines);
+        LocalDateTime now = LocalDateTime.now(clock).withNano(0);
+        if (previous != null && changedCount == 0) {
+            hashesByRecord = hashes;
+            lastBackupTime = now;
+            return Optional.empty();
+        }
+
+        NavigableMap<String, Path> backupFiles = getBackupFiles();
+        if (!backupFiles.isEmpty()) {
+            // Backups are named in the order they were taken, even if taken within a second or the clock goes back
+            LocalDateTime lastTaken = LocalDateTime.parse(backupFiles.lastKey(), TIMESTAMP_FORMAT);
+            if (!now.isAfter(lastTaken)) {
+                now = lastTaken.plusSeconds(1);
+            }
+        }
+        String timestamp = now.format(TIMESTAMP_FORMAT);
+        String header = JsonUtil.toSingleLineJsonString(new JsonBackupHeader(isFull ? null : previous.fileHash));
+        MessageDigest fileDigest = newDigest();
+        FileUtil.writeToFileAtomically(getBackupPath(timestamp, isFull), out -> {
+            Writer writer = new OutputStreamWriter(new DigestOutputStream(out, fileDigest), StandardCharsets.UTF_8);
+            writer.write(header + "\n");
+            for (String line : lines) {
+                writer.write(line + "\n");
+            }
+            writer.flush();
+        });
+
+        next.timestamp = timestamp;
+        next.fileHash = HexFormat.of().formatHex(fileDigest.digest());
+        next.deltaCount = isFull ? 0 : previous.deltaCount + 1;
+        latest = next;
+        hashesByRecord = hashes;
+        lastBackupTime = now;
+        logger.info("Took " + (isFull ? "a full" : "an incremental") + " backup at " + timestamp + " with "
+                + changedCount + " changed records");
+        return Optional.of(timestamp);
+    }
+
+    /**
+     * Records the content hash of each of {@code records} in {@code hashes} and {@code currentHashes}, and adds a
+     * line to {@code lines} for each record that is not in {@code previousHashes} with the same hash, or for each
+     * record if {@code isFull}, and for each record in {@code previousHashes} that is no longer in
+     * {@code records}, unless {@code isFull}.
+     *
+     * @return the number of records that were added, changed or removed since the previous backup.
+     */
+    private <T> int addRecords(List<T> records, Function<T, Id> getId, Function<T, ModelChange> toSavedChange,
+            Function<Id, ModelChange> toDeletedChange, Map<Long, String> previousHashes,
+            Map<Long, String> currentHashes, boolean isFull, Map<Object, String> hashes, List<String> lines)
+            throws IOException {
+        int changedCount = 0;
+        for (T record : records) {
+            long id = getId.apply(record).getValue();
+            // Records are immutable, so a record from the previous backup still has the hash computed then
+            String hash = hashesByRecord.get(record);
+            String line = null;
+            if (hash == null) {
+                line = toLine(toSavedChange.apply(record));
+                hash = hash(line);
+            }
+            hashes.put(record, hash);
+            currentHashes.put(id, hash);
+
+            boolean isChanged = previousHashes == null || !hash.equals(previousHashes.get(id));
+            if (isChanged) {
+                changedCount++;
+            }
+            if (isChanged || isFull) {
+                lines.add(line != null ? line : toLine(toSavedChange.apply(record)));
+            }
+        }
+
+        if (previousHashes != null) {
+            for (Long id : previousHashes.keySet()) {
+                if (!currentHashes.containsKey(id)) {
+                    changedCount++;
+                    if (!isFull) {
+                        lines.add(toLine(toDeletedChange.apply(Id.of(id))));
+                    }
+                }
+            }
+        }
+        return changedCount;
+    }
+
+    @Override
+    public synchronized boolean isBackupDue() throws IOException {
+        if (autoBackupInterval.isZero() || autoBackupInterval.isNegative()) {
+            return false;
+        }
+        if (lastBackupTime == null) {
+            NavigableMap<String, Path> backupFiles = getBackupFiles();
+            if (backupFiles.isEmpty()) {
+                return true;
+            }
+            lastBackupTime = LocalDateTime.parse(backupFiles.lastKey(), TIMESTAMP_FORMAT);
+        }
+        return !LocalDateTime.now(clock).isBefore(lastBackupTime.plus(autoBackupInterval));
+    }
+
+    @Override
+    public List<String> getBackupTimestamps() throws IOException {
+        return new ArrayList<>(getBackupFiles().keySet());
+    }
+
+    @Override
+    public List<ModelChange> readBackup(String timestamp) throws DataLoadingException {
+        requireNonNull(timestamp);
+
+        BackupChain chain = readChain(timestamp, true);
+        List<ModelChange> changes = new ArrayList<>();
+        try {
+            changes.add(ModelChange.personsCleared());
+            for (JsonAdaptedChange change : chain.personChanges.values()) {
+                changes.add(change.toModelType());
+            }
+            changes.add(ModelChange.listingsCleared());
+            for (JsonAdaptedChange change : chain.listingChanges.values()) {
+                changes.add(change.toModelType());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in backup " + timestamp + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the state of the latest backup, or null if there are no backups or they cannot be read, in which
+     * case the next backup is a full one.
+     */
+    private BackupChain getLatest() throws IOException {
+        if (isLatestRead) {
+            return latest;
+        }
+        NavigableMap<String, Path> backupFiles = getBackupFiles();
+        if (!backupFiles.isEmpty()) {
+            try {
+                latest = readChain(backupFiles.lastKey(), false);
+            } catch (DataLoadingException e) {
+                logger.warning("Failed to read the latest backup, so the next backup will be a full one: "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        isLatestRead = true;
+        return latest;
+    }
+
+    /**
+     * Reads the backups from the last full backup up to the one taken at {@code timestamp}, in order.
+     *
+     * @param keepChanges whether to keep the latest change of each person and listing, besides their hashes.
+     */
+    private BackupChain readChain(String timestamp, boolean keepChanges) throws DataLoadingException {
+        NavigableMap<String, Path> backupFiles;
+        try {
+            backupFiles = getBackupFiles();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (!backupFiles.containsKey(timestamp)) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_UNKNOWN_BACKUP, timestamp)));
+        }
+
+        NavigableMap<String, Path> backupsUpTo = backupFiles.headMap(timestamp, true);
+        String fullBackup = backupsUpTo.descendingKeySet().stream()
+                .filter(candidate -> isFullBackup(backupsUpTo.get(candidate)))
+                .findFirst()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_NO_FULL_BACKUP, timestamp))));
+
+        BackupChain chain = new BackupChain(keepChanges);
+        for (Map.Entry<String, Path> backupFile : backupsUpTo.tailMap(fullBackup, true).entrySet()) {
+            try {
+                readBackupFile(backupFile.getValue(), chain);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error reading from backup " + backupFile.getValue() + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            chain.timestamp = backupFile.getKey();
+        }
+        return chain;
+    }
+
+    /**
+     * Applies the lines of the backup in {@code file} to {@code chain} one at a time.
+     */
+    private static void readBackupFile(Path file, BackupChain chain) throws IOException, IllegalValueException {
+        MessageDigest fileDigest = newDigest();
+        boolean isFull = isFullBackup(file);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new DigestInputStream(Files.newInputStream(file), fileDigest), StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IOException(String.format(MESSAGE_BROKEN_CHAIN, file.getFileName()));
+            }
+            JsonBackupHeader header = JsonUtil.fromJsonString(headerLine, JsonBackupHeader.class);
+            if (!isFull && (chain.fileHash == null || !chain.fileHash.equals(header.parent))) {
+                throw new IOException(String.format(MESSAGE_BROKEN_CHAIN, file.getFileName()));
+            }
+            if (isFull) {
+                chain.clear();
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    chain.apply(JsonUtil.fromJsonString(line, JsonAdaptedChange.class), hash(line));
+                }
+            }
+        }
+        chain.fileHash = HexFormat.of().formatHex(fileDigest.digest());
+        chain.deltaCount = isFull ? 0 : chain.deltaCount + 1;
+    }
+
+    /**
+     * Returns the backup files in the backup directory, keyed by their timestamps in the order they were taken.
+     */
+    private NavigableMap<String, Path> getBackupFiles() throws IOException {
+        TreeMap<String, Path> backupFiles = new TreeMap<>();
+        if (!Files.isDirectory(backupDirectory)) {
+            return backupFiles;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(backupDirectory)) {
+            for (Path file : files) {
+                Matcher matcher = BACKUP_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    backupFiles.put(matcher.group(1), file);
+                }
+            }
+        }
+        return backupFiles;
+    }
+
+    private Path getBackupPath(String timestamp, boolean isFull) {
+        return backupDirectory.resolve(String.format(BACKUP_FILE_NAME_FORMAT, timestamp,
+                isFull ? FULL_BACKUP_SUFFIX : ""));
+    }
+
+    private static boolean isFullBackup(Path file) {
+        Matcher matcher = BACKUP_FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() && matcher.group(2) != null;
+    }
+
+    private static String toLine(ModelChange change) throws IOException {
+        return JsonUtil.toSingleLineJsonString(new JsonAdaptedChange(change));
+    }
+
+    private static String hash(String line) {
+        return HexFormat.of().formatHex(newDigest().digest(line.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * The persons and listings recorded by a backup and the backups it builds on, keyed by id.
+     */
+    private static class BackupChain {
+        private final Map<Long, String> personHashes = new LinkedHashMap<>();
+        private final Map<Long, String> listingHashes = new LinkedHashMap<>();
+        // The latest change of each person and listing, only kept when the backup is to be restored
+        private final Map<Long, JsonAdaptedChange> personChanges;
+        private final Map<Long, JsonAdaptedChange> listingChanges;
+        private String timestamp;
+        private String fileHash;
+        private int deltaCount;
+
+        BackupChain(boolean keepChanges) {
+            personChanges = keepChanges ? new LinkedHashMap<>() : null;
+            listingChanges = keepChanges ? new LinkedHashMap<>() : null;
+        }
+
+        void clear() {
+            personHashes.clear();
+            listingHashes.clear();
+            if (personChanges != null) {
+                personChanges.clear();
+                listingChanges.clear();
+            }
+        }
+
+        /**
+         * Applies {@code change}, whose line in the backup has the content hash {@code hash}.
+         */
+        void apply(JsonAdaptedChange change, String hash) throws IllegalValueException {
+            Long id = change.getId();
+            switch (change.getType()) {
+            case PERSON_SAVED:
+                apply(personHashes, personChanges, id, hash, change);
+                break;
+            case PERSON_DELETED:
+                apply(personHashes, personChanges, id, null, null);
+                break;
+            case LISTING_SAVED:
+                apply(listingHashes, listingChanges, id, hash, change);
+                break;
+            case LISTING_DELETED:
+                apply(listingHashes, listingChanges, id, null, null);
+                break;
+            default:
+                throw new IllegalValueException(JsonAdaptedChange.MESSAGE_INVALID_TYPE);
+            }
+        }
+
+        private static void apply(Map<Long, String> hashes, Map<Long, JsonAdaptedChange> changes, Long id,
+                String hash, JsonAdaptedChange change) throws IllegalValueException {
+            if (id == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedChange.MISSING_FIELD_MESSAGE_FORMAT,
+                        Id.class.getSimpleName()));
+            }
+            if (hash == null) {
+                hashes.remove(id);
+                if (changes != null) {
+                    changes.remove(id);
+                }
+                return;
+            }
+            hashes.put(id, hash);
+            if (changes != null) {
+                changes.put(id, change);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly first line of a backup file.
+     */
+    static class JsonBackupHeader {
+        private final String parent;
+
+        /**
+         * Constructs a {@code JsonBackupHeader} naming the backup before it by its content hash, which is null for
+         * a full backup.
+         */
+        @JsonCreator
+        JsonBackupHeader(@JsonProperty("parent") String parent) {
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModelChange;
+
+/**
+ * A class to access the journal of changes stored as json lines on the hard disk.
+ * Each segment is a file in the journal directory, and each line of a segment holds the changes made by one command.
+ * Segments that are not replayed are moved to a subdirectory of the journal directory, where they are neither read
+ * nor deleted, so that their changes can still be recovered by hand.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("journal-(\\d+)\\.jsonl");
+    private static final String SEGMENT_FILE_NAME_FORMAT = "journal-%d.jsonl";
+    private static final String SET_ASIDE_DIRECTORY_PREFIX = "unreplayed-";
+    private static final long NO_SEGMENT = 0;
+    private static final long INTACT = -1;
+
+    private final Path journalDirectory;
+
+    private FileChannel currentSegment;
+    private long currentSegmentSize;
+    private long lastSegment = -1;
+    // Segments up to this one could not be set aside, so they are never deleted
+    private long lastKeptSegment = NO_SEGMENT;
+
+    public JsonJournalStorage(Path journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    @Override
+    public Path getJournalDirectoryPath() {
+        return journalDirectory;
+    }
+
+    @Override
+    public synchronized List<ModelChange> readJournal() throws DataLoadingException {
+        List<ModelChange> changes = new ArrayList<>();
+        try {
+            TreeMap<Long, Path> segments = listSegments();
+            lastSegment = Math.max(lastSegment, segments.isEmpty() ? NO_SEGMENT : segments.lastKey());
+            for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+                long intactLength = readSegment(segment.getValue(), changes);
+                if (intactLength != INTACT) {
+                    setAsideDamagedSegments(segments.tailMap(segment.getKey(), true), intactLength);
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalDirectory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return changes;
+    }
+
+    /**
+     * Adds the changes recorded in {@code segment} to {@code changes}, stopping at the first damaged record.
+     *
+     * @return the number of bytes before the damaged record, or {@code INTACT} if there is none.
+     */
+    private long readSegment(Path segment, List<ModelChange> changes) throws IOException {
+        int lineNumber = 0;
+        long intactLength = 0;
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                try {
+                    List<ModelChange> recordedChanges = new ArrayList<>();
+                    for (JsonAdaptedChange change : JsonUtil.fromJsonString(line, JsonAdaptedChange[].class)) {
+                        recordedChanges.add(change.toModelType());
+                    }
+                    changes.addAll(recordedChanges);
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Stopping the replay at line " + lineNumber + " of journal segment " + segment
+                            + ": " + e);
+                    return intactLength;
+                }
+            }
+            intactLength += line.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        return INTACT;
+    }
+
+    /**
+     * Copies {@code segments}, the first of which is damaged after {@code intactLength} bytes, aside. The first
+     * segment is then cut short before the damage and the others are deleted, so that the journal only holds the
+     * changes that were read. If they cannot be copied, the segments are kept in place instead.
+     */
+    private void setAsideDamagedSegments(SortedMap<Long, Path> segments, long intactLength) throws IOException {
+        if (!copyAside(segments)) {
+            return;
+        }
+        Path damagedSegment = segments.get(segments.firstKey());
+        try (FileChannel channel = FileChannel.open(damagedSegment, StandardOpenOption.WRITE)) {
+            channel.truncate(intactLength);
+            channel.force(false);
+        }
+        for (Path segment : segments.tailMap(segments.firstKey() + 1).values()) {
+            Files.delete(segment);
+        }
+    }
+
+    @Override
+    public synchronized void setAsideSegments() {
+        TreeMap<Long, Path> segments;
+        try {
+            segments = listSegments();
+        } catch (IOException e) {
+            logger.warning("Failed to list journal segments, keeping all of them: " + e);
+            lastKeptSegment = Long.MAX_VALUE;
+            return;
+        }
+        if (currentSegment != null) {
+            segments.remove(lastSegment);
+        }
+        if (copyAside(segments)) {
+            try {
+                for (Path segment : segments.values()) {
+                    Files.delete(segment);
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to delete journal segments that were set aside, keeping them: " + e);
+                lastKeptSegment = Math.max(lastKeptSegment, segments.lastKey());
+            }
+        }
+    }
+
+    /**
+     * Copies {@code segments} to a new subdirectory of the journal directory.
+     * If they cannot be copied, they are kept from being deleted instead.
+     *
+     * @return true if the segments were copied.
+     */
+    private boolean copyAside(SortedMap<Long, Path> segments) {
+        if (segments.isEmpty()) {
+            return true;
+        }
+        Path directory;
+        try {
+            directory = Files.createTempDirectory(journalDirectory, SET_ASIDE_DIRECTORY_PREFIX);
+            for (Path segment : segments.values()) {
+                Files.copy(segment, directory.resolve(segment.getFileName()));
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to set aside journal segments, keeping them in place: " + e);
+            lastKeptSegment = Math.max(lastKeptSegment, segments.lastKey());
+            return false;
+        }
+        logger.warning("Set aside journal segments that were not replayed in " + directory);
+        return true;
+    }
+
+    @Override
+    public synchronized void appendToJournal(List<ModelChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedChange> record = changes.stream().map(JsonAdaptedChange::new).collect(Collectors.toList());
+        ByteBuffer bytes = ByteBuffer.wrap((JsonUtil.toSingleLineJsonString(record) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        try {
+            if (currentSegment == null) {
+                openNextSegment();
+            }
+            while (bytes.hasRemaining()) {
+                currentSegmentSize += currentSegment.write(bytes);
+            }
+            currentSegment.force(false);
+        } catch (IOException e) {
+            // A partly written record must not be followed by later records, so they go to a new segment
+            closeSegment();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized long getCurrentSegmentSize() {
+        return currentSegmentSize;
+    }
+
+    @Override
+    public synchronized long closeSegment() {
+        if (currentSegment != null) {
+            try {
+                currentSegment.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close journal segment: " + e);
+            }
+            currentSegment = null;
+            currentSegmentSize = 0;
+        }
+        if (lastSegment < 0) {
+            try {
+                lastSegment = findLastSegment();
+            } catch (IOException e) {
+                logger.warning("Failed to list journal segments: " + e);
+                return NO_SEGMENT;
+            }
+        }
+        return lastSegment;
+    }
+
+    @Override
+    public synchronized void deleteSegments(long lastSegmentToDelete) throws IOException {
+        if (lastSegmentToDelete <= lastKeptSegment) {
+            return;
+        }
+        for (Path segment : listSegments().subMap(lastKeptSegment, false, lastSegmentToDelete, true).values()) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        Files.createDirectories(journalDirectory);
+        if (lastSegment < 0) {
+            lastSegment = findLastSegment();
+        }
+        lastSegment++;
+        currentSegment = FileChannel.open(journalDirectory.resolve(String.format(SEGMENT_FILE_NAME_FORMAT,
+                lastSegment)), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentSegmentSize = 0;
+    }
+
+    private long findLastSegment() throws IOException {
+        TreeMap<Long, Path> segments = listSegments();
+        return segments.isEmpty() ? NO_SEGMENT : segments.lastKey();
+    }
+
+    /**
+     * Returns the segment files in the journal directory, ordered by segment number.
+     */
+    private TreeMap<Long, Path> listSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        if (!Files.isDirectory(journalDirectory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(journalDirectory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            }
+        }
+        return segments;
+    }
+}
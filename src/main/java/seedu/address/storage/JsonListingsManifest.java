@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.listing.Region;
+
+/**
+ * Jackson-friendly version of the manifest of listings stored in one file per {@code Region}.
+ * It records the regions that have a shard file, and the number of listings in each.
+ */
+class JsonListingsManifest {
+
+    public static final String MESSAGE_UNKNOWN_REGION = "Manifest refers to an unknown region: %s";
+    public static final String MESSAGE_INVALID_COUNT = "Manifest has an invalid listing count for %s: %s";
+
+    private final Map<String, Integer> shards = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code JsonListingsManifest} with the given listing count of each shard.
+     */
+    @JsonCreator
+    public JsonListingsManifest(@JsonProperty("shards") Map<String, Integer> shards) {
+        if (shards != null) {
+            this.shards.putAll(shards);
+        }
+    }
+
+    /**
+     * Converts the listing counts of the shards, keyed by region, into this class for Jackson use.
+     */
+    public JsonListingsManifest(EnumMap<Region, Integer> listingCounts) {
+        listingCounts.forEach((region, count) -> shards.put(region.name(), count));
+    }
+
+    /**
+     * Converts this manifest into the listing count of each shard, keyed by region.
+     *
+     * @throws IllegalValueException if a region is unknown or a count is invalid.
+     */
+    public EnumMap<Region, Integer> toModelType() throws IllegalValueException {
+        EnumMap<Region, Integer> listingCounts = new EnumMap<>(Region.class);
+        for (Map.Entry<String, Integer> shard : shards.entrySet()) {
+            Region region;
+            try {
+                region = Region.valueOf(shard.getKey());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_REGION, shard.getKey()));
+            }
+            if (shard.getValue() == null || shard.getValue() < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, region, shard.getValue()));
+            }
+            listingCounts.put(region, shard.getValue());
+        }
+        return listingCounts;
+    }
+}
@@ -4,15 +4,25 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.JsonUtil.ElementPosition;
+import seedu.address.commons.util.JsonUtil.PositionedElementHandler;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
 
 /**
  * A class to access Listings data stored as a json file on the hard disk.
@@ -20,10 +30,34 @@ import seedu.address.model.ReadOnlyListings;
 public class JsonListingsStorage implements ListingStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonListingsStorage.class);
+    private static final String MESSAGE_UNRESOLVED_CLIENTS = "Listings in %s refer to clients that are not in the "
+            + "address book, with ids %s.";
 
     private Path filePath;
+    private final int parallelLoadThreshold;
+    private final DataFileEncoding encoding;
+
     public JsonListingsStorage(Path filePath) {
+        this(filePath, UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonListingsStorage} that validates and converts the listings after the first
+     * {@code parallelLoadThreshold} in parallel when reading the data.
+     */
+    public JsonListingsStorage(Path filePath, int parallelLoadThreshold) {
+        this(filePath, parallelLoadThreshold, DataFileEncoding.PLAIN);
+    }
+
+    /**
+     * Creates a {@code JsonListingsStorage} that also saves the data in {@code encoding}.
+     * Files in any encoding can be read.
+     */
+    public JsonListingsStorage(Path filePath, int parallelLoadThreshold, DataFileEncoding encoding) {
+        requireNonNull(encoding);
         this.filePath = filePath;
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.encoding = encoding;
     }
 
     public Path getListingsFilePath() {
@@ -31,31 +65,98 @@ public class JsonListingsStorage implements ListingStorage {
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings() throws DataLoadingException {
-        return readListings(filePath);
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(addressBook, filePath);
     }
 
     /**
-     * Similar to {@link #readListings()} ()}.
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}.
+     * The listings cannot be loaded if they refer to clients not in {@code addressBook}, so that they are not lost
+     * when they are saved again.
+     * A file saved with embedded clients is saved again with its clients referred to by id, provided that all
+     * of them are in {@code addressBook} with the ids they were saved with.
+     * If the data file cannot be loaded, the most recent of its rotated copies that can be loaded is read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
         requireNonNull(filePath);
+        return RotatedCopies.readWithFallback(filePath, (fileToRead, isCopy) ->
+                readListingsFile(addressBook, fileToRead, !isCopy));
+    }
 
-        Optional<JsonSerializableListings> jsonListings = JsonUtil.readJsonFile(
-                filePath, JsonSerializableListings.class);
-        if (!jsonListings.isPresent()) {
-            return Optional.empty();
+    /**
+     * Reads the data file at {@code filePath} itself, without falling back to its rotated copies.
+     * If {@code canMigrate}, a file saved with embedded clients may be saved again, see
+     * {@link #readListings(ReadOnlyAddressBook, Path)}.
+     */
+    Optional<ReadOnlyListings> readListingsFile(ReadOnlyAddressBook addressBook, Path filePath,
+            boolean canMigrate) throws DataLoadingException {
+        // Listings are converted while the file is still being parsed, and added in the order they were parsed
+        ListingsConverter converter = new ListingsConverter(addressBook);
+        try {
+            boolean isFound = JsonUtil.readJsonArrayFileWithPositions(filePath,
+                    JsonSerializableListings.LISTINGS_PROPERTY, JsonAdaptedListing.class, converter);
+            if (!isFound) {
+                return Optional.empty();
+            }
+            converter.finish();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
         }
+        return Optional.of(converter.toListings(filePath, canMigrate));
+    }
+
+    /**
+     * Parses the whole file before waiting for {@code addressBook}, then converts the parsed listings.
+     */
+    @Override
+    public Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        return RotatedCopies.readWithFallback(filePath, (fileToRead, isCopy) ->
+                readListingsFileWithPendingAddressBook(addressBook, fileToRead, !isCopy));
+    }
 
+    private Optional<ReadOnlyListings> readListingsFileWithPendingAddressBook(PendingAddressBook addressBook,
+            Path filePath, boolean canMigrate) throws DataLoadingException {
+        List<JsonAdaptedListing> jsonListings = new ArrayList<>();
+        List<ElementPosition> positions = new ArrayList<>();
+        ListingsConverter converter;
         try {
-            return Optional.of(jsonListings.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFileWithPositions(filePath,
+                    JsonSerializableListings.LISTINGS_PROPERTY, JsonAdaptedListing.class, (jsonListing, position) -> {
+                        jsonListings.add(jsonListing);
+                        positions.add(position);
+                    });
+            if (!isFound) {
+                return Optional.empty();
+            }
+
+            converter = new ListingsConverter(addressBook.await());
+            for (int i = 0; i < jsonListings.size(); i++) {
+                converter.handle(jsonListings.get(i), positions.get(i));
+            }
+            converter.finish();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        return Optional.of(converter.toListings(filePath, canMigrate));
+    }
+
+    private void migrateToClientIds(ReadOnlyListings listings, Path filePath) {
+        try {
+            saveListings(listings, filePath);
+            logger.info("Saved " + filePath + " again with its clients referred to by id");
+        } catch (IOException e) {
+            logger.warning("Failed to save " + filePath + " with its clients referred to by id: "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
@@ -65,6 +166,7 @@ public class JsonListingsStorage implements ListingStorage {
 
     /**
      * Similar to {@link #saveListings(ReadOnlyListings)}.
+     * The current version of the file is kept as a rotated copy.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -72,8 +174,63 @@ public class JsonListingsStorage implements ListingStorage {
         requireNonNull(listings);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableListings(listings), filePath);
+        RotatedCopies.rotate(filePath);
+        // Listings are converted one at a time while they are written, instead of all at once up front
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableListings.LISTINGS_PROPERTY, () ->
+                listings.getListingList().stream().map(JsonAdaptedListing::new).iterator(), encoding);
     }
 
+    /**
+     * Converts parsed listings, looking up their clients in an address book.
+     */
+    private class ListingsConverter implements PositionedElementHandler<JsonAdaptedListing> {
+        private final ListingClients clients;
+        private final AtomicBoolean hasEmbeddedClients = new AtomicBoolean();
+        private final Listings listings = new Listings();
+        private final ParallelConverter<JsonAdaptedListing, Optional<Listing>> converter;
+
+        ListingsConverter(ReadOnlyAddressBook addressBook) {
+            // Clients are indexed in a single pass over the address book, instead of searched for once per listing
+            clients = new ListingClients(addressBook.getPersonList());
+            converter = new ParallelConverter<>(jsonListing -> {
+                if (jsonListing.hasEmbeddedClients()) {
+                    hasEmbeddedClients.set(true);
+                }
+                return jsonListing.toModelType(clients);
+            }, listing -> {
+                // Listings with unresolved clients fail the whole file in toListings
+                if (listing.isPresent()) {
+                    JsonSerializableListings.addToListings(listings, listing.get());
+                }
+            }, parallelLoadThreshold);
+        }
+
+        @Override
+        public void handle(JsonAdaptedListing jsonListing, ElementPosition position) throws IllegalValueException {
+            converter.handle(jsonListing, position);
+        }
+
+        void finish() throws IllegalValueException {
+            converter.finish();
+        }
+
+        /**
+         * Returns the converted listings, once all of them have been merged.
+         * If {@code canMigrate}, a file saved with embedded clients is saved again with its clients referred to by id,
+         * unless some clients were only found by name, as their ids may not have been saved in the address book yet.
+         *
+         * @throws UnresolvedClientsException if any listing refers to clients that are not in the address book.
+         */
+        Listings toListings(Path filePath, boolean canMigrate) throws UnresolvedClientsException {
+            if (!clients.getUnresolvedClientIds().isEmpty()) {
+                String message = String.format(MESSAGE_UNRESOLVED_CLIENTS, filePath, clients.getUnresolvedClientIds());
+                logger.warning(message);
+                throw new UnresolvedClientsException(message);
+            }
+            if (canMigrate && hasEmbeddedClients.get() && !clients.hasClientsFoundByName()) {
+                migrateToClientIds(listings, filePath);
+            }
+            return listings;
+        }
+    }
 }
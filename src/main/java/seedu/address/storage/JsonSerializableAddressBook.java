@@ -20,6 +20,8 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains persons with the same id.";
+    public static final String PERSONS_PROPERTY = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -27,7 +29,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_PROPERTY) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -48,13 +50,34 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addToAddressBook(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPerson} into the model's {@code Person} object and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToAddressBook(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        addToAddressBook(addressBook, jsonAdaptedPerson.toModelType());
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already contains the person or its id.
+     */
+    static void addToAddressBook(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (addressBook.getPersonById(person.getId()) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
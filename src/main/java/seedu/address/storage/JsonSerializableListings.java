@@ -19,6 +19,8 @@ import seedu.address.model.listing.Listing;
 @JsonRootName(value = "listings")
 public class JsonSerializableListings {
     public static final String MESSAGE_DUPLICATE_LISTING = "Listings contains duplicate listing(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Listings contains listings with the same id.";
+    public static final String LISTINGS_PROPERTY = "listings";
 
     private final List<JsonAdaptedListing> listings = new ArrayList<>();
 
@@ -26,7 +28,7 @@ public class JsonSerializableListings {
      * Constructs a {@code JsonSerializableListings} with the given listings.
      */
     @JsonCreator
-    public JsonSerializableListings(@JsonProperty("listings") List<JsonAdaptedListing> listings) {
+    public JsonSerializableListings(@JsonProperty(LISTINGS_PROPERTY) List<JsonAdaptedListing> listings) {
         this.listings.addAll(listings);
     }
 
@@ -47,12 +49,32 @@ public class JsonSerializableListings {
     public Listings toModelType() throws IllegalValueException {
         Listings newListings = new Listings();
         for (JsonAdaptedListing jsonAdaptedListing : listings) {
-            Listing listing = jsonAdaptedListing.toModelType();
-            if (newListings.hasListing(listing)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
-            }
-            newListings.addListing(listing);
+            addToListings(newListings, jsonAdaptedListing);
         }
         return newListings;
     }
+
+    /**
+     * Converts {@code jsonAdaptedListing} into the model's {@code Listing} object and adds it to {@code listings}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToListings(Listings listings, JsonAdaptedListing jsonAdaptedListing) throws IllegalValueException {
+        addToListings(listings, jsonAdaptedListing.toModelType());
+    }
+
+    /**
+     * Adds {@code listing} to {@code listings}.
+     *
+     * @throws IllegalValueException if {@code listings} already contains the listing or its id.
+     */
+    static void addToListings(Listings listings, Listing listing) throws IllegalValueException {
+        if (listings.hasListing(listing)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
+        }
+        if (listings.getListingById(listing.getId()) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        }
+        listings.addListing(listing);
+    }
 }
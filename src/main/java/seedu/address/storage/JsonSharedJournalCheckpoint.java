@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.id.Id;
+
+/**
+ * Jackson-friendly record of the last compaction of a shared journal: the last segment whose changes have been
+ * written to the data files, and the versions the persons and listings had after those changes.
+ */
+class JsonSharedJournalCheckpoint {
+
+    private final long segment;
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonSharedJournalCheckpoint} with the given segment and versions.
+     */
+    @JsonCreator
+    public JsonSharedJournalCheckpoint(@JsonProperty("segment") long segment,
+                                       @JsonProperty("versions") Map<Long, Long> versions) {
+        this.segment = segment;
+        if (versions != null) {
+            this.versions.putAll(versions);
+        }
+    }
+
+    /**
+     * Converts the given segment and versions by id into this class for Jackson use.
+     */
+    public static JsonSharedJournalCheckpoint of(long segment, Map<Id, Long> versions) {
+        Map<Long, Long> versionsByValue = new HashMap<>();
+        versions.forEach((id, version) -> versionsByValue.put(id.getValue(), version));
+        return new JsonSharedJournalCheckpoint(segment, versionsByValue);
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+
+    /**
+     * Returns the versions by id. Entries with invalid ids are skipped.
+     */
+    public Map<Id, Long> getVersions() {
+        Map<Id, Long> versionsById = new HashMap<>();
+        versions.forEach((id, version) -> {
+            if (id != null && version != null && Id.isValidId(id)) {
+                versionsById.put(Id.of(id), version);
+            }
+        });
+        return versionsById;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+
+/**
+ * Jackson-friendly version of one line of a shared journal: the changes saved by one command of one instance of
+ * the app, each with the version it gives to the person or listing it saves or deletes.
+ */
+class JsonSharedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shared journal entry's %s field is missing!";
+
+    private final String instance;
+    private final List<JsonVersionedChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSharedJournalEntry} with the given instance and changes.
+     */
+    @JsonCreator
+    public JsonSharedJournalEntry(@JsonProperty("instance") String instance,
+                                  @JsonProperty("changes") List<JsonVersionedChange> changes) {
+        this.instance = instance;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Returns the id of the instance of the app that saved the changes.
+     *
+     * @throws IllegalValueException if the id is missing.
+     */
+    public String getInstance() throws IllegalValueException {
+        if (instance == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "instance"));
+        }
+        return instance;
+    }
+
+    public List<JsonVersionedChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * A change together with the version it gives to the person or listing it saves or deletes.
+     * Changes that clear the data have no version.
+     */
+    static class JsonVersionedChange {
+        private final Long version;
+        private final JsonAdaptedChange change;
+
+        /**
+         * Constructs a {@code JsonVersionedChange} with the given version and change.
+         */
+        @JsonCreator
+        public JsonVersionedChange(@JsonProperty("version") Long version,
+                                   @JsonProperty("change") JsonAdaptedChange change) {
+            this.version = version;
+            this.change = change;
+        }
+
+        /**
+         * Converts the given {@code ModelChange} and version into this class for Jackson use.
+         */
+        public JsonVersionedChange(ModelChange source, Long version) {
+            this(version, new JsonAdaptedChange(source));
+        }
+
+        /**
+         * Returns the version given to the saved or deleted person or listing, or null if the change clears the data.
+         */
+        public Long getVersion() {
+            return version;
+        }
+
+        /**
+         * Converts the change into the model's {@code ModelChange} object.
+         *
+         * @throws IllegalValueException if the change is missing or any data constraints were violated.
+         */
+        public ModelChange toModelType() throws IllegalValueException {
+            if (change == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "change"));
+            }
+            return change.toModelType();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import seedu.address.model.id.Id;
+import seedu.address.model.name.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The clients that the listings being loaded may refer to.
+ * Clients referred to by id are looked up by id. Clients embedded in listings saved before listings referred to
+ * their clients by id are looked up by id and then by name, as clients saved before ids were assigned are given
+ * new ids each time they are loaded.
+ * The ids of clients that cannot be found are collected, so that all of them can be reported at once.
+ * Lookups may be made from several threads at once.
+ */
+public class ListingClients {
+    private final Map<Id, Person> clientsById = new HashMap<>();
+    private final Map<String, Person> clientsByName = new HashMap<>();
+    private final Set<Long> unresolvedClientIds = new ConcurrentSkipListSet<>();
+    private final AtomicBoolean hasClientsFoundByName = new AtomicBoolean();
+
+    /**
+     * Creates a {@code ListingClients} that looks up the clients of listings among {@code clients}.
+     */
+    public ListingClients(List<? extends Person> clients) {
+        for (Person client : clients) {
+            clientsById.put(client.getId(), client);
+            clientsByName.put(nameKey(client.getName()), client);
+        }
+    }
+
+    /**
+     * Returns the id of the client with the given {@code id}, or null if there is no such client.
+     */
+    Id resolve(long id) {
+        Id clientId = Id.of(id);
+        if (!clientsById.containsKey(clientId)) {
+            unresolvedClientIds.add(id);
+            return null;
+        }
+        return clientId;
+    }
+
+    /**
+     * Returns the id of the client that {@code embeddedClient} is a copy of, or null if there is no such client.
+     */
+    Id resolve(Person embeddedClient) {
+        if (clientsById.containsKey(embeddedClient.getId())) {
+            return embeddedClient.getId();
+        }
+        Person sameName = clientsByName.get(nameKey(embeddedClient.getName()));
+        if (sameName == null) {
+            unresolvedClientIds.add(embeddedClient.getId().getValue());
+            return null;
+        }
+        hasClientsFoundByName.set(true);
+        return sameName.getId();
+    }
+
+    /**
+     * Returns the ids of the clients that could not be found, in ascending order.
+     */
+    Set<Long> getUnresolvedClientIds() {
+        return unresolvedClientIds;
+    }
+
+    /**
+     * Returns true if any embedded client was found by name rather than by id.
+     */
+    boolean hasClientsFoundByName() {
+        return hasClientsFoundByName.get();
+    }
+
+    /**
+     * Names are compared case-insensitively, as in {@link Person#isSamePerson(Person)}.
+     */
+    private static String nameKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+}
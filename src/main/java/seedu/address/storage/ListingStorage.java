@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 
 /**
@@ -18,17 +19,30 @@ public interface ListingStorage {
     Path getListingsFilePath();
 
     /**
-     * Returns Listings data as a {@link ReadOnlyListings}.
+     * Returns Listings data as a {@link ReadOnlyListings}, with the sellers and buyers of the listings being the
+     * persons with the same ids in {@code addressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
      *
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    Optional<ReadOnlyListings> readListings() throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException;
 
     /**
      * @see #getListingsFilePath()
      */
-    Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException;
+
+    /**
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}, but only waits for {@code addressBook} once the
+     * listings need their clients, so that the listings can be parsed while the address book is still being read.
+     *
+     * @throws DataLoadingException if loading the listings or {@code addressBook} failed.
+     */
+    default Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        return readListings(addressBook.await());
+    }
 
     /**
      * Saves the given {@link ReadOnlyListings} to the storage.
@@ -41,4 +55,17 @@ public interface ListingStorage {
      * @see #saveListings(ReadOnlyListings)
      */
     void saveListings(ReadOnlyListings listings, Path filePath) throws IOException;
+
+    /**
+     * An address book that may still be being read.
+     */
+    @FunctionalInterface
+    interface PendingAddressBook {
+        /**
+         * Waits for the address book to be read, then returns it.
+         *
+         * @throws DataLoadingException if loading the address book failed.
+         */
+        ReadOnlyAddressBook await() throws DataLoadingException;
+    }
 }
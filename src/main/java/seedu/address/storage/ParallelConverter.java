@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil.ElementPosition;
+import seedu.address.commons.util.JsonUtil.PositionedElementHandler;
+
+/**
+ * Converts the records of a data file into model objects as they are read, and merges them into the model.
+ * The records up to {@code threshold} are converted and merged one at a time. Records after that are collected
+ * into chunks that are validated and converted concurrently on a fork-join pool while the rest of the file is read,
+ * and are merged by {@link #finish()}. Records are always merged on the calling thread in the order they were
+ * read, so the uniqueness checks and the error reported for an invalid file are the same as when the records are
+ * converted one at a time.
+ *
+ * @param <S> the type of the records read from the file.
+ * @param <T> the type of the converted records.
+ */
+class ParallelConverter<S, T> implements PositionedElementHandler<S> {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final Converter<S, T> converter;
+    private final Merger<T> merger;
+    private final int threshold;
+    private final List<ForkJoinTask<Chunk<S, T>>> submittedChunks = new ArrayList<>();
+
+    private Chunk<S, T> pendingChunk = new Chunk<>();
+    private int recordCount;
+
+    /**
+     * Creates a {@code ParallelConverter} that converts records with {@code converter} and merges them with
+     * {@code merger}, converting records concurrently after the first {@code threshold} records.
+     */
+    ParallelConverter(Converter<S, T> converter, Merger<T> merger, int threshold) {
+        requireAllNonNull(converter, merger);
+        this.converter = converter;
+        this.merger = merger;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void handle(S record, ElementPosition position) throws IllegalValueException {
+        recordCount++;
+        if (recordCount <= threshold) {
+            try {
+                merger.merge(converter.convert(record));
+            } catch (IllegalValueException e) {
+                throw position.wrap(e);
+            }
+            return;
+        }
+
+        pendingChunk.add(record, position);
+        if (pendingChunk.size() == CHUNK_SIZE) {
+            submitPendingChunk();
+        }
+    }
+
+    /**
+     * Waits for the records that are still being converted, and merges them in the order they were read.
+     *
+     * @throws IllegalValueException if a record violates any data constraints, or cannot be merged.
+     *     The first such record in the file is reported.
+     */
+    void finish() throws IllegalValueException {
+        if (pendingChunk.size() > 0) {
+            submitPendingChunk();
+        }
+
+        try {
+            for (ForkJoinTask<Chunk<S, T>> submittedChunk : submittedChunks) {
+                submittedChunk.join().mergeInto(merger);
+            }
+        } finally {
+            // Chunks after an invalid record are not needed
+            submittedChunks.forEach(submittedChunk -> submittedChunk.cancel(false));
+            submittedChunks.clear();
+        }
+    }
+
+    private void submitPendingChunk() {
+        Chunk<S, T> chunk = pendingChunk;
+        submittedChunks.add(ForkJoinPool.commonPool().submit(() -> chunk.convert(converter)));
+        pendingChunk = new Chunk<>();
+    }
+
+    /**
+     * Validates a record and converts it into a model object. Must be safe to call from several threads at once.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        /**
+         * @throws IllegalValueException if the record violates any data constraints.
+         */
+        T convert(S record) throws IllegalValueException;
+    }
+
+    /**
+     * Adds a converted record to the model. Only called from the thread that reads the file.
+     */
+    @FunctionalInterface
+    interface Merger<T> {
+        /**
+         * @throws IllegalValueException if the record cannot be added to the model, such as if it is a duplicate.
+         */
+        void merge(T converted) throws IllegalValueException;
+    }
+
+    /**
+     * Consecutive records of the file, which are converted together on one thread.
+     */
+    private static class Chunk<S, T> {
+        private final List<S> records = new ArrayList<>(CHUNK_SIZE);
+        private final List<ElementPosition> positions = new ArrayList<>(CHUNK_SIZE);
+        private final List<T> converted = new ArrayList<>(CHUNK_SIZE);
+        private IllegalValueException failure;
+
+        void add(S record, ElementPosition position) {
+            records.add(record);
+            positions.add(position);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        /**
+         * Converts the records of this chunk, up to the first invalid one.
+         */
+        Chunk<S, T> convert(Converter<S, T> converter) {
+            for (S record : records) {
+                try {
+                    converted.add(converter.convert(record));
+                } catch (IllegalValueException e) {
+                    failure = e;
+                    break;
+                }
+            }
+            // The records are no longer needed once they are converted
+            records.clear();
+            return this;
+        }
+
+        /**
+         * Merges the converted records of this chunk, then reports the invalid record that ended the conversion.
+         */
+        void mergeInto(Merger<T> merger) throws IllegalValueException {
+            for (int i = 0; i < converted.size(); i++) {
+                try {
+                    merger.merge(converted.get(i));
+                } catch (IllegalValueException e) {
+                    throw positions.get(i).wrap(e);
+                }
+            }
+            if (failure != null) {
+                throw positions.get(converted.size()).wrap(failure);
+            }
+        }
+    }
+}
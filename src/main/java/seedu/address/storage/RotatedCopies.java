@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps the last {@value #COPY_COUNT} versions of a data file as rotated copies next to it, named like the data file
+ * with {@code .1} for the most recent copy up to {@code .3} for the oldest, and reads a rotated copy instead of the
+ * data file if the data file cannot be loaded.
+ */
+class RotatedCopies {
+
+    static final int COPY_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(RotatedCopies.class);
+    private static final String MESSAGE_FALLBACK =
+            "Data file %s could not be loaded, so its copy %s was loaded instead.";
+
+    /**
+     * Returns the path of the {@code copyNumber}-th most recent copy of {@code filePath}.
+     */
+    static Path getCopyPath(Path filePath, int copyNumber) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + copyNumber);
+    }
+
+    /**
+     * Keeps the current version of {@code filePath} as its most recent copy, before it is replaced.
+     * The oldest copy is discarded. Does nothing if {@code filePath} does not exist.
+     */
+    static void rotate(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        for (int copyNumber = COPY_COUNT - 1; copyNumber >= 1; copyNumber--) {
+            Path copyPath = getCopyPath(filePath, copyNumber);
+            if (Files.exists(copyPath)) {
+                Files.move(copyPath, getCopyPath(filePath, copyNumber + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // The data file is replaced by a new file rather than written over, so the copy can share its content
+        Path latestCopyPath = getCopyPath(filePath, 1);
+        Files.deleteIfExists(latestCopyPath);
+        try {
+            Files.createLink(latestCopyPath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(filePath, latestCopyPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the data at {@code filePath} with {@code reader}. If that fails, the rotated copies are read instead,
+     * starting from the most recent one, and the data of the first one that can be loaded is returned.
+     * Listings that refer to clients not in the address book are not read from a copy instead, as the data file
+     * itself is intact and would be replaced by the older data of the copy once it is saved again.
+     *
+     * @throws DataLoadingException if neither the data file nor any of its copies can be loaded.
+     */
+    static <T> Optional<T> readWithFallback(Path filePath, DataFileReader<T> reader) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        try {
+            return reader.read(filePath, false);
+        } catch (UnresolvedClientsException e) {
+            throw e;
+        } catch (DataLoadingException e) {
+            for (int copyNumber = 1; copyNumber <= COPY_COUNT; copyNumber++) {
+                Path copyPath = getCopyPath(filePath, copyNumber);
+                if (!Files.exists(copyPath)) {
+                    continue;
+                }
+                try {
+                    Optional<T> data = reader.read(copyPath, true);
+                    logger.warning(String.format(MESSAGE_FALLBACK, filePath, copyPath));
+                    return data;
+                } catch (DataLoadingException copyException) {
+                    logger.warning("Copy " + copyPath + " could not be loaded either: "
+                            + StringUtil.getDetails(copyException));
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the data in a data file, or in one of its rotated copies.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        /**
+         * @param isCopy true if {@code filePath} is a rotated copy rather than the data file itself.
+         * @throws DataLoadingException if loading the data failed.
+         */
+        Optional<T> read(Path filePath, boolean isCopy) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileEncoding;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Region;
+
+/**
+ * A class to access Listings data stored on the hard disk as one json file per {@code Region}, in a folder with a
+ * manifest of the shard files. The shards are read in parallel, and only the shards with changed listings are
+ * saved again.
+ */
+public class ShardedListingsStorage implements ListingStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedListingsStorage.class);
+    private static final String MESSAGE_MISSING_SHARD = "Shard file %s listed in the manifest is missing.";
+    private static final String MESSAGE_COUNT_MISMATCH = "Shard file %s has %d listings, but the manifest lists %d.";
+
+    private final Path manifestPath;
+    private final int parallelLoadThreshold;
+    private final DataFileEncoding encoding;
+
+    // The listings of each shard as they were last read or saved, to tell which shards have changed since
+    private final Map<Region, List<Listing>> storedShards = new EnumMap<>(Region.class);
+
+    /**
+     * Creates a {@code ShardedListingsStorage} that keeps its manifest and shard files in {@code directory}.
+     * Each shard file is read and saved like the data file of a {@code JsonListingsStorage}.
+     */
+    public ShardedListingsStorage(Path directory, int parallelLoadThreshold, DataFileEncoding encoding) {
+        requireNonNull(directory);
+        requireNonNull(encoding);
+        this.manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        this.parallelLoadThreshold = parallelLoadThreshold;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Returns the path of the manifest, which is in the same folder as the shard files.
+     */
+    @Override
+    public Path getListingsFilePath() {
+        return manifestPath;
+    }
+
+    /**
+     * Returns the path of the shard file of {@code region}, next to the manifest at {@code manifestPath}.
+     */
+    static Path getShardPath(Path manifestPath, Region region) {
+        return manifestPath.resolveSibling(region.name().toLowerCase(Locale.ROOT) + ".json");
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(addressBook, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readListings(ReadOnlyAddressBook)}.
+     * The shard files listed in the manifest are read in parallel, then merged in the order of the regions.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the manifest or any of the shard files failed.
+     */
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path manifestPath)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(manifestPath);
+
+        Optional<JsonListingsManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonListingsManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        EnumMap<Region, Integer> listingCounts;
+        try {
+            listingCounts = manifest.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        Map<Region, ForkJoinTask<Optional<ReadOnlyListings>>> shardReads = new EnumMap<>(Region.class);
+        for (Region region : listingCounts.keySet()) {
+            Path shardPath = getShardPath(manifestPath, region);
+            shardReads.put(region, ForkJoinPool.commonPool().submit(() ->
+                    getShardStorage(shardPath).readListings(addressBook, shardPath)));
+        }
+
+        Listings listings = new Listings();
+        Map<Region, List<Listing>> shards = new EnumMap<>(Region.class);
+        for (Map.Entry<Region, ForkJoinTask<Optional<ReadOnlyListings>>> shardRead : shardReads.entrySet()) {
+            Region region = shardRead.getKey();
+            Path shardPath = getShardPath(manifestPath, region);
+            ReadOnlyListings shard = awaitShard(shardRead.getValue())
+                    .orElseThrow(() -> new DataLoadingException(
+                            new IOException(String.format(MESSAGE_MISSING_SHARD, shardPath))));
+            int listingCount = shard.getListingList().size();
+            if (listingCount != listingCounts.get(region)) {
+                logger.warning(String.format(MESSAGE_COUNT_MISMATCH, shardPath, listingCount,
+                        listingCounts.get(region)));
+            }
+
+            try {
+                for (Listing listing : shard.getListingList()) {
+                    JsonSerializableListings.addToListings(listings, listing);
+                }
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + shardPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            shards.put(region, new ArrayList<>(shard.getListingList()));
+        }
+
+        if (manifestPath.equals(this.manifestPath)) {
+            storedShards.clear();
+            storedShards.putAll(shards);
+        }
+        return Optional.of(listings);
+    }
+
+    private static Optional<ReadOnlyListings> awaitShard(ForkJoinTask<Optional<ReadOnlyListings>> shardRead)
+            throws DataLoadingException {
+        try {
+            return shardRead.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings) throws IOException {
+        saveListings(listings, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveListings(ReadOnlyListings)}.
+     * When saving to this storage's own manifest, only the shard files whose listings have changed since they were
+     * last read or saved are written, and the shard files of regions that no longer have any listings are deleted.
+     * The manifest is written last, so that it never lists a shard file that has not been written yet.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveListings(ReadOnlyListings listings, Path manifestPath) throws IOException {
+        requireNonNull(listings);
+        requireNonNull(manifestPath);
+
+        Map<Region, List<Listing>> shards = new EnumMap<>(Region.class);
+        for (Listing listing : listings.getListingList()) {
+            shards.computeIfAbsent(listing.getRegion(), region -> new ArrayList<>()).add(listing);
+        }
+
+        boolean isOwnManifest = manifestPath.equals(this.manifestPath);
+        int writtenCount = 0;
+        for (Region region : Region.values()) {
+            Path shardPath = getShardPath(manifestPath, region);
+            List<Listing> shard = shards.get(region);
+            if (shard == null) {
+                Files.deleteIfExists(shardPath);
+            } else if (!isOwnManifest || !isUnchanged(storedShards.get(region), shard)) {
+                Listings shardListings = new Listings();
+                shardListings.setListings(shard);
+                getShardStorage(shardPath).saveListings(shardListings, shardPath);
+                writtenCount++;
+            }
+        }
+
+        if (isOwnManifest) {
+            boolean isShardDeleted = !shards.keySet().containsAll(storedShards.keySet());
+            storedShards.clear();
+            storedShards.putAll(shards);
+            if (writtenCount == 0 && !isShardDeleted && Files.exists(manifestPath)) {
+                return;
+            }
+        }
+
+        EnumMap<Region, Integer> listingCounts = new EnumMap<>(Region.class);
+        shards.forEach((region, shard) -> listingCounts.put(region, shard.size()));
+        JsonUtil.saveJsonFile(new JsonListingsManifest(listingCounts), manifestPath);
+        logger.fine("Saved " + writtenCount + " of " + shards.size() + " shard files in " + manifestPath.getParent());
+    }
+
+    /**
+     * Returns true if {@code shard} has the same listings in the same order as {@code storedShard}.
+     * Listings are immutable, so a listing that has been edited is a different object.
+     */
+    private static boolean isUnchanged(List<Listing> storedShard, List<Listing> shard) {
+        if (storedShard == null || storedShard.size() != shard.size()) {
+            return false;
+        }
+        for (int i = 0; i < shard.size(); i++) {
+            if (storedShard.get(i) != shard.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonListingsStorage getShardStorage(Path shardPath) {
+        return new JsonListingsStorage(shardPath, parallelLoadThreshold, encoding);
+    }
+}
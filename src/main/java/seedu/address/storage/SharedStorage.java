@@ -0,0 +1,764 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.JsonSharedJournalEntry.JsonVersionedChange;
+
+/**
+ * A {@code Storage} for a data directory shared by several instances of the app, such as on a network drive.
+ * Each instance appends the changes it saves to a shared journal while holding an exclusive lock on the journal's
+ * lock file, and reads the changes appended by the other instances with {@link #readSharedChanges()}.
+ * Every save or deletion of a person or listing gives it a new version, so that a change to a person or listing
+ * that another instance has changed since this instance last read it is rejected as a conflict.
+ * The journal is written to the data files by whichever instance finds it past the compaction threshold, or exits,
+ * from the data files and the journal themselves rather than from that instance's data.
+ * All other operations are passed straight to the wrapped {@code Storage}, which should not record changes itself.
+ */
+public class SharedStorage implements Storage {
+
+    public static final String MESSAGE_CONFLICT = "This change was not saved, as another instance of the app "
+            + "changed %s at the same time. The data has been reloaded with that instance's changes.";
+
+    // Time between checks of the journal for changes saved by other instances
+    static final long POLL_INTERVAL_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(SharedStorage.class);
+    private static final String LOCK_FILE_NAME = "journal.lock";
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint.json";
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("journal-(\\d+)\\.jsonl");
+    private static final String SEGMENT_FILE_NAME_FORMAT = "journal-%d.jsonl";
+    private static final long NO_SEGMENT = 0;
+
+    private final Storage storage;
+    private final Path journalDirectory;
+    private final long compactionThreshold;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ExecutorService compactionExecutor;
+
+    // Guarded by this
+    private ScheduledExecutorService poller;
+    private FileChannel lockChannel;
+    // The position in the journal up to which it has been read
+    private long tailSegment = NO_SEGMENT;
+    private long tailOffset;
+    // The versions of the persons and listings in the journal, and in the data of this instance
+    private final Map<Id, Long> latestVersions = new HashMap<>();
+    private final Map<Id, Long> appliedVersions = new HashMap<>();
+    // Changes of other instances read from the journal, which have not been returned by readSharedChanges yet
+    private final List<ModelChange> pendingChanges = new ArrayList<>();
+    // Whether this instance has to read all of the data again, as changes it has not read have been compacted
+    private boolean needsReload;
+
+    /**
+     * Creates a {@code SharedStorage} that keeps the shared journal in {@code journalDirectory}, and reads and
+     * writes the data files through {@code storage}.
+     */
+    public SharedStorage(Storage storage, Path journalDirectory) {
+        this(storage, journalDirectory, StorageManager.JOURNAL_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code SharedStorage} that writes the journal to the data files once a segment has grown past
+     * {@code compactionThreshold} bytes.
+     */
+    SharedStorage(Storage storage, Path journalDirectory, long compactionThreshold) {
+        requireNonNull(storage);
+        requireNonNull(journalDirectory);
+        this.storage = storage;
+        this.journalDirectory = journalDirectory;
+        this.compactionThreshold = compactionThreshold;
+        compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-journal-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getJournalDirectoryPath() {
+        return journalDirectory;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ Listings methods ==============================
+
+    @Override
+    public Path getListingsFilePath() {
+        return storage.getListingsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return storage.readListings(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
+        return storage.readListings(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        return storage.readListingsWithPendingAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings) throws IOException {
+        storage.saveListings(listings);
+    }
+
+    @Override
+    public void saveListings(ReadOnlyListings listings, Path filePath) throws IOException {
+        storage.saveListings(listings, filePath);
+    }
+
+    // ================ Journal methods ==============================
+
+    /**
+     * Appends {@code changes} to the shared journal, after reading the changes appended by other instances.
+     *
+     * @throws ConflictingChangeException if another instance has changed any of the same persons or listings
+     *     since this instance last read its changes, or added one that is a duplicate of a saved one.
+     *     None of {@code changes} are saved in that case, and all of the data is returned by the next call to
+     *     {@link #readSharedChanges()}, to replace the data of this instance.
+     * @throws IOException if there was any problem reading or writing the journal.
+     */
+    @Override
+    public void saveChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        long segmentSize;
+        synchronized (this) {
+            FileLock lock = lockJournal();
+            try {
+                readNewEntries();
+                Optional<String> conflict = needsReload ? Optional.of("the data") : findConflict(changes);
+                if (conflict.isPresent()) {
+                    needsReload = true;
+                    throw new ConflictingChangeException(String.format(MESSAGE_CONFLICT, conflict.get()));
+                }
+                segmentSize = appendEntry(changes);
+            } finally {
+                lock.release();
+            }
+        }
+        if (segmentSize >= compactionThreshold) {
+            compactionExecutor.execute(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    logger.warning("Failed to write the shared journal to the data files: "
+                            + StringUtil.getDetails(e));
+                }
+            });
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the shared journal, as {@link #saveChanges} does.
+     */
+    @Override
+    public void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        saveChanges(addressBook, listings, changes);
+    }
+
+    /**
+     * Does nothing, as the shared journal is written to the data files in the background once it has grown past the
+     * compaction threshold.
+     */
+    @Override
+    public void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+        // Compaction is started by saveChanges
+    }
+
+    /**
+     * Returns all changes in the shared journal, and treats them as applied to the data of this instance.
+     */
+    @Override
+    public synchronized List<ModelChange> readChanges() throws DataLoadingException {
+        try {
+            latestVersions.clear();
+            latestVersions.putAll(readCheckpoint().getVersions());
+            pendingChanges.clear();
+            needsReload = false;
+            tailSegment = NO_SEGMENT;
+            tailOffset = 0;
+            // Changes already written to the data files are replayed again, which leaves the data unchanged
+            readJournalFrom(NO_SEGMENT, 0, this::addEntry);
+            return takePendingChanges();
+        } catch (IOException e) {
+            logger.warning("Error reading from shared journal " + journalDirectory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Does nothing, as the shared journal is written to the data files by replaying it on the data files themselves,
+     * and is kept if it cannot be replayed.
+     */
+    @Override
+    public void setAsideChanges() {
+        // The shared journal is only deleted once it has been replayed on the data files
+    }
+
+    /**
+     * Returns the changes saved by other instances since the last call, and treats them as applied to the data of
+     * this instance. If this instance has to read all of the data again, such as after a conflict, the changes clear
+     * the data and then save all of it.
+     */
+    @Override
+    public synchronized List<ModelChange> readSharedChanges() throws DataLoadingException {
+        try {
+            if (!needsReload) {
+                readNewEntries();
+            }
+            return needsReload ? reload() : takePendingChanges();
+        } catch (IOException e) {
+            logger.warning("Error reading from shared journal " + journalDirectory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Writes the changes in the shared journal to the data files, and waits for any compaction in progress.
+     * {@code addressBook} and {@code listings} are not used, as other instances may have saved changes that this
+     * instance has not read yet.
+     */
+    @Override
+    public void flush(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        compact();
+    }
+
+    /**
+     * Starts checking the shared journal for changes saved by other instances on a background thread, and calls
+     * {@code onSharedChanges} when there may be changes to read with {@link #readSharedChanges()}.
+     */
+    public synchronized void startPolling(Runnable onSharedChanges) {
+        requireNonNull(onSharedChanges);
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-journal-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                if (hasNewEntries()) {
+                    onSharedChanges.run();
+                }
+            } catch (IOException e) {
+                logger.fine("Failed to check the shared journal for changes: " + e);
+            }
+        }, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        logger.info("Checking " + journalDirectory + " for changes saved by other instances of the app.");
+    }
+
+    /**
+     * Stops checking the shared journal for changes saved by other instances.
+     */
+    public synchronized void stopPolling() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        return storage.backup(addressBook, listings);
+    }
+
+    @Override
+    public List<String> getBackupTimestamps() throws IOException {
+        return storage.getBackupTimestamps();
+    }
+
+    @Override
+    public List<ModelChange> readBackup(String timestamp) throws DataLoadingException {
+        return storage.readBackup(timestamp);
+    }
+
+    // ================ Shared journal ==============================
+
+    /**
+     * Returns an exclusive lock on the journal's lock file, waiting for other instances to release it.
+     * Only one thread of this instance may hold it at a time, which is ensured by holding the monitor of this.
+     */
+    private FileLock lockJournal() throws IOException {
+        if (lockChannel == null || !lockChannel.isOpen()) {
+            Files.createDirectories(journalDirectory);
+            lockChannel = FileChannel.open(journalDirectory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+        }
+        return lockChannel.lock();
+    }
+
+    /**
+     * Reads the entries appended to the journal since it was last read, unless some of them have been compacted
+     * and deleted in the meantime, in which case all of the data has to be read again.
+     */
+    private void readNewEntries() throws IOException {
+        TreeMap<Long, Path> segments = listSegments();
+        boolean isTailDeleted = segments.isEmpty()
+                ? tailSegment != NO_SEGMENT
+                : segments.firstKey() > Math.max(tailSegment, NO_SEGMENT + 1);
+        if (isTailDeleted) {
+            needsReload = true;
+            return;
+        }
+        readJournalFrom(tailSegment, tailOffset, this::addEntry);
+    }
+
+    /**
+     * Reads the complete entries in the segments from {@code offset} of {@code segment} onwards, passing each to
+     * {@code handler}, and moves the position read up to past them.
+     */
+    private void readJournalFrom(long segment, long offset, EntryHandler handler) throws IOException {
+        for (Map.Entry<Long, Path> segmentFile : listSegments().tailMap(segment, true).entrySet()) {
+            long start = segmentFile.getKey() == segment ? offset : 0;
+            tailOffset = readSegment(segmentFile.getValue(), start, handler);
+            tailSegment = segmentFile.getKey();
+        }
+    }
+
+    /**
+     * Reads the complete entries of {@code segment} from {@code start}, passing each to {@code handler}.
+     * An entry that cannot be read, such as one cut short by a crash, is skipped.
+     *
+     * @return the offset after the last complete entry.
+     */
+    private long readSegment(Path segment, long start, EntryHandler handler) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= start) {
+                return start;
+            }
+            buffer = ByteBuffer.allocate(Math.toIntExact(size - start));
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                // Keep reading until the buffer is full
+            }
+        }
+
+        int end = buffer.position();
+        while (end > 0 && buffer.get(end - 1) != '\n') {
+            // An entry that is still being written is read once it is complete
+            end--;
+        }
+        String entries = new String(buffer.array(), 0, end, StandardCharsets.UTF_8);
+        for (String line : entries.split("\n")) {
+            if (!line.isBlank()) {
+                readEntry(segment, line, handler);
+            }
+        }
+        return start + end;
+    }
+
+    private void readEntry(Path segment, String line, EntryHandler handler) {
+        try {
+            JsonSharedJournalEntry entry = JsonUtil.fromJsonString(line, JsonSharedJournalEntry.class);
+            List<ModelChange> changes = new ArrayList<>();
+            List<Long> versions = new ArrayList<>();
+            for (JsonVersionedChange change : entry.getChanges()) {
+                changes.add(change.toModelType());
+                versions.add(change.getVersion());
+            }
+            handler.handle(entry.getInstance(), changes, versions);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring an entry of shared journal segment " + segment + ": " + e);
+        }
+    }
+
+    /**
+     * Records the versions of an entry read from the journal, and keeps its changes to be returned by
+     * {@link #readSharedChanges()} if they were saved by another instance.
+     */
+    private void addEntry(String instance, List<ModelChange> changes, List<Long> versions) {
+        addVersions(changes, versions, latestVersions);
+        if (!instanceId.equals(instance)) {
+            pendingChanges.addAll(changes);
+        }
+    }
+
+    private static void addVersions(List<ModelChange> changes, List<Long> versions, Map<Id, Long> versionsById) {
+        for (int i = 0; i < changes.size(); i++) {
+            if (changes.get(i).getId() != null && versions.get(i) != null) {
+                // Versions only grow, so entries read again leave the versions as they are
+                versionsById.merge(changes.get(i).getId(), versions.get(i), Math::max);
+            }
+        }
+    }
+
+    private List<ModelChange> takePendingChanges() {
+        List<ModelChange> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        appliedVersions.clear();
+        appliedVersions.putAll(latestVersions);
+        return changes;
+    }
+
+    /**
+     * Returns a description of the person or listing of the first of {@code changes} that conflicts with a change
+     * saved by another instance that this instance has not applied yet, if any.
+     */
+    private Optional<String> findConflict(List<ModelChange> changes) {
+        for (ModelChange change : changes) {
+            Id id = change.getId();
+            boolean isChangedElsewhere = id != null
+                    && latestVersions.getOrDefault(id, 0L) > appliedVersions.getOrDefault(id, 0L);
+            if (isChangedElsewhere
+                    || pendingChanges.stream().anyMatch(pendingChange -> isConflicting(change, pendingChange))) {
+                return Optional.of(describe(change));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if {@code change} clears data that {@code otherChange} changes or the other way round, or if
+     * both save a person or listing with the same identity.
+     */
+    private static boolean isConflicting(ModelChange change, ModelChange otherChange) {
+        ModelChange.Type otherType = otherChange.getType();
+        switch (change.getType()) {
+        case PERSON_SAVED:
+            return otherType == ModelChange.Type.PERSONS_CLEARED || otherType == ModelChange.Type.PERSON_SAVED
+                    && otherChange.getPerson().isSamePerson(change.getPerson());
+        case PERSON_DELETED:
+            return otherType == ModelChange.Type.PERSONS_CLEARED;
+        case PERSONS_CLEARED:
+            return isPersonChange(otherType);
+        case LISTING_SAVED:
+            return otherType == ModelChange.Type.LISTINGS_CLEARED || otherType == ModelChange.Type.LISTING_SAVED
+                    && otherChange.getListing().isSameListing(change.getListing());
+        case LISTING_DELETED:
+            return otherType == ModelChange.Type.LISTINGS_CLEARED;
+        case LISTINGS_CLEARED:
+            return !isPersonChange(otherType);
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isPersonChange(ModelChange.Type type) {
+        return type == ModelChange.Type.PERSON_SAVED || type == ModelChange.Type.PERSON_DELETED
+                || type == ModelChange.Type.PERSONS_CLEARED;
+    }
+
+    private static String describe(ModelChange change) {
+        switch (change.getType()) {
+        case PERSON_SAVED:
+            return "client " + change.getPerson().getName();
+        case PERSON_DELETED:
+            return "a client you deleted";
+        case PERSONS_CLEARED:
+            return "the clients";
+        case LISTING_SAVED:
+            return "listing " + change.getListing().getName();
+        case LISTING_DELETED:
+            return "a listing you deleted";
+        default:
+            return "the listings";
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the last segment, giving each saved or deleted person and listing the version
+     * after its latest one.
+     *
+     * @return the size of the segment afterwards.
+     */
+    private long appendEntry(List<ModelChange> changes) throws IOException {
+        Map<Id, Long> newVersions = new HashMap<>();
+        List<JsonVersionedChange> versionedChanges = new ArrayList<>();
+        for (ModelChange change : changes) {
+            Long version = null;
+            if (change.getId() != null) {
+                version = newVersions.getOrDefault(change.getId(), latestVersions.getOrDefault(change.getId(), 0L))
+                        + 1;
+                newVersions.put(change.getId(), version);
+            }
+            versionedChanges.add(new JsonVersionedChange(change, version));
+        }
+        byte[] entry = (JsonUtil.toSingleLineJsonString(new JsonSharedJournalEntry(instanceId, versionedChanges))
+                + "\n").getBytes(StandardCharsets.UTF_8);
+
+        TreeMap<Long, Path> segments = listSegments();
+        Path segment = getSegmentPath(segments.isEmpty() ? NO_SEGMENT + 1 : segments.lastKey());
+        long segmentSize;
+        // Other instances only write while holding the lock, so the entry can be written at the end of the segment
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long position = channel.size();
+            ByteBuffer bytes = ByteBuffer.wrap(entry);
+            if (!endsWithNewLine(channel)) {
+                // An entry cut short by a crash is ended first, so that it is skipped instead of spoiling this entry
+                channel.write(ByteBuffer.wrap(new byte[] {'\n'}), position++);
+            }
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+            channel.force(false);
+            segmentSize = position;
+        }
+        latestVersions.putAll(newVersions);
+        appliedVersions.putAll(newVersions);
+        return segmentSize;
+    }
+
+    private static boolean endsWithNewLine(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return true;
+        }
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        channel.read(lastByte, size - 1);
+        return lastByte.get(0) == '\n';
+    }
+
+    /**
+     * Returns true if the journal may have entries that have not been read yet.
+     */
+    private synchronized boolean hasNewEntries() throws IOException {
+        TreeMap<Long, Path> segments = listSegments();
+        if (segments.isEmpty()) {
+            return tailSegment != NO_SEGMENT;
+        }
+        if (segments.lastKey() != tailSegment) {
+            return true;
+        }
+        return Files.size(segments.lastEntry().getValue()) > tailOffset;
+    }
+
+    /**
+     * Returns the changes that replace the data of this instance with the data files and the journal, while no
+     * other instance can write to them.
+     */
+    private List<ModelChange> reload() throws IOException, DataLoadingException {
+        FileLock lock = lockJournal();
+        try {
+            JsonSharedJournalCheckpoint checkpoint = readCheckpoint();
+            ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+            ReadOnlyListings listings = storage.readListings(addressBook).orElseGet(Listings::new);
+
+            latestVersions.clear();
+            latestVersions.putAll(checkpoint.getVersions());
+            pendingChanges.clear();
+            long firstSegment = checkpoint.getSegment() + 1;
+            if (listSegments().tailMap(firstSegment, true).isEmpty()) {
+                // So that the position read up to is in a segment that exists
+                createSegment(firstSegment);
+            }
+            List<ModelChange> journaledChanges = new ArrayList<>();
+            readJournalFrom(firstSegment, 0, (instance, changes, versions) -> {
+                addVersions(changes, versions, latestVersions);
+                journaledChanges.addAll(changes);
+            });
+
+            List<ModelChange> changes = new ArrayList<>();
+            changes.add(ModelChange.listingsCleared());
+            changes.add(ModelChange.personsCleared());
+            try {
+                ModelChange.replay(addressBook, journaledChanges).getPersonList()
+                        .forEach(person -> changes.add(ModelChange.personSaved(person)));
+                ModelChange.replay(listings, journaledChanges).getListingList()
+                        .forEach(listing -> changes.add(ModelChange.listingSaved(listing)));
+            } catch (DuplicatePersonException | DuplicateListingException e) {
+                throw new DataLoadingException(e);
+            }
+            needsReload = false;
+            takePendingChanges();
+            logger.info("Reloaded all of the data from " + journalDirectory + " and the data files.");
+            return changes;
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * Writes the changes in the segments after the last checkpoint to the data files, starts a new segment for later
+     * changes, and deletes the segments that were written to the data files by the compaction before.
+     * The segments of this compaction are kept until the next one, so that other instances can still read them.
+     */
+    private synchronized void compact() throws IOException {
+        FileLock lock = lockJournal();
+        try {
+            JsonSharedJournalCheckpoint checkpoint = readCheckpoint();
+            TreeMap<Long, Path> segments = listSegments();
+            SortedMap<Long, Path> segmentsToCompact = segments.tailMap(checkpoint.getSegment(), false);
+            List<ModelChange> changes = new ArrayList<>();
+            Map<Id, Long> versions = checkpoint.getVersions();
+            for (Path segment : segmentsToCompact.values()) {
+                readSegment(segment, 0, (instance, entryChanges, entryVersions) -> {
+                    addVersions(entryChanges, entryVersions, versions);
+                    changes.addAll(entryChanges);
+                });
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            long lastSegment = segmentsToCompact.lastKey();
+            createSegment(lastSegment + 1);
+            try {
+                ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+                ReadOnlyListings listings = storage.readListings(addressBook).orElseGet(Listings::new);
+                storage.saveAddressBook(ModelChange.replay(addressBook, changes));
+                storage.saveListings(ModelChange.replay(listings, changes));
+            } catch (DataLoadingException | DuplicatePersonException | DuplicateListingException e) {
+                throw new IOException("The shared journal could not be written to the data files", e);
+            }
+            JsonUtil.saveJsonFile(JsonSharedJournalCheckpoint.of(lastSegment, versions),
+                    journalDirectory.resolve(CHECKPOINT_FILE_NAME));
+            for (Path segment : segments.headMap(checkpoint.getSegment(), true).values()) {
+                Files.deleteIfExists(segment);
+            }
+            logger.fine("Wrote the shared journal up to segment " + lastSegment + " to the data files.");
+        } finally {
+            lock.release();
+        }
+    }
+
+    private JsonSharedJournalCheckpoint readCheckpoint() throws IOException {
+        try {
+            return JsonUtil.readJsonFile(journalDirectory.resolve(CHECKPOINT_FILE_NAME),
+                    JsonSharedJournalCheckpoint.class)
+                    .orElseGet(() -> new JsonSharedJournalCheckpoint(NO_SEGMENT, null));
+        } catch (DataLoadingException e) {
+            throw new IOException("The shared journal's checkpoint could not be read", e);
+        }
+    }
+
+    private void createSegment(long segment) throws IOException {
+        Files.createDirectories(journalDirectory);
+        try {
+            Files.createFile(getSegmentPath(segment));
+        } catch (FileAlreadyExistsException e) {
+            // Already started
+        }
+    }
+
+    private Path getSegmentPath(long segment) {
+        return journalDirectory.resolve(String.format(SEGMENT_FILE_NAME_FORMAT, segment));
+    }
+
+    /**
+     * Returns the segment files in the journal directory, ordered by segment number.
+     */
+    private TreeMap<Long, Path> listSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        if (!Files.isDirectory(journalDirectory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(journalDirectory)) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Handles an entry read from the shared journal.
+     */
+    @FunctionalInterface
+    private interface EntryHandler {
+        void handle(String instance, List<ModelChange> changes, List<Long> versions);
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -34,13 +36,88 @@ public interface Storage extends AddressBookStorage, ListingStorage, UserPrefsSt
     Path getListingsFilePath();
 
     @Override
-    Optional<ReadOnlyListings> readListings() throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException;
 
     @Override
-    Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException;
+    Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException;
 
     @Override
     void saveListings(ReadOnlyListings listings) throws IOException;
 
+    /**
+     * Saves the {@code changes} that led to the current {@code addressBook} and {@code listings}.
+     * Depending on the storage, only the changes are recorded or the modified data is written in full.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException;
 
+    /**
+     * Saves the {@code changes} that led to the current {@code addressBook} and {@code listings} as
+     * {@link #saveChanges} does, but leaves the work that is not needed to keep them, such as writing the data in
+     * full once enough changes have been recorded and taking backups, to {@link #saveInFullIfDue}.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException;
+
+    /**
+     * Writes {@code addressBook} and {@code listings} in full if enough changes have been recorded since they were
+     * last written in full, and backs them up if a backup is due.
+     * @throws IOException if there was any problem writing the data files or the backup.
+     */
+    void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException;
+
+    /**
+     * Returns the changes recorded since the data was last written in full, which are to be replayed
+     * on top of the data read from the data files.
+     *
+     * @throws DataLoadingException if loading the changes from storage failed.
+     */
+    List<ModelChange> readChanges() throws DataLoadingException;
+
+    /**
+     * Sets aside the changes returned by {@link #readChanges()}, as they could not be replayed, so that they are
+     * kept for recovery by hand rather than discarded once the data is written in full.
+     */
+    void setAsideChanges();
+
+    /**
+     * Returns the changes saved by other instances of the app sharing the data directory, which have not been
+     * returned before and are to be applied to the data of this instance. Empty unless the data directory is shared.
+     *
+     * @throws DataLoadingException if loading the changes from storage failed.
+     */
+    List<ModelChange> readSharedChanges() throws DataLoadingException;
+
+    /**
+     * Writes {@code addressBook} and {@code listings} in full if only their changes have been recorded,
+     * so that the recorded changes are no longer needed to restore them. Waits for any pending writes.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException;
+
+    /**
+     * Backs up {@code addressBook} and {@code listings}.
+     *
+     * @return the timestamp of the new backup, or {@code Optional.empty()} if the data has not changed since the
+     *     last backup.
+     * @throws IOException if backups are not set up, or there was any problem writing the backup.
+     * @see BackupStorage#backup(ReadOnlyAddressBook, ReadOnlyListings)
+     */
+    Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException;
+
+    /**
+     * Returns the timestamps of all backups, oldest first.
+     * @throws IOException if there was any problem listing the backups.
+     */
+    List<String> getBackupTimestamps() throws IOException;
+
+    /**
+     * Returns the changes that turn empty data into the data backed up at {@code timestamp}.
+     *
+     * @throws DataLoadingException if there is no such backup, or it could not be read.
+     */
+    List<ModelChange> readBackup(String timestamp) throws DataLoadingException;
 }
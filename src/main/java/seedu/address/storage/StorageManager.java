@@ -2,11 +2,21 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyListings;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -14,17 +24,37 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * If a {@code JournalStorage} is given, changes are appended to the journal and the data files are only written
+ * in full, in the background, once the journal has grown past {@link #JOURNAL_COMPACTION_THRESHOLD} bytes.
+ * Either way, a data file is only written when its data has changed since it was last saved.
+ * If a {@code DatabaseStorage} is given instead, it holds the address book and listings, and only the rows of the
+ * changed persons and listings are written, in one transaction per save.
+ * If a {@code BackupStorage} is given, the data is also backed up whenever changes are saved and a backup is due.
  */
 public class StorageManager implements Storage {
 
+    public static final long JOURNAL_COMPACTION_THRESHOLD = 1024 * 1024;
+    public static final String MESSAGE_NO_BACKUP_STORAGE = "Backups are not set up.";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private static final String READ_ATTEMPT = "Attempting to read data from file: ";
     private static final String WRITE_ATTEMPT = "Attempting to write to data file: ";
     private AddressBookStorage addressBookStorage;
     private ListingStorage listingStorage;
     private UserPrefsStorage userPrefsStorage;
+    private JournalStorage journalStorage;
+    private DatabaseStorage databaseStorage;
+    private BackupStorage backupStorage;
+    private ExecutorService compactionExecutor;
+    // Whether the journal holds changes that are not in the data files yet
+    private volatile boolean hasJournaledChanges;
+    // Versions of the data last saved in full, see ReadOnlyAddressBook#getVersion and ReadOnlyListings#getVersion
+    private volatile long savedAddressBookVersion;
+    private volatile long savedListingsVersion;
+
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that writes the data files in full whenever changes are saved.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           ListingStorage listingStorage) {
@@ -33,6 +63,41 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given storages that records saved changes in {@code journalStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          ListingStorage listingStorage, JournalStorage journalStorage) {
+        this(addressBookStorage, userPrefsStorage, listingStorage);
+        this.journalStorage = journalStorage;
+        compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given storages that records saved changes in {@code journalStorage}
+     * and takes backups in {@code backupStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          ListingStorage listingStorage, JournalStorage journalStorage, BackupStorage backupStorage) {
+        this(addressBookStorage, userPrefsStorage, listingStorage, journalStorage);
+        this.backupStorage = backupStorage;
+    }
+
+    /**
+     * Creates a {@code StorageManager} that keeps the address book and listings in {@code databaseStorage}, saving
+     * only the changed rows, and takes backups in {@code backupStorage}.
+     */
+    public StorageManager(DatabaseStorage databaseStorage, UserPrefsStorage userPrefsStorage,
+                          BackupStorage backupStorage) {
+        this(databaseStorage, userPrefsStorage, databaseStorage);
+        this.databaseStorage = databaseStorage;
+        this.backupStorage = backupStorage;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -88,14 +153,22 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings() throws DataLoadingException {
-        return readListings(listingStorage.getListingsFilePath());
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        return readListings(addressBook, listingStorage.getListingsFilePath());
     }
 
     @Override
-    public Optional<ReadOnlyListings> readListings(Path filePath) throws DataLoadingException {
+    public Optional<ReadOnlyListings> readListings(ReadOnlyAddressBook addressBook, Path filePath)
+            throws DataLoadingException {
         logger.fine(READ_ATTEMPT + filePath);
-        return listingStorage.readListings(filePath);
+        return listingStorage.readListings(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyListings> readListingsWithPendingAddressBook(PendingAddressBook addressBook)
+            throws DataLoadingException {
+        logger.fine(READ_ATTEMPT + listingStorage.getListingsFilePath());
+        return listingStorage.readListingsWithPendingAddressBook(addressBook);
     }
 
     @Override
@@ -109,4 +182,195 @@ public class StorageManager implements Storage {
         listingStorage.saveListings(listings, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public void saveChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        recordChanges(addressBook, listings, changes);
+        if (isCompactionDue()) {
+            submitCompaction(addressBook, listings);
+        }
+        backupIfDue(addressBook, listings);
+    }
+
+    @Override
+    public void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings, List<ModelChange> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (databaseStorage != null) {
+            logger.fine(WRITE_ATTEMPT + databaseStorage.getAddressBookFilePath());
+            databaseStorage.saveChanges(changes);
+            return;
+        }
+        if (journalStorage == null) {
+            long addressBookVersion = addressBook.getVersion();
+            long listingsVersion = listings.getVersion();
+            if (addressBookVersion != savedAddressBookVersion) {
+                saveAddressBook(addressBook);
+                savedAddressBookVersion = addressBookVersion;
+            }
+            if (listingsVersion != savedListingsVersion) {
+                saveListings(listings);
+                savedListingsVersion = listingsVersion;
+            }
+            return;
+        }
+
+        journalStorage.appendToJournal(changes);
+        hasJournaledChanges = true;
+    }
+
+    /**
+     * Writes {@code addressBook} and {@code listings} in full once the journal has grown past
+     * {@link #JOURNAL_COMPACTION_THRESHOLD} bytes, and backs them up if a backup is due. Waits for the data files to be
+     * written, so it should not be called on the JavaFX application thread.
+     */
+    @Override
+    public void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        Future<Void> compaction = isCompactionDue() ? submitCompaction(addressBook, listings) : null;
+        if (backupStorage != null && backupStorage.isBackupDue()) {
+            logger.fine(WRITE_ATTEMPT + backupStorage.getBackupDirectoryPath());
+            backupStorage.backup(addressBook, listings);
+        }
+        if (compaction != null) {
+            await(compaction);
+        }
+    }
+
+    @Override
+    public List<ModelChange> readChanges() throws DataLoadingException {
+        if (journalStorage == null) {
+            return Collections.emptyList();
+        }
+        logger.fine(READ_ATTEMPT + journalStorage.getJournalDirectoryPath());
+        List<ModelChange> changes = journalStorage.readJournal();
+        hasJournaledChanges |= !changes.isEmpty();
+        return changes;
+    }
+
+    @Override
+    public void setAsideChanges() {
+        if (journalStorage == null) {
+            return;
+        }
+        journalStorage.setAsideSegments();
+        hasJournaledChanges = false;
+    }
+
+    @Override
+    public List<ModelChange> readSharedChanges() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void flush(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        if (journalStorage == null) {
+            return;
+        }
+
+        await(hasJournaledChanges
+                ? submitCompaction(addressBook, listings)
+                : compactionExecutor.submit(() -> null));
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public Optional<String> backup(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) throws IOException {
+        if (backupStorage == null) {
+            throw new IOException(MESSAGE_NO_BACKUP_STORAGE);
+        }
+        logger.fine(WRITE_ATTEMPT + backupStorage.getBackupDirectoryPath());
+        return backupStorage.backup(addressBook, listings);
+    }
+
+    @Override
+    public List<String> getBackupTimestamps() throws IOException {
+        return backupStorage == null ? Collections.emptyList() : backupStorage.getBackupTimestamps();
+    }
+
+    @Override
+    public List<ModelChange> readBackup(String timestamp) throws DataLoadingException {
+        if (backupStorage == null) {
+            throw new DataLoadingException(new IOException(MESSAGE_NO_BACKUP_STORAGE));
+        }
+        logger.fine(READ_ATTEMPT + backupStorage.getBackupDirectoryPath());
+        return backupStorage.readBackup(timestamp);
+    }
+
+    /**
+     * Backs up {@code addressBook} and {@code listings} if a backup is due. A failed backup is only logged, as the
+     * changes themselves have been saved.
+     */
+    private void backupIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+        if (backupStorage == null) {
+            return;
+        }
+        try {
+            if (backupStorage.isBackupDue()) {
+                backupStorage.backup(addressBook, listings);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to back up the data: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private boolean isCompactionDue() {
+        return journalStorage != null && journalStorage.getCurrentSegmentSize() >= JOURNAL_COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Waits for the data files to be written by {@code pendingWrites}.
+     */
+    private static void await(Future<?> pendingWrites) throws IOException {
+        try {
+            pendingWrites.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the data files", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes copies of {@code addressBook} and {@code listings}, unless they are unchanged since they were last
+     * saved, in the background and then deletes the journal segments written so far.
+     * Changes saved in the meantime go to a new segment.
+     */
+    private Future<Void> submitCompaction(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+        long addressBookVersion = addressBook.getVersion();
+        long listingsVersion = listings.getVersion();
+        AddressBook addressBookToSave = addressBookVersion != savedAddressBookVersion
+                ? new AddressBook(addressBook)
+                : null;
+        Listings listingsToSave = listingsVersion != savedListingsVersion ? new Listings(listings) : null;
+        long lastSegment = journalStorage.closeSegment();
+        hasJournaledChanges = false;
+        return compactionExecutor.submit(() -> {
+            try {
+                if (addressBookToSave != null) {
+                    saveAddressBook(addressBookToSave);
+                    savedAddressBookVersion = addressBookVersion;
+                }
+                if (listingsToSave != null) {
+                    saveListings(listingsToSave);
+                    savedListingsVersion = listingsVersion;
+                }
+                journalStorage.deleteSegments(lastSegment);
+            } catch (IOException e) {
+                logger.warning("Failed to write the data files, keeping the journal: " + StringUtil.getDetails(e));
+                hasJournaledChanges = true;
+                throw e;
+            }
+            return null;
+        });
+    }
+
 }
@@ -0,0 +1,16 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Signals that listings could not be loaded, as they refer to clients that are not in the address book.
+ * The data file itself is intact, so it is not replaced by one of its rotated copies.
+ */
+public class UnresolvedClientsException extends DataLoadingException {
+    private static final long serialVersionUID = 1L;
+
+    public UnresolvedClientsException(String message) {
+        super(new IllegalValueException(message));
+    }
+}
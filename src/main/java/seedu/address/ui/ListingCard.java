@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -8,15 +10,19 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Line;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
  */
 public class ListingCard extends UiPart<Region> {
     private static final String FXML = "ListingListCard.fxml";
+    private static final String MISSING_CLIENT_NAME = "(unknown client)";
 
     public final Listing listing;
+    private final Function<Id, Person> getClient;
 
     @FXML
     private HBox cardPane;
@@ -41,10 +47,12 @@ public class ListingCard extends UiPart<Region> {
 
     /**
      * Creates a {@code ListingCard} with the given {@code Listing} and index to display.
+     * The seller and buyers of the listing are looked up by id through {@code getClient}.
      */
-    public ListingCard(Listing listing, int displayedIndex) {
+    public ListingCard(Listing listing, int displayedIndex, Function<Id, Person> getClient) {
         super(FXML);
         this.listing = listing;
+        this.getClient = getClient;
         id.setText(displayedIndex + ". ");
         initializeName();
         initializeUnderline();
@@ -118,7 +126,8 @@ public class ListingCard extends UiPart<Region> {
     }
 
     private void initializeSeller() {
-        String actualSeller = listing.getSeller().getName().fullName;
+        Person sellerPerson = getClient.apply(listing.getSellerId());
+        String actualSeller = sellerPerson == null ? MISSING_CLIENT_NAME : sellerPerson.getName().fullName;
 
         // Check if the seller name length is greater than 55
         if (actualSeller.length() > 55) {
@@ -133,7 +142,9 @@ public class ListingCard extends UiPart<Region> {
         buyers.setHgap(10);
         buyers.setVgap(10);
 
-        listing.getBuyers().stream()
+        listing.getBuyerIds().stream()
+                .map(getClient)
+                .filter(Objects::nonNull)
                 .sorted(Comparator.comparing(buyer -> buyer.getName().fullName))
                 .forEach(buyer -> {
                     String actualName = buyer.getName().fullName;
@@ -1,14 +1,18 @@
 package seedu.address.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of persons.
@@ -20,13 +24,20 @@ public class ListingListPanel extends UiPart<Region> {
     @FXML
     private ListView<Listing> listingListView;
 
+    private final Function<Id, Person> getClient;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * The clients of the listings are looked up by id through {@code getClient} when the listings are shown, and
+     * the shown listings are redrawn whenever {@code clients} changes, as the listings themselves do not.
      */
-    public ListingListPanel(ObservableList<Listing> listingList) {
+    public ListingListPanel(ObservableList<Listing> listingList, ObservableList<Person> clients,
+            Function<Id, Person> getClient) {
         super(FXML);
+        this.getClient = getClient;
         listingListView.setItems(listingList);
         listingListView.setCellFactory(listView -> new ListingListViewCell());
+        clients.addListener((InvalidationListener) unused -> listingListView.refresh());
     }
 
     /**
@@ -41,7 +52,7 @@ public class ListingListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ListingCard(listing, getIndex() + 1).getRoot());
+                setGraphic(new ListingCard(listing, getIndex() + 1, getClient).getRoot());
             }
         }
     }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.InvalidationListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -35,6 +36,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ListingListPanel listingListPanel;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -114,13 +116,21 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        listingListPanel = new ListingListPanel(logic.getFilteredListingList());
+        listingListPanel = new ListingListPanel(logic.getFilteredListingList(),
+                logic.getAddressBook().getPersonList(), logic::getPersonById);
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        // The counts are read from the region buckets of the listings, so they are cheap to refresh on every change
+        logic.getListings().getListingList().addListener((InvalidationListener) unused ->
+                statusBarFooter.setListingCounts(logic.getListingCountsByRegion()));
+        statusBarFooter.setListingCounts(logic.getListingCountsByRegion());
+        if (logic.isLoadingData()) {
+            statusBarFooter.showLoadingStatus("Loading data...");
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -176,6 +186,31 @@ public class MainWindow extends UiPart<Stage> {
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
     }
 
+    void showLoadingProgress(String status) {
+        statusBarFooter.showLoadingStatus(status);
+    }
+
+    /**
+     * Shows {@code message} about data that could not be written in the background in the result display.
+     */
+    void showWriteFailure(String message) {
+        resultDisplay.setFeedbackToUser(message);
+    }
+
+    /**
+     * Hides the loading status, then runs the commands that were entered while the data was loading.
+     */
+    void handleDataLoaded() {
+        statusBarFooter.hideLoadingStatus();
+        for (String commandText : logic.finishLoadingData()) {
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // The error has already been shown in the result display
+            }
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
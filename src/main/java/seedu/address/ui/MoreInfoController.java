@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.function.BiFunction;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
@@ -15,6 +17,7 @@ import seedu.address.model.person.Person;
  */
 public class MoreInfoController {
     private Person person;
+    private BiFunction<Person, String, Person> remarkUpdater;
 
     @FXML
     private Label clientNameLabel;
@@ -56,6 +59,13 @@ public class MoreInfoController {
         clientRemarksLabel.setText("" + person.getRemark());
     }
 
+    /**
+     * Sets the function that saves a new remark of the shown client and returns the updated client.
+     */
+    public void setRemarkUpdater(BiFunction<Person, String, Person> remarkUpdater) {
+        this.remarkUpdater = remarkUpdater;
+    }
+
     /**
      * Handles key pressed events in the remark input text area.
      * @param event The key event that occurred.
@@ -65,7 +75,7 @@ public class MoreInfoController {
             String newRemark = remarkInput.getText().trim();
             if (!newRemark.isEmpty()) {
                 clientRemarksLabel.setText(newRemark);
-                person.updateRemark(newRemark);
+                person = remarkUpdater.apply(person, newRemark);
                 remarkInput.clear();
             }
             event.consume();
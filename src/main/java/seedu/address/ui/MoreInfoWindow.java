@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.util.function.BiFunction;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -20,8 +21,9 @@ public class MoreInfoWindow {
      * Creates a MoreInfoWindow with the specified client details.
      *
      * @param person The client whose information is to be displayed.
+     * @param remarkUpdater Saves a new remark of the client and returns the updated client.
      */
-    public MoreInfoWindow(Person person) {
+    public MoreInfoWindow(Person person, BiFunction<Person, String, Person> remarkUpdater) {
         stage = new Stage();
         stage.initModality(Modality.APPLICATION_MODAL);
         stage.setTitle("Client Information");
@@ -32,6 +34,7 @@ public class MoreInfoWindow {
 
             MoreInfoController controller = loader.getController();
             controller.setPerson(person);
+            controller.setRemarkUpdater(remarkUpdater);
 
             Scene scene = new Scene(layout, 800, 700);
             stage.setScene(scene);
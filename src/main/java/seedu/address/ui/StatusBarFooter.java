@@ -3,6 +3,9 @@ package seedu.address.ui;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -10,6 +13,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.stage.Stage;
 
@@ -23,12 +27,53 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label listingCountsStatus;
+
+    @FXML
+    private HBox loadingStatus;
+
+    @FXML
+    private Label loadingStatusText;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        hideLoadingStatus();
+    }
+
+    /**
+     * Shows the number of listings in each region that has any, such as "East: 2 | West: 1".
+     */
+    public void setListingCounts(Map<seedu.address.model.listing.Region, Integer> counts) {
+        listingCountsStatus.setText(counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> toTitleCase(entry.getKey().name()) + ": " + entry.getValue())
+                .collect(Collectors.joining(" | ")));
+    }
+
+    private static String toTitleCase(String word) {
+        return word.charAt(0) + word.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Shows the loading indicator with {@code status} next to it.
+     */
+    public void showLoadingStatus(String status) {
+        loadingStatusText.setText(status);
+        loadingStatus.setVisible(true);
+        loadingStatus.setManaged(true);
+    }
+
+    /**
+     * Hides the loading indicator.
+     */
+    public void hideLoadingStatus() {
+        loadingStatus.setVisible(false);
+        loadingStatus.setManaged(false);
     }
 
     /**
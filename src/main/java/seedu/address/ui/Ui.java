@@ -10,4 +10,13 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows how far the data has been loaded. */
+    void showLoadingProgress(String status);
+
+    /** Hides the loading progress, and runs the commands entered while the data was loading. */
+    void showDataLoaded();
+
+    /** Shows that the data could not be written in the background, with the given {@code message}. */
+    void showWriteFailure(String message);
+
 }
@@ -1,14 +1,17 @@
 package seedu.address.ui;
 
+import java.lang.management.ManagementFactory;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -21,9 +24,12 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/ezstates32.jpg";
+    private static final StartupProfiler profiler = StartupProfiler.getCurrent();
 
     private Logic logic;
     private MainWindow mainWindow;
+    private boolean isFirstFrameRendered;
+    private boolean isDataLoaded;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -40,16 +46,70 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            StartupProfiler.Phase windowPhase = profiler.startPhase("Loading the main window");
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
+            windowPhase.end();
+
+            StartupProfiler.Phase fillPhase = profiler.startPhase("Filling the main window");
             mainWindow.fillInnerParts();
+            fillPhase.end(logic.getFilteredPersonList().size() + logic.getFilteredListingList().size());
 
+            isDataLoaded = !logic.isLoadingData();
+            profileFirstFrame(primaryStage.getScene());
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
 
+    @Override
+    public void showLoadingProgress(String status) {
+        mainWindow.showLoadingProgress(status);
+    }
+
+    @Override
+    public void showDataLoaded() {
+        mainWindow.handleDataLoaded();
+        isDataLoaded = true;
+        finishStartupIfDone();
+    }
+
+    @Override
+    public void showWriteFailure(String message) {
+        mainWindow.showWriteFailure(message);
+    }
+
+    /**
+     * Profiles the time until the first frame of {@code scene} has been laid out.
+     */
+    private void profileFirstFrame(Scene scene) {
+        StartupProfiler.Phase renderPhase = profiler.startPhase("Rendering the first frame");
+        Runnable pulseListener = new Runnable() {
+            @Override
+            public void run() {
+                if (isFirstFrameRendered) {
+                    return;
+                }
+                renderPhase.end(logic.getFilteredPersonList().size() + logic.getFilteredListingList().size());
+                isFirstFrameRendered = true;
+                // Listeners cannot be removed while the scene is notifying them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                finishStartupIfDone();
+            }
+        };
+        scene.addPostLayoutPulseListener(pulseListener);
+    }
+
+    /**
+     * Ends the startup once the first frame has been rendered and the data has been loaded.
+     */
+    private void finishStartupIfDone() {
+        if (isFirstFrameRendered && isDataLoaded) {
+            profiler.finish(MainApp.VERSION, ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupProfilerTest {
+
+    private static final Version VERSION = new Version(1, 2, 3, false);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void startPhase_ended_phaseRecorded() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.startPhase("Reading the address book").end(42);
+        profiler.startPhase("Reading the config").end();
+
+        List<StartupProfiler.PhaseStats> phases = profiler.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("Reading the address book", phases.get(0).getName());
+        assertEquals(42, phases.get(0).getRecordCount());
+        assertEquals(StartupProfiler.NO_RECORD_COUNT, phases.get(1).getRecordCount());
+        assertTrue(phases.get(0).getDurationMillis() >= 0);
+    }
+
+    @Test
+    public void phaseStatsToString_withAndWithoutRecords() {
+        assertEquals("Reading: 12 ms, 3 records, 2 KB allocated",
+                new StartupProfiler.PhaseStats("Reading", 12, 3, 2048).toString());
+        assertEquals("Reading: 12 ms, 0 KB allocated",
+                new StartupProfiler.PhaseStats("Reading", 12, StartupProfiler.NO_RECORD_COUNT, 0).toString());
+    }
+
+    @Test
+    public void finish_statsFilePath_runSavedOnce() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.setStatsFilePath(testFolder.resolve(StartupProfiler.STATS_FILE_NAME));
+        profiler.startPhase("Reading the preferences").end();
+        assertFalse(profiler.isFinished());
+
+        profiler.finish(VERSION, 100);
+        profiler.finish(VERSION, 200);
+        assertTrue(profiler.isFinished());
+
+        List<String> runs = profiler.readRuns();
+        assertEquals(1, runs.size());
+        assertTrue(runs.get(0).contains(VERSION + " | total 100 ms | Reading the preferences: "));
+    }
+
+    @Test
+    public void finish_manyRuns_onlyLatestRunsKept() throws Exception {
+        Path statsFilePath = testFolder.resolve(StartupProfiler.STATS_FILE_NAME);
+        for (int i = 0; i < StartupProfiler.MAX_RUN_COUNT + 5; i++) {
+            StartupProfiler profiler = new StartupProfiler();
+            profiler.setStatsFilePath(statsFilePath);
+            profiler.finish(VERSION, i);
+        }
+
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.setStatsFilePath(statsFilePath);
+        List<String> runs = profiler.readRuns();
+        assertEquals(StartupProfiler.MAX_RUN_COUNT, runs.size());
+        assertTrue(runs.get(0).endsWith("total 5 ms"));
+        assertTrue(runs.get(runs.size() - 1).endsWith("total " + (StartupProfiler.MAX_RUN_COUNT + 4) + " ms"));
+    }
+
+    @Test
+    public void getReport_earlierRuns_newestFirstWithoutThisRun() {
+        Path statsFilePath = testFolder.resolve(StartupProfiler.STATS_FILE_NAME);
+        for (int i = 1; i <= 2; i++) {
+            StartupProfiler profiler = new StartupProfiler();
+            profiler.setStatsFilePath(statsFilePath);
+            profiler.startPhase("Reading the config").end();
+            profiler.finish(VERSION, i);
+        }
+
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.setStatsFilePath(statsFilePath);
+        profiler.startPhase("Reading the listings").end(7);
+        profiler.finish(VERSION, 3);
+
+        String report = profiler.getReport();
+        assertTrue(report.startsWith("Phases of this startup:\nReading the listings: "));
+        assertFalse(report.contains("total 3 ms"));
+        assertTrue(report.indexOf("total 2 ms") < report.indexOf("total 1 ms"));
+        assertFalse(report.contains("Reading the config"));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    @Test
+    public void getFilePath() {
+        // extension replaced
+        assertEquals(Paths.get("data", "listings.bin"),
+                StorageFormat.BINARY.getFilePath(Paths.get("data", "listings.json")));
+
+        // extension with several parts
+        assertEquals(Paths.get("data", "addressbook.mv.db"),
+                StorageFormat.DATABASE.getFilePath(Paths.get("data", "addressbook.json")));
+
+        // extension added
+        assertEquals(Paths.get("data", "listings.json"), StorageFormat.JSON.getFilePath(Paths.get("data", "listings")));
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> StorageFormat.BINARY.getFilePath(null));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileEncoding;
+import seedu.address.commons.util.EncodedFileUtil.DecodingInputStream;
+
+public class EncodedFileUtilTest {
+
+    private static final byte[] CONTENT = "{ \"persons\" : [ ] }".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_eachEncoding_readBackUnchanged() throws Exception {
+        for (DataFileEncoding encoding : DataFileEncoding.values()) {
+            Path file = write(encoding);
+            assertArrayEquals(CONTENT, read(file));
+        }
+    }
+
+    @Test
+    public void write_plain_contentAsIs() throws Exception {
+        assertArrayEquals(CONTENT, Files.readAllBytes(write(DataFileEncoding.PLAIN)));
+    }
+
+    @Test
+    public void write_compressed_smallerThanContent() throws Exception {
+        assertFalse(Files.size(write(DataFileEncoding.COMPRESSED)) >= CONTENT.length);
+    }
+
+    @Test
+    public void read_corruptedFile_throwsIoException() throws Exception {
+        for (DataFileEncoding encoding : Arrays.asList(DataFileEncoding.CHECKSUMMED, DataFileEncoding.COMPRESSED)) {
+            Path file = write(encoding);
+            byte[] fileContent = Files.readAllBytes(file);
+            fileContent[fileContent.length - 10] ^= 0x01;
+            Files.write(file, fileContent);
+            assertThrows(IOException.class, () -> read(file));
+        }
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path file = write(DataFileEncoding.CHECKSUMMED);
+        byte[] fileContent = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(fileContent, fileContent.length - 100));
+        assertThrows(IOException.class, () -> read(file));
+
+        Files.write(file, Arrays.copyOf(fileContent, 7));
+        assertThrows(IOException.class, () -> read(file));
+    }
+
+    @Test
+    public void read_contentPartlyRead_restIsChecked() throws Exception {
+        Path file = write(DataFileEncoding.CHECKSUMMED);
+        try (DecodingInputStream in = EncodedFileUtil.openForReading(file)) {
+            assertEquals(CONTENT[0], in.read());
+            in.verify();
+        }
+    }
+
+    private Path write(DataFileEncoding encoding) throws IOException {
+        Path file = testFolder.resolve(encoding + ".json");
+        FileUtil.writeToFileAtomically(file, out -> EncodedFileUtil.write(out, encoding, content ->
+                content.write(CONTENT)));
+        return file;
+    }
+
+    private static byte[] read(Path file) throws IOException {
+        try (DecodingInputStream in = EncodedFileUtil.openForReading(file)) {
+            byte[] content = in.readAllBytes();
+            in.verify();
+            return content;
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,31 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingFile_fileCreated() throws IOException {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_oldContentKept() throws IOException {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -27,6 +35,17 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void saveJsonArrayFile_sameAsSerializedObject() throws IOException {
+        List<SerializableTestClass> elements = Arrays.asList(new SerializableTestClass(), new SerializableTestClass());
+        elements.forEach(SerializableTestClass::setTestValues);
+
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "elements", elements);
+
+        assertEquals(JsonUtil.toJsonString(Collections.singletonMap("elements", elements)),
+                FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -39,6 +58,41 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_otherFields_onlyArrayElementsRead() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"skipped\" : { \"values\" : [ 1 ] }, \"values\" : [ 2, 3 ] }");
+
+        List<Integer> values = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values", Integer.class, values::add);
+        assertEquals(Arrays.asList(2, 3), values);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "values",
+                Integer.class, value -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataLoadingException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ 1, 2 ]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values",
+                Integer.class, value -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_invalidElement_reportsPosition() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\n  \"values\" : [ 1,\n    2 ]\n}");
+        String expectedMessage = String.format(JsonUtil.MESSAGE_INVALID_ELEMENT, "values", 1, 3, 5, "invalid");
+
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonUtil.readJsonArrayFile(
+                SERIALIZATION_FILE, "values", Integer.class, value -> {
+                    if (value == 2) {
+                        throw new IllegalValueException("invalid");
+                    }
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
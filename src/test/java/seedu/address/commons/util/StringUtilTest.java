@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -45,6 +46,25 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for parseUnsignedLongSaturated --------------------------------------
+
+    @Test
+    public void parseUnsignedLongSaturated() {
+        // EP: not a number
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongSaturated(""));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongSaturated("500k"));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongSaturated("-1"));
+
+        // EP: numbers within range
+        assertEquals(0, StringUtil.parseUnsignedLongSaturated("0"));
+        assertEquals(123, StringUtil.parseUnsignedLongSaturated("0123"));
+        assertEquals(Long.MAX_VALUE, StringUtil.parseUnsignedLongSaturated(Long.toString(Long.MAX_VALUE)));
+
+        // EP: numbers larger than Long.MAX_VALUE
+        assertEquals(Long.MAX_VALUE, StringUtil.parseUnsignedLongSaturated("9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, StringUtil.parseUnsignedLongSaturated("123456789012345678901234567890"));
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
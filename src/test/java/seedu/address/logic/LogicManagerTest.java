@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -8,16 +10,20 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.DeleteClientProfileCommand;
@@ -68,6 +74,27 @@ public class LogicManagerTest {
         assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
     }
 
+    @Test
+    public void execute_whileLoadingData_commandQueued() throws Exception {
+        logic.startLoadingData();
+        String listCommand = ShowClientsCommand.COMMAND_WORD;
+        CommandResult result = logic.execute(listCommand);
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, listCommand), result.getFeedbackToUser());
+        assertTrue(logic.isLoadingData());
+
+        assertEquals(List.of(listCommand), logic.finishLoadingData());
+        assertFalse(logic.isLoadingData());
+        assertTrue(logic.finishLoadingData().isEmpty());
+    }
+
+    @Test
+    public void execute_helpWhileLoadingData_notQueued() throws Exception {
+        logic.startLoadingData();
+        CommandResult result = logic.execute(HelpCommand.COMMAND_WORD);
+        assertTrue(result.isShowHelp());
+        assertTrue(logic.finishLoadingData().isEmpty());
+    }
+
     @Test
     public void execute_addBuyerProfile_success() throws Exception {
         // Reset the model to avoid conflicts from previous tests
@@ -121,6 +148,20 @@ public class LogicManagerTest {
 
         assertCommandSuccess(listCommand, ShowClientsCommand.MESSAGE_SUCCESS, model);
     }
+    @Test
+    public void execute_readOnlyCommand_doesNotWriteDataFiles() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve(ADDRESS_BOOK_JSON)),
+                new JsonUserPrefsStorage(temporaryFolder.resolve(USER_PREFS_JSON)),
+                new JsonListingsStorage(temporaryFolder.resolve(LISTINGS_JSON)))
+        );
+
+        logic.execute(ShowClientsCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve(ADDRESS_BOOK_JSON)));
+        assertFalse(Files.exists(temporaryFolder.resolve(LISTINGS_JSON)));
+    }
+
     @Test
     public void execute_listCommandWhenNoClients_throwsCommandException() {
         model = new ModelManager();
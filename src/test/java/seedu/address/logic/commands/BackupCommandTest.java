@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonBackupStorage;
+import seedu.address.storage.JsonJournalStorage;
+import seedu.address.storage.JsonListingsStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class BackupCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalListings());
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = createStorage(testFolder);
+    }
+
+    /**
+     * Returns a {@code Storage} that keeps its files and backups in {@code folder}.
+     */
+    static Storage createStorage(Path folder) {
+        return new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")),
+                new JsonListingsStorage(folder.resolve("listings.json")),
+                new JsonJournalStorage(folder.resolve("journal")),
+                new JsonBackupStorage(folder.resolve("backups"), JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL,
+                        Duration.ZERO));
+    }
+
+    @Test
+    public void execute_changedData_backupTaken() throws Exception {
+        CommandResult result = new BackupCommand().execute(model, storage);
+
+        String timestamp = storage.getBackupTimestamps().get(0);
+        assertEquals(new CommandResult(String.format(BackupCommand.MESSAGE_SUCCESS, timestamp)), result);
+    }
+
+    @Test
+    public void execute_unchangedData_noBackupTaken() throws Exception {
+        new BackupCommand().execute(model, storage);
+        CommandResult result = new BackupCommand().execute(model, storage);
+
+        String timestamp = storage.getBackupTimestamps().get(0);
+        assertEquals(new CommandResult(String.format(BackupCommand.MESSAGE_UNCHANGED, timestamp)), result);
+        assertEquals(1, storage.getBackupTimestamps().size());
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        assertCommandFailure(new BackupCommand(), model, BackupCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+
+    @Test
+    public void execute_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackupCommand().execute(model, null));
+    }
+
+    @Test
+    public void execute_noBackupStorage_throwsCommandException() {
+        Storage storageWithoutBackups = new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")),
+                new JsonListingsStorage(testFolder.resolve("listings.json")));
+        assertThrows(CommandException.class, String.format(BackupCommand.MESSAGE_BACKUP_FAILED,
+                StorageManager.MESSAGE_NO_BACKUP_STORAGE), () -> new BackupCommand().execute(model,
+                storageWithoutBackups));
+    }
+}
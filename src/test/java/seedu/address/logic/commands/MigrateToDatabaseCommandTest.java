@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DatabaseStorage;
+import seedu.address.storage.Storage;
+
+public class MigrateToDatabaseCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalListings());
+    private Storage storage;
+    private Path databaseFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        storage = BackupCommandTest.createStorage(testFolder);
+        databaseFilePath = testFolder.resolve("addressbook.mv.db");
+    }
+
+    @Test
+    public void execute_jsonDataFiles_migratedAndAppClosed() throws Exception {
+        storage.saveAddressBook(model.getAddressBook());
+        storage.saveListings(model.getListings());
+
+        CommandResult result = new MigrateToDatabaseCommand().execute(model, storage);
+
+        int personCount = getTypicalAddressBook().getPersonList().size();
+        int listingCount = getTypicalListings().getListingList().size();
+        assertEquals(new CommandResult(String.format(MigrateToDatabaseCommand.MESSAGE_SUCCESS, personCount,
+                listingCount, databaseFilePath), false, true, false, false), result);
+        assertEquals(StorageFormat.DATABASE, model.getUserPrefs().getStorageFormat());
+        DatabaseStorage databaseStorage = new DatabaseStorage(databaseFilePath);
+        assertEquals(personCount, databaseStorage.getPersonCount());
+        assertEquals(listingCount, databaseStorage.getListingCount());
+        databaseStorage.close();
+    }
+
+    @Test
+    public void execute_databaseExists_throwsCommandException() throws Exception {
+        DatabaseStorage databaseStorage = new DatabaseStorage(databaseFilePath);
+        databaseStorage.saveAll(model.getAddressBook(), model.getListings());
+        databaseStorage.close();
+
+        assertThrows(CommandException.class, String.format(MigrateToDatabaseCommand.MESSAGE_DATABASE_EXISTS,
+                databaseFilePath), () -> new MigrateToDatabaseCommand().execute(model, storage));
+    }
+
+    @Test
+    public void execute_notJsonFormat_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStorageFormat(StorageFormat.BINARY);
+        model.setUserPrefs(userPrefs);
+
+        assertThrows(CommandException.class, String.format(MigrateToDatabaseCommand.MESSAGE_NOT_JSON,
+                StorageFormat.BINARY), () -> new MigrateToDatabaseCommand().execute(model, storage));
+    }
+
+    @Test
+    public void execute_noDataFiles_throwsCommandException() {
+        assertThrows(CommandException.class, MigrateToDatabaseCommand.MESSAGE_NO_DATA, () ->
+                new MigrateToDatabaseCommand().execute(model, storage));
+        assertEquals(StorageFormat.JSON, model.getUserPrefs().getStorageFormat());
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        assertCommandFailure(new MigrateToDatabaseCommand(), model, BackupCommand.MESSAGE_STORAGE_REQUIRED);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+
+public class RestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalListings());
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = BackupCommandTest.createStorage(testFolder);
+    }
+
+    @Test
+    public void execute_existingBackup_dataRestoredAfterBackingUpCurrentData() throws Exception {
+        String timestamp = storage.backup(model.getAddressBook(), model.getListings()).get();
+        model.setAddressBook(new AddressBook());
+        model.setListings(new Listings());
+        model.takeChanges();
+
+        CommandResult result = new RestoreCommand(timestamp).execute(model, storage);
+
+        List<String> timestamps = storage.getBackupTimestamps();
+        assertEquals(2, timestamps.size());
+        assertEquals(new CommandResult(String.format(RestoreCommand.MESSAGE_SUCCESS_WITH_BACKUP, timestamp,
+                timestamps.get(1))), result);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(getTypicalListings(), model.getListings());
+        // The restored data is saved like any other change
+        assertFalse(model.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void execute_noBackups_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_NO_BACKUPS, () ->
+                new RestoreCommand("20241018-140000").execute(model, storage));
+    }
+
+    @Test
+    public void execute_unknownTimestamp_throwsCommandException() throws Exception {
+        String timestamp = storage.backup(model.getAddressBook(), model.getListings()).get();
+        assertThrows(CommandException.class, String.format(RestoreCommand.MESSAGE_UNKNOWN_BACKUP,
+                "20000101-000000", timestamp), () -> new RestoreCommand("20000101-000000").execute(model, storage));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreCommand = new RestoreCommand("20241018-140000");
+
+        // same object -> returns true
+        assertTrue(restoreCommand.equals(restoreCommand));
+
+        // same values -> returns true
+        assertTrue(restoreCommand.equals(new RestoreCommand("20241018-140000")));
+
+        // different types -> returns false
+        assertFalse(restoreCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreCommand.equals(null));
+
+        // different timestamp -> returns false
+        assertFalse(restoreCommand.equals(new RestoreCommand("20241018-150000")));
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StartupStatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_startupStats_showsReport() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.startPhase("Reading the config").end();
+
+        CommandResult expectedCommandResult = new CommandResult(profiler.getReport());
+        assertCommandSuccess(new StartupStatsCommand(profiler), model, expectedCommandResult, expectedModel);
+    }
+}
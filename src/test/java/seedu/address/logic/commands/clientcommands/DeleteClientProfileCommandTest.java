@@ -14,7 +14,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +26,7 @@ import seedu.address.model.Listings;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 
@@ -46,7 +49,11 @@ public class DeleteClientProfileCommandTest {
 
         Model expectedModel =
                 new ModelManager(model.getAddressBook(), new UserPrefs(), getTypicalListings());
-        expectedModel.getListings().getListingList().forEach(listing -> listing.removeBuyer(personToDelete));
+        for (Listing listing : expectedModel.getListingsForBuyer(personToDelete)) {
+            Set<Id> remainingBuyerIds = new HashSet<>(listing.getBuyerIds());
+            remainingBuyerIds.remove(personToDelete.getId());
+            expectedModel.setListing(listing, listing.modifyListingWithBuyers(remainingBuyerIds));
+        }
         expectedModel.deletePerson(personToDelete);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -65,7 +72,7 @@ public class DeleteClientProfileCommandTest {
         Model expectedModel =
                 new ModelManager(model.getAddressBook(), new UserPrefs(), getTypicalListings());
         List<Listing> listingsToDelete = expectedModel.getListings().getListingList().stream()
-                .filter(listing -> listing.getSeller().equals(personToDelete))
+                .filter(listing -> listing.getSellerId().equals(personToDelete.getId()))
                 .toList();
         for (Listing listing : listingsToDelete) {
             expectedModel.deleteListing(listing);
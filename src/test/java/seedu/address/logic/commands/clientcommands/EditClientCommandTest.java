@@ -80,6 +80,17 @@ public class EditClientCommandTest {
         assertCommandSuccess(editClientCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_someFieldsSpecified_keepsId() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+
+        new EditClientCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getPersonById(personToEdit.getId());
+        assertEquals(VALID_PHONE_BOB, editedPerson.getPhone().value);
+    }
+
     @Test
     public void execute_noFieldSpecifiedUnfilteredList_success() {
         EditClientCommand editClientCommand = new EditClientCommand(INDEX_FIRST_PERSON, new EditPersonDescriptor());
@@ -2,6 +2,7 @@ package seedu.address.logic.commands.clientcommands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
@@ -10,13 +11,17 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.PERSON_INDEX_OUT_OF_BOUNDS;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.model.Listings;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class MoreInfoCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new Listings());
@@ -36,6 +41,32 @@ public class MoreInfoCommandTest {
         assertCommandFailure(moreInfoCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void updateRemark_personReplacedAndChangeRecorded() {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.takeChanges();
+
+        Person editedPerson = MoreInfoCommand.updateRemark(model, person, "Prefers calls after 6pm");
+
+        assertEquals("Prefers calls after 6pm", editedPerson.getRemark());
+        assertEquals(person.getId(), editedPerson.getId());
+        assertTrue(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()) == editedPerson);
+        List<ModelChange> changes = model.takeChanges();
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Type.PERSON_SAVED, changes.get(0).getType());
+        assertTrue(changes.get(0).getPerson() == editedPerson);
+    }
+
+    @Test
+    public void updateRemark_addressBookVersionChanges() {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        long initialVersion = model.getAddressBook().getVersion();
+
+        MoreInfoCommand.updateRemark(model, person, "Prefers calls after 6pm");
+
+        assertNotEquals(initialVersion, model.getAddressBook().getVersion());
+    }
+
     @Test
     public void equals() {
         MoreInfoCommand moreInfoFirstCommand = new MoreInfoCommand(INDEX_FIRST_PERSON);
@@ -3,8 +3,8 @@ package seedu.address.logic.commands.listingcommands;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.math.BigDecimal;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,8 +24,7 @@ import seedu.address.testutil.PersonBuilder;
 public class ClearListingCommandTest {
     private static final Name VALID_LISTING_NAME = new Name("Valid Listing Name");
     private static final Address VALID_ADDRESS = new Address("Valid Address");
-    private static final Price VALID_PRICE = new Price("500k",
-            new BigDecimal(5000000));
+    private static final Price VALID_PRICE = new Price("500000");
     private static final Area VALID_AREA = new Area("999");
     private static final Region VALID_REGION = Region.WEST;
     private static final Person VALID_SELLER = new PersonBuilder().buildSeller();
@@ -36,8 +35,8 @@ public class ClearListingCommandTest {
             VALID_PRICE,
             VALID_AREA,
             VALID_REGION,
-            VALID_SELLER,
-            VALID_BUYERS);
+            VALID_SELLER.getId(),
+            VALID_BUYERS.stream().map(Person::getId).collect(Collectors.toSet()));
     @Test
     public void execute_emptyListing_success() {
         Model model = new ModelManager();
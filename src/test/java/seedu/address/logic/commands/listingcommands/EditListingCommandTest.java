@@ -28,7 +28,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.listing.Listing;
-import seedu.address.model.person.Person;
 import seedu.address.testutil.EditListingDescriptorBuilder;
 import seedu.address.testutil.ListingBuilder;
 
@@ -37,8 +36,7 @@ public class EditListingCommandTest {
 
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
-        Listing editedListing = new ListingBuilder(SIMEI).withBuyers(SENGKANG.getBuyers()
-                .toArray(new Person[0])).build();
+        Listing editedListing = new ListingBuilder(SIMEI).withBuyerIds(SENGKANG.getBuyerIds()).build();
 
         EditListingDescriptor descriptor = new EditListingDescriptorBuilder(editedListing).build();
         EditListingCommand editListingCommand = new EditListingCommand(INDEX_FIFTH_LISTING, descriptor);
@@ -87,8 +85,7 @@ public class EditListingCommandTest {
     @Test
     public void execute_filteredList_success() {
         showListingAtIndex(model, INDEX_FIRST_LISTING);
-        Listing editedListing = new ListingBuilder(SIMEI).withBuyers(PASIR_RIS.getBuyers()
-                .toArray(new Person[0])).build();
+        Listing editedListing = new ListingBuilder(SIMEI).withBuyerIds(PASIR_RIS.getBuyerIds()).build();
         EditListingDescriptor descriptor = new EditListingDescriptorBuilder(editedListing).build();
         EditListingCommand editListingCommand = new EditListingCommand(INDEX_FIRST_LISTING, descriptor);
 
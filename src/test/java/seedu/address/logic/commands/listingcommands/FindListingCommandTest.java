@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,7 +16,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
+import seedu.address.testutil.ListingBuilder;
 import seedu.address.testutil.TypicalListings;
 
 public class FindListingCommandTest {
@@ -82,7 +87,8 @@ public class FindListingCommandTest {
         ListingContainsKeywordsPredicate predicate = new ListingContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindListingCommand findListingCommand = new FindListingCommand(predicate);
 
-        String expected = FindListingCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindListingCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", rangePredicate=null, regions=[]}";
         assertEquals(expected, findListingCommand.toString());
     }
 
@@ -92,4 +98,96 @@ public class FindListingCommandTest {
     private ListingContainsKeywordsPredicate preparePredicate(String userInput) {
         return new ListingContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
+
+    /**
+     * Returns the message reporting the average price per square meter of {@code listings}.
+     */
+    private String expectedAverageMessage(Listing... listings) {
+        long total = 0;
+        for (Listing listing : listings) {
+            total += listing.getPricePerSquareMeter();
+        }
+        return FindListingCommand.formatAveragePricePerSquareMeter(total / listings.length);
+    }
+
+    @Test
+    public void formatAveragePricePerSquareMeter_centsShownAsDollars() {
+        assertEquals("Average price per square meter of all listings in the price and area range: $9333.05",
+                FindListingCommand.formatAveragePricePerSquareMeter(933305));
+    }
+
+    @Test
+    public void execute_priceRange_listingsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 2) + "\n"
+                + expectedAverageMessage(TypicalListings.PASIR_RIS, TypicalListings.TAMPINES);
+        ListingInRangePredicate rangePredicate = new ListingInRangePredicate(60000000, 70000000, 0,
+                ListingInRangePredicate.NO_LIMIT);
+        FindListingCommand command = new FindListingCommand(null, rangePredicate);
+
+        expectedModel.updateFilteredListingList(rangePredicate);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.PASIR_RIS, TypicalListings.TAMPINES),
+                model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_priceRangeThenListingsChanged_matchingListingsShown() {
+        ListingInRangePredicate rangePredicate = new ListingInRangePredicate(60000000, 70000000, 0,
+                ListingInRangePredicate.NO_LIMIT);
+        new FindListingCommand(null, rangePredicate).execute(model);
+
+        // Listings replaced after the search are shown if they still match it
+        Listing renamedPasirRis = new ListingBuilder(TypicalListings.PASIR_RIS).withName("Pasir Ris Loft").build();
+        model.setListing(TypicalListings.PASIR_RIS, renamedPasirRis);
+        Listing cheaperTampines = new ListingBuilder(TypicalListings.TAMPINES).withPrice("400000").build();
+        model.setListing(TypicalListings.TAMPINES, cheaperTampines);
+
+        assertEquals(Collections.singletonList(renamedPasirRis),
+                model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_keywordsAndRanges_listingsMatchingBothFound() {
+        // The average covers every listing within the ranges, not only those matching the keywords
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 2) + "\n"
+                + expectedAverageMessage(TypicalListings.KENT_RIDGE, TypicalListings.BUONA_VISTA,
+                        TypicalListings.SENGKANG, TypicalListings.PUNGGOL, TypicalListings.SENTOSA);
+        ListingContainsKeywordsPredicate predicate = preparePredicate("Condo");
+        ListingInRangePredicate rangePredicate = new ListingInRangePredicate(0, 50000000, 90, 90);
+        FindListingCommand command = new FindListingCommand(predicate, rangePredicate);
+
+        expectedModel.updateFilteredListingList(predicate.and(rangePredicate));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.KENT_RIDGE, TypicalListings.PUNGGOL),
+                model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_regions_listingsInRegionsFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 3);
+        FindListingCommand command = new FindListingCommand(null, null, EnumSet.of(Region.WEST, Region.SOUTH));
+
+        expectedModel.updateFilteredListingList(listing -> listing.getRegion() == Region.WEST
+                || listing.getRegion() == Region.SOUTH);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.KENT_RIDGE, TypicalListings.BUONA_VISTA, TypicalListings.SENTOSA),
+                model.getFilteredListingList());
+    }
+
+    @Test
+    public void execute_rangeAndRegion_listingsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_LISTINGS_LISTED_OVERVIEW, 1) + "\n"
+                + expectedAverageMessage(TypicalListings.PASIR_RIS);
+        ListingInRangePredicate rangePredicate = new ListingInRangePredicate(65000000,
+                ListingInRangePredicate.NO_LIMIT, 0, ListingInRangePredicate.NO_LIMIT);
+        FindListingCommand command = new FindListingCommand(null, rangePredicate, EnumSet.of(Region.EAST));
+
+        expectedModel.updateFilteredListingList(rangePredicate);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalListings.PASIR_RIS), model.getFilteredListingList());
+    }
 }
@@ -17,11 +17,15 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ChatWindowCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.MigrateToDatabaseCommand;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.commands.StartupStatsCommand;
 import seedu.address.logic.commands.clientcommands.AddBuyerProfileCommand;
 import seedu.address.logic.commands.clientcommands.AddSellerProfileCommand;
 import seedu.address.logic.commands.clientcommands.DeleteClientProfileCommand;
@@ -137,6 +141,27 @@ public class EzstatesParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_startupStats() throws Exception {
+        assertTrue(parser.parseCommand(StartupStatsCommand.COMMAND_WORD) instanceof StartupStatsCommand);
+    }
+
+    @Test
+    public void parseCommand_backup() throws Exception {
+        assertTrue(parser.parseCommand(BackupCommand.COMMAND_WORD) instanceof BackupCommand);
+    }
+
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand("20241018-140000"),
+                parser.parseCommand(RestoreCommand.COMMAND_WORD + " 20241018-140000"));
+    }
+
+    @Test
+    public void parseCommand_migrateToDatabase() throws Exception {
+        assertTrue(parser.parseCommand(MigrateToDatabaseCommand.COMMAND_WORD) instanceof MigrateToDatabaseCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ShowClientsCommand.COMMAND_WORD) instanceof ShowClientsCommand);
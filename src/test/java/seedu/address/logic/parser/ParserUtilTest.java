@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -250,14 +249,14 @@ public class ParserUtilTest {
     @Test
     public void parsePrice_validValueWithoutWhitespace_returnsPrice() throws Exception {
         Price result = ParserUtil.parsePrice(VALID_PRICE);
-        Price expected = new Price(VALID_PRICE, new BigDecimal(VALID_PRICE));
+        Price expected = new Price(VALID_PRICE);
         assertEquals(expected, result);
     }
 
     @Test
     public void parsePrice_validValueWithWhitespace_returnsTrimmedPrice() throws Exception {
         Price result = ParserUtil.parsePrice(" " + VALID_PRICE + " ");
-        Price expected = new Price(VALID_PRICE, new BigDecimal(VALID_PRICE));
+        Price expected = new Price(VALID_PRICE);
         assertEquals(expected, result);
     }
 
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+    private RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRestoreCommand() {
+        assertParseSuccess(parser, " 20241018-140000 ", new RestoreCommand("20241018-140000"));
+    }
+
+    @Test
+    public void parse_missingTimestamp_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTimestamp_throwsParseException() {
+        assertParseFailure(parser, "2024-10-18", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RestoreCommand.MESSAGE_USAGE));
+    }
+}
@@ -18,7 +18,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.HashSet;
 
@@ -43,7 +42,7 @@ public class AddListingCommandParserTest {
 
         assertParseSuccess(parser, userInput, new AddListingCommand(
                 new Name(VALID_NAME_PASIR_RIS),
-                new Price(VALID_PRICE_PASIR_RIS, new BigDecimal(VALID_PRICE_PASIR_RIS)),
+                new Price(VALID_PRICE_PASIR_RIS),
                 new Area(VALID_AREA_PASIR_RIS),
                 new Address(VALID_ADDRESS_PASIR_RIS),
                 Region.fromString(VALID_REGION_PASIR_RIS),
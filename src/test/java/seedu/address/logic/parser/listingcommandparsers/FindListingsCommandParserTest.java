@@ -3,13 +3,19 @@ package seedu.address.logic.parser.listingcommandparsers;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.listing.ListingInRangePredicate.NO_LIMIT;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.listingcommands.FindListingCommand;
+import seedu.address.logic.parser.CliSyntax;
 import seedu.address.model.listing.ListingContainsKeywordsPredicate;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
 
 public class FindListingsCommandParserTest {
     private FindListingsCommandParser parser = new FindListingsCommandParser();
@@ -31,4 +37,42 @@ public class FindListingsCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Woodlands \n \t Marsiling  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_ranges_returnsFindCommand() {
+        // price in dollars, converted to cents
+        FindListingCommand expectedFindCommand = new FindListingCommand(null,
+                new ListingInRangePredicate(80000000, 120000000, 0, NO_LIMIT));
+        assertParseSuccess(parser, " pr/800000-1200000", expectedFindCommand);
+
+        // open-ended ranges with keywords
+        expectedFindCommand = new FindListingCommand(
+                new ListingContainsKeywordsPredicate(Arrays.asList("Woodlands")),
+                new ListingInRangePredicate(0, NO_LIMIT, 80, NO_LIMIT));
+        assertParseSuccess(parser, "Woodlands ar/80-", expectedFindCommand);
+        expectedFindCommand = new FindListingCommand(null, new ListingInRangePredicate(0, 50000000, 0, 100));
+        assertParseSuccess(parser, " pr/-500000 ar/-100", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, " pr/800000", FindListingsCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " pr/800k-1.2m", FindListingsCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ar/100-80", FindListingsCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ar/80-100 ar/90-100",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_AREA));
+    }
+
+    @Test
+    public void parse_regions_returnsFindCommand() {
+        FindListingCommand expectedFindCommand = new FindListingCommand(null, null,
+                EnumSet.of(Region.EAST, Region.NORTHEAST));
+        assertParseSuccess(parser, " reg/east reg/NorthEast", expectedFindCommand);
+
+        expectedFindCommand = new FindListingCommand(null, new ListingInRangePredicate(0, NO_LIMIT, 80, NO_LIMIT),
+                EnumSet.of(Region.WEST));
+        assertParseSuccess(parser, " ar/80- reg/west", expectedFindCommand);
+
+        assertParseFailure(parser, " reg/middle", "Invalid region: middle");
+    }
 }
@@ -5,10 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
-import seedu.address.model.person.Person;
+import seedu.address.model.listing.ListingInRangePredicate;
 import seedu.address.testutil.ListingBuilder;
 import seedu.address.testutil.TypicalListings;
 import seedu.address.testutil.TypicalPersons;
@@ -37,6 +43,16 @@ public class ListingsTest {
         assertFalse(listings.equals(differentListings));
     }
 
+    @Test
+    public void getVersion_afterModification_changes() {
+        Listings modifiedListings = new Listings();
+        long initialVersion = modifiedListings.getVersion();
+
+        modifiedListings.addListing(TypicalListings.PASIR_RIS);
+        assertNotEquals(initialVersion, modifiedListings.getVersion());
+        assertNotEquals(modifiedListings.getVersion(), new Listings(modifiedListings).getVersion());
+    }
+
     @Test
     public void hashCodeTest() {
         assertEquals(listings.hashCode(), listings.hashCode());
@@ -52,55 +68,57 @@ public class ListingsTest {
     }
 
     @Test
-    public void replaceBuyer_existingBuyer_replacesWithNewBuyer() {
-        Listing listing = new Listing(TypicalListings.PASIR_RIS);
-        Person buyerToRemove = TypicalPersons.DANIEL;
-        Person buyerToAdd = TypicalPersons.HOON;
-
-        assertTrue(listing.getBuyers().contains(buyerToRemove),
-                "The listing should contain DANIEL as a buyer initially.");
-
-        listing.replaceBuyer(buyerToRemove, buyerToAdd);
-
-        assertFalse(listing.getBuyers().contains(buyerToRemove),
-                "The listing should no longer contain DANIEL.");
-        assertTrue(listing.getBuyers().contains(buyerToAdd),
-                "The listing should now contain HOON as a buyer.");
-    }
-
-    @Test
-    public void replaceBuyer_nonExistingBuyer_noChange() {
-        Listing listing = new Listing(TypicalListings.PASIR_RIS);
-        Person buyerToRemove = TypicalPersons.AMY;
-        Person buyerToAdd = TypicalPersons.HOON;
-
-        assertFalse(listing.getBuyers().contains(buyerToRemove),
-                "The listing should not contain AMY initially.");
-
-        listing.replaceBuyer(buyerToRemove, buyerToAdd);
-
-        assertFalse(listing.getBuyers().contains(buyerToRemove),
-                "The listing should still not contain AMY.");
-        assertFalse(listing.getBuyers().contains(buyerToAdd),
-                "The listing should not contain HOON since AMY was not in the list.");
+    public void modifyListingWithBuyers_newBuyers_originalUnchanged() {
+        Listing originalListing = TypicalListings.PASIR_RIS;
+        Id buyerToRemove = TypicalPersons.DANIEL.getId();
+        Id buyerToAdd = TypicalPersons.HOON.getId();
+
+        Set<Id> updatedBuyerIds = new HashSet<>(originalListing.getBuyerIds());
+        updatedBuyerIds.remove(buyerToRemove);
+        updatedBuyerIds.add(buyerToAdd);
+        Listing modifiedListing = originalListing.modifyListingWithBuyers(updatedBuyerIds);
+
+        assertFalse(modifiedListing.hasBuyer(buyerToRemove), "The modified listing should no longer have DANIEL.");
+        assertTrue(modifiedListing.hasBuyer(buyerToAdd), "The modified listing should have HOON as a buyer.");
+        assertTrue(originalListing.hasBuyer(buyerToRemove), "The original listing should still have DANIEL.");
+        assertFalse(originalListing.hasBuyer(buyerToAdd), "The original listing should not have HOON.");
+        assertEquals(originalListing.getId(), modifiedListing.getId(), "The id should be unchanged.");
     }
 
     @Test
     public void modifyListingWithSeller_newSeller_returnsModifiedListing() {
         Listing originalListing = new Listing(TypicalListings.PASIR_RIS);
-        Person newSeller = TypicalPersons.BOB;
+        Id newSellerId = TypicalPersons.BOB.getId();
 
-        Listing modifiedListing = originalListing.modifyListingWithSeller(newSeller);
+        Listing modifiedListing = originalListing.modifyListingWithSeller(newSellerId);
 
-        assertEquals(newSeller, modifiedListing.getSeller(), "The modified listing should have BOB as the seller.");
+        assertEquals(newSellerId, modifiedListing.getSellerId(),
+                "The modified listing should have BOB as the seller.");
 
-        assertNotEquals(newSeller, originalListing.getSeller(),
+        assertNotEquals(newSellerId, originalListing.getSellerId(),
                 "The original listing should still have ALICE as the seller.");
-        assertEquals(originalListing.getBuyers(), modifiedListing.getBuyers(), "The buyers list should be unchanged.");
+        assertEquals(originalListing.getBuyerIds(), modifiedListing.getBuyerIds(),
+                "The buyers list should be unchanged.");
         assertEquals(originalListing.getAddress(), modifiedListing.getAddress(), "The address should be unchanged.");
         assertEquals(originalListing.getName(), modifiedListing.getName(), "The name should be unchanged.");
     }
 
+    @Test
+    public void getListingsInRange_afterModifications_indexKeptInStep() {
+        ListingInRangePredicate allListings = new ListingInRangePredicate(0, ListingInRangePredicate.NO_LIMIT,
+                0, ListingInRangePredicate.NO_LIMIT);
+        listings.setListings(Arrays.asList(TypicalListings.PASIR_RIS, TypicalListings.TAMPINES));
+        listings.addListing(sampleListing);
 
-}
+        Listing editedTampines = new ListingBuilder(TypicalListings.TAMPINES).withPrice("800000").build();
+        listings.setListing(new Listing(TypicalListings.TAMPINES), editedTampines);
+        listings.removeListing(new Listing(TypicalListings.PASIR_RIS));
 
+        List<Listing> found = listings.getListingsInRange(allListings);
+        assertEquals(2, found.size());
+        assertTrue(found.contains(sampleListing) && found.contains(editedTampines));
+        assertEquals(Arrays.asList(editedTampines), listings.getListingsInRange(
+                new ListingInRangePredicate(80000000, ListingInRangePredicate.NO_LIMIT, 0,
+                        ListingInRangePredicate.NO_LIMIT)));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ListingBuilder;
+
+public class ModelChangeTest {
+
+    @Test
+    public void personSaved_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModelChange.personSaved(null));
+    }
+
+    @Test
+    public void replay_personChanges_appliedInOrder() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        Person editedAlice = new Buyer(ALICE.getId(), ALICE.getName(), new Phone("99999999"), ALICE.getEmail(),
+                ALICE.getTags(), ALICE.getAppointment(), ALICE.getRemark());
+        List<ModelChange> changes = Arrays.asList(ModelChange.personSaved(CARL),
+                ModelChange.personSaved(editedAlice), ModelChange.personDeleted(BENSON.getId()));
+
+        AddressBook expected = new AddressBookBuilder().withPerson(editedAlice).withPerson(CARL).build();
+        assertEquals(expected, ModelChange.replay(addressBook, changes));
+    }
+
+    @Test
+    public void replay_changesAlreadyApplied_returnsSameData() {
+        Person editedAlice = new Buyer(ALICE.getId(), ALICE.getName(), new Phone("99999999"), ALICE.getEmail(),
+                ALICE.getTags(), ALICE.getAppointment(), ALICE.getRemark());
+        List<ModelChange> changes = Arrays.asList(ModelChange.personsCleared(), ModelChange.personSaved(ALICE),
+                ModelChange.personSaved(BENSON), ModelChange.personSaved(editedAlice),
+                ModelChange.personDeleted(BENSON.getId()));
+
+        AddressBook replayedOnce = ModelChange.replay(new AddressBook(), changes);
+        assertEquals(replayedOnce, ModelChange.replay(replayedOnce, changes));
+        assertEquals(new AddressBookBuilder().withPerson(editedAlice).build(), replayedOnce);
+    }
+
+    @Test
+    public void replay_listingChanges_appliedInOrder() {
+        Listings listings = new Listings();
+        listings.addListing(PASIR_RIS);
+        listings.addListing(TAMPINES);
+        List<ModelChange> changes = Arrays.asList(ModelChange.listingDeleted(PASIR_RIS.getId()),
+                ModelChange.listingsCleared(), ModelChange.listingSaved(TAMPINES));
+
+        Listings expected = new Listings();
+        expected.addListing(TAMPINES);
+        assertEquals(expected, ModelChange.replay(listings, changes));
+    }
+
+    @Test
+    public void replay_noChanges_returnsCopy() {
+        Listings listings = new Listings();
+        listings.addListing(new ListingBuilder().build());
+
+        assertEquals(listings, ModelChange.replay(listings, Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        ModelChange change = ModelChange.personSaved(ALICE);
+
+        assertTrue(change.equals(ModelChange.personSaved(ALICE)));
+        assertTrue(change.equals(change));
+        assertFalse(change.equals(null));
+        assertFalse(change.equals(ModelChange.personSaved(BENSON)));
+        assertFalse(change.equals(ModelChange.personDeleted(ALICE.getId())));
+    }
+}
@@ -13,17 +13,26 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
 import seedu.address.model.name.Name;
+import seedu.address.model.person.Buyer;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.ListingBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalListings;
 import seedu.address.testutil.TypicalPersons;
@@ -124,6 +133,199 @@ public class ModelManagerTest {
         assertEquals(modelManager, expected);
     }
 
+    @Test
+    public void takeChanges_afterEdits_returnsChangesOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").buildBuyer();
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(editedAlice);
+
+        assertEquals(Arrays.asList(ModelChange.personSaved(ALICE), ModelChange.personSaved(editedAlice),
+                ModelChange.personDeleted(editedAlice.getId())), modelManager.takeChanges());
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void addLoadedListings_afterLoadedPersons_linkedWithoutChanges() {
+        modelManager.addLoadedPersons(Arrays.asList(TypicalPersons.ALICE, TypicalPersons.DANIEL,
+                TypicalPersons.GEORGE));
+        modelManager.addLoadedListings(Arrays.asList(PASIR_RIS));
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.hasListing(PASIR_RIS));
+        assertEquals(Arrays.asList(PASIR_RIS), modelManager.getListingsForSeller(ALICE));
+        assertEquals(Arrays.asList(PASIR_RIS), modelManager.getListingsForBuyer(TypicalPersons.DANIEL));
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void mergeExternalPersons_changedOutsideApp_onlyChangedPersonsApplied() {
+        AddressBook previous = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(TypicalPersons.CARL).build();
+        modelManager.addLoadedPersons(previous.getPersonList());
+        modelManager.updateFilteredPersonList(person -> person.getName().fullName.startsWith("B"));
+
+        Person editedAlice = withPhone(ALICE, "99999999");
+        AddressBook current = new AddressBookBuilder().withPerson(editedAlice).withPerson(BENSON)
+                .withPerson(TypicalPersons.DANIEL).build();
+        assertEquals(3, modelManager.mergeExternalPersons(previous, current));
+
+        assertEquals(Arrays.asList(editedAlice, BENSON, TypicalPersons.DANIEL),
+                modelManager.getAddressBook().getPersonList());
+        assertEquals("99999999", modelManager.getPersonById(ALICE.getId()).getPhone().value);
+        assertEquals(Arrays.asList(ModelChange.personSaved(editedAlice),
+                ModelChange.personDeleted(TypicalPersons.CARL.getId()),
+                ModelChange.personSaved(TypicalPersons.DANIEL)), modelManager.takeChanges());
+        // The filter is kept
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void mergeExternalPersons_changedInApp_keepsAppChanges() {
+        AddressBook previous = new AddressBookBuilder().withPerson(ALICE).build();
+        modelManager.addLoadedPersons(previous.getPersonList());
+        Person aliceEditedInApp = withPhone(ALICE, "88888888");
+        modelManager.setPerson(ALICE, aliceEditedInApp);
+        modelManager.takeChanges();
+
+        // The data file written by the app itself
+        AddressBook current = new AddressBookBuilder().withPerson(aliceEditedInApp).build();
+        assertEquals(0, modelManager.mergeExternalPersons(previous, current));
+
+        // A conflicting change made outside the app
+        current = new AddressBookBuilder().withPerson(withPhone(ALICE, "99999999")).build();
+        assertEquals(0, modelManager.mergeExternalPersons(previous, current));
+        assertEquals("88888888", modelManager.getPersonById(ALICE.getId()).getPhone().value);
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void mergeExternalPersons_deletedClientWithListings_keepsClient() {
+        modelManager.addLoadedPersons(Arrays.asList(ALICE, TypicalPersons.DANIEL, TypicalPersons.GEORGE));
+        modelManager.addLoadedListings(Arrays.asList(PASIR_RIS));
+
+        AddressBook previous = new AddressBook(modelManager.getAddressBook());
+        AddressBook current = new AddressBookBuilder().withPerson(ALICE).withPerson(TypicalPersons.GEORGE).build();
+        assertEquals(0, modelManager.mergeExternalPersons(previous, current));
+        assertTrue(modelManager.hasPerson(TypicalPersons.DANIEL));
+    }
+
+    @Test
+    public void mergeExternalPersons_editedSeller_listingRefersToEditedSeller() {
+        modelManager.addLoadedPersons(Arrays.asList(ALICE, TypicalPersons.DANIEL, TypicalPersons.GEORGE));
+        modelManager.addLoadedListings(Arrays.asList(PASIR_RIS));
+
+        AddressBook previous = new AddressBook(modelManager.getAddressBook());
+        Person editedAlice = withPhone(ALICE, "99999999");
+        AddressBook current = new AddressBookBuilder().withPerson(editedAlice).withPerson(TypicalPersons.DANIEL)
+                .withPerson(TypicalPersons.GEORGE).build();
+        assertEquals(1, modelManager.mergeExternalPersons(previous, current));
+        assertEquals(PASIR_RIS, modelManager.getListingById(PASIR_RIS.getId()));
+        assertEquals(editedAlice, modelManager.getPersonById(PASIR_RIS.getSellerId()));
+        assertEquals("99999999", modelManager.getPersonById(PASIR_RIS.getSellerId()).getPhone().value);
+    }
+
+    @Test
+    public void mergeExternalListings_changedOutsideApp_onlyChangedListingsApplied() {
+        modelManager.addLoadedPersons(TypicalPersons.getTypicalPersons());
+        Listings previous = new Listings();
+        previous.setListings(Arrays.asList(PASIR_RIS, TypicalListings.TAMPINES));
+        modelManager.addLoadedListings(previous.getListingList());
+
+        Listing editedPasirRis = PASIR_RIS.modifyListingWithBuyers(Set.of(TypicalPersons.ELLE.getId()));
+        Listings current = new Listings();
+        current.setListings(Arrays.asList(editedPasirRis, TypicalListings.KENT_RIDGE));
+        assertEquals(3, modelManager.mergeExternalListings(previous, current));
+
+        assertEquals(Arrays.asList(editedPasirRis, TypicalListings.KENT_RIDGE),
+                modelManager.getListings().getListingList());
+        assertEquals(Arrays.asList(editedPasirRis), modelManager.getListingsForBuyer(TypicalPersons.ELLE).stream()
+                .filter(listing -> listing.getId().equals(PASIR_RIS.getId())).toList());
+        assertTrue(modelManager.getListingsForBuyer(TypicalPersons.GEORGE).isEmpty());
+
+        // Merging the same data again changes nothing
+        modelManager.takeChanges();
+        assertEquals(0, modelManager.mergeExternalListings(previous, current));
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredListingList_range_lookedUpAgainWhenListingsChange() {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(),
+                TypicalListings.getTypicalListings());
+        ListingInRangePredicate range = new ListingInRangePredicate(40000000, 60000000, 0,
+                ListingInRangePredicate.NO_LIMIT);
+        model.updateFilteredListingList(range, listing -> listing.getRegion() == Region.WEST);
+        assertEquals(Arrays.asList(TypicalListings.KENT_RIDGE, TypicalListings.BUONA_VISTA),
+                model.getFilteredListingList());
+
+        model.deleteListing(TypicalListings.KENT_RIDGE);
+        assertEquals(Arrays.asList(TypicalListings.BUONA_VISTA), model.getFilteredListingList());
+
+        // Listings moved out of the range or into the region are shown as they now are
+        Listing pricierBuonaVista = new ListingBuilder(TypicalListings.BUONA_VISTA).withPrice("900000").build();
+        model.setListing(TypicalListings.BUONA_VISTA, pricierBuonaVista);
+        Listing westSentosa = new ListingBuilder(TypicalListings.SENTOSA).withRegion(Region.WEST).build();
+        model.setListing(TypicalListings.SENTOSA, westSentosa);
+        assertEquals(Arrays.asList(westSentosa), model.getFilteredListingList());
+
+        model.updateFilteredListingList(Model.PREDICATE_SHOW_ALL_LISTINGS);
+        assertEquals(model.getListings().getListingList(), model.getFilteredListingList());
+    }
+
+    @Test
+    public void updateFilteredListingList_regions_readAgainWhenListingsChange() {
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(),
+                TypicalListings.getTypicalListings());
+        model.updateFilteredListingList(EnumSet.of(Region.WEST, Region.SOUTH),
+                listing -> !listing.getName().fullName.startsWith("Kent"));
+        assertEquals(Arrays.asList(TypicalListings.BUONA_VISTA, TypicalListings.SENTOSA),
+                model.getFilteredListingList());
+
+        Listing westTampines = new ListingBuilder(TypicalListings.TAMPINES).withRegion(Region.WEST).build();
+        model.setListing(TypicalListings.TAMPINES, westTampines);
+        model.deleteListing(TypicalListings.SENTOSA);
+        assertEquals(Arrays.asList(westTampines, TypicalListings.BUONA_VISTA), model.getFilteredListingList());
+    }
+
+    @Test
+    public void applySharedChanges_changesApplied_notRecorded() {
+        modelManager.addLoadedPersons(Arrays.asList(ALICE, BENSON, TypicalPersons.DANIEL, TypicalPersons.GEORGE));
+        modelManager.addLoadedListings(Arrays.asList(PASIR_RIS));
+        modelManager.updateFilteredPersonList(person -> person.getName().fullName.startsWith("A"));
+
+        Person editedAlice = withPhone(ALICE, "99999999");
+        Listing editedPasirRis = PASIR_RIS.modifyListingWithBuyers(Set.of(TypicalPersons.GEORGE.getId()));
+        modelManager.applySharedChanges(Arrays.asList(ModelChange.personSaved(editedAlice),
+                ModelChange.listingSaved(editedPasirRis), ModelChange.personDeleted(BENSON.getId()),
+                ModelChange.personSaved(TypicalPersons.CARL)));
+
+        assertEquals(Arrays.asList(editedAlice, TypicalPersons.DANIEL, TypicalPersons.GEORGE, TypicalPersons.CARL),
+                modelManager.getAddressBook().getPersonList());
+        assertEquals(editedPasirRis, modelManager.getListingById(PASIR_RIS.getId()));
+        assertEquals(1, modelManager.getListingsForSeller(editedAlice).size());
+        assertTrue(modelManager.getListingsForBuyer(TypicalPersons.DANIEL).isEmpty());
+        assertTrue(modelManager.takeChanges().isEmpty());
+        // The filter is kept
+        assertEquals(Arrays.asList(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void applySharedChanges_duplicatePerson_skipped() {
+        modelManager.addLoadedPersons(Arrays.asList(ALICE));
+        // Another instance added the same client at the same time
+        Person otherAlice = new PersonBuilder(ALICE).buildSeller();
+        modelManager.applySharedChanges(Arrays.asList(ModelChange.personSaved(otherAlice),
+                ModelChange.personSaved(BENSON)));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(ALICE.getId(), modelManager.getAddressBook().getPersonList().get(0).getId());
+    }
+
+    private static Person withPhone(Person person, String phone) {
+        return new Seller(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getTags(),
+                person.getAppointment(), person.getRemark());
+    }
+
     @Test
     public void addPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.addPerson(null));
@@ -284,51 +486,49 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void updateListingsAfterClientEdit_buyerUpdatedInListings() {
-        ModelManager modelManager = new ModelManager();
-        modelManager.addListing(TypicalListings.PASIR_RIS);
+    public void setPerson_clientOfListing_listingUnchanged() {
+        modelManager.addLoadedPersons(Arrays.asList(ALICE, TypicalPersons.DANIEL, TypicalPersons.GEORGE));
+        modelManager.addLoadedListings(Arrays.asList(PASIR_RIS));
+        Person daniel = TypicalPersons.DANIEL;
+        Person editedDaniel = new Buyer(daniel.getId(), new Name("Updated Daniel"), daniel.getPhone(),
+                daniel.getEmail(), daniel.getTags(), daniel.getAppointment(), daniel.getRemark());
 
-        Person originalBuyer = TypicalPersons.DANIEL;
-        Person updatedBuyer = new PersonBuilder(originalBuyer).withName("Updated Daniel").buildBuyer();
+        modelManager.setPerson(TypicalPersons.DANIEL, editedDaniel);
 
-        modelManager.updateListingsAfterClientEdit(originalBuyer, updatedBuyer);
-
-        Listing listing = modelManager.getListings().getListingList().get(0);
-
-        assertTrue(
-                listing.hasBuyer(updatedBuyer),
-                "The listing should have the updated buyer."
-        );
-
-        assertFalse(
-                listing.hasBuyer(originalBuyer),
-                "The listing should no longer have the original buyer."
-        );
+        assertEquals(Arrays.asList(PASIR_RIS), modelManager.getListings().getListingList());
+        assertTrue(modelManager.getListings().getListingList().get(0).hasBuyer(editedDaniel.getId()));
+        assertEquals(editedDaniel, modelManager.getPersonById(editedDaniel.getId()));
+        assertEquals(Arrays.asList(ModelChange.personSaved(editedDaniel)), modelManager.takeChanges());
     }
 
     @Test
-    public void updateListingsAfterClientEdit_sellerListingsUpdated() {
-        modelManager.addListing(TypicalListings.PASIR_RIS);
-        Person originalSeller = TypicalPersons.ALICE;
-        Person updatedSeller = TypicalPersons.BOB;
-
-        assertTrue(modelManager.hasListing(TypicalListings.PASIR_RIS),
-                "The listing should initially exist.");
+    public void getListingsForSeller_typicalListings_returnsSellerListings() {
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(),
+                TypicalListings.getTypicalListings());
 
-        assertEquals(originalSeller, modelManager.getListings().getListingList()
-                        .get(0).getSeller(),
-                "The seller should initially be ALICE.");
+        List<Listing> aliceListings = modelManager.getListingsForSeller(ALICE);
+        assertEquals(2, aliceListings.size());
+        assertTrue(aliceListings.contains(TypicalListings.PASIR_RIS));
+        assertTrue(aliceListings.contains(TypicalListings.KENT_RIDGE));
+        assertTrue(modelManager.getListingsForSeller(TypicalPersons.DANIEL).isEmpty());
+    }
 
-        modelManager.updateListingsAfterClientEdit(originalSeller, updatedSeller);
+    @Test
+    public void getListingsForBuyer_afterListingChanges_indexUpdated() {
+        ModelManager modelManager = new ModelManager(new AddressBook(), new UserPrefs(),
+                TypicalListings.getTypicalListings());
+        assertEquals(3, modelManager.getListingsForBuyer(TypicalPersons.DANIEL).size());
 
-        Listing updatedListing = modelManager.getListings().getListingList().get(0);
+        modelManager.deleteListing(TypicalListings.TAMPINES);
+        assertEquals(2, modelManager.getListingsForBuyer(TypicalPersons.DANIEL).size());
 
-        assertEquals(updatedSeller, updatedListing.getSeller(),
-                "The listing should have the updated seller (BOB).");
+        Listing pasirRis = modelManager.getListingByName(TypicalListings.PASIR_RIS.getName());
+        modelManager.setListing(pasirRis, pasirRis.modifyListingWithBuyers(Set.of(TypicalPersons.GEORGE.getId())));
+        assertEquals(List.of(TypicalListings.SENTOSA), modelManager.getListingsForBuyer(TypicalPersons.DANIEL));
+        assertTrue(modelManager.hasListingsForBuyer(TypicalPersons.DANIEL));
 
-        assertFalse(modelManager.getListings().getListingList().stream()
-                        .anyMatch(listing -> listing.getSeller().equals(originalSeller)),
-                "There should be no listings with the original seller (ALICE) after the update.");
+        modelManager.setListings(new Listings());
+        assertFalse(modelManager.hasListingsForBuyer(TypicalPersons.DANIEL));
+        assertFalse(modelManager.hasListingsForSeller(ALICE));
     }
-
 }
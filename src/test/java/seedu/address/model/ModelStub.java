@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.ListingInRangePredicate;
+import seedu.address.model.listing.Region;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Person;
 
@@ -123,17 +129,22 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void updateListingsAfterClientEdit(Person personToEdit, Person editedPerson) {
+    public void setListing(Listing target, Listing editedListing) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void setListing(Listing target, Listing editedListing) {
+    public Listing getListingByName(Name name) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public Listing getListingByName(Name name) {
+    public Listing getListingById(Id id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Person getPersonById(Id id) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -152,6 +163,26 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Listing> getListingsForSeller(Person seller) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Listing> getListingsForBuyer(Person buyer) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAveragePricePerSquareMeterInRange(ListingInRangePredicate range) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<Region, Integer> getListingCountsByRegion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Listing> getFilteredListingList() {
         throw new AssertionError("This method should not be called.");
@@ -161,4 +192,44 @@ public class ModelStub implements Model {
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredListingList(ListingInRangePredicate range, Predicate<Listing> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredListingList(Set<Region> regions, Predicate<Listing> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<ModelChange> takeChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addLoadedListings(List<Listing> listings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int mergeExternalPersons(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int mergeExternalListings(ReadOnlyListings previousListings, ReadOnlyListings listings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void applySharedChanges(List<ModelChange> changes) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
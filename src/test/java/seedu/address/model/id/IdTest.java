@@ -0,0 +1,54 @@
+package seedu.address.model.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdTest {
+
+    @Test
+    public void of_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Id.of(0));
+        assertThrows(IllegalArgumentException.class, () -> Id.of(-1));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(Id.isValidId(0));
+        assertFalse(Id.isValidId(-5));
+        assertTrue(Id.isValidId(1));
+        assertTrue(Id.isValidId(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void next_afterRestoredId_doesNotCollide() {
+        Id restored = Id.of(Id.next().getValue() + 1000);
+        Id issued = Id.next();
+
+        assertTrue(issued.getValue() > restored.getValue());
+    }
+
+    @Test
+    public void equals() {
+        Id id = Id.next();
+
+        // same values -> returns true
+        assertEquals(id, Id.of(id.getValue()));
+
+        // same object -> returns true
+        assertEquals(id, id);
+
+        // null -> returns false
+        assertNotEquals(null, id);
+
+        // different types -> returns false
+        assertNotEquals(5.0f, id);
+
+        // different values -> returns false
+        assertNotEquals(Id.next(), id);
+    }
+}
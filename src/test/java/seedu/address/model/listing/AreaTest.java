@@ -1,5 +1,6 @@
 package seedu.address.model.listing;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,4 +47,19 @@ public class AreaTest {
         // different values -> returns false
         assertFalse(area.equals(new Area("1")));
     }
+
+    @Test
+    public void getSquareMeters() {
+        assertEquals(90, new Area("90").getSquareMeters());
+        assertEquals(Long.MAX_VALUE, new Area("100000000000000000000000000000").getSquareMeters());
+    }
+
+    @Test
+    public void compareTo() {
+        assertEquals(0, new Area("90").compareTo(new Area("90")));
+        assertTrue(new Area("90").compareTo(new Area("100")) < 0);
+
+        // sizes too large to fit in a long -> compared by their digits
+        assertTrue(new Area("100000000000000000000000000000").compareTo(new Area("99999999999999999999")) > 0);
+    }
 }
@@ -0,0 +1,146 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.KENT_RIDGE;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.SENTOSA;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ListingBuilder;
+
+public class ListingColumnsTest {
+    private static final long NO_LIMIT = ListingInRangePredicate.NO_LIMIT;
+
+    private final UniqueListingList uniqueListingList = new UniqueListingList();
+    private final ListingColumns columns = uniqueListingList.getColumns();
+
+    /**
+     * Asserts that the rows of {@code columns} hold the listings of {@code uniqueListingList}, in any order, and that
+     * the region counts match them.
+     */
+    private void assertColumnsInStep() {
+        List<Listing> listings = uniqueListingList.asUnmodifiableObservableList();
+        assertEquals(listings.size(), columns.size());
+        List<Listing> rows = new ArrayList<>();
+        for (int row = 0; row < columns.size(); row++) {
+            Listing listing = columns.getListing(row);
+            rows.add(listing);
+            assertEquals(listing.getPrice().getCents(), columns.getPriceCents(row));
+            assertEquals(listing.getArea().getSquareMeters(), columns.getSquareMeters(row));
+            assertEquals(listing.getRegion(), columns.getRegion(row));
+        }
+        assertEquals(new HashSet<>(listings), new HashSet<>(rows));
+
+        Map<Region, Integer> counts = columns.getCountsByRegion();
+        for (Region region : Region.values()) {
+            long expectedCount = listings.stream().filter(listing -> listing.getRegion() == region).count();
+            assertEquals(expectedCount, (long) counts.get(region));
+        }
+    }
+
+    @Test
+    public void getListing_noSuchRow_throwsIndexOutOfBoundsException() {
+        uniqueListingList.add(PASIR_RIS);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getListing(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getPriceCents(-1));
+    }
+
+    @Test
+    public void modifications_keepColumnsInStep() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.addAll(Arrays.asList(TAMPINES, KENT_RIDGE));
+        assertColumnsInStep();
+
+        Listing editedTampines = new ListingBuilder(TAMPINES).withPrice("650000").withArea("95")
+                .withRegion(Region.NORTH).build();
+        uniqueListingList.setListing(TAMPINES, editedTampines);
+        assertColumnsInStep();
+
+        uniqueListingList.remove(PASIR_RIS);
+        assertColumnsInStep();
+
+        uniqueListingList.setListings(getTypicalListings().getListingList());
+        assertColumnsInStep();
+
+        uniqueListingList.setListings(Collections.emptyList());
+        assertEquals(0, columns.size());
+        assertColumnsInStep();
+    }
+
+    @Test
+    public void remove_middleRow_lastRowMovedIntoIt() {
+        uniqueListingList.addAll(Arrays.asList(PASIR_RIS, TAMPINES, KENT_RIDGE));
+
+        uniqueListingList.remove(TAMPINES);
+        assertEquals(KENT_RIDGE, columns.getListing(1));
+        assertColumnsInStep();
+
+        // The moved listing can itself be replaced and removed through its new row
+        Listing editedKentRidge = new ListingBuilder(KENT_RIDGE).withPrice("450000").build();
+        uniqueListingList.setListing(KENT_RIDGE, editedKentRidge);
+        assertEquals(editedKentRidge, columns.getListing(1));
+        uniqueListingList.remove(editedKentRidge);
+        assertEquals(Collections.singletonList(PASIR_RIS), columns.findInRange(
+                new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT)));
+        assertColumnsInStep();
+    }
+
+    @Test
+    public void addAll_beyondInitialCapacity_allRowsKept() {
+        for (int i = 0; i < 40; i++) {
+            uniqueListingList.add(new ListingBuilder().withName("Listing " + i).withAddress(i + " Street")
+                    .withPrice(Integer.toString(100000 + i)).build());
+        }
+        assertColumnsInStep();
+    }
+
+    @Test
+    public void findInRange() {
+        uniqueListingList.setListings(getTypicalListings().getListingList());
+
+        // PASIR_RIS is 700000 dollars over 75 square meters, TAMPINES is 600000 dollars over 90 square meters
+        ListingInRangePredicate fromSixHundredThousand = new ListingInRangePredicate(60000000, NO_LIMIT, 0, NO_LIMIT);
+        assertEquals(new HashSet<>(Arrays.asList(PASIR_RIS, TAMPINES)),
+                new HashSet<>(columns.findInRange(fromSixHundredThousand)));
+        assertEquals(2, columns.countInRange(fromSixHundredThousand));
+        assertEquals(Arrays.asList(PASIR_RIS),
+                columns.findInRange(new ListingInRangePredicate(60000000, NO_LIMIT, 0, 75)));
+
+        ListingInRangePredicate aboveAll = new ListingInRangePredicate(70000001, NO_LIMIT, 0, NO_LIMIT);
+        assertEquals(Collections.emptyList(), columns.findInRange(aboveAll));
+        assertEquals(0, columns.countInRange(aboveAll));
+    }
+
+    @Test
+    public void findInRegion() {
+        uniqueListingList.setListings(getTypicalListings().getListingList());
+
+        assertEquals(Arrays.asList(SENTOSA), columns.findInRegion(Region.SOUTH));
+        assertEquals(Collections.emptyList(), columns.findInRegion(Region.CENTRAL));
+    }
+
+    @Test
+    public void aggregates() {
+        uniqueListingList.setListings(Arrays.asList(PASIR_RIS, TAMPINES, KENT_RIDGE));
+
+        long expectedAverage = (PASIR_RIS.getPricePerSquareMeter() + TAMPINES.getPricePerSquareMeter()) / 2;
+        assertEquals(expectedAverage, columns.averagePricePerSquareMeter(Region.EAST));
+        assertEquals(0, columns.averagePricePerSquareMeter(Region.CENTRAL));
+
+        assertEquals(expectedAverage,
+                columns.averagePricePerSquareMeter(new ListingInRangePredicate(60000000, NO_LIMIT, 0, NO_LIMIT)));
+        assertEquals(0,
+                columns.averagePricePerSquareMeter(new ListingInRangePredicate(70000001, NO_LIMIT, 0, NO_LIMIT)));
+    }
+}
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -80,7 +79,7 @@ public class ListingContainsKeywordsPredicateTest {
                 .withAddress("Sengkang St 22")
                 .withArea("1500")
                 .withRegion(Region.NORTH)
-                .withPrice("500000", new BigDecimal(500000))
+                .withPrice("500000")
                 .build()));
     }
 
@@ -0,0 +1,71 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.listing.ListingInRangePredicate.NO_LIMIT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ListingBuilder;
+
+public class ListingInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        ListingInRangePredicate firstPredicate = new ListingInRangePredicate(0, 100, 0, NO_LIMIT);
+        ListingInRangePredicate secondPredicate = new ListingInRangePredicate(0, 100, 10, NO_LIMIT);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ListingInRangePredicate(0, 100, 0, NO_LIMIT)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different bounds -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_listingWithinBounds_returnsTrue() {
+        // bounds are inclusive
+        assertTrue(new ListingInRangePredicate(30000000, 30000000, 90, 90)
+                .test(new ListingBuilder().withPrice("300000").withArea("90").build()));
+
+        // no limits
+        assertTrue(new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT)
+                .test(new ListingBuilder().withPrice("123456789012345678901234567890").build()));
+    }
+
+    @Test
+    public void test_listingOutsideBounds_returnsFalse() {
+        ListingInRangePredicate predicate = new ListingInRangePredicate(30000000, 40000000, 80, 100);
+
+        assertFalse(predicate.test(new ListingBuilder().withPrice("299999").withArea("90").build()));
+        assertFalse(predicate.test(new ListingBuilder().withPrice("400001").withArea("90").build()));
+        assertFalse(predicate.test(new ListingBuilder().withPrice("300000").withArea("79").build()));
+        assertFalse(predicate.test(new ListingBuilder().withPrice("300000").withArea("101").build()));
+    }
+
+    @Test
+    public void hasRanges() {
+        assertFalse(new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT).hasPriceRange());
+        assertTrue(new ListingInRangePredicate(1, NO_LIMIT, 0, NO_LIMIT).hasPriceRange());
+        assertTrue(new ListingInRangePredicate(0, NO_LIMIT, 0, 100).hasAreaRange());
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListingInRangePredicate predicate = new ListingInRangePredicate(1, 2, 3, 4);
+
+        String expected = ListingInRangePredicate.class.getCanonicalName() + "{minPriceCents=1, maxPriceCents=2, "
+                + "minSquareMeters=3, maxSquareMeters=4}";
+        assertEquals(expected, predicate.toString());
+    }
+}
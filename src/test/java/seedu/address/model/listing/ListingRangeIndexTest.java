@@ -0,0 +1,79 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.KENT_RIDGE;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ListingRangeIndexTest {
+
+    private static final long NO_LIMIT = ListingInRangePredicate.NO_LIMIT;
+
+    private final ListingRangeIndex index = new ListingRangeIndex();
+
+    /**
+     * Returns the names of {@code listings}, which are unique between typical listings.
+     */
+    private static Set<String> namesOf(List<Listing> listings) {
+        return listings.stream().map(listing -> listing.getName().fullName)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Test
+    public void find_nullRange_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_priceRange_listingsInRange() {
+        index.setAll(getTypicalListings().getListingList());
+
+        // PASIR_RIS is 700000 dollars, TAMPINES is 600000 dollars, and the other listings are cheaper
+        assertEquals(namesOf(Arrays.asList(PASIR_RIS, TAMPINES)),
+                namesOf(index.find(new ListingInRangePredicate(60000000, NO_LIMIT, 0, NO_LIMIT))));
+        assertEquals(namesOf(Arrays.asList(TAMPINES)),
+                namesOf(index.find(new ListingInRangePredicate(60000000, 60000000, 0, NO_LIMIT))));
+    }
+
+    @Test
+    public void find_areaRangeOnly_listingsInRange() {
+        index.setAll(getTypicalListings().getListingList());
+
+        // PASIR_RIS is the only listing under 90 square meters
+        assertEquals(Arrays.asList(PASIR_RIS), index.find(new ListingInRangePredicate(0, NO_LIMIT, 0, 89)));
+    }
+
+    @Test
+    public void find_priceAndAreaRanges_listingsInBothRanges() {
+        index.setAll(getTypicalListings().getListingList());
+
+        assertEquals(Arrays.asList(TAMPINES), index.find(new ListingInRangePredicate(60000000, NO_LIMIT, 90, 90)));
+    }
+
+    @Test
+    public void remove_addedListing_notFound() {
+        index.add(PASIR_RIS);
+        index.add(KENT_RIDGE);
+        index.remove(PASIR_RIS);
+
+        assertEquals(Arrays.asList(KENT_RIDGE), index.find(new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT)));
+
+        // an equal listing that was not added is not removed
+        index.remove(new Listing(KENT_RIDGE));
+        assertEquals(Arrays.asList(KENT_RIDGE), index.find(new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT)));
+
+        index.remove(KENT_RIDGE);
+        assertEquals(Collections.emptyList(), index.find(new ListingInRangePredicate(0, NO_LIMIT, 0, NO_LIMIT)));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.TypicalListings.TAMPINES;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class ListingTest {
     @Test
@@ -22,7 +23,7 @@ public class ListingTest {
         // same name and address all other attributes different -> returns true
         Listing editedListing = new ListingBuilder(PASIR_RIS).withArea(TAMPINES.getArea())
                 .withPrice(TAMPINES.getPrice()).withRegion(TAMPINES.getRegion())
-                .withSeller(TAMPINES.getSeller()).build();
+                .withSeller(TypicalPersons.BENSON).build();
         assertTrue(PASIR_RIS.isSameListing(editedListing));
 
         // different name, all other attributes same -> returns true (address is the same)
@@ -73,7 +74,7 @@ public class ListingTest {
                 + ", address=" + PASIR_RIS.getAddress()
                 + ", area=" + PASIR_RIS.getArea()
                 + ", region=" + PASIR_RIS.getRegion()
-                + ", seller=" + PASIR_RIS.getSeller() + "}";
+                + ", sellerId=" + PASIR_RIS.getSellerId() + "}";
         assertEquals(expected, PASIR_RIS.toString());
     }
     @Test
@@ -90,4 +91,14 @@ public class ListingTest {
         assertFalse(PASIR_RIS.hashCode() == differentListing.hashCode(),
                 "Unequal objects should ideally have different hash codes");
     }
+
+    @Test
+    public void getPricePerSquareMeter() {
+        // 700000 dollars over 75 square meters, in cents and rounded down
+        assertEquals(933333, PASIR_RIS.getPricePerSquareMeter());
+        assertEquals(PASIR_RIS.getPricePerSquareMeter(), new Listing(PASIR_RIS).getPricePerSquareMeter());
+
+        Listing editedListing = new ListingBuilder(PASIR_RIS).withArea("100").build();
+        assertEquals(700000, editedListing.getPricePerSquareMeter());
+    }
 }
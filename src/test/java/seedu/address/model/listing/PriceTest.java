@@ -1,11 +1,10 @@
 package seedu.address.model.listing;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.math.BigDecimal;
-
 import org.junit.jupiter.api.Test;
 
 public class PriceTest {
@@ -31,10 +30,10 @@ public class PriceTest {
 
     @Test
     public void equals() {
-        Price price = new Price("3000", new BigDecimal(3000));
+        Price price = new Price("3000");
 
         // same values -> returns true
-        assertTrue(price.equals(new Price("3000", new BigDecimal(3000))));
+        assertTrue(price.equals(new Price("3000")));
 
         // same object -> returns true
         assertTrue(price.equals(price));
@@ -46,6 +45,23 @@ public class PriceTest {
         assertFalse(price.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(price.equals(new Price("2000", new BigDecimal(2000))));
+        assertFalse(price.equals(new Price("2000")));
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(60000000, new Price("600000").getCents());
+        assertEquals(Price.MAX_CENTS, new Price("123456789012345678901234567890").getCents());
+    }
+
+    @Test
+    public void compareTo() {
+        assertEquals(0, new Price("600000").compareTo(new Price("600000")));
+        assertTrue(new Price("600000").compareTo(new Price("5000000")) < 0);
+        assertTrue(new Price("123456789012345678901234567890").compareTo(new Price("600000")) > 0);
+
+        // prices too large to be counted in cents -> compared by their digits
+        assertTrue(new Price("123456789012345678901234567890").compareTo(new Price("923456789012345678901")) > 0);
+        assertTrue(new Price("923456789012345678901").compareTo(new Price("923456789012345678902")) < 0);
     }
 }
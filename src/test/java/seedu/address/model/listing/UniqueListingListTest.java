@@ -2,19 +2,25 @@ package seedu.address.model.listing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
 import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.listing.exceptions.DuplicateListingException;
 import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.model.name.Name;
 import seedu.address.testutil.ListingBuilder;
 
 public class UniqueListingListTest {
@@ -58,6 +64,15 @@ public class UniqueListingListTest {
         assertThrows(DuplicateListingException.class, () -> uniqueListingList.add(PASIR_RIS));
     }
 
+    @Test
+    public void addAll_duplicateListing_throwsDuplicateListingException() {
+        uniqueListingList.add(PASIR_RIS);
+
+        assertThrows(DuplicateListingException.class, () ->
+                uniqueListingList.addAll(Arrays.asList(TAMPINES, PASIR_RIS)));
+        assertFalse(uniqueListingList.contains(TAMPINES));
+    }
+
     @Test
     public void setListing_nullTargetListing_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueListingList.setListing(null, PASIR_RIS));
@@ -115,6 +130,59 @@ public class UniqueListingListTest {
         assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(PASIR_RIS, TAMPINES));
     }
 
+    @Test
+    public void setListing_editedListingSharesAddressWithOtherListing_throwsDuplicateListingException() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.add(TAMPINES);
+        Listing editedListing = new ListingBuilder(PASIR_RIS).withAddress(TAMPINES.getAddress()).build();
+
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(PASIR_RIS, editedListing));
+    }
+
+    @Test
+    public void contains_listingWithSameAddressInList_returnsTrue() {
+        uniqueListingList.add(PASIR_RIS);
+        Listing sameAddress = new ListingBuilder(TAMPINES).withAddress(PASIR_RIS.getAddress()).build();
+
+        assertTrue(uniqueListingList.contains(sameAddress));
+    }
+
+    @Test
+    public void getByName_differentCase_returnsListing() {
+        uniqueListingList.add(PASIR_RIS);
+
+        assertEquals(PASIR_RIS, uniqueListingList.getByName(
+                new Name(PASIR_RIS.getName().fullName.toUpperCase())));
+        assertNull(uniqueListingList.getByName(TAMPINES.getName()));
+    }
+
+    @Test
+    public void getByName_afterRemove_returnsNull() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.add(TAMPINES);
+        uniqueListingList.remove(PASIR_RIS);
+
+        assertNull(uniqueListingList.getByName(PASIR_RIS.getName()));
+        assertEquals(TAMPINES, uniqueListingList.getByName(TAMPINES.getName()));
+    }
+
+    @Test
+    public void hasConflict() {
+        uniqueListingList.add(PASIR_RIS);
+        uniqueListingList.add(TAMPINES);
+
+        // same identifiers as the listing being edited -> no conflict
+        assertFalse(uniqueListingList.hasConflict(PASIR_RIS, new ListingBuilder(PASIR_RIS).build()));
+
+        // name of another listing -> conflict
+        assertTrue(uniqueListingList.hasConflict(PASIR_RIS,
+                new ListingBuilder(PASIR_RIS).withName(TAMPINES.getName()).build()));
+
+        // address of another listing -> conflict
+        assertTrue(uniqueListingList.hasConflict(PASIR_RIS,
+                new ListingBuilder(PASIR_RIS).withAddress(TAMPINES.getAddress()).build()));
+    }
+
     @Test
     public void remove_nullListing_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueListingList.remove(null));
@@ -179,4 +247,57 @@ public class UniqueListingListTest {
     public void toStringMethod() {
         assertEquals(uniqueListingList.asUnmodifiableObservableList().toString(), uniqueListingList.toString());
     }
+
+    @Test
+    public void getListingsInRegions_afterModifications_bucketsKeptInStep() {
+        uniqueListingList.setListings(Arrays.asList(PASIR_RIS, TAMPINES));
+        Listing movedTampines = new ListingBuilder(TAMPINES).withRegion(Region.WEST).build();
+        uniqueListingList.setListing(TAMPINES, movedTampines);
+
+        assertEquals(Arrays.asList(PASIR_RIS), uniqueListingList.getListingsInRegions(EnumSet.of(Region.EAST)));
+        assertEquals(Arrays.asList(movedTampines), uniqueListingList.getListingsInRegions(EnumSet.of(Region.WEST)));
+
+        uniqueListingList.remove(PASIR_RIS);
+        assertEquals(Collections.emptyList(), uniqueListingList.getListingsInRegions(EnumSet.of(Region.EAST)));
+    }
+
+    @Test
+    public void getListingsInRange_afterModifications_indexKeptInStep() {
+        uniqueListingList.setListings(Arrays.asList(PASIR_RIS, TAMPINES));
+        Listing cheaperTampines = new ListingBuilder(TAMPINES).withPrice("300000").build();
+        uniqueListingList.setListing(TAMPINES, cheaperTampines);
+
+        ListingInRangePredicate belowHalfAMillion = new ListingInRangePredicate(0, 50000000, 0,
+                ListingInRangePredicate.NO_LIMIT);
+        assertEquals(Arrays.asList(cheaperTampines), uniqueListingList.getListingsInRange(belowHalfAMillion));
+
+        uniqueListingList.remove(cheaperTampines);
+        assertEquals(Collections.emptyList(), uniqueListingList.getListingsInRange(belowHalfAMillion));
+    }
+
+    @Test
+    public void sortInListOrder_afterRemoval_sortedByCurrentPositions() {
+        List<Listing> typicalListings = getTypicalListings().getListingList();
+        uniqueListingList.setListings(typicalListings);
+        uniqueListingList.remove(typicalListings.get(1));
+
+        List<Listing> listings = new ArrayList<>(Arrays.asList(typicalListings.get(4), typicalListings.get(0),
+                typicalListings.get(2)));
+        uniqueListingList.sortInListOrder(listings);
+        assertEquals(Arrays.asList(typicalListings.get(0), typicalListings.get(2), typicalListings.get(4)), listings);
+    }
+
+    @Test
+    public void getCountsByRegion_countsOfEveryRegion() {
+        uniqueListingList.setListings(getTypicalListings().getListingList());
+
+        Map<Region, Integer> counts = uniqueListingList.getCountsByRegion();
+
+        assertEquals(Region.values().length, counts.size());
+        for (Region region : Region.values()) {
+            int expectedCount = (int) getTypicalListings().getListingList().stream()
+                    .filter(listing -> listing.getRegion() == region).count();
+            assertEquals(expectedCount, (int) counts.get(region));
+        }
+    }
 }
@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -58,6 +59,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_persons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB));
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -176,6 +195,62 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).buildBuyer();
+
+        assertTrue(uniquePersonList.contains(lowerCaseAlice));
+        assertEquals(ALICE, uniquePersonList.find(lowerCaseAlice));
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withPhone("99999999").buildBuyer();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_largeList_keepsIndexesConsistent() {
+        int size = 100_000;
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).buildBuyer());
+        }
+        uniquePersonList.setPersons(persons);
+
+        for (Person person : persons) {
+            assertTrue(uniquePersonList.contains(person));
+        }
+
+        Person duplicate = new PersonBuilder().withName("PERSON " + (size - 1)).buildSeller();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(duplicate));
+
+        for (int i = 0; i < size; i += 100) {
+            uniquePersonList.remove(persons.get(i));
+        }
+        Person edited = new PersonBuilder().withName("Edited Person").buildBuyer();
+        uniquePersonList.setPerson(persons.get(size - 1), edited);
+
+        List<Person> remaining = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(size - size / 100, remaining.size());
+        assertEquals(persons.get(1), remaining.get(0));
+        assertEquals(edited, remaining.get(remaining.size() - 1));
+        assertFalse(uniquePersonList.contains(persons.get(0)));
+
+        List<Person> listWithDuplicate = new ArrayList<>(persons);
+        listWithDuplicate.add(duplicate);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicate));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
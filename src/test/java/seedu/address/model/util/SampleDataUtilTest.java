@@ -78,15 +78,15 @@ class SampleDataUtilTest {
         assertEquals("100", listing.getArea().getArea());
         assertEquals(Region.WEST, listing.getRegion());
 
-        Person seller = listing.getSeller();
+        assertEquals(SampleDataUtil.BERNICE.getId(), listing.getSellerId());
+        Person seller = SampleDataUtil.BERNICE;
         assertEquals("Bernice Yu", seller.getName().fullName);
         assertEquals("99272758", seller.getPhone().value);
         assertEquals("berniceyu@example.com", seller.getEmail().value);
         assertTrue(seller.getTags().contains(new Tag("friends")));
         assertTrue(seller.getTags().contains(new Tag("colleagues")));
 
-        Set<Person> buyers = listing.getBuyers();
-        assertTrue(buyers.isEmpty());
+        assertTrue(listing.getBuyerIds().isEmpty());
     }
 
     @Test
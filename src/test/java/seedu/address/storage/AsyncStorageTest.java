@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+public class AsyncStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveChanges_writeInProgress_changesRecordedAndLaterWritesCombined() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteAllowed = new CountDownLatch(1);
+        List<List<ModelChange>> records = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> writtenSizes = Collections.synchronizedList(new ArrayList<>());
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManagerStub(testFolder) {
+            @Override
+            public void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings,
+                    List<ModelChange> changes) {
+                records.add(new ArrayList<>(changes));
+            }
+
+            @Override
+            public void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+                writtenSizes.add(addressBook.getPersonList().size());
+                firstWriteStarted.countDown();
+                awaitQuietly(firstWriteAllowed);
+            }
+        });
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        asyncStorage.saveChanges(addressBook, new Listings(), Collections.singletonList(
+                ModelChange.personSaved(ALICE)));
+        firstWriteStarted.await();
+        addressBook.addPerson(BENSON);
+        asyncStorage.saveChanges(addressBook, new Listings(), Collections.singletonList(
+                ModelChange.personSaved(BENSON)));
+        addressBook.addPerson(CARL);
+        asyncStorage.saveChanges(addressBook, new Listings(), Collections.singletonList(
+                ModelChange.personSaved(CARL)));
+
+        // The changes are recorded before saveChanges returns, even though the first write has not finished
+        assertEquals(Arrays.asList(Collections.singletonList(ModelChange.personSaved(ALICE)),
+                Collections.singletonList(ModelChange.personSaved(BENSON)),
+                Collections.singletonList(ModelChange.personSaved(CARL))), records);
+
+        firstWriteAllowed.countDown();
+        asyncStorage.flush(addressBook, new Listings());
+        assertEquals(Arrays.asList(1, 3), writtenSizes);
+    }
+
+    @Test
+    public void saveChanges_recordingFailed_throwsIoException() {
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManagerStub(testFolder) {
+            @Override
+            public void recordChanges(ReadOnlyAddressBook addressBook, ReadOnlyListings listings,
+                    List<ModelChange> changes) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+
+        assertThrows(IOException.class, () -> asyncStorage.saveChanges(new AddressBook(), new Listings(),
+                Collections.singletonList(ModelChange.personSaved(ALICE))));
+    }
+
+    @Test
+    public void saveChanges_writeFailed_failureReportedRightAway() throws Exception {
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManagerStub(testFolder) {
+            @Override
+            public void saveInFullIfDue(ReadOnlyAddressBook addressBook, ReadOnlyListings listings)
+                    throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        asyncStorage.setOnWriteFailure(reportedFailure::complete);
+
+        asyncStorage.saveChanges(new AddressBook(), new Listings(), Collections.singletonList(
+                ModelChange.personSaved(ALICE)));
+        assertSame(DUMMY_IO_EXCEPTION, reportedFailure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_noJournal_writesScheduledChanges() throws Exception {
+        StorageManager storageManager = new StorageManagerStub(testFolder);
+        AsyncStorage asyncStorage = new AsyncStorage(storageManager);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        asyncStorage.saveChanges(addressBook, new Listings(), Collections.singletonList(
+                ModelChange.personSaved(ALICE)));
+        asyncStorage.flush(addressBook, new Listings());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_noLaterChanges_flushedOnceIdle() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        AsyncStorage asyncStorage = new AsyncStorage(new StorageManagerStub(testFolder) {
+            @Override
+            public void flush(ReadOnlyAddressBook addressBook, ReadOnlyListings listings) {
+                flushed.countDown();
+            }
+        }, 10);
+
+        asyncStorage.saveChanges(new AddressBook(), new Listings(), Collections.singletonList(
+                ModelChange.personSaved(ALICE)));
+        assertTrue(flushed.await(10, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A {@code StorageManager} that keeps its files in the given folder.
+     */
+    private static class StorageManagerStub extends StorageManager {
+        StorageManagerStub(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")), new JsonUserPrefsStorage(folder.resolve("prefs")),
+                    new JsonListingsStorage(folder.resolve("listings")));
+        }
+    }
+}
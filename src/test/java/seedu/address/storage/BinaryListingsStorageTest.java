@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.HOUGANG;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.SIMEI;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.listing.Listing;
+import seedu.address.testutil.ListingBuilder;
+
+public class BinaryListingsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryListingsStorage(testFolder.resolve("missing.bin")).readListings(new AddressBook())
+                .isPresent());
+    }
+
+    @Test
+    public void read_addressBookSnapshot_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryListingsStorage(filePath).readListings(new AddressBook()));
+    }
+
+    @Test
+    public void readAndSaveListings_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("listings.bin");
+        Listings original = getTypicalListings();
+        BinaryListingsStorage storage = new BinaryListingsStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveListings(original, filePath);
+        ReadOnlyListings readBack = storage.readListings(new AddressBook(), filePath).get();
+        assertEquals(original, new Listings(readBack));
+        assertEquals(original.getListingList().stream().map(Listing::getId).collect(Collectors.toList()),
+                readBack.getListingList().stream().map(Listing::getId).collect(Collectors.toList()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addListing(SIMEI);
+        original.removeListing(PASIR_RIS);
+        original.addListing(HOUGANG);
+        storage.saveListings(original);
+        readBack = storage.readListings(new AddressBook()).get();
+        assertEquals(original, new Listings(readBack));
+    }
+
+    @Test
+    public void readAndSaveListings_priceTooLargeForLong_success() throws Exception {
+        String price = "123456789012345678901234567890";
+        Listings original = new Listings();
+        original.addListing(new ListingBuilder().withPrice(price).build());
+        BinaryListingsStorage storage = new BinaryListingsStorage(testFolder.resolve("listings.bin"));
+
+        storage.saveListings(original);
+        assertEquals(original, new Listings(storage.readListings(new AddressBook()).get()));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertAddressBook_jsonToBinaryAndBack_sameData() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        JsonAddressBookStorage convertedStorage = new JsonAddressBookStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(DataFileConverter.convertAddressBook(jsonStorage, binaryStorage));
+        assertTrue(DataFileConverter.convertAddressBook(binaryStorage, convertedStorage));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+        assertEquals(Files.readAllLines(jsonStorage.getAddressBookFilePath()),
+                Files.readAllLines(convertedStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertListings_jsonToBinaryAndBack_sameData() throws Exception {
+        JsonListingsStorage jsonStorage = new JsonListingsStorage(testFolder.resolve("listings.json"));
+        BinaryListingsStorage binaryStorage = new BinaryListingsStorage(testFolder.resolve("listings.bin"));
+        JsonListingsStorage convertedStorage = new JsonListingsStorage(testFolder.resolve("converted.json"));
+        jsonStorage.saveListings(getTypicalListings());
+
+        assertTrue(DataFileConverter.convertListings(jsonStorage, binaryStorage, getTypicalAddressBook()));
+        assertTrue(DataFileConverter.convertListings(binaryStorage, convertedStorage,
+                getTypicalAddressBook()));
+        assertEquals(getTypicalListings(), new Listings(binaryStorage.readListings(getTypicalAddressBook()).get()));
+        assertEquals(Files.readAllLines(jsonStorage.getListingsFilePath()),
+                Files.readAllLines(convertedStorage.getListingsFilePath()));
+    }
+
+    @Test
+    public void convertListings_missingSource_returnsFalse() throws Exception {
+        BinaryListingsStorage binaryStorage = new BinaryListingsStorage(testFolder.resolve("listings.bin"));
+
+        assertFalse(DataFileConverter.convertListings(new JsonListingsStorage(testFolder.resolve("missing.json")),
+                binaryStorage, new AddressBook()));
+        assertFalse(Files.exists(binaryStorage.getListingsFilePath()));
+    }
+}
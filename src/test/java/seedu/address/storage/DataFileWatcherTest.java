@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyListings;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path addressBookFilePath;
+    private Path listingsFilePath;
+    private JsonAddressBookStorage addressBookStorage;
+    private JsonListingsStorage listingsStorage;
+    private final List<HandledChange> handledChanges = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+        listingsFilePath = testFolder.resolve("listings.json");
+        addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        listingsStorage = new JsonListingsStorage(listingsFilePath);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        listingsStorage.saveListings(getTypicalListings());
+    }
+
+    private DataFileWatcher createWatcher() {
+        DataFileWatcher watcher = new DataFileWatcher(addressBookStorage, listingsStorage,
+                (previousAddressBook, addressBook, previousListings, listings) -> handledChanges.add(
+                        new HandledChange(previousAddressBook, addressBook, previousListings, listings)));
+        watcher.readDataFiles();
+        return watcher;
+    }
+
+    @Test
+    public void checkForChanges_addressBookChanged_previousAndCurrentDataHandled() throws Exception {
+        DataFileWatcher watcher = createWatcher();
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        changedAddressBook.removePerson(ALICE);
+        addressBookStorage.saveAddressBook(changedAddressBook);
+
+        watcher.checkForChanges(Set.of(addressBookFilePath));
+
+        assertEquals(1, handledChanges.size());
+        HandledChange change = handledChanges.get(0);
+        assertEquals(getTypicalAddressBook().getPersonList(), change.previousAddressBook.getPersonList());
+        assertEquals(changedAddressBook.getPersonList(), change.addressBook.getPersonList());
+        // The listings file has not changed
+        assertSame(change.previousListings, change.listings);
+        assertEquals(getTypicalListings().getListingList(), change.listings.getListingList());
+    }
+
+    @Test
+    public void checkForChanges_unloadableFile_readAgainOnNextChange() throws Exception {
+        DataFileWatcher watcher = createWatcher();
+        FileUtil.writeToFile(addressBookFilePath, "{ \"persons\" : [ ");
+        watcher.checkForChanges(Set.of(addressBookFilePath));
+        assertTrue(handledChanges.isEmpty());
+
+        addressBookStorage.saveAddressBook(new AddressBook());
+        watcher.checkForChanges(Set.of(addressBookFilePath));
+        assertEquals(1, handledChanges.size());
+        assertEquals(getTypicalAddressBook().getPersonList(),
+                handledChanges.get(0).previousAddressBook.getPersonList());
+        assertTrue(handledChanges.get(0).addressBook.getPersonList().isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_otherFilesChanged_nothingHandled() throws Exception {
+        DataFileWatcher watcher = createWatcher();
+        watcher.checkForChanges(Set.of(testFolder.resolve("addressbook.json.1"), testFolder.resolve("other.json")));
+        assertTrue(handledChanges.isEmpty());
+    }
+
+    @Test
+    public void start_dataFileChanged_changeHandled() throws Exception {
+        CompletableFuture<ReadOnlyAddressBook> handledAddressBook = new CompletableFuture<>();
+        try (DataFileWatcher watcher = new DataFileWatcher(addressBookStorage, null,
+                (previousAddressBook, addressBook, previousListings, listings) ->
+                        handledAddressBook.complete(addressBook))) {
+            watcher.start();
+            // Give the watcher time to read the data files before they change
+            Thread.sleep(DataFileWatcher.SETTLE_TIME_MILLIS);
+            addressBookStorage.saveAddressBook(new AddressBook());
+
+            assertTrue(handledAddressBook.get(10, TimeUnit.SECONDS).getPersonList().isEmpty());
+        }
+    }
+
+    /**
+     * The data passed to the handler of a {@code DataFileWatcher}.
+     */
+    private static class HandledChange {
+        private final ReadOnlyAddressBook previousAddressBook;
+        private final ReadOnlyAddressBook addressBook;
+        private final ReadOnlyListings previousListings;
+        private final ReadOnlyListings listings;
+
+        HandledChange(ReadOnlyAddressBook previousAddressBook, ReadOnlyAddressBook addressBook,
+                ReadOnlyListings previousListings, ReadOnlyListings listings) {
+            this.previousAddressBook = previousAddressBook;
+            this.addressBook = addressBook;
+            this.previousListings = previousListings;
+            this.listings = listings;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.SIMEI;
+import static seedu.address.testutil.TypicalListings.TAMPINES;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+
+public class DatabaseStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private DatabaseStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new DatabaseStorage(testFolder.resolve("addressbook.mv.db"));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    /**
+     * Returns {@code records} in the order of their ids, which is the order they are read from the database in.
+     */
+    private static <T> List<T> sortedById(List<T> records) {
+        List<T> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparingLong(record -> record instanceof Person
+                ? ((Person) record).getId().getValue()
+                : ((Listing) record).getId().getValue()));
+        return sorted;
+    }
+
+    @Test
+    public void constructor_invalidFileName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DatabaseStorage.MESSAGE_INVALID_FILE_NAME, () ->
+                new DatabaseStorage(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.readListings(new AddressBook()).isPresent());
+        assertEquals(0, storage.getPersonCount());
+    }
+
+    @Test
+    public void saveAll_readBack_sameData() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertEquals(sortedById(getTypicalAddressBook().getPersonList()), addressBook.getPersonList());
+        assertEquals(sortedById(getTypicalListings().getListingList()),
+                storage.readListings(addressBook).get().getListingList());
+    }
+
+    @Test
+    public void saveChanges_upsertsAndDeletes_onlyChangedRows() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+        Person editedAlice = new Seller(ALICE.getId(), ALICE.getName(), new Phone("91234567"), ALICE.getEmail(),
+                ALICE.getTags(), ALICE.getAppointment(), ALICE.getRemark());
+        List<ModelChange> changes = Arrays.asList(ModelChange.personSaved(editedAlice),
+                ModelChange.listingDeleted(PASIR_RIS.getId()), ModelChange.listingSaved(SIMEI));
+
+        storage.saveChanges(changes);
+
+        AddressBook expectedAddressBook = ModelChange.replay(getTypicalAddressBook(), changes);
+        Listings expectedListings = ModelChange.replay(getTypicalListings(), changes);
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertEquals(sortedById(expectedAddressBook.getPersonList()), addressBook.getPersonList());
+        assertEquals(sortedById(expectedListings.getListingList()),
+                storage.readListings(addressBook).get().getListingList());
+    }
+
+    @Test
+    public void saveChanges_clearedThenSaved_onlySavedRowsKept() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+
+        storage.saveChanges(Arrays.asList(ModelChange.listingsCleared(), ModelChange.listingSaved(TAMPINES)));
+
+        assertEquals(Arrays.asList(TAMPINES),
+                storage.readListings(getTypicalAddressBook()).get().getListingList());
+    }
+
+    @Test
+    public void saveChanges_failingChange_noChangeSaved() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+
+        // The command's second change cannot be saved, so its first change is rolled back too
+        assertThrows(NullPointerException.class, () ->
+                storage.saveChanges(Arrays.asList(ModelChange.personDeleted(BENSON.getId()), null)));
+
+        assertEquals(getTypicalAddressBook().getPersonList().size(), storage.getPersonCount());
+    }
+
+    @Test
+    public void readPersons_pagesByIdRange_allPersonsInIdOrder() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+
+        List<Person> persons = new ArrayList<>();
+        DatabaseStorage.Page<Person> page = storage.readPersons(DatabaseStorage.BEFORE_FIRST_ID, 3);
+        persons.addAll(page.getItems());
+        assertEquals(3, page.getItems().size());
+        while (!page.isLast()) {
+            page = storage.readPersons(page.getLastId(), 3);
+            persons.addAll(page.getItems());
+        }
+
+        assertEquals(sortedById(getTypicalAddressBook().getPersonList()), persons);
+    }
+
+    @Test
+    public void readListings_sellerNotInClients_throwsUnresolvedClientsException() throws Exception {
+        storage.saveAll(getTypicalAddressBook(), getTypicalListings());
+        List<Person> clientsWithoutSeller = getTypicalAddressBook().getPersonList().stream()
+                .filter(person -> !person.equals(ALICE))
+                .collect(Collectors.toList());
+        ListingClients clients = new ListingClients(clientsWithoutSeller);
+
+        assertThrows(UnresolvedClientsException.class, () -> storage.readListings(clients,
+                DatabaseStorage.BEFORE_FIRST_ID, Integer.MAX_VALUE));
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +23,7 @@ import seedu.address.model.listing.Price;
 import seedu.address.model.listing.Region;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAdaptedListingTest {
 
@@ -31,9 +38,10 @@ public class JsonAdaptedListingTest {
     private static final String VALID_PRICE = PASIR_RIS.getPrice().toString();
     private static final String VALID_ADDRESS = PASIR_RIS.getAddress().toString();
     private static final String VALID_REGION = PASIR_RIS.getRegion().toString();
-    private static final JsonAdaptedPerson VALID_SELLER = new JsonAdaptedPerson(PASIR_RIS.getSeller());
-    private static final List<JsonAdaptedPerson> VALID_BUYERS = PASIR_RIS.getBuyers()
+    private static final JsonAdaptedPerson VALID_SELLER = new JsonAdaptedPerson(ALICE);
+    private static final List<JsonAdaptedPerson> VALID_BUYERS = getTypicalPersons()
             .stream()
+            .filter(person -> PASIR_RIS.hasBuyer(person.getId()))
             .map(JsonAdaptedPerson::new)
             .collect(Collectors.toList());
 
@@ -43,6 +51,37 @@ public class JsonAdaptedListingTest {
         assertEquals(PASIR_RIS, listing.toModelType());
     }
 
+    @Test
+    public void toModelType_clientsReferredById_resolvedFromClients() throws Exception {
+        JsonAdaptedListing listing = new JsonAdaptedListing(PASIR_RIS);
+        ListingClients clients = new ListingClients(getTypicalPersons());
+        assertEquals(Optional.of(PASIR_RIS), listing.toModelType(clients));
+        assertTrue(clients.getUnresolvedClientIds().isEmpty());
+        assertFalse(clients.hasClientsFoundByName());
+    }
+
+    @Test
+    public void toModelType_embeddedClientWithNewId_resolvedByName() throws Exception {
+        Person sellerWithOldId = new PersonBuilder(ALICE).buildSeller();
+        JsonAdaptedListing listing = new JsonAdaptedListing(PASIR_RIS.getId().getValue(), VALID_LISTING_NAME,
+                VALID_PRICE, VALID_AREA, VALID_REGION, VALID_ADDRESS, new JsonAdaptedPerson(sellerWithOldId),
+                VALID_BUYERS);
+        ListingClients clients = new ListingClients(getTypicalPersons());
+        assertEquals(Optional.of(PASIR_RIS), listing.toModelType(clients));
+        assertTrue(clients.hasClientsFoundByName());
+    }
+
+    @Test
+    public void toModelType_missingClient_returnsEmpty() throws Exception {
+        JsonAdaptedListing listing = new JsonAdaptedListing(PASIR_RIS);
+        List<Person> clientsWithoutSeller = getTypicalPersons().stream()
+                .filter(person -> !person.equals(ALICE))
+                .collect(Collectors.toList());
+        ListingClients clients = new ListingClients(clientsWithoutSeller);
+        assertEquals(Optional.empty(), listing.toModelType(clients));
+        assertEquals(Set.of(ALICE.getId().getValue()), clients.getUnresolvedClientIds());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedListing listing = new JsonAdaptedListing(INVALID_LISTING_NAME,
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.id.Id;
 import seedu.address.model.name.Name;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Phone;
@@ -39,6 +40,20 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_APPOINTMENT,
+                        VALID_TAGS, "buyer", VALID_REMARK);
+        assertThrows(IllegalValueException.class, Id.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
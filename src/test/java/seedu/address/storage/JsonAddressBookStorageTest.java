@@ -4,20 +4,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataFileEncoding;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +67,73 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_convertedInParallel_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, 0).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compressedFile_sameData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(filePath,
+                UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD, DataFileEncoding.COMPRESSED);
+        compressedStorage.saveAddressBook(original);
+
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1).contains(ALICE.getName().toString()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_readsLatestValidCopy() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath,
+                UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD, DataFileEncoding.CHECKSUMMED);
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+
+        // Each file is corrupted by flipping a byte in its middle
+        corrupt(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        corrupt(RotatedCopies.getCopyPath(filePath, 1));
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        corrupt(RotatedCopies.getCopyPath(filePath, 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_manySaves_onlyLatestCopiesKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        for (Person person : Arrays.asList(ALICE, HOON, IDA, BENSON)) {
+            addressBook.addPerson(person);
+            storage.saveAddressBook(addressBook);
+        }
+
+        // The copies hold the previous three versions, the oldest of which only had ALICE
+        assertEquals(1, storage.readAddressBook(RotatedCopies.getCopyPath(filePath, RotatedCopies.COPY_COUNT))
+                .get().getPersonList().size());
+        assertFalse(Files.exists(RotatedCopies.getCopyPath(filePath, RotatedCopies.COPY_COUNT + 1)));
+    }
+
+    private static void corrupt(Path filePath) throws IOException {
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 0x01;
+        Files.write(filePath, content);
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+
+public class JsonBackupStorageTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @TempDir
+    public Path testFolder;
+
+    private final MutableClock clock = new MutableClock();
+
+    private JsonBackupStorage createStorage(int fullBackupInterval) {
+        return new JsonBackupStorage(testFolder.resolve("backups"), fullBackupInterval, HOUR, clock);
+    }
+
+    private List<Path> getBackupFiles() throws Exception {
+        try (var files = Files.list(testFolder.resolve("backups"))) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void assertBackupEquals(AddressBook addressBook, Listings listings, List<ModelChange> changes) {
+        assertEquals(addressBook, ModelChange.replay(new AddressBook(), changes));
+        assertEquals(listings, ModelChange.replay(new Listings(), changes));
+    }
+
+    @Test
+    public void backup_noBackups_fullBackupTaken() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+
+        String timestamp = storage.backup(addressBook, listings).get();
+        assertEquals(List.of(timestamp), storage.getBackupTimestamps());
+        assertTrue(getBackupFiles().get(0).getFileName().toString().endsWith("-full.jsonl"));
+        assertBackupEquals(addressBook, listings, storage.readBackup(timestamp));
+    }
+
+    @Test
+    public void backup_unchangedData_noBackupTaken() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+        assertFalse(storage.backup(getTypicalAddressBook(), getTypicalListings()).isPresent());
+        assertEquals(1, storage.getBackupTimestamps().size());
+    }
+
+    @Test
+    public void backup_oneChange_onlyChangeRecorded() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        Listings listings = getTypicalListings();
+        String firstTimestamp = storage.backup(addressBook, listings).get();
+
+        AddressBook editedAddressBook = new AddressBook(addressBook);
+        // An edited person keeps its id
+        Person editedAlice = new Seller(ALICE.getId(), ALICE.getName(), new Phone("91234567"), ALICE.getEmail(),
+                ALICE.getTags(), ALICE.getAppointment(), ALICE.getRemark());
+        editedAddressBook.setPerson(ALICE, editedAlice);
+        clock.advance(HOUR);
+        String secondTimestamp = storage.backup(editedAddressBook, listings).get();
+
+        // The header and the edited person
+        Path delta = getBackupFiles().get(1);
+        assertFalse(delta.getFileName().toString().endsWith("-full.jsonl"));
+        assertEquals(2, Files.readAllLines(delta).size());
+        assertBackupEquals(addressBook, listings, storage.readBackup(firstTimestamp));
+        assertBackupEquals(editedAddressBook, listings, storage.readBackup(secondTimestamp));
+    }
+
+    @Test
+    public void backup_deletedRecords_deletionsRestored() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+
+        clock.advance(HOUR);
+        String timestamp = storage.backup(getTypicalAddressBook(), new Listings()).get();
+        assertBackupEquals(getTypicalAddressBook(), new Listings(), storage.readBackup(timestamp));
+    }
+
+    @Test
+    public void backup_newStorage_continuesFromLatestBackup() throws Exception {
+        createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL).backup(getTypicalAddressBook(),
+                getTypicalListings());
+
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        assertFalse(storage.backup(getTypicalAddressBook(), getTypicalListings()).isPresent());
+        String timestamp = storage.backup(new AddressBook(), new Listings()).get();
+        assertFalse(getBackupFiles().get(1).getFileName().toString().endsWith("-full.jsonl"));
+        assertBackupEquals(new AddressBook(), new Listings(), storage.readBackup(timestamp));
+    }
+
+    @Test
+    public void backup_fullBackupInterval_fullBackupsTakenPeriodically() throws Exception {
+        JsonBackupStorage storage = createStorage(2);
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+        storage.backup(getTypicalAddressBook(), new Listings());
+        String timestamp = storage.backup(new AddressBook(), new Listings()).get();
+
+        List<Path> backupFiles = getBackupFiles();
+        assertTrue(backupFiles.get(0).getFileName().toString().endsWith("-full.jsonl"));
+        assertFalse(backupFiles.get(1).getFileName().toString().endsWith("-full.jsonl"));
+        assertTrue(backupFiles.get(2).getFileName().toString().endsWith("-full.jsonl"));
+        // Backups taken within the same second are still kept in order
+        assertEquals(3, storage.getBackupTimestamps().size());
+        assertBackupEquals(new AddressBook(), new Listings(), storage.readBackup(timestamp));
+    }
+
+    @Test
+    public void readBackup_changedEarlierBackup_throwsDataLoadingException() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+        String timestamp = storage.backup(getTypicalAddressBook(), new Listings()).get();
+
+        Files.writeString(getBackupFiles().get(0), "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> storage.readBackup(timestamp));
+    }
+
+    @Test
+    public void readBackup_unknownTimestamp_throwsDataLoadingException() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+        assertThrows(DataLoadingException.class, () -> storage.readBackup("20000101-000000"));
+    }
+
+    @Test
+    public void isBackupDue() throws Exception {
+        JsonBackupStorage storage = createStorage(JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL);
+        assertTrue(storage.isBackupDue());
+
+        storage.backup(getTypicalAddressBook(), getTypicalListings());
+        assertFalse(storage.isBackupDue());
+        clock.advance(HOUR);
+        assertTrue(storage.isBackupDue());
+
+        // Automatic backups turned off
+        assertFalse(new JsonBackupStorage(testFolder.resolve("backups"), 1, Duration.ZERO, clock).isBackupDue());
+    }
+
+    /**
+     * A clock that only moves when it is told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-10-18T06:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
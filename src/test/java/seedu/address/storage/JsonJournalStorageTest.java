@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModelChange;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingDirectory_returnsEmptyList() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("missing"));
+        assertTrue(journalStorage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void appendToJournal_thenRead_returnsChangesInOrder() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal"));
+        List<ModelChange> first = Arrays.asList(ModelChange.personSaved(ALICE), ModelChange.listingSaved(PASIR_RIS));
+        List<ModelChange> second = Arrays.asList(ModelChange.personDeleted(ALICE.getId()),
+                ModelChange.listingsCleared());
+        journalStorage.appendToJournal(first);
+        journalStorage.appendToJournal(Collections.emptyList());
+        journalStorage.appendToJournal(second);
+
+        List<ModelChange> expected = Arrays.asList(first.get(0), first.get(1), second.get(0), second.get(1));
+        assertEquals(expected, new JsonJournalStorage(testFolder.resolve("journal")).readJournal());
+    }
+
+    @Test
+    public void readJournal_damagedRecord_stopsAndSetsAsideRest() throws Exception {
+        Path journalDirectory = testFolder.resolve("journal");
+        JsonJournalStorage journalStorage = new JsonJournalStorage(journalDirectory);
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(ALICE)));
+        Path firstSegment = journalDirectory.resolve("journal-1.jsonl");
+        Files.write(firstSegment, "[{\"type\":\"PERSON_SA".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        journalStorage.closeSegment();
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(BENSON)));
+        journalStorage.closeSegment();
+
+        List<ModelChange> expected = Collections.singletonList(ModelChange.personSaved(ALICE));
+        assertEquals(expected, new JsonJournalStorage(journalDirectory).readJournal());
+        assertEquals(expected, new JsonJournalStorage(journalDirectory).readJournal());
+        assertEquals(2, countSetAsideSegments(journalDirectory));
+    }
+
+    @Test
+    public void setAsideSegments_closedSegments_keptButNotReadOrDeleted() throws Exception {
+        Path journalDirectory = testFolder.resolve("journal");
+        JsonJournalStorage journalStorage = new JsonJournalStorage(journalDirectory);
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(ALICE)));
+        journalStorage.closeSegment();
+        assertEquals(1, journalStorage.readJournal().size());
+
+        journalStorage.setAsideSegments();
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(BENSON)));
+        journalStorage.deleteSegments(journalStorage.closeSegment());
+
+        assertTrue(journalStorage.readJournal().isEmpty());
+        assertEquals(1, countSetAsideSegments(journalDirectory));
+    }
+
+    @Test
+    public void deleteSegments_closedSegments_keepsLaterChanges() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal"));
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(ALICE)));
+        assertTrue(journalStorage.getCurrentSegmentSize() > 0);
+
+        long lastSegment = journalStorage.closeSegment();
+        assertEquals(0, journalStorage.getCurrentSegmentSize());
+        journalStorage.appendToJournal(Collections.singletonList(ModelChange.personSaved(BENSON)));
+        journalStorage.deleteSegments(lastSegment);
+
+        assertEquals(Collections.singletonList(ModelChange.personSaved(BENSON)), journalStorage.readJournal());
+    }
+
+    private static long countSetAsideSegments(Path journalDirectory) throws Exception {
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            return files.filter(file -> !file.getParent().equals(journalDirectory))
+                    .filter(file -> file.getFileName().toString().endsWith(".jsonl"))
+                    .count();
+        }
+    }
+}
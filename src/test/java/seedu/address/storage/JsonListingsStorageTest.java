@@ -2,22 +2,33 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalListings.HOUGANG;
 import static seedu.address.testutil.TypicalListings.PASIR_RIS;
 import static seedu.address.testutil.TypicalListings.SIMEI;
 import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Listings;
 import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.id.Id;
+import seedu.address.model.listing.Listing;
 
 public class JsonListingsStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonListingsStorageTest");
@@ -31,7 +42,8 @@ public class JsonListingsStorageTest {
     }
 
     private java.util.Optional<ReadOnlyListings> readListings(String filePath) throws Exception {
-        return new JsonListingsStorage(Paths.get(filePath)).readListings(addToTestDataPathIfNotNull(filePath));
+        return new JsonListingsStorage(Paths.get(filePath))
+                .readListings(new AddressBook(), addToTestDataPathIfNotNull(filePath));
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -68,29 +80,124 @@ public class JsonListingsStorageTest {
 
         // Save in new file and read back
         jsonListingsStorage.saveListings(original, filePath);
-        ReadOnlyListings readBack = jsonListingsStorage.readListings(filePath).get();
+        ReadOnlyListings readBack = jsonListingsStorage.readListings(getTypicalAddressBook(), filePath).get();
         assertEquals(original, new Listings(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.addListing(SIMEI);
         original.removeListing(PASIR_RIS);
         jsonListingsStorage.saveListings(original, filePath);
-        readBack = jsonListingsStorage.readListings(filePath).get();
+        readBack = jsonListingsStorage.readListings(getTypicalAddressBook(), filePath).get();
         assertEquals(original, new Listings(readBack));
 
         // Save and read without specifying file path
         original.addListing(HOUGANG);
         jsonListingsStorage.saveListings(original); // file path not specified
-        readBack = jsonListingsStorage.readListings().get(); // file path not specified
+        readBack = jsonListingsStorage.readListings(getTypicalAddressBook()).get(); // file path not specified
         assertEquals(original, new Listings(readBack));
 
     }
 
+    @Test
+    public void readListings_clientsReferredById_clientsInAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        jsonListingsStorage.saveListings(getTypicalListings());
+
+        ReadOnlyListings readBack = jsonListingsStorage.readListings(addressBook).get();
+        for (Listing listing : readBack.getListingList()) {
+            assertNotNull(addressBook.getPersonById(listing.getSellerId()));
+            for (Id buyerId : listing.getBuyerIds()) {
+                assertNotNull(addressBook.getPersonById(buyerId));
+            }
+        }
+    }
+
+    @Test
+    public void readListingsWithPendingAddressBook_validFile_sameAsReadListings() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        jsonListingsStorage.saveListings(getTypicalListings());
+
+        ReadOnlyListings readBack = jsonListingsStorage.readListingsWithPendingAddressBook(() -> addressBook).get();
+        assertEquals(jsonListingsStorage.readListings(addressBook).get().getListingList(),
+                readBack.getListingList());
+    }
+
+    @Test
+    public void readListingsWithPendingAddressBook_addressBookNotLoaded_throwsDataLoadingException()
+            throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        jsonListingsStorage.saveListings(getTypicalListings());
+
+        assertThrows(DataLoadingException.class, () -> jsonListingsStorage.readListingsWithPendingAddressBook(() -> {
+            throw new DataLoadingException(new IOException("dummy"));
+        }));
+    }
+
+    @Test
+    public void readListings_clientsNotInAddressBook_throwsUnresolvedClientsException() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        jsonListingsStorage.saveListings(new Listings());
+        jsonListingsStorage.saveListings(getTypicalListings());
+
+        // A missing seller or buyer fails the whole file, and the older copy is not read instead
+        AddressBook withoutSeller = getTypicalAddressBook();
+        withoutSeller.removePerson(CARL);
+        assertThrows(UnresolvedClientsException.class, () -> jsonListingsStorage.readListings(withoutSeller));
+        AddressBook withoutBuyer = getTypicalAddressBook();
+        withoutBuyer.removePerson(ELLE);
+        assertThrows(UnresolvedClientsException.class, () -> jsonListingsStorage.readListings(withoutBuyer));
+
+        assertEquals(getTypicalListings(),
+                new Listings(jsonListingsStorage.readListings(getTypicalAddressBook()).get()));
+    }
+
+    @Test
+    public void readListings_embeddedClients_savedAgainWithClientIds() throws Exception {
+        Path filePath = testFolder.resolve("TempListings.json");
+        JsonUtil.saveJsonFile(withEmbeddedClients(getTypicalListings()), filePath);
+        assertTrue(Files.readString(filePath).contains("\"seller\""));
+
+        JsonListingsStorage jsonListingsStorage = new JsonListingsStorage(filePath);
+        ReadOnlyListings readBack = jsonListingsStorage.readListings(getTypicalAddressBook()).get();
+        assertEquals(getTypicalListings(), new Listings(readBack));
+        String savedAgain = Files.readString(filePath);
+        assertFalse(savedAgain.contains("\"seller\""));
+        assertTrue(savedAgain.contains("\"sellerId\""));
+
+        // Listings with embedded clients that are not in the address book cannot be loaded and are kept as they are
+        JsonUtil.saveJsonFile(withEmbeddedClients(getTypicalListings()), filePath);
+        assertThrows(UnresolvedClientsException.class, () -> jsonListingsStorage.readListings(new AddressBook()));
+        assertTrue(Files.readString(filePath).contains("\"seller\""));
+    }
+
     @Test
     public void saveListings_nullListings_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveListings(null, "SomeFile.json"));
     }
 
+    /**
+     * Returns {@code listings} as saved before listings referred to their clients by id, with the clients from the
+     * typical address book embedded in full.
+     */
+    private static JsonSerializableListings withEmbeddedClients(ReadOnlyListings listings) {
+        AddressBook addressBook = getTypicalAddressBook();
+        return new JsonSerializableListings(listings.getListingList().stream()
+                .map(listing -> new JsonAdaptedListing(listing.getId().getValue(), listing.getName().fullName,
+                        listing.getPrice().getFormattedValue(), listing.getArea().toString(),
+                        listing.getRegion().name(), listing.getAddress().value,
+                        new JsonAdaptedPerson(addressBook.getPersonById(listing.getSellerId())),
+                        listing.getBuyerIds().stream()
+                                .map(buyerId -> new JsonAdaptedPerson(addressBook.getPersonById(buyerId)))
+                                .collect(Collectors.toList())))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Saves {@code addressBook} at the specified {@code filePath}.
      */
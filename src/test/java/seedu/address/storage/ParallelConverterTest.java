@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+
+public class ParallelConverterTest {
+
+    private static final String VALUES_PROPERTY = "values";
+    private static final int RECORD_COUNT = 10 * ParallelConverter.CHUNK_SIZE;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void finish_manyRecords_mergedInOrder() throws Exception {
+        List<String> records = numbers();
+
+        List<Integer> merged = new ArrayList<>();
+        read(records, merged, 100);
+        assertEquals(IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList()), merged);
+    }
+
+    @Test
+    public void finish_invalidRecords_firstInvalidRecordReported() throws Exception {
+        List<String> records = numbers();
+        records.set(8000, "invalid");
+        records.set(2500, "invalid");
+
+        String expectedMessage = getErrorMessage(records, Integer.MAX_VALUE);
+        assertEquals(expectedMessage, getErrorMessage(records, 0));
+        assertEquals(expectedMessage, getErrorMessage(records, 100));
+        assertTrue(expectedMessage.startsWith(VALUES_PROPERTY + "[2500]"));
+        assertTrue(expectedMessage.endsWith("invalid"));
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidRecord_duplicateReported() throws Exception {
+        List<String> records = numbers();
+        records.set(3000, "1");
+        records.set(6000, "invalid");
+
+        String expectedMessage = getErrorMessage(records, Integer.MAX_VALUE);
+        assertEquals(expectedMessage, getErrorMessage(records, 0));
+        assertTrue(expectedMessage.startsWith(VALUES_PROPERTY + "[3000]"));
+        assertTrue(expectedMessage.endsWith("duplicate"));
+    }
+
+    private static List<String> numbers() {
+        return IntStream.range(0, RECORD_COUNT).mapToObj(Integer::toString).collect(Collectors.toList());
+    }
+
+    private String getErrorMessage(List<String> records, int threshold) throws Exception {
+        try {
+            read(records, new ArrayList<>(), threshold);
+        } catch (IllegalValueException e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("The records should have been rejected.");
+    }
+
+    /**
+     * Saves {@code records} to a file, then reads them back into {@code merged} through a {@code ParallelConverter}.
+     */
+    private void read(List<String> records, List<Integer> merged, int threshold) throws Exception {
+        Path filePath = testFolder.resolve("values.json");
+        JsonUtil.saveJsonArrayFile(filePath, VALUES_PROPERTY, records);
+
+        ParallelConverter<String, Integer> converter = new ParallelConverter<>(record -> {
+            try {
+                return Integer.valueOf(record);
+            } catch (NumberFormatException e) {
+                throw new IllegalValueException("invalid");
+            }
+        }, value -> {
+            if (merged.contains(value)) {
+                throw new IllegalValueException("duplicate");
+            }
+            merged.add(value);
+        }, threshold);
+        JsonUtil.readJsonArrayFileWithPositions(filePath, VALUES_PROPERTY, String.class, converter);
+        converter.finish();
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.PASIR_RIS;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileEncoding;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ReadOnlyListings;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.Region;
+import seedu.address.testutil.ListingBuilder;
+
+public class ShardedListingsStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ShardedListingsStorage createStorage() {
+        return new ShardedListingsStorage(testFolder.resolve("listings"), UserPrefs.DEFAULT_PARALLEL_LOAD_THRESHOLD,
+                DataFileEncoding.PLAIN);
+    }
+
+    private Path getShardPath(ShardedListingsStorage storage, Region region) {
+        return ShardedListingsStorage.getShardPath(storage.getListingsFilePath(), region);
+    }
+
+    /**
+     * Asserts that {@code actual} has the same listings as {@code expected}, in any order.
+     */
+    private static void assertSameListings(List<Listing> expected, List<Listing> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+    }
+
+    @Test
+    public void readListings_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage().readListings(new AddressBook()).isPresent());
+    }
+
+    @Test
+    public void readListings_unknownRegionInManifest_throwsDataLoadingException() throws Exception {
+        ShardedListingsStorage storage = createStorage();
+        FileUtil.createParentDirsOfFile(storage.getListingsFilePath());
+        FileUtil.writeToFile(storage.getListingsFilePath(), "{ \"shards\" : { \"MARS\" : 1 } }");
+        assertThrows(DataLoadingException.class, () -> storage.readListings(new AddressBook()));
+    }
+
+    @Test
+    public void readListings_missingShard_throwsDataLoadingException() throws Exception {
+        ShardedListingsStorage storage = createStorage();
+        storage.saveListings(getTypicalListings());
+        Files.delete(getShardPath(storage, Region.EAST));
+        assertThrows(DataLoadingException.class, () -> storage.readListings(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void readAndSaveListings_allInOrder_success() throws Exception {
+        Listings original = getTypicalListings();
+        ShardedListingsStorage storage = createStorage();
+
+        // Save in new files and read back, with the listings grouped by region
+        storage.saveListings(original);
+        ReadOnlyListings readBack = storage.readListings(getTypicalAddressBook()).get();
+        assertSameListings(original.getListingList(), readBack.getListingList());
+        for (Region region : Region.values()) {
+            boolean hasListings = original.getListingList().stream().anyMatch(l -> l.getRegion() == region);
+            assertEquals(hasListings, Files.exists(getShardPath(storage, region)));
+        }
+
+        // Read back with a new storage
+        readBack = createStorage().readListings(getTypicalAddressBook()).get();
+        assertSameListings(original.getListingList(), readBack.getListingList());
+    }
+
+    @Test
+    public void saveListings_oneListingEdited_onlyItsShardWritten() throws Exception {
+        Listings listings = getTypicalListings();
+        ShardedListingsStorage storage = createStorage();
+        storage.saveListings(listings);
+
+        Listing pasirRis = listings.getListingById(PASIR_RIS.getId());
+        listings.setListing(pasirRis, new ListingBuilder(pasirRis).withAddress("1 Pasir Ris Street").build());
+        storage.saveListings(listings);
+
+        // Each shard file that is written keeps its previous version as a rotated copy
+        assertTrue(Files.exists(RotatedCopies.getCopyPath(getShardPath(storage, Region.EAST), 1)));
+        assertFalse(Files.exists(RotatedCopies.getCopyPath(getShardPath(storage, Region.WEST), 1)));
+        assertFalse(Files.exists(RotatedCopies.getCopyPath(getShardPath(storage, Region.NORTHEAST), 1)));
+        assertSameListings(listings.getListingList(),
+                createStorage().readListings(getTypicalAddressBook()).get().getListingList());
+    }
+
+    @Test
+    public void saveListings_regionEmptied_shardDeleted() throws Exception {
+        Listings listings = getTypicalListings();
+        ShardedListingsStorage storage = createStorage();
+        storage.saveListings(listings);
+
+        List<Listing> westListings = listings.getListingList().stream()
+                .filter(l -> l.getRegion() == Region.WEST).collect(Collectors.toList());
+        westListings.forEach(listings::removeListing);
+        storage.saveListings(listings);
+
+        assertFalse(Files.exists(getShardPath(storage, Region.WEST)));
+        assertSameListings(listings.getListingList(),
+                createStorage().readListings(getTypicalAddressBook()).get().getListingList());
+    }
+}
@@ -0,0 +1,229 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalListings.getTypicalListings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Seller;
+import seedu.address.testutil.PersonBuilder;
+
+public class SharedStorageTest {
+
+    private static final int CHANGES_PER_INSTANCE = 30;
+
+    @TempDir
+    public Path testFolder;
+
+    private SharedStorage firstInstance;
+    private SharedStorage secondInstance;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        firstInstance = createStorage(testFolder);
+        secondInstance = createStorage(testFolder);
+        firstInstance.saveAddressBook(getTypicalAddressBook());
+        firstInstance.saveListings(getTypicalListings());
+        firstInstance.readChanges();
+        secondInstance.readChanges();
+    }
+
+    /**
+     * Returns a {@code SharedStorage} for the data files and shared journal in {@code folder}, which writes the
+     * journal to the data files only when flushed.
+     */
+    static SharedStorage createStorage(Path folder) {
+        StorageManager storageManager = new StorageManager(
+                new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("prefs.json")),
+                new JsonListingsStorage(folder.resolve("listings.json")));
+        return new SharedStorage(storageManager, folder.resolve("shared-journal"), Long.MAX_VALUE);
+    }
+
+    private static void save(SharedStorage storage, ModelChange... changes) throws IOException {
+        storage.saveChanges(new AddressBook(), new Listings(), Arrays.asList(changes));
+    }
+
+    private static Person withPhone(Person person, String phone) {
+        return new Seller(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getTags(),
+                person.getAppointment(), person.getRemark());
+    }
+
+    @Test
+    public void readSharedChanges_changesOfOtherInstance_returnedOnce() throws Exception {
+        Person editedAlice = withPhone(ALICE, "91234567");
+        save(firstInstance, ModelChange.personSaved(editedAlice));
+
+        assertEquals(Arrays.asList(ModelChange.personSaved(editedAlice)), secondInstance.readSharedChanges());
+        assertTrue(secondInstance.readSharedChanges().isEmpty());
+        // An instance does not read its own changes back
+        assertTrue(firstInstance.readSharedChanges().isEmpty());
+    }
+
+    @Test
+    public void saveChanges_personChangedByOtherInstance_throwsConflictAndReloads() throws Exception {
+        Person aliceOfFirst = withPhone(ALICE, "91234567");
+        save(firstInstance, ModelChange.personSaved(aliceOfFirst));
+
+        // The second instance has not read the first instance's change before changing the same client
+        assertThrows(ConflictingChangeException.class, () ->
+                save(secondInstance, ModelChange.personSaved(withPhone(ALICE, "98765432"))));
+
+        List<ModelChange> reload = secondInstance.readSharedChanges();
+        assertEquals(ModelChange.listingsCleared(), reload.get(0));
+        assertEquals(ModelChange.personsCleared(), reload.get(1));
+        Person reloadedAlice = ModelChange.replay(new AddressBook(), reload).getPersonById(ALICE.getId());
+        assertEquals("91234567", reloadedAlice.getPhone().value);
+
+        // Once read, the client can be changed again, and the first instance reads the change
+        Person aliceOfSecond = withPhone(ALICE, "98765432");
+        save(secondInstance, ModelChange.personSaved(aliceOfSecond));
+        assertEquals(Arrays.asList(ModelChange.personSaved(aliceOfSecond)), firstInstance.readSharedChanges());
+    }
+
+    @Test
+    public void saveChanges_otherPersonChanged_noConflict() throws Exception {
+        save(firstInstance, ModelChange.personSaved(withPhone(ALICE, "91234567")));
+        save(secondInstance, ModelChange.personSaved(withPhone(BENSON, "98765432")));
+
+        // The change of the first instance is read while saving, and returned by the next read
+        assertEquals(1, secondInstance.readSharedChanges().size());
+        assertEquals(1, firstInstance.readSharedChanges().size());
+    }
+
+    @Test
+    public void saveChanges_duplicateAddedByOtherInstance_throwsConflict() throws Exception {
+        Person person = new PersonBuilder().withName("Zed Shared").buildSeller();
+        save(firstInstance, ModelChange.personSaved(person));
+        Person duplicate = new PersonBuilder().withName("Zed Shared").buildSeller();
+        assertThrows(ConflictingChangeException.class, () ->
+                save(secondInstance, ModelChange.personSaved(duplicate)));
+    }
+
+    @Test
+    public void flush_journalWrittenToDataFiles() throws Exception {
+        Person editedAlice = withPhone(ALICE, "91234567");
+        save(firstInstance, ModelChange.personSaved(editedAlice));
+        firstInstance.flush(new AddressBook(), new Listings());
+
+        AddressBook savedAddressBook = new AddressBook(firstInstance.readAddressBook().get());
+        assertEquals("91234567", savedAddressBook.getPersonById(ALICE.getId()).getPhone().value);
+        // A new instance replays the kept segment over the data files, which leaves them unchanged
+        SharedStorage newInstance = createStorage(testFolder);
+        AddressBook replayed = ModelChange.replay(newInstance.readAddressBook().get(), newInstance.readChanges());
+        assertEquals(savedAddressBook.getPersonList(), replayed.getPersonList());
+    }
+
+    @Test
+    public void readSharedChanges_unreadSegmentsDeleted_reloadsAllData() throws Exception {
+        save(firstInstance, ModelChange.personSaved(withPhone(ALICE, "91234567")));
+        firstInstance.flush(new AddressBook(), new Listings());
+        Person newPerson = new PersonBuilder().withName("Zed Shared").buildSeller();
+        save(firstInstance, ModelChange.personSaved(newPerson));
+        // Deletes the segment the second instance has not read
+        firstInstance.flush(new AddressBook(), new Listings());
+
+        List<ModelChange> reload = secondInstance.readSharedChanges();
+        AddressBook reloaded = ModelChange.replay(new AddressBook(), reload);
+        assertEquals("91234567", reloaded.getPersonById(ALICE.getId()).getPhone().value);
+        assertEquals(newPerson, reloaded.getPersonById(newPerson.getId()));
+        assertEquals(getTypicalListings().getListingList().size(),
+                ModelChange.replay(new Listings(), reload).getListingList().size());
+        assertTrue(secondInstance.readSharedChanges().isEmpty());
+    }
+
+    @Test
+    public void readSharedChanges_entryCutShort_skipped() throws Exception {
+        save(firstInstance, ModelChange.personSaved(withPhone(ALICE, "91234567")));
+        Path segment = testFolder.resolve("shared-journal").resolve("journal-1.jsonl");
+        Files.writeString(segment, "{\"instance\":\"crashed\",\"chan", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        // The incomplete entry is not read until it is complete
+        assertEquals(1, secondInstance.readSharedChanges().size());
+
+        save(firstInstance, ModelChange.personSaved(withPhone(BENSON, "98765432")));
+        List<ModelChange> changes = secondInstance.readSharedChanges();
+        assertEquals(Arrays.asList(ModelChange.personSaved(withPhone(BENSON, "98765432"))), changes);
+    }
+
+    @Test
+    public void saveChanges_twoProcesses_allChangesKept() throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Process otherProcess = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                SharedStorageTest.class.getName(), testFolder.toString(), "Other")
+                .redirectErrorStream(true)
+                .redirectOutput(testFolder.resolve("other-process.log").toFile())
+                .start();
+        List<String> names = saveNewPersons(firstInstance, "First");
+        assertTrue(otherProcess.waitFor(60, TimeUnit.SECONDS));
+        assertEquals(0, otherProcess.exitValue());
+
+        SharedStorage newInstance = createStorage(testFolder);
+        AddressBook addressBook = ModelChange.replay(newInstance.readAddressBook().get(), newInstance.readChanges());
+        Set<String> savedNames = new HashSet<>();
+        addressBook.getPersonList().forEach(person -> savedNames.add(person.getName().fullName));
+        for (int i = 0; i < CHANGES_PER_INSTANCE; i++) {
+            names.add("Other " + (char) ('a' + i % 26) + i);
+        }
+        assertTrue(savedNames.containsAll(names));
+        assertFalse(Files.readString(testFolder.resolve("other-process.log")).contains("Exception"));
+    }
+
+    /**
+     * Saves {@link #CHANGES_PER_INSTANCE} new persons one at a time, reading the other instance's changes again
+     * whenever a new person conflicts with them, such as by taking the same id.
+     *
+     * @return the names of the saved persons.
+     */
+    private static List<String> saveNewPersons(SharedStorage storage, String namePrefix) throws Exception {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < CHANGES_PER_INSTANCE; i++) {
+            String name = namePrefix + " " + (char) ('a' + i % 26) + i;
+            while (true) {
+                try {
+                    save(storage, ModelChange.personSaved(new PersonBuilder().withName(name).buildSeller()));
+                    break;
+                } catch (ConflictingChangeException e) {
+                    storage.readSharedChanges();
+                }
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * Saves new persons to the shared journal in the folder given as the first argument, as a second instance of the
+     * app running in another process.
+     */
+    public static void main(String[] args) throws Exception {
+        SharedStorage storage = createStorage(Path.of(args[0]));
+        storage.readChanges();
+        saveNewPersons(storage, args[1]);
+    }
+}
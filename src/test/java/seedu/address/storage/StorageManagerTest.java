@@ -1,10 +1,18 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +20,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.Listings;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -61,6 +71,107 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveChanges_withJournal_writesDataFilesOnFlush() throws Exception {
+        StorageManager journaledStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonListingsStorage(getTempFilePath("listings")),
+                new JsonJournalStorage(getTempFilePath("journal")));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        List<ModelChange> changes = Collections.singletonList(ModelChange.personSaved(ALICE));
+
+        journaledStorage.saveChanges(addressBook, new Listings(), changes);
+        assertFalse(journaledStorage.readAddressBook().isPresent());
+        assertEquals(changes, journaledStorage.readChanges());
+
+        journaledStorage.flush(addressBook, new Listings());
+        assertEquals(addressBook, new AddressBook(journaledStorage.readAddressBook().get()));
+        assertTrue(journaledStorage.readChanges().isEmpty());
+    }
+
+    @Test
+    public void recordChanges_withJournal_appendsOnlyUntilCompactionIsDue() throws Exception {
+        StorageManager journaledStorage = createJournaledStorage(getTempFilePath("journal"));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        List<ModelChange> changes = Collections.singletonList(ModelChange.personSaved(ALICE));
+
+        journaledStorage.recordChanges(addressBook, new Listings(), changes);
+        assertEquals(changes, createJournaledStorage(getTempFilePath("journal")).readChanges());
+
+        // The journal is far below the compaction threshold
+        journaledStorage.saveInFullIfDue(addressBook, new Listings());
+        assertFalse(journaledStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void setAsideChanges_thenFlush_keepsChanges() throws Exception {
+        Path journalDirectory = getTempFilePath("journal");
+        List<ModelChange> changes = Collections.singletonList(ModelChange.personSaved(ALICE));
+        createJournaledStorage(journalDirectory).saveChanges(new AddressBook(), new Listings(), changes);
+
+        StorageManager restartedStorage = createJournaledStorage(journalDirectory);
+        assertEquals(changes, restartedStorage.readChanges());
+        restartedStorage.setAsideChanges();
+        restartedStorage.flush(new AddressBook(), new Listings());
+
+        assertTrue(createJournaledStorage(journalDirectory).readChanges().isEmpty());
+        try (Stream<Path> files = Files.walk(journalDirectory)) {
+            assertEquals(1, files.filter(file -> !file.getParent().equals(journalDirectory))
+                    .filter(file -> file.getFileName().toString().endsWith(".jsonl"))
+                    .count());
+        }
+    }
+
+    private StorageManager createJournaledStorage(Path journalDirectory) {
+        return new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonListingsStorage(getTempFilePath("listings")),
+                new JsonJournalStorage(journalDirectory));
+    }
+
+    @Test
+    public void saveChanges_withoutJournal_writesDataFiles() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<ModelChange> changes = Collections.singletonList(ModelChange.personsCleared());
+        storageManager.saveChanges(addressBook, new Listings(), changes);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(storageManager.readChanges().isEmpty());
+    }
+
+    @Test
+    public void saveChanges_unchangedListings_onlyWritesAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Listings listings = new Listings();
+        List<ModelChange> changes = Collections.singletonList(ModelChange.personsCleared());
+        storageManager.saveChanges(addressBook, listings, changes);
+        Files.delete(getTempFilePath("listings"));
+
+        addressBook.addPerson(ALICE);
+        storageManager.saveChanges(addressBook, listings, changes);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertFalse(Files.exists(getTempFilePath("listings")));
+    }
+
+    @Test
+    public void saveChanges_withDatabase_savesChangedRows() throws Exception {
+        DatabaseStorage databaseStorage = new DatabaseStorage(getTempFilePath("ab.mv.db"));
+        StorageManager databaseStorageManager = new StorageManager(databaseStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonBackupStorage(getTempFilePath("backups"), JsonBackupStorage.DEFAULT_FULL_BACKUP_INTERVAL,
+                        Duration.ofHours(1)));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        // Only the changes are saved, not the rest of the address book
+        databaseStorageManager.saveChanges(getTypicalAddressBook(), new Listings(),
+                Collections.singletonList(ModelChange.personSaved(ALICE)));
+        assertEquals(addressBook, new AddressBook(databaseStorageManager.readAddressBook().get()));
+        assertTrue(databaseStorageManager.readChanges().isEmpty());
+        databaseStorage.close();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -3,7 +3,6 @@ package seedu.address.testutil;
 import static seedu.address.testutil.TypicalListings.getTypicalListings;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -12,6 +11,7 @@ import seedu.address.logic.commands.listingcommands.EditListingCommand.EditListi
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -54,7 +54,7 @@ public class EditListingDescriptorBuilder {
         descriptor.setAddress(listing.getAddress());
         descriptor.setArea(listing.getArea());
         descriptor.setRegion(listing.getRegion());
-        descriptor.setSellerIndex(Index.fromZeroBased(findSellerIndexByName(listing.getSeller().getName())));
+        descriptor.setSellerIndex(Index.fromZeroBased(findSellerIndexById(listing.getSellerId())));
     }
 
     /**
@@ -86,7 +86,7 @@ public class EditListingDescriptorBuilder {
      * @return This EditListingDescriptorBuilder object for method chaining.
      */
     public EditListingDescriptorBuilder withPrice(String price) {
-        descriptor.setPrice(new Price(price, new BigDecimal(price)));
+        descriptor.setPrice(new Price(price));
         return this;
     }
 
@@ -197,6 +197,14 @@ public class EditListingDescriptorBuilder {
                 .findFirst().orElse(-1);
     }
 
+    private int findSellerIndexById(Id sellerId) {
+        List<Person> filteredList = model.getFilteredPersonList();
+
+        return IntStream.range(0, filteredList.size())
+                .filter(x -> filteredList.get(x).getId().equals(sellerId))
+                .findFirst().orElse(-1);
+    }
+
     /**
      * Builds and returns the {@code EditListingDescriptor}.
      *
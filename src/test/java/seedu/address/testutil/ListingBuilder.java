@@ -1,10 +1,11 @@
 package seedu.address.testutil;
 
-import java.math.BigDecimal;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -23,7 +24,6 @@ public class ListingBuilder {
     public static final String DEFAULT_ADDRESS = "123 Geylang Lor 21";
     public static final String DEFAULT_AREA = "90";
     public static final String DEFAULT_FORMATTED_PRICE = "300000";
-    public static final BigDecimal DEFAULT_RAW_PRICE = new BigDecimal(DEFAULT_FORMATTED_PRICE);
     public static final Region DEFAULT_REGION = Region.CENTRAL;
     public static final Person DEFAULT_SELLER = TypicalPersons.ALICE;
 
@@ -32,8 +32,8 @@ public class ListingBuilder {
     private Area area;
     private Region region;
     private Price price;
-    private Person seller;
-    private Set<Person> buyers;
+    private Id sellerId;
+    private Set<Id> buyerIds;
 
     /**
      * Constructs a {@code ListingBuilder} with the default details.
@@ -42,10 +42,10 @@ public class ListingBuilder {
         name = new Name(DEFAULT_NAME);
         address = new Address(DEFAULT_ADDRESS);
         area = new Area(DEFAULT_AREA);
-        price = new Price(DEFAULT_FORMATTED_PRICE, DEFAULT_RAW_PRICE);
+        price = new Price(DEFAULT_FORMATTED_PRICE);
         region = DEFAULT_REGION;
-        seller = DEFAULT_SELLER;
-        buyers = new HashSet<>();
+        sellerId = DEFAULT_SELLER.getId();
+        buyerIds = new HashSet<>();
     }
 
     /**
@@ -57,8 +57,8 @@ public class ListingBuilder {
         area = listingToCopy.getArea();
         price = listingToCopy.getPrice();
         region = listingToCopy.getRegion();
-        seller = listingToCopy.getSeller();
-        buyers = new HashSet<>(listingToCopy.getBuyers());
+        sellerId = listingToCopy.getSellerId();
+        buyerIds = new HashSet<>(listingToCopy.getBuyerIds());
     }
 
     /**
@@ -130,12 +130,11 @@ public class ListingBuilder {
     /**
      * Sets the {@code Price} of the {@code Listing} that we are building.
      *
-     * @param formattedValue The formatted price string.
-     * @param rawValue The raw price in {@code BigDecimal}.
+     * @param formattedValue The price in whole dollars.
      * @return The current {@code ListingBuilder} object.
      */
-    public ListingBuilder withPrice(String formattedValue, BigDecimal rawValue) {
-        this.price = new Price(formattedValue, rawValue);
+    public ListingBuilder withPrice(String formattedValue) {
+        this.price = new Price(formattedValue);
         return this;
     }
 
@@ -168,7 +167,7 @@ public class ListingBuilder {
      * @return The current {@code ListingBuilder} object.
      */
     public ListingBuilder withSeller(Person seller) {
-        this.seller = seller;
+        this.sellerId = seller.getId();
         return this;
     }
 
@@ -179,7 +178,18 @@ public class ListingBuilder {
      * @return The current {@code ListingBuilder} object.
      */
     public ListingBuilder withBuyers(Person ... buyers) {
-        this.buyers = new HashSet<Person>(List.of(buyers));
+        this.buyerIds = Stream.of(buyers).map(Person::getId).collect(Collectors.toSet());
+        return this;
+    }
+
+    /**
+     * Sets the ids of the buyers of the {@code Listing} that we are building.
+     *
+     * @param buyerIds The ids of the buyers to set.
+     * @return The current {@code ListingBuilder} object.
+     */
+    public ListingBuilder withBuyerIds(Set<Id> buyerIds) {
+        this.buyerIds = new HashSet<>(buyerIds);
         return this;
     }
 
@@ -189,6 +199,6 @@ public class ListingBuilder {
      * @return The constructed {@code Listing}.
      */
     public Listing build() {
-        return new Listing(name, address, price, area, region, seller, buyers);
+        return new Listing(name, address, price, area, region, sellerId, buyerIds);
     }
 }
@@ -3,10 +3,13 @@ package seedu.address.ui;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
-import java.math.BigDecimal;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +26,7 @@ import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.Date;
 import seedu.address.model.appointment.From;
 import seedu.address.model.appointment.To;
+import seedu.address.model.id.Id;
 import seedu.address.model.listing.Address;
 import seedu.address.model.listing.Area;
 import seedu.address.model.listing.Listing;
@@ -36,12 +40,16 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Seller;
 import seedu.address.model.tag.Tag;
 
-
 public class ListingCardUiTest extends ApplicationTest {
 
     private static final Seller SAMPLE_SELLER = createSampleSeller();
     private static final Buyer FIRST_SAMPLE_BUYER = createFirstSampleBuyer();
     private static final Buyer SECOND_SAMPLE_BUYER = createSecongSampleBuyer();
+    private static final Seller TRUNCATED_SAMPLE_SELLER = createSampleTruncatedSeller();
+    private static final Buyer TRUNCATED_SAMPLE_BUYER = createTruncatedSampleBuyer();
+    private static final Map<Id, Person> CLIENTS = Stream.of(SAMPLE_SELLER, FIRST_SAMPLE_BUYER,
+                    SECOND_SAMPLE_BUYER, TRUNCATED_SAMPLE_SELLER, TRUNCATED_SAMPLE_BUYER)
+            .collect(Collectors.toMap(Person::getId, Function.identity()));
     private ListingCard listingCard;
     private Listing sampleListing;
 
@@ -65,7 +73,7 @@ public class ListingCardUiTest extends ApplicationTest {
         sampleListing = createSampleListing();
 
         // Instantiate ListingCard to be tested, passing in the sample Listing and a displayed index of 1
-        listingCard = new ListingCard(sampleListing, 1);
+        listingCard = new ListingCard(sampleListing, 1, CLIENTS::get);
 
         // Set the scene for JavaFX testing
         stage.setScene(listingCard.getRoot().getScene());
@@ -101,7 +109,7 @@ public class ListingCardUiTest extends ApplicationTest {
 
     @Test
     void listingCard_displayTruncatedCorrectDetails() {
-        ListingCard listingCard = new ListingCard(createSampleTruncatedListing(), 1);
+        ListingCard listingCard = new ListingCard(createSampleTruncatedListing(), 1, CLIENTS::get);
 
         // Assert that the listing object is not null
         assertNotNull(listingCard.listing);
@@ -132,10 +140,10 @@ public class ListingCardUiTest extends ApplicationTest {
     @Test
     void listingCard_handlesDifferentIndexes() {
         // Test ListingCard with various indexes
-        ListingCard listingCardIndex5 = new ListingCard(sampleListing, 5);
+        ListingCard listingCardIndex5 = new ListingCard(sampleListing, 5, CLIENTS::get);
         assertEquals("5. ", listingCardIndex5.getId().getText());
 
-        ListingCard listingCardIndex10 = new ListingCard(sampleListing, 10);
+        ListingCard listingCardIndex10 = new ListingCard(sampleListing, 10, CLIENTS::get);
         assertEquals("10. ", listingCardIndex10.getId().getText());
     }
 
@@ -143,17 +151,17 @@ public class ListingCardUiTest extends ApplicationTest {
      * Helper method to create a sample Listing object for testing.
      */
     private static Listing createSampleListing() {
-        Set<Person> buyersSet = new HashSet<>();
-        buyersSet.add(FIRST_SAMPLE_BUYER);
-        buyersSet.add(SECOND_SAMPLE_BUYER);
+        Set<Id> buyersSet = new HashSet<>();
+        buyersSet.add(FIRST_SAMPLE_BUYER.getId());
+        buyersSet.add(SECOND_SAMPLE_BUYER.getId());
 
         return new Listing(
                 new Name("Sample Listing"),
                 new Address("123 Main St"),
-                new Price("500000", new BigDecimal(500000)),
+                new Price("500000"),
                 new Area("100"),
                 Region.NORTH,
-                SAMPLE_SELLER,
+                SAMPLE_SELLER.getId(),
                 buyersSet
         );
     }
@@ -162,17 +170,16 @@ public class ListingCardUiTest extends ApplicationTest {
      * Helper method to create a sample Listing object for testing (with truncation).
      */
     private static Listing createSampleTruncatedListing() {
-        Set<Person> buyersSet = new HashSet<>();
-        buyersSet.add(createTruncatedSampleBuyer());
+        Set<Id> buyersSet = new HashSet<>();
+        buyersSet.add(TRUNCATED_SAMPLE_BUYER.getId());
 
         return new Listing(
                 new Name("Sample Listinggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"),
                 new Address("123 Main Sttttttttttttttttttttttttttttttttttttttttttttttttttttttttttttt"),
-                new Price("50000000000000000000000000000000000",
-                        new BigDecimal("50000000000000000000000000000000000")),
+                new Price("50000000000000000000000000000000000"),
                 new Area("100000000000000000000000000000000000000000000000000000"),
                 Region.NORTH,
-                createSampleTruncatedSeller(),
+                TRUNCATED_SAMPLE_SELLER.getId(),
                 buyersSet
         );
     }
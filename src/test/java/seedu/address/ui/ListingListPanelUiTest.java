@@ -9,8 +9,10 @@ import org.testfx.framework.junit5.ApplicationTest;
 import javafx.scene.Scene;
 import javafx.scene.control.ListView;
 import javafx.stage.Stage;
+import seedu.address.model.AddressBook;
 import seedu.address.model.listing.Listing;
 import seedu.address.testutil.TypicalListings;
+import seedu.address.testutil.TypicalPersons;
 
 public class ListingListPanelUiTest extends ApplicationTest {
     private ListingListPanel listingListPanel;
@@ -18,7 +20,9 @@ public class ListingListPanelUiTest extends ApplicationTest {
 
     @Override
     public void start(Stage stage) {
-        listingListPanel = new ListingListPanel(TypicalListings.getTypicalListings().getListingList());
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        listingListPanel = new ListingListPanel(TypicalListings.getTypicalListings().getListingList(),
+                addressBook.getPersonList(), addressBook::getPersonById);
 
         Scene scene = new Scene(listingListPanel.getRoot(), 400, 600);
         stage.setScene(scene);